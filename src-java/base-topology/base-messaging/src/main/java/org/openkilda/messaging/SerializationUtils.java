@@ -16,6 +16,7 @@
 package org.openkilda.messaging;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 
 public final class SerializationUtils {
@@ -23,6 +24,12 @@ public final class SerializationUtils {
     public static ObjectMapper MAPPER = new ObjectMapper()
             .registerModule(new JavaTimeModule());
 
+    /**
+     * Binary (Smile) counterpart of {@link #MAPPER}, see {@link WireFormat#SMILE}.
+     */
+    public static final ObjectMapper SMILE_MAPPER = new ObjectMapper(new SmileFactory())
+            .registerModule(new JavaTimeModule());
+
     /**
      * A private constructor.
      */
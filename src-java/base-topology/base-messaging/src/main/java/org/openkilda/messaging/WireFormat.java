@@ -0,0 +1,58 @@
+/* Copyright 2023 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.messaging;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Encoding of messages transferred via Kafka. Both formats are produced from the same Jackson annotations, so any
+ * message can be encoded in any of them. Consumers detect the format of each record by its first bytes, so
+ * producers can be switched between formats one by one during a rolling upgrade.
+ */
+public enum WireFormat {
+    JSON,
+    /**
+     * Binary JSON (Jackson Smile). Every encoded record starts with the Smile header.
+     */
+    SMILE;
+
+    private static final byte[] SMILE_HEADER = {':', ')', '\n'};
+
+    /**
+     * Returns the mapper which reads and writes this format.
+     */
+    public ObjectMapper getMapper() {
+        if (this == SMILE) {
+            return SerializationUtils.SMILE_MAPPER;
+        }
+        return SerializationUtils.MAPPER;
+    }
+
+    /**
+     * Detects the format of the encoded message.
+     */
+    public static WireFormat detect(byte[] data) {
+        if (data == null || data.length < SMILE_HEADER.length) {
+            return JSON;
+        }
+        for (int i = 0; i < SMILE_HEADER.length; i++) {
+            if (data[i] != SMILE_HEADER[i]) {
+                return JSON;
+            }
+        }
+        return SMILE;
+    }
+}
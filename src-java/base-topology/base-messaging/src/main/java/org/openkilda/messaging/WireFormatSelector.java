@@ -0,0 +1,56 @@
+/* Copyright 2023 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.messaging;
+
+import com.google.common.base.Splitter;
+import com.google.common.collect.ImmutableSet;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Selects {@link WireFormat} for a Kafka topic. Topics listed as binary are encoded with {@link WireFormat#SMILE},
+ * all other topics with {@link WireFormat#JSON}.
+ */
+public class WireFormatSelector {
+    /**
+     * Kafka producer property with a comma separated list of binary topics, passed to Kafka serializers.
+     */
+    public static final String BINARY_TOPICS_PROPERTY = "kilda.wire-format.binary-topics";
+
+    private final Set<String> binaryTopics;
+
+    public WireFormatSelector(String binaryTopics) {
+        if (binaryTopics == null) {
+            this.binaryTopics = ImmutableSet.of();
+        } else {
+            this.binaryTopics = ImmutableSet.copyOf(
+                    Splitter.on(',').trimResults().omitEmptyStrings().split(binaryTopics));
+        }
+    }
+
+    /**
+     * Creates the selector from Kafka serializer configs.
+     */
+    public static WireFormatSelector fromConfigs(Map<String, ?> configs) {
+        Object binaryTopics = configs == null ? null : configs.get(BINARY_TOPICS_PROPERTY);
+        return new WireFormatSelector(binaryTopics == null ? null : binaryTopics.toString());
+    }
+
+    public WireFormat select(String topic) {
+        return binaryTopics.contains(topic) ? WireFormat.SMILE : WireFormat.JSON;
+    }
+}
@@ -0,0 +1,68 @@
+/* Copyright 2023 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.messaging;
+
+import static org.junit.Assert.assertEquals;
+
+import org.openkilda.messaging.info.InfoMessage;
+import org.openkilda.messaging.info.event.IslChangeType;
+import org.openkilda.messaging.info.event.IslInfoData;
+import org.openkilda.messaging.info.event.PathNode;
+import org.openkilda.model.SwitchId;
+
+import org.junit.Test;
+
+public class WireFormatTest {
+    private static final String BINARY_TOPIC = "kilda.topo.disco";
+    private static final String JSON_TOPIC = "kilda.flow";
+
+    @Test
+    public void shouldDecodeBothFormats() throws Exception {
+        InfoMessage origin = makeMessage();
+
+        for (WireFormat format : WireFormat.values()) {
+            byte[] encoded = format.getMapper().writeValueAsBytes(origin);
+            assertEquals(format, WireFormat.detect(encoded));
+
+            Message decoded = WireFormat.detect(encoded).getMapper().readValue(encoded, Message.class);
+            assertEquals(origin, decoded);
+        }
+    }
+
+    @Test
+    public void shouldDetectJsonForShortData() {
+        assertEquals(WireFormat.JSON, WireFormat.detect(new byte[0]));
+        assertEquals(WireFormat.JSON, WireFormat.detect(null));
+    }
+
+    @Test
+    public void shouldSelectFormatByTopic() {
+        WireFormatSelector selector = new WireFormatSelector(" " + BINARY_TOPIC + ", ,kilda.stats");
+
+        assertEquals(WireFormat.SMILE, selector.select(BINARY_TOPIC));
+        assertEquals(WireFormat.SMILE, selector.select("kilda.stats"));
+        assertEquals(WireFormat.JSON, selector.select(JSON_TOPIC));
+        assertEquals(WireFormat.JSON, new WireFormatSelector(null).select(BINARY_TOPIC));
+    }
+
+    private InfoMessage makeMessage() {
+        IslInfoData isl = new IslInfoData(
+                new PathNode(new SwitchId("00:00:00:00:00:00:00:01"), 1, 0),
+                new PathNode(new SwitchId("00:00:00:00:00:00:00:02"), 2, 1),
+                IslChangeType.DISCOVERED, false);
+        return new InfoMessage(isl, 1000L, "wire-format-test");
+    }
+}
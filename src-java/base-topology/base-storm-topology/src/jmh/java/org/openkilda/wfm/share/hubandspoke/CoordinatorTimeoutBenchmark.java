@@ -0,0 +1,120 @@
+/* Copyright 2023 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.wfm.share.hubandspoke;
+
+import org.openkilda.wfm.CommandContext;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares callback bookkeeping of {@link CoordinatorBolt} and {@link EmbeddedCoordinator}. Each operation is a
+ * request lifecycle: register of a new callback, cancel of the oldest pending one and a coordinator tick. The
+ * {@code coordinatorTuples} counter shows tuples sent between bolt tasks per request, their transfer latency is not
+ * a part of this microbenchmark. Besides the average time the sampled latency distribution of a request lifecycle
+ * is reported. Run with {@code ./gradlew :base-storm-topology:jmh}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.AverageTime, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CoordinatorTimeoutBenchmark {
+    // Long enough to never expire, callbacks are always cancelled by responses.
+    private static final int TIMEOUT_MS = (int) TimeUnit.MINUTES.toMillis(10);
+
+    @Param({"10000"})
+    public int pendingRequests;
+
+    private String[] keys;
+    private CommandContext context;
+    private CoordinatorBolt coordinatorBolt;
+    private EmbeddedCoordinator embeddedCoordinator;
+    private int next;
+
+    /**
+     * Fills both coordinators with pending callbacks.
+     */
+    @Setup(Level.Iteration)
+    public void setUp() {
+        keys = new String[pendingRequests];
+        for (int i = 0; i < pendingRequests; i++) {
+            keys[i] = "request-" + i;
+        }
+        context = new CommandContext();
+        coordinatorBolt = new CoordinatorBolt();
+        embeddedCoordinator = new EmbeddedCoordinator();
+        for (String key : keys) {
+            coordinatorBolt.registerCallback(key, context, TIMEOUT_MS, 0);
+            embeddedCoordinator.registerCallback(key, context, TIMEOUT_MS);
+        }
+        next = 0;
+    }
+
+    /**
+     * Request lifecycle with {@link CoordinatorBolt}, register and cancel are tuples sent to the coordinator task.
+     */
+    @Benchmark
+    public void coordinatorBolt(TupleCounters counters) {
+        String key = nextKey();
+        coordinatorBolt.cancelCallback(key);
+        coordinatorBolt.registerCallback(key, context, TIMEOUT_MS, 0);
+        coordinatorBolt.tick(System.currentTimeMillis());
+        counters.coordinatorTuples += 2;
+    }
+
+    /**
+     * Request lifecycle with {@link EmbeddedCoordinator}, all calls are local to the bolt task.
+     */
+    @Benchmark
+    public void embeddedCoordinator(TupleCounters counters) {
+        String key = nextKey();
+        embeddedCoordinator.cancelCallback(key);
+        embeddedCoordinator.registerCallback(key, context, TIMEOUT_MS);
+        embeddedCoordinator.tick(System.currentTimeMillis());
+    }
+
+    private String nextKey() {
+        String key = keys[next];
+        next = (next + 1) % keys.length;
+        return key;
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class TupleCounters {
+        public long coordinatorTuples;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            coordinatorTuples = 0;
+        }
+    }
+}
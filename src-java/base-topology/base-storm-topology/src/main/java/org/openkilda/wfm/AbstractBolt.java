@@ -77,6 +77,7 @@ public abstract class AbstractBolt extends BaseRichBolt {
 
     private String meterNamePrefix;
     private String meterOutputStream;
+    @Getter(AccessLevel.PROTECTED)
     private transient PushToStreamMeterRegistry meterRegistry;
 
     public AbstractBolt() {
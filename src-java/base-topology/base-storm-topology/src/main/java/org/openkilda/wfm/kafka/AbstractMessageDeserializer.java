@@ -17,7 +17,7 @@ package org.openkilda.wfm.kafka;
 
 import org.openkilda.bluegreen.kafka.TransportErrorReport;
 import org.openkilda.messaging.AbstractMessage;
-import org.openkilda.messaging.SerializationUtils;
+import org.openkilda.messaging.WireFormat;
 import org.openkilda.messaging.error.TransportErrorWrapper;
 
 import lombok.extern.slf4j.Slf4j;
@@ -38,7 +38,7 @@ public class AbstractMessageDeserializer implements Deserializer<AbstractMessage
     public AbstractMessage deserialize(String topic, byte[] data) {
         Class<AbstractMessage> base = AbstractMessage.class;
         try {
-            return SerializationUtils.MAPPER.readValue(data, base);
+            return WireFormat.detect(data).getMapper().readValue(data, base);
         } catch (IOException e) {
             TransportErrorReport errorReport = TransportErrorReport.createFromException(
                     topic, base, data, e);
@@ -17,11 +17,14 @@ package org.openkilda.wfm.kafka;
 
 import static java.lang.String.format;
 
+import org.openkilda.floodlight.api.request.SpeakerRequest;
+import org.openkilda.floodlight.api.routing.RoutingKey;
 import org.openkilda.messaging.AbstractMessage;
-import org.openkilda.messaging.SerializationUtils;
+import org.openkilda.messaging.WireFormatSelector;
 
 import lombok.extern.slf4j.Slf4j;
 import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.Headers;
 import org.apache.kafka.common.serialization.Serializer;
 
 import java.io.IOException;
@@ -29,9 +32,11 @@ import java.util.Map;
 
 @Slf4j
 public class AbstractMessageSerializer implements Serializer<AbstractMessage> {
+    private WireFormatSelector wireFormatSelector = new WireFormatSelector(null);
+
     @Override
     public void configure(Map<String, ?> configs, boolean isKey) {
-        // nothing to do
+        wireFormatSelector = WireFormatSelector.fromConfigs(configs);
     }
 
     @Override
@@ -39,7 +44,7 @@ public class AbstractMessageSerializer implements Serializer<AbstractMessage> {
         try {
             byte[] result = null;
             if (message != null) {
-                result = SerializationUtils.MAPPER.writeValueAsBytes(message);
+                result = wireFormatSelector.select(topic).getMapper().writeValueAsBytes(message);
             }
             return result;
         } catch (IOException e) {
@@ -48,6 +53,17 @@ public class AbstractMessageSerializer implements Serializer<AbstractMessage> {
         }
     }
 
+    /**
+     * Adds routing headers to speaker requests, so the floodlight router doesn't need to decode them.
+     */
+    @Override
+    public byte[] serialize(String topic, Headers headers, AbstractMessage message) {
+        if (headers != null && message instanceof SpeakerRequest) {
+            RoutingKey.forSpeakerRequest((SpeakerRequest) message).writeTo(headers);
+        }
+        return serialize(topic, message);
+    }
+
     @Override
     public void close() {
         // nothing to do
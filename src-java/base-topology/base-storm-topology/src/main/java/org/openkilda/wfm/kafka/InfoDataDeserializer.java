@@ -16,7 +16,7 @@
 package org.openkilda.wfm.kafka;
 
 import org.openkilda.bluegreen.kafka.TransportErrorReport;
-import org.openkilda.messaging.SerializationUtils;
+import org.openkilda.messaging.WireFormat;
 import org.openkilda.messaging.info.InfoData;
 import org.openkilda.messaging.info.TransportErrorWrapper;
 
@@ -38,7 +38,7 @@ public class InfoDataDeserializer implements Deserializer<InfoData> {
     public InfoData deserialize(String topic, byte[] data) {
         Class<InfoData> base = InfoData.class;
         try {
-            return SerializationUtils.MAPPER.readValue(data, base);
+            return WireFormat.detect(data).getMapper().readValue(data, base);
         } catch (IOException e) {
             TransportErrorReport errorReport = TransportErrorReport.createFromException(
                     topic, base, data, e);
@@ -15,7 +15,7 @@
 
 package org.openkilda.wfm.kafka;
 
-import org.openkilda.messaging.SerializationUtils;
+import org.openkilda.messaging.WireFormatSelector;
 import org.openkilda.messaging.info.InfoData;
 
 import lombok.extern.slf4j.Slf4j;
@@ -27,9 +27,11 @@ import java.util.Map;
 
 @Slf4j
 public class InfoDataSerializer implements Serializer<InfoData> {
+    private WireFormatSelector wireFormatSelector = new WireFormatSelector(null);
+
     @Override
     public void configure(Map<String, ?> configs, boolean isKey) {
-        // No-op
+        wireFormatSelector = WireFormatSelector.fromConfigs(configs);
     }
 
     @Override
@@ -37,7 +39,7 @@ public class InfoDataSerializer implements Serializer<InfoData> {
         byte[] result = null;
         if (data != null) {
             try {
-                result = SerializationUtils.MAPPER.writeValueAsBytes(data);
+                result = wireFormatSelector.select(topic).getMapper().writeValueAsBytes(data);
             } catch (IOException e) {
                 log.error(
                         "Failed to serialize object belongs to {}: {}, for topic: {}",
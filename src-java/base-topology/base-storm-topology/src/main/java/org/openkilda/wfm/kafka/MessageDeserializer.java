@@ -17,7 +17,7 @@ package org.openkilda.wfm.kafka;
 
 import org.openkilda.bluegreen.kafka.TransportErrorReport;
 import org.openkilda.messaging.Message;
-import org.openkilda.messaging.SerializationUtils;
+import org.openkilda.messaging.WireFormat;
 import org.openkilda.messaging.info.InfoMessage;
 import org.openkilda.messaging.info.TransportErrorWrapper;
 
@@ -40,7 +40,7 @@ public class MessageDeserializer implements Deserializer<Message> {
     public Message deserialize(String topic, byte[] data) {
         Class<Message> base = Message.class;
         try {
-            return SerializationUtils.MAPPER.readValue(data, base);
+            return WireFormat.detect(data).getMapper().readValue(data, base);
         } catch (IOException e) {
             TransportErrorReport errorReport = TransportErrorReport.createFromException(
                     topic, base, data, e);
@@ -0,0 +1,167 @@
+/* Copyright 2023 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.wfm.share.flow.resources;
+
+import com.google.common.base.Preconditions;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Collection;
+import java.util.OptionalLong;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongPredicate;
+import java.util.function.Supplier;
+
+/**
+ * Lock-free allocator of ids in the range from {@code idMinimum} to {@code idMaximum} (inclusive).
+ *
+ * <p>Allocated ids are tracked in a bitmap and claimed with CAS, so the allocator doesn't scan the database to
+ * find a free id. The bitmap is only a local view: it's built from the database on first use and rebuilt when
+ * it runs out of free ids or becomes stale, so ids released by other workers or leaked by rolled back
+ * transactions become available again. The database stays the source of truth, each claimed id must be confirmed
+ * by the caller.
+ */
+@Slf4j
+public class BitmapIdAllocator {
+    private static final int MAX_CONFLICTS_BEFORE_RELOAD = 16;
+
+    @Getter
+    private final long idMinimum;
+    @Getter
+    private final long idMaximum;
+    private final Supplier<? extends Collection<Long>> allocatedIdsLoader;
+    private final int wordsCount;
+
+    private final AtomicInteger nextWord = new AtomicInteger();
+    private volatile AtomicLongArray bitmap;
+
+    public BitmapIdAllocator(long idMinimum, long idMaximum, Supplier<? extends Collection<Long>> allocatedIdsLoader) {
+        Preconditions.checkArgument(idMinimum <= idMaximum, String.format(
+                "Resources pool must have at least one entry (idMinimum == %d, idMaximum == %d)",
+                idMinimum, idMaximum));
+        long size = idMaximum - idMinimum + 1;
+        Preconditions.checkArgument(0 < size && size / Long.SIZE < Integer.MAX_VALUE, String.format(
+                "Resources pool is too big for a bitmap (idMinimum == %d, idMaximum == %d)", idMinimum, idMaximum));
+
+        this.idMinimum = idMinimum;
+        this.idMaximum = idMaximum;
+        this.allocatedIdsLoader = allocatedIdsLoader;
+        this.wordsCount = (int) ((size + Long.SIZE - 1) / Long.SIZE);
+    }
+
+    /**
+     * Claims a free id and confirms it with the given predicate, e.g. by a check that the id isn't used in the
+     * database. Ids which are not confirmed stay marked as allocated, the next free id is tried instead.
+     *
+     * @return the allocated id or {@link OptionalLong#empty()} if there are no free ids.
+     */
+    public OptionalLong allocate(LongPredicate confirmation) {
+        boolean reloaded = false;
+        int conflicts = 0;
+        while (true) {
+            if (!reloaded && conflicts >= MAX_CONFLICTS_BEFORE_RELOAD) {
+                log.debug("Ids bitmap [{}, {}] is stale, {} claimed ids are already in use",
+                        idMinimum, idMaximum, conflicts);
+                reload();
+                reloaded = true;
+            }
+
+            OptionalLong claimed = claim();
+            if (!claimed.isPresent()) {
+                if (reloaded) {
+                    return OptionalLong.empty();
+                }
+                reload();
+                reloaded = true;
+            } else if (confirmation.test(claimed.getAsLong())) {
+                return claimed;
+            } else {
+                conflicts++;
+            }
+        }
+    }
+
+    /**
+     * Marks the id as free. Ids out of the range are ignored. Must be called once the removal of the id is
+     * committed, otherwise a rolled back removal leaves the id free in the bitmap while it's still used.
+     */
+    public void release(long id) {
+        AtomicLongArray words = bitmap;
+        if (words == null || id < idMinimum || idMaximum < id) {
+            return;
+        }
+        long offset = id - idMinimum;
+        long bit = 1L << (offset % Long.SIZE);
+        words.getAndUpdate((int) (offset / Long.SIZE), word -> word & ~bit);
+    }
+
+    private OptionalLong claim() {
+        AtomicLongArray words = getBitmap();
+        int start = nextWord.get();
+        for (int i = 0; i < wordsCount; i++) {
+            int index = (start + i) % wordsCount;
+            long word = words.get(index);
+            while (word != -1L) {
+                long bit = Long.lowestOneBit(~word);
+                if (words.compareAndSet(index, word, word | bit)) {
+                    nextWord.set(index);
+                    return OptionalLong.of(idMinimum + (long) index * Long.SIZE + Long.numberOfTrailingZeros(bit));
+                }
+                word = words.get(index);
+            }
+        }
+        return OptionalLong.empty();
+    }
+
+    private AtomicLongArray getBitmap() {
+        AtomicLongArray words = bitmap;
+        if (words == null) {
+            synchronized (this) {
+                if (bitmap == null) {
+                    reload();
+                }
+                words = bitmap;
+            }
+        }
+        return words;
+    }
+
+    private synchronized void reload() {
+        AtomicLongArray words = new AtomicLongArray(wordsCount);
+        int tailBits = (int) ((idMaximum - idMinimum + 1) % Long.SIZE);
+        if (tailBits != 0) {
+            // Bits beyond idMaximum are never free.
+            words.set(wordsCount - 1, -1L << tailBits);
+        }
+
+        int allocated = 0;
+        for (Long id : allocatedIdsLoader.get()) {
+            if (id != null && idMinimum <= id && id <= idMaximum) {
+                long offset = id - idMinimum;
+                int index = (int) (offset / Long.SIZE);
+                words.set(index, words.get(index) | (1L << (offset % Long.SIZE)));
+                allocated++;
+            }
+        }
+
+        // Start from a random position to reduce collisions with other workers allocating from the same range.
+        nextWord.set(ThreadLocalRandom.current().nextInt(wordsCount));
+        bitmap = words;
+        log.debug("Ids bitmap [{}, {}] has been loaded with {} allocated ids", idMinimum, idMaximum, allocated);
+    }
+}
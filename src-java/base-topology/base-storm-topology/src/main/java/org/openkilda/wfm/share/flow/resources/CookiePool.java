@@ -24,8 +24,7 @@ import org.openkilda.persistence.tx.TransactionRequired;
 
 import lombok.extern.slf4j.Slf4j;
 
-import java.util.Optional;
-import java.util.Random;
+import java.util.stream.Collectors;
 
 /**
  * The resource pool is responsible for cookie de-/allocation.
@@ -35,20 +34,17 @@ public class CookiePool {
     private final TransactionManager transactionManager;
     private final FlowCookieRepository flowCookieRepository;
 
-    private final long minCookie;
-    private final long maxCookie;
-    private final int poolSize;
+    private final BitmapIdAllocator allocator;
 
-    private long nextCookie = 0;
-
-    public CookiePool(PersistenceManager persistenceManager, long minCookie, long maxCookie, int poolSize) {
+    public CookiePool(PersistenceManager persistenceManager, long minCookie, long maxCookie) {
         transactionManager = persistenceManager.getTransactionManager();
         RepositoryFactory repositoryFactory = persistenceManager.getRepositoryFactory();
         flowCookieRepository = repositoryFactory.createFlowCookieRepository();
 
-        this.minCookie = minCookie;
-        this.maxCookie = maxCookie;
-        this.poolSize = poolSize;
+        allocator = new BitmapIdAllocator(minCookie, maxCookie, () ->
+                flowCookieRepository.findAll().stream()
+                        .map(FlowCookie::getUnmaskedCookie)
+                        .collect(Collectors.toList()));
     }
 
     /**
@@ -58,40 +54,10 @@ public class CookiePool {
      */
     @TransactionRequired
     public long allocate(String flowId) {
-        if (nextCookie > 0) {
-            if (nextCookie <= maxCookie && !flowCookieRepository.exists(nextCookie)) {
-                addCookie(flowId, nextCookie);
-                return nextCookie++;
-            } else {
-                nextCookie = 0;
-            }
-        }
-        // The pool requires (re-)initialization.
-        if (nextCookie == 0) {
-            long numOfPools = (maxCookie - minCookie) / poolSize;
-            if (numOfPools > 1) {
-                long poolToTake = Math.abs(new Random().nextInt()) % numOfPools;
-                Optional<Long> availableCookie = flowCookieRepository.findFirstUnassignedCookie(
-                        minCookie + poolToTake * poolSize,
-                        minCookie + (poolToTake + 1) * poolSize - 1);
-                if (availableCookie.isPresent()) {
-                    nextCookie = availableCookie.get();
-                    addCookie(flowId, nextCookie);
-                    return nextCookie++;
-                }
-            }
-            // The pool requires full scan.
-            nextCookie = -1;
-        }
-        if (nextCookie == -1) {
-            Optional<Long> availableCookie = flowCookieRepository.findFirstUnassignedCookie(minCookie, maxCookie);
-            if (availableCookie.isPresent()) {
-                nextCookie = availableCookie.get();
-                addCookie(flowId, nextCookie);
-                return nextCookie++;
-            }
-        }
-        throw new ResourceNotAvailableException("No cookie available");
+        long cookie = allocator.allocate(id -> !flowCookieRepository.exists(id))
+                .orElseThrow(() -> new ResourceNotAvailableException("No cookie available"));
+        addCookie(flowId, cookie);
+        return cookie;
     }
 
     private void addCookie(String flowId, long cookie) {
@@ -108,7 +74,10 @@ public class CookiePool {
     public void deallocate(long unmaskedCookie) {
         transactionManager.doInTransaction(() ->
                 flowCookieRepository.findByCookie(unmaskedCookie)
-                        .ifPresent(flowCookieRepository::remove)
+                        .ifPresent(flowCookie -> {
+                            flowCookieRepository.remove(flowCookie);
+                            transactionManager.doAfterCommit(() -> allocator.release(unmaskedCookie));
+                        })
         );
     }
 }
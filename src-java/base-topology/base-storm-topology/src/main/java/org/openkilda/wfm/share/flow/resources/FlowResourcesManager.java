@@ -58,8 +58,6 @@ import java.util.stream.Stream;
 
 @Slf4j
 public class FlowResourcesManager {
-    private static final int POOL_SIZE = 100;
-
     private final TransactionManager transactionManager;
     private final FlowMeterRepository flowMeterRepository;
     private final MirrorGroupRepository mirrorGroupRepository;
@@ -80,22 +78,21 @@ public class FlowResourcesManager {
         flowMeterRepository = repositoryFactory.createFlowMeterRepository();
         mirrorGroupRepository = repositoryFactory.createMirrorGroupRepository();
 
-        this.cookiePool = new CookiePool(persistenceManager, config.getMinFlowCookie(), config.getMaxFlowCookie(),
-                POOL_SIZE);
+        this.cookiePool = new CookiePool(persistenceManager, config.getMinFlowCookie(), config.getMaxFlowCookie());
 
         meterIdPools = new LRUMap<>(config.getPoolsCacheSizeMeterId());
         meterIdPoolConfig = new PoolManager.PoolConfig(
                 config.getMinFlowMeterId(), config.getMaxFlowMeterId(), config.getPoolChunksCountMeterId());
 
         this.mirrorGroupIdPool = new MirrorGroupIdPool(persistenceManager,
-                new GroupId(config.getMinGroupId()), new GroupId(config.getMaxGroupId()), POOL_SIZE);
+                new GroupId(config.getMinGroupId()), new GroupId(config.getMaxGroupId()));
 
         encapsulationResourcesProviders = ImmutableMap.<FlowEncapsulationType,
                         EncapsulationResourcesProvider<?>>builder()
                 .put(FlowEncapsulationType.TRANSIT_VLAN, new TransitVlanPool(persistenceManager,
-                        config.getMinFlowTransitVlan(), config.getMaxFlowTransitVlan(), POOL_SIZE))
+                        config.getMinFlowTransitVlan(), config.getMaxFlowTransitVlan()))
                 .put(FlowEncapsulationType.VXLAN, new VxlanPool(persistenceManager,
-                        config.getMinFlowVxlan(), config.getMaxFlowVxlan(), POOL_SIZE))
+                        config.getMinFlowVxlan(), config.getMaxFlowVxlan()))
                 .build();
     }
 
@@ -31,10 +31,9 @@ import org.openkilda.persistence.tx.TransactionRequired;
 
 import lombok.extern.slf4j.Slf4j;
 
-import java.util.HashMap;
 import java.util.Map;
-import java.util.Optional;
-import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 
 /**
  * The resource pool is responsible for group id de-/allocation.
@@ -46,19 +45,16 @@ public class MirrorGroupIdPool {
 
     private final GroupId minGroupId;
     private final GroupId maxGroupId;
-    private final int poolSize;
 
-    private final Map<SwitchId, GroupId> nextGroupIds = new HashMap<>();
+    private final Map<SwitchId, BitmapIdAllocator> allocators = new ConcurrentHashMap<>();
 
-    public MirrorGroupIdPool(PersistenceManager persistenceManager,
-                             GroupId minGroupId, GroupId maxGroupId, int poolSize) {
+    public MirrorGroupIdPool(PersistenceManager persistenceManager, GroupId minGroupId, GroupId maxGroupId) {
         transactionManager = persistenceManager.getTransactionManager();
         RepositoryFactory repositoryFactory = persistenceManager.getRepositoryFactory();
         mirrorGroupRepository = repositoryFactory.createMirrorGroupRepository();
 
         this.minGroupId = minGroupId;
         this.maxGroupId = maxGroupId;
-        this.poolSize = poolSize <= 0 ? 1 : poolSize;
     }
 
     /**
@@ -67,46 +63,19 @@ public class MirrorGroupIdPool {
     @TransactionRequired
     public MirrorGroup allocate(SwitchId switchId, String flowId, PathId pathId,
                                 MirrorGroupType type, MirrorDirection direction) {
-        GroupId nextGroupId = nextGroupIds.get(switchId);
-        if (nextGroupId != null && nextGroupId.getValue() > 0) {
-            if (nextGroupId.compareTo(maxGroupId) <= 0 && !mirrorGroupRepository.exists(switchId, nextGroupId)) {
-                MirrorGroup mirrorGroup = addMirrorGroup(flowId, pathId, switchId, nextGroupId, type, direction);
-                nextGroupIds.put(switchId, new GroupId(nextGroupId.getValue() + 1));
-                return mirrorGroup;
-            } else {
-                nextGroupIds.remove(switchId);
-            }
-        }
-        // The pool requires (re-)initialization.
-        if (!nextGroupIds.containsKey(switchId)) {
-            long numOfPools = (maxGroupId.getValue() - minGroupId.getValue()) / poolSize;
-            if (numOfPools > 1) {
-                long poolToTake = Math.abs(new Random().nextInt()) % numOfPools;
-                Optional<GroupId> availableGroupId = mirrorGroupRepository.findFirstUnassignedGroupId(switchId,
-                        new GroupId(minGroupId.getValue() + poolToTake * poolSize),
-                        new GroupId(minGroupId.getValue() + (poolToTake + 1) * poolSize - 1));
-                if (availableGroupId.isPresent()) {
-                    nextGroupId = availableGroupId.get();
-                    MirrorGroup mirrorGroup = addMirrorGroup(flowId, pathId, switchId, nextGroupId, type, direction);
-                    nextGroupIds.put(switchId, new GroupId(nextGroupId.getValue() + 1));
-                    return mirrorGroup;
-                }
-            }
-            // The pool requires full scan.
-            nextGroupId = new GroupId(-1);
-            nextGroupIds.put(switchId, nextGroupId);
-        }
-        if (nextGroupId != null && nextGroupId.getValue() == -1) {
-            Optional<GroupId> availableMeter = mirrorGroupRepository.findFirstUnassignedGroupId(switchId,
-                    minGroupId, maxGroupId);
-            if (availableMeter.isPresent()) {
-                nextGroupId = availableMeter.get();
-                MirrorGroup mirrorGroup = addMirrorGroup(flowId, pathId, switchId, nextGroupId, type, direction);
-                nextGroupIds.put(switchId, new GroupId(nextGroupId.getValue() + 1));
-                return mirrorGroup;
-            }
-        }
-        throw new ResourceNotAvailableException(format("No group id available for switch %s", switchId));
+        long groupId = getAllocator(switchId)
+                .allocate(id -> !mirrorGroupRepository.exists(switchId, new GroupId(id)))
+                .orElseThrow(() -> new ResourceNotAvailableException(
+                        format("No group id available for switch %s", switchId)));
+        return addMirrorGroup(flowId, pathId, switchId, new GroupId(groupId), type, direction);
+    }
+
+    private BitmapIdAllocator getAllocator(SwitchId switchId) {
+        return allocators.computeIfAbsent(switchId, key ->
+                new BitmapIdAllocator(minGroupId.getValue(), maxGroupId.getValue(), () ->
+                        mirrorGroupRepository.findBySwitchId(key).stream()
+                                .map(mirrorGroup -> mirrorGroup.getGroupId().getValue())
+                                .collect(Collectors.toList())));
     }
 
     private MirrorGroup addMirrorGroup(String flowId, PathId pathId, SwitchId switchId, GroupId groupId,
@@ -128,6 +97,10 @@ public class MirrorGroupIdPool {
      */
     public void deallocate(PathId pathId, SwitchId switchId) {
         transactionManager.doInTransaction(() -> mirrorGroupRepository.findByPathIdAndSwitchId(pathId, switchId)
-                .ifPresent(mirrorGroupRepository::remove));
+                .ifPresent(mirrorGroup -> {
+                    long groupId = mirrorGroup.getGroupId().getValue();
+                    mirrorGroupRepository.remove(mirrorGroup);
+                    transactionManager.doAfterCommit(() -> getAllocator(switchId).release(groupId));
+                }));
     }
 }
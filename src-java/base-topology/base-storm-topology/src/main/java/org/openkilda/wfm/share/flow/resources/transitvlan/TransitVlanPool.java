@@ -22,6 +22,7 @@ import org.openkilda.persistence.repositories.RepositoryFactory;
 import org.openkilda.persistence.repositories.TransitVlanRepository;
 import org.openkilda.persistence.tx.TransactionManager;
 import org.openkilda.persistence.tx.TransactionRequired;
+import org.openkilda.wfm.share.flow.resources.BitmapIdAllocator;
 import org.openkilda.wfm.share.flow.resources.EncapsulationResourcesProvider;
 import org.openkilda.wfm.share.flow.resources.ResourceNotAvailableException;
 
@@ -29,7 +30,7 @@ import lombok.extern.slf4j.Slf4j;
 
 import java.util.Collection;
 import java.util.Optional;
-import java.util.Random;
+import java.util.stream.Collectors;
 
 /**
  * The resource pool is responsible for transit vlan de-/allocation.
@@ -39,21 +40,17 @@ public class TransitVlanPool implements EncapsulationResourcesProvider<TransitVl
     private final TransactionManager transactionManager;
     private final TransitVlanRepository transitVlanRepository;
 
-    private final int minTransitVlan;
-    private final int maxTransitVlan;
-    private final int poolSize;
+    private final BitmapIdAllocator allocator;
 
-    private int nextVlan = 0;
-
-    public TransitVlanPool(PersistenceManager persistenceManager, int minTransitVlan, int maxTransitVlan,
-                           int poolSize) {
+    public TransitVlanPool(PersistenceManager persistenceManager, int minTransitVlan, int maxTransitVlan) {
         transactionManager = persistenceManager.getTransactionManager();
         RepositoryFactory repositoryFactory = persistenceManager.getRepositoryFactory();
         transitVlanRepository = repositoryFactory.createTransitVlanRepository();
 
-        this.minTransitVlan = minTransitVlan;
-        this.maxTransitVlan = maxTransitVlan;
-        this.poolSize = poolSize;
+        allocator = new BitmapIdAllocator(minTransitVlan, maxTransitVlan, () ->
+                transitVlanRepository.findAll().stream()
+                        .map(transitVlan -> (long) transitVlan.getVlan())
+                        .collect(Collectors.toList()));
     }
 
     /**
@@ -67,38 +64,9 @@ public class TransitVlanPool implements EncapsulationResourcesProvider<TransitVl
 
     @TransactionRequired
     private TransitVlanEncapsulation allocate(String flowId, PathId pathId) {
-        if (nextVlan > 0) {
-            if (nextVlan <= maxTransitVlan && !transitVlanRepository.exists(nextVlan)) {
-                return addVlan(flowId, pathId, nextVlan++);
-            } else {
-                nextVlan = 0;
-            }
-        }
-        // The pool requires (re-)initialization.
-        if (nextVlan == 0) {
-            long numOfPools = (maxTransitVlan - minTransitVlan) / poolSize;
-            if (numOfPools > 1) {
-                long poolToTake = Math.abs(new Random().nextInt()) % numOfPools;
-                Optional<Integer> availableVlan = transitVlanRepository.findFirstUnassignedVlan(
-                        minTransitVlan + (int) poolToTake * poolSize,
-                        minTransitVlan + (int) (poolToTake + 1) * poolSize - 1);
-                if (availableVlan.isPresent()) {
-                    nextVlan = availableVlan.get();
-                    return addVlan(flowId, pathId, nextVlan++);
-                }
-            }
-            // The pool requires full scan.
-            nextVlan = -1;
-        }
-        if (nextVlan == -1) {
-            Optional<Integer> availableVlan = transitVlanRepository.findFirstUnassignedVlan(minTransitVlan,
-                    minTransitVlan);
-            if (availableVlan.isPresent()) {
-                nextVlan = availableVlan.get();
-                return addVlan(flowId, pathId, nextVlan++);
-            }
-        }
-        throw new ResourceNotAvailableException("No vlan available");
+        long vlan = allocator.allocate(id -> !transitVlanRepository.exists((int) id))
+                .orElseThrow(() -> new ResourceNotAvailableException("No vlan available"));
+        return addVlan(flowId, pathId, (int) vlan);
     }
 
     private TransitVlanEncapsulation addVlan(String flowId, PathId pathId, int vlan) {
@@ -121,7 +89,11 @@ public class TransitVlanPool implements EncapsulationResourcesProvider<TransitVl
     public void deallocate(PathId pathId) {
         transactionManager.doInTransaction(() ->
                 transitVlanRepository.findByPathId(pathId, null)
-                        .forEach(transitVlanRepository::remove));
+                        .forEach(transitVlan -> {
+                            int vlan = transitVlan.getVlan();
+                            transitVlanRepository.remove(transitVlan);
+                            transactionManager.doAfterCommit(() -> allocator.release(vlan));
+                        }));
     }
 
     /**
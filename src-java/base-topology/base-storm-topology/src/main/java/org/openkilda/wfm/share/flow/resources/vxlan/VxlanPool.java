@@ -22,6 +22,7 @@ import org.openkilda.persistence.repositories.RepositoryFactory;
 import org.openkilda.persistence.repositories.VxlanRepository;
 import org.openkilda.persistence.tx.TransactionManager;
 import org.openkilda.persistence.tx.TransactionRequired;
+import org.openkilda.wfm.share.flow.resources.BitmapIdAllocator;
 import org.openkilda.wfm.share.flow.resources.EncapsulationResourcesProvider;
 import org.openkilda.wfm.share.flow.resources.ResourceNotAvailableException;
 
@@ -29,7 +30,7 @@ import lombok.extern.slf4j.Slf4j;
 
 import java.util.Collection;
 import java.util.Optional;
-import java.util.Random;
+import java.util.stream.Collectors;
 
 /**
  * The resource pool is responsible for vxlan de-/allocation.
@@ -39,20 +40,17 @@ public class VxlanPool implements EncapsulationResourcesProvider<VxlanEncapsulat
     private final TransactionManager transactionManager;
     private final VxlanRepository vxlanRepository;
 
-    private final int minVxlan;
-    private final int maxVxlan;
-    private final int poolSize;
+    private final BitmapIdAllocator allocator;
 
-    private int nextVxlan = 0;
-
-    public VxlanPool(PersistenceManager persistenceManager, int minVxlan, int maxVxlan, int poolSize) {
+    public VxlanPool(PersistenceManager persistenceManager, int minVxlan, int maxVxlan) {
         transactionManager = persistenceManager.getTransactionManager();
         RepositoryFactory repositoryFactory = persistenceManager.getRepositoryFactory();
         vxlanRepository = repositoryFactory.createVxlanRepository();
 
-        this.minVxlan = minVxlan;
-        this.maxVxlan = maxVxlan;
-        this.poolSize = poolSize;
+        allocator = new BitmapIdAllocator(minVxlan, maxVxlan, () ->
+                vxlanRepository.findAll().stream()
+                        .map(vxlan -> (long) vxlan.getVni())
+                        .collect(Collectors.toList()));
     }
 
     /**
@@ -66,38 +64,9 @@ public class VxlanPool implements EncapsulationResourcesProvider<VxlanEncapsulat
 
     @TransactionRequired
     private VxlanEncapsulation allocate(String flowId, PathId pathId) {
-        if (nextVxlan > 0) {
-            if (nextVxlan <= maxVxlan && !vxlanRepository.exists(nextVxlan)) {
-                return addVxlan(flowId, pathId, nextVxlan++);
-            } else {
-                nextVxlan = 0;
-            }
-        }
-        // The pool requires (re-)initialization.
-        if (nextVxlan == 0) {
-            long numOfPools = (maxVxlan - minVxlan) / poolSize;
-            if (numOfPools > 1) {
-                long poolToTake = Math.abs(new Random().nextInt()) % numOfPools;
-                Optional<Integer> availableVxlan = vxlanRepository.findFirstUnassignedVxlan(
-                        minVxlan + (int) poolToTake * poolSize,
-                        minVxlan + (int) (poolToTake + 1) * poolSize - 1);
-                if (availableVxlan.isPresent()) {
-                    nextVxlan = availableVxlan.get();
-                    return addVxlan(flowId, pathId, nextVxlan++);
-                }
-            }
-            // The pool requires full scan.
-            nextVxlan = -1;
-        }
-        if (nextVxlan == -1) {
-            Optional<Integer> availableVxlan = vxlanRepository.findFirstUnassignedVxlan(minVxlan,
-                    maxVxlan);
-            if (availableVxlan.isPresent()) {
-                nextVxlan = availableVxlan.get();
-                return addVxlan(flowId, pathId, nextVxlan++);
-            }
-        }
-        throw new ResourceNotAvailableException("No vxlan available");
+        long vxlan = allocator.allocate(id -> !vxlanRepository.exists((int) id))
+                .orElseThrow(() -> new ResourceNotAvailableException("No vxlan available"));
+        return addVxlan(flowId, pathId, (int) vxlan);
     }
 
     private VxlanEncapsulation addVxlan(String flowId, PathId pathId, int vxlan) {
@@ -120,7 +89,11 @@ public class VxlanPool implements EncapsulationResourcesProvider<VxlanEncapsulat
     public void deallocate(PathId pathId) {
         transactionManager.doInTransaction(() ->
                 vxlanRepository.findByPathId(pathId, null)
-                        .forEach(vxlanRepository::remove));
+                        .forEach(vxlan -> {
+                            int vni = vxlan.getVni();
+                            vxlanRepository.remove(vxlan);
+                            transactionManager.doAfterCommit(() -> allocator.release(vni));
+                        }));
     }
 
     /**
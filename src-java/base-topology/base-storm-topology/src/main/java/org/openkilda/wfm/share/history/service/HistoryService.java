@@ -36,7 +36,11 @@ import lombok.extern.slf4j.Slf4j;
 
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Slf4j
 public class HistoryService {
@@ -85,6 +89,59 @@ public class HistoryService {
         });
     }
 
+    /**
+     * Save a group of history records in one transaction.
+     *
+     * <p>Records are written ordered by kind (events, then actions, then dumps), so the persistence layer can batch
+     * inserts of the same table and actions/dumps can refer to events of the same group. Records whose event is
+     * already stored, e.g. because the group is redelivered after a failed acknowledge, are skipped together with
+     * their actions and dumps. Records without an event can't be told apart from new ones and are always stored.
+     */
+    public void store(Collection<FlowHistoryHolder> historyHolders) {
+        transactionManager.doInTransaction(() -> {
+            Set<String> storedEvents = flowEventRepository.findExistingTaskIds(historyHolders.stream()
+                    .filter(holder -> holder.getFlowEventData() != null)
+                    .map(FlowHistoryHolder::getTaskId)
+                    .collect(Collectors.toSet()));
+
+            List<FlowHistoryHolder> newHolders = new ArrayList<>(historyHolders.size());
+            Set<String> seenEvents = new HashSet<>();
+            for (FlowHistoryHolder holder : historyHolders) {
+                String taskId = holder.getTaskId();
+                if (holder.getFlowEventData() != null
+                        && (storedEvents.contains(taskId) || !seenEvents.add(taskId))) {
+                    log.info("Skip flow history record of the task {}, it is already stored", taskId);
+                    continue;
+                }
+                newHolders.add(holder);
+            }
+
+            for (FlowHistoryHolder holder : newHolders) {
+                if (holder.getFlowEventData() != null) {
+                    FlowEvent event = HistoryMapper.INSTANCE.map(holder.getFlowEventData());
+                    event.setTaskId(holder.getTaskId());
+                    flowEventRepository.add(event);
+                }
+            }
+
+            for (FlowHistoryHolder holder : newHolders) {
+                if (holder.getFlowHistoryData() != null) {
+                    FlowEventAction history = HistoryMapper.INSTANCE.map(holder.getFlowHistoryData());
+                    history.setTaskId(holder.getTaskId());
+                    flowEventActionRepository.add(history);
+                }
+            }
+
+            for (FlowHistoryHolder holder : newHolders) {
+                if (holder.getFlowDumpData() != null) {
+                    FlowEventDump dump = HistoryMapper.INSTANCE.map(holder.getFlowDumpData());
+                    dump.setTaskId(holder.getTaskId());
+                    flowEventDumpRepository.add(dump);
+                }
+            }
+        });
+    }
+
     /**
      * Persist the history record.
      */
@@ -15,10 +15,14 @@
 
 package org.openkilda.wfm.share.hubandspoke;
 
+import static java.lang.String.format;
+
 import org.openkilda.persistence.PersistenceManager;
 import org.openkilda.wfm.AbstractBolt;
+import org.openkilda.wfm.CommandContext;
 import org.openkilda.wfm.error.PipelineException;
 import org.openkilda.wfm.share.hubandspoke.CoordinatorBolt.CoordinatorCommand;
+import org.openkilda.wfm.share.hubandspoke.EmbeddedCoordinator.Callback;
 import org.openkilda.wfm.topology.utils.MessageKafkaTranslator;
 
 import org.apache.storm.topology.OutputFieldsDeclarer;
@@ -28,6 +32,10 @@ import org.apache.storm.tuple.Values;
 
 /**
  * This class provides callbacks and timeout handlers for asynchronous operations.
+ *
+ * <p>By default callbacks are tracked by {@link CoordinatorBolt}. With embedded timeouts they are tracked by the bolt
+ * task itself, in this case the bolt must receive {@link CoordinatorSpout} ticks (allGrouping) instead of the
+ * {@link CoordinatorBolt} stream.
  */
 public abstract class CoordinatedBolt extends AbstractBolt {
     static final String COMMAND_FIELD = "command";
@@ -35,6 +43,9 @@ public abstract class CoordinatedBolt extends AbstractBolt {
 
     private final boolean autoAck;
     private final int defaultTimeout;
+    private final boolean embeddedTimeouts;
+
+    private transient EmbeddedCoordinator embeddedCoordinator;
 
     public CoordinatedBolt(boolean autoAck, int defaultTimeout, String lifeCycleEventSourceComponent) {
         this(null, autoAck, defaultTimeout, lifeCycleEventSourceComponent);
@@ -43,9 +54,16 @@ public abstract class CoordinatedBolt extends AbstractBolt {
     public CoordinatedBolt(
             PersistenceManager persistenceManager, boolean autoAck, int defaultTimeout,
             String lifeCycleEventSourceComponent) {
+        this(persistenceManager, autoAck, defaultTimeout, lifeCycleEventSourceComponent, false);
+    }
+
+    public CoordinatedBolt(
+            PersistenceManager persistenceManager, boolean autoAck, int defaultTimeout,
+            String lifeCycleEventSourceComponent, boolean embeddedTimeouts) {
         super(persistenceManager, lifeCycleEventSourceComponent);
         this.autoAck = autoAck;
         this.defaultTimeout = defaultTimeout;
+        this.embeddedTimeouts = embeddedTimeouts;
     }
 
     @Override
@@ -53,11 +71,43 @@ public abstract class CoordinatedBolt extends AbstractBolt {
         if (CoordinatorBolt.ID.equals(input.getSourceComponent())) {
             String key = pullKey(input);
             onTimeout(key, input);
+        } else if (embeddedTimeouts && CoordinatorSpout.ID.equals(input.getSourceComponent())) {
+            handleEmbeddedTimeouts(input);
         } else {
             super.dispatch(input);
         }
     }
 
+    private void handleEmbeddedTimeouts(Tuple input) {
+        long currentTime = input.getLongByField(CoordinatorSpout.FIELD_ID_TIME_MS);
+        CommandContext tickContext = getCommandContext();
+        for (Callback callback : getEmbeddedCoordinator().tick(currentTime)) {
+            // Timeout handlers see the context of the request, the same way as with CoordinatorBolt callbacks.
+            setCommandContext(callback.getContext() != null ? callback.getContext() : tickContext);
+            try {
+                onTimeout(callback.getKey(), input);
+            } catch (Exception e) {
+                handleTimeoutException(callback.getKey(), e);
+            }
+        }
+        setCommandContext(tickContext);
+    }
+
+    private void handleTimeoutException(String key, Exception e) {
+        try {
+            handleException(e);
+        } catch (Exception ee) {
+            log.error(format("Unhandled exception in %s on timeout of %s", getClass().getName(), key), e);
+        }
+    }
+
+    private EmbeddedCoordinator getEmbeddedCoordinator() {
+        if (embeddedCoordinator == null) {
+            embeddedCoordinator = new EmbeddedCoordinator();
+        }
+        return embeddedCoordinator;
+    }
+
     protected String pullKey(Tuple tuple) throws PipelineException {
         return pullValue(tuple, MessageKafkaTranslator.FIELD_ID_KEY, String.class);
     }
@@ -90,6 +140,14 @@ public abstract class CoordinatedBolt extends AbstractBolt {
      * @param key request's identifier.
      */
     protected void cancelCallback(String key) {
+        if (embeddedTimeouts) {
+            if (getEmbeddedCoordinator().cancelCallback(key)) {
+                log.debug("Request processing of {} is finished", key);
+            } else {
+                log.warn("{} is already cancelled", key);
+            }
+            return;
+        }
         emitWithContext(CoordinatorBolt.INCOME_STREAM, getCurrentTuple(),
                         new Values(key, CoordinatorCommand.CANCEL_CALLBACK, 0));
     }
@@ -109,6 +167,11 @@ public abstract class CoordinatedBolt extends AbstractBolt {
      * @param timeout how long coordinator waits for a response. If no response received - timeout error occurs.
      */
     protected void registerCallback(String key, int timeout) {
+        if (embeddedTimeouts) {
+            log.trace("Adding callback for {} with timeout {}", key, timeout);
+            getEmbeddedCoordinator().registerCallback(key, getCommandContext(), timeout);
+            return;
+        }
         emitWithContext(CoordinatorBolt.INCOME_STREAM, getCurrentTuple(),
                         new Values(key, CoordinatorCommand.REQUEST_CALLBACK, timeout));
     }
@@ -0,0 +1,82 @@
+/* Copyright 2023 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.wfm.share.hubandspoke;
+
+import org.openkilda.wfm.CommandContext;
+import org.openkilda.wfm.share.utils.TimingWheel;
+
+import lombok.Value;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Keeps callback timeouts inside a bolt task instead of {@link CoordinatorBolt}. Registration and cancellation are
+ * O(1) and don't produce tuples, expired callbacks are collected on {@link CoordinatorSpout} ticks received by the
+ * bolt itself.
+ *
+ * <p>Not thread safe, it is owned by a single bolt task.
+ */
+final class EmbeddedCoordinator {
+    public static final long RESOLUTION_MS = 10;
+
+    private final TimingWheel<String> timeouts = new TimingWheel<>(RESOLUTION_MS);
+    private final Map<String, CommandContext> contexts = new HashMap<>();
+
+    // Ticks carry the clock of CoordinatorSpout, trigger times are counted from it to be comparable with ticks.
+    // The local clock is used only until the first tick.
+    private long lastTickTime = System.currentTimeMillis();
+
+    /**
+     * Adds or replaces the callback for the key, it expires {@code timeout} milliseconds after the last tick.
+     */
+    public void registerCallback(String key, CommandContext context, long timeout) {
+        timeouts.schedule(key, lastTickTime + timeout);
+        contexts.put(key, context);
+    }
+
+    /**
+     * Removes the callback for the key.
+     *
+     * @return true if the key had a pending callback.
+     */
+    public boolean cancelCallback(String key) {
+        contexts.remove(key);
+        return timeouts.cancel(key);
+    }
+
+    /**
+     * Removes and returns callbacks with trigger time not after the current time.
+     */
+    public List<Callback> tick(long currentTime) {
+        lastTickTime = currentTime;
+        List<Callback> expired = new ArrayList<>();
+        timeouts.advance(currentTime, key -> expired.add(new Callback(key, contexts.remove(key))));
+        return expired;
+    }
+
+    public int size() {
+        return timeouts.size();
+    }
+
+    @Value
+    public static class Callback {
+        String key;
+        CommandContext context;
+    }
+}
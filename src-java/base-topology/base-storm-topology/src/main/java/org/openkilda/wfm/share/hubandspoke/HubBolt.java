@@ -36,6 +36,8 @@ import java.io.Serializable;
  * </p>
  * Note: Additional bolt, spout and streams are required for the topology to work this hub properly:
  * {@link CoordinatorBolt} and {@link CoordinatorSpout} should be declared in a topology definition.
+ * With {@code Config.embeddedTimeouts} only {@link CoordinatorSpout} is required, the hub must have allGrouping
+ * income stream from {@code}CoordinatorSpout.ID{@code} instead of the streams listed below.
  * </p>
  * Following streams are mandatory:
  * {@code}HubBolt{@code} must have income stream with directGrouping from {@code}CoordinatorBolt.ID{@code}.
@@ -51,7 +53,8 @@ public abstract class HubBolt extends CoordinatedBolt {
     protected transient OutputCollector collector;
 
     public HubBolt(PersistenceManager persistenceManager, Config config) {
-        super(persistenceManager, config.isAutoAck(), config.getTimeoutMs(), config.getLifeCycleEventComponent());
+        super(persistenceManager, config.isAutoAck(), config.getTimeoutMs(), config.getLifeCycleEventComponent(),
+                config.isEmbeddedTimeouts());
 
         requireNonNull(config.getRequestSenderComponent(),
                 "A component that sends income requests should be not null");
@@ -103,5 +106,12 @@ public abstract class HubBolt extends CoordinatedBolt {
 
         @Builder.Default
         private boolean autoAck = true;
+
+        /**
+         * Track timeouts inside the bolt, it must receive {@link CoordinatorSpout} ticks instead of
+         * {@link CoordinatorBolt} callbacks.
+         */
+        @Builder.Default
+        private boolean embeddedTimeouts = false;
     }
 }
@@ -39,6 +39,8 @@ import java.util.Set;
  * </p>
  * Note: Additional bolt, spout and streams are required for the topology to work this worker bolt properly:
  * {@link CoordinatorBolt} and {@link CoordinatorSpout} should be declared in a topology definition.
+ * With {@code Config.embeddedTimeouts} only {@link CoordinatorSpout} is required, the worker must have allGrouping
+ * income stream from {@code}CoordinatorSpout.ID{@code} instead of the streams listed below.
  * </p>
  * Following streams are mandatory:
  * {@code}WorkerBolt{@code} must have income stream with directGrouping from {@code}CoordinatorBolt.ID{@code}.
@@ -60,7 +62,7 @@ public abstract class WorkerBolt extends CoordinatedBolt {
     }
 
     public WorkerBolt(PersistenceManager persistenceManager, Config config) {
-        super(persistenceManager, config.isAutoAck(), config.getDefaultTimeout(), null);
+        super(persistenceManager, config.isAutoAck(), config.getDefaultTimeout(), null, config.isEmbeddedTimeouts());
 
         requireNonNull(config.getStreamToHub(), "Stream to hub bolt cannot be null");
         requireNonNull(config.getHubComponents(), "Hub bolt id cannot be null");
@@ -193,5 +195,12 @@ public abstract class WorkerBolt extends CoordinatedBolt {
 
         @Builder.Default
         private boolean autoAck = true;
+
+        /**
+         * Track timeouts inside the bolt, it must receive {@link CoordinatorSpout} ticks instead of
+         * {@link CoordinatorBolt} callbacks.
+         */
+        @Builder.Default
+        private boolean embeddedTimeouts = false;
     }
 }
@@ -0,0 +1,197 @@
+/* Copyright 2023 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.wfm.share.utils;
+
+import com.google.common.base.Preconditions;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Hashed timing wheel of keyed timeouts. Each key has at most one pending timeout, schedule, reschedule and cancel
+ * are O(1).
+ *
+ * <p>Timeouts are spread over {@code wheelSize} slots by {@code deadline / resolution}. {@link #advance} visits only
+ * slots passed since the previous call and fires timeouts with {@code deadline <= now}, timeouts of the later wheel
+ * rounds stay in their slots. The resolution doesn't affect accuracy, only the number of slots visited per call, so
+ * it should be close to the period of {@link #advance} calls.
+ *
+ * <p>Not thread safe, it is intended to be owned by a single bolt/service.
+ */
+public class TimingWheel<K> {
+    public static final int DEFAULT_WHEEL_SIZE = 512;
+
+    private final long resolution;
+    private final Entry<K>[] slots;
+    private final int mask;
+
+    private final Map<K, Entry<K>> entries = new HashMap<>();
+
+    private boolean started = false;
+    private long lastTick;
+
+    public TimingWheel(long resolution) {
+        this(resolution, DEFAULT_WHEEL_SIZE);
+    }
+
+    @SuppressWarnings("unchecked")
+    public TimingWheel(long resolution, int wheelSize) {
+        Preconditions.checkArgument(0 < resolution, "Timing wheel resolution must be positive (%s)", resolution);
+        Preconditions.checkArgument(0 < wheelSize && Integer.bitCount(wheelSize) == 1,
+                "Timing wheel size must be a power of two (%s)", wheelSize);
+        this.resolution = resolution;
+        this.slots = new Entry[wheelSize];
+        this.mask = wheelSize - 1;
+    }
+
+    /**
+     * Schedules a timeout for the key, a pending timeout of the same key is replaced.
+     */
+    public void schedule(K key, long deadline) {
+        Entry<K> entry = entries.get(key);
+        if (entry == null) {
+            entry = new Entry<>(key);
+            entries.put(key, entry);
+        } else {
+            unlink(entry);
+        }
+        entry.deadline = deadline;
+        link(entry);
+    }
+
+    /**
+     * Cancels a pending timeout of the key.
+     *
+     * @return true if the key had a pending timeout.
+     */
+    public boolean cancel(K key) {
+        Entry<K> entry = entries.remove(key);
+        if (entry == null) {
+            return false;
+        }
+        unlink(entry);
+        return true;
+    }
+
+    public boolean isScheduled(K key) {
+        return entries.containsKey(key);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Removes all pending timeouts.
+     */
+    public void clear() {
+        entries.clear();
+        for (int i = 0; i < slots.length; i++) {
+            slots[i] = null;
+        }
+    }
+
+    /**
+     * Removes timeouts with {@code deadline <= now} and passes their keys to the action. Expired keys are collected
+     * before the action is called, so the action is free to schedule them again.
+     */
+    public void advance(long now, Consumer<K> action) {
+        long nowTick = Math.floorDiv(now, resolution);
+        long fromTick;
+        long toTick;
+        if (!started || slots.length <= nowTick - lastTick) {
+            fromTick = nowTick;
+            toTick = nowTick + slots.length - 1;
+            lastTick = nowTick;
+            started = true;
+        } else {
+            // The slot of the previous call is visited again, it can contain timeouts which were not expired yet.
+            fromTick = lastTick;
+            toTick = Math.max(nowTick, lastTick);
+            lastTick = toTick;
+        }
+
+        List<Entry<K>> expired = new ArrayList<>();
+        for (long tick = fromTick; tick <= toTick; tick++) {
+            collectExpired(slotIndex(tick), now, expired);
+        }
+        for (Entry<K> entry : expired) {
+            action.accept(entry.key);
+        }
+    }
+
+    private void collectExpired(int index, long now, List<Entry<K>> expired) {
+        Entry<K> entry = slots[index];
+        while (entry != null) {
+            Entry<K> next = entry.next;
+            if (entry.deadline <= now) {
+                unlink(entry);
+                entries.remove(entry.key);
+                expired.add(entry);
+            }
+            entry = next;
+        }
+    }
+
+    private void link(Entry<K> entry) {
+        long tick = Math.floorDiv(entry.deadline, resolution);
+        if (started && tick < lastTick) {
+            // Already passed slots are not visited until the next wheel round.
+            tick = lastTick;
+        }
+        int index = slotIndex(tick);
+        Entry<K> head = slots[index];
+        entry.slot = index;
+        entry.prev = null;
+        entry.next = head;
+        if (head != null) {
+            head.prev = entry;
+        }
+        slots[index] = entry;
+    }
+
+    private void unlink(Entry<K> entry) {
+        if (entry.prev != null) {
+            entry.prev.next = entry.next;
+        } else {
+            slots[entry.slot] = entry.next;
+        }
+        if (entry.next != null) {
+            entry.next.prev = entry.prev;
+        }
+        entry.prev = null;
+        entry.next = null;
+    }
+
+    private int slotIndex(long tick) {
+        return (int) (tick & mask);
+    }
+
+    private static final class Entry<K> {
+        private final K key;
+        private long deadline;
+        private int slot;
+        private Entry<K> prev;
+        private Entry<K> next;
+
+        private Entry(K key) {
+            this.key = key;
+        }
+    }
+}
@@ -17,6 +17,7 @@ package org.openkilda.wfm.topology;
 
 import static java.lang.String.format;
 import static org.openkilda.bluegreen.kafka.Utils.CONSUMER_COMPONENT_NAME_PROPERTY;
+import static org.openkilda.bluegreen.kafka.Utils.CONSUMER_DELEGATE_DESERIALIZER_PROPERTY;
 import static org.openkilda.bluegreen.kafka.Utils.CONSUMER_RUN_ID_PROPERTY;
 import static org.openkilda.bluegreen.kafka.Utils.CONSUMER_ZOOKEEPER_CONNECTION_STRING_PROPERTY;
 import static org.openkilda.bluegreen.kafka.Utils.CONSUMER_ZOOKEEPER_RECONNECTION_DELAY_PROPERTY;
@@ -25,6 +26,7 @@ import static org.openkilda.bluegreen.kafka.Utils.PRODUCER_RUN_ID_PROPERTY;
 import static org.openkilda.bluegreen.kafka.Utils.PRODUCER_ZOOKEEPER_CONNECTION_STRING_PROPERTY;
 import static org.openkilda.bluegreen.kafka.Utils.PRODUCER_ZOOKEEPER_RECONNECTION_DELAY_PROPERTY;
 
+import org.openkilda.bluegreen.kafka.VersioningDeserializer;
 import org.openkilda.bluegreen.kafka.interceptors.VersioningConsumerInterceptor;
 import org.openkilda.bluegreen.kafka.interceptors.VersioningProducerInterceptor;
 import org.openkilda.config.KafkaConfig;
@@ -32,6 +34,7 @@ import org.openkilda.config.ZookeeperConfig;
 import org.openkilda.config.naming.KafkaNamingStrategy;
 import org.openkilda.messaging.AbstractMessage;
 import org.openkilda.messaging.Message;
+import org.openkilda.messaging.WireFormatSelector;
 import org.openkilda.wfm.LaunchEnvironment;
 import org.openkilda.wfm.config.naming.TopologyNamingStrategy;
 import org.openkilda.wfm.config.provider.MultiPrefixConfigurationProvider;
@@ -228,6 +231,9 @@ public abstract class AbstractTopology<T extends AbstractTopologyConfig> impleme
         kafka.setProperty(PRODUCER_ZOOKEEPER_CONNECTION_STRING_PROPERTY, getZookeeperConfig().getConnectString());
         kafka.setProperty(PRODUCER_ZOOKEEPER_RECONNECTION_DELAY_PROPERTY,
                 Long.toString(getZookeeperConfig().getReconnectDelay()));
+        if (kafkaConfig.getBinaryTopics() != null) {
+            kafka.setProperty(WireFormatSelector.BINARY_TOPICS_PROPERTY, kafkaConfig.getBinaryTopics());
+        }
 
         return kafka;
     }
@@ -412,7 +418,8 @@ public abstract class AbstractTopology<T extends AbstractTopologyConfig> impleme
                 .setFirstPollOffsetStrategy(KafkaSpoutConfig.FirstPollOffsetStrategy.LATEST)
                 .setProp(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, true)
                 .setProp(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class)
-                .setProp(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, valueDecoder)
+                .setProp(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, VersioningDeserializer.class)
+                .setProp(CONSUMER_DELEGATE_DESERIALIZER_PROPERTY, valueDecoder.getName())
                 .setProp(ConsumerConfig.INTERCEPTOR_CLASSES_CONFIG, VersioningConsumerInterceptor.class.getName())
                 .setProp(CONSUMER_COMPONENT_NAME_PROPERTY, getZkTopoName())
                 .setProp(CONSUMER_RUN_ID_PROPERTY, topologyConfig.getBlueGreenMode())
@@ -0,0 +1,123 @@
+/* Copyright 2019 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.wfm.share.flow.resources;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+public class BitmapIdAllocatorTest {
+    private static final long MIN_ID = 10;
+    private static final long MAX_ID = 140;
+
+    @Test
+    public void shouldAllocateAllIdsOfRange() {
+        Set<Long> ids = new HashSet<>();
+        BitmapIdAllocator allocator = new BitmapIdAllocator(MIN_ID, MAX_ID, () -> new ArrayList<>(ids));
+
+        for (long i = MIN_ID; i <= MAX_ID; i++) {
+            ids.add(allocator.allocate(id -> true).getAsLong());
+        }
+        assertEquals(MAX_ID - MIN_ID + 1, ids.size());
+        ids.forEach(id -> assertTrue(id >= MIN_ID && id <= MAX_ID));
+
+        assertFalse(allocator.allocate(id -> true).isPresent());
+    }
+
+    @Test
+    public void shouldSkipLoadedIds() {
+        List<Long> loaded = new ArrayList<>();
+        for (long i = MIN_ID; i < MAX_ID; i++) {
+            loaded.add(i);
+        }
+        BitmapIdAllocator allocator = new BitmapIdAllocator(MIN_ID, MAX_ID, () -> loaded);
+
+        assertEquals(OptionalLong.of(MAX_ID), allocator.allocate(id -> true));
+        assertFalse(allocator.allocate(id -> true).isPresent());
+    }
+
+    @Test
+    public void shouldSkipNotConfirmedIds() {
+        BitmapIdAllocator allocator = new BitmapIdAllocator(MIN_ID, MAX_ID, Collections::emptyList);
+
+        assertEquals(OptionalLong.of(MAX_ID), allocator.allocate(id -> id == MAX_ID));
+    }
+
+    @Test
+    public void shouldAllocateReleasedId() {
+        Set<Long> persisted = new HashSet<>();
+        BitmapIdAllocator allocator = new BitmapIdAllocator(MIN_ID, MAX_ID, () -> new ArrayList<>(persisted));
+        for (long i = MIN_ID; i <= MAX_ID; i++) {
+            persisted.add(allocator.allocate(id -> true).getAsLong());
+        }
+
+        allocator.release(MIN_ID + 1);
+        assertEquals(OptionalLong.of(MIN_ID + 1), allocator.allocate(id -> true));
+        assertFalse(allocator.allocate(id -> true).isPresent());
+    }
+
+    @Test
+    public void shouldReloadExhaustedBitmap() {
+        Set<Long> persisted = new HashSet<>();
+        BitmapIdAllocator allocator = new BitmapIdAllocator(MIN_ID, MAX_ID, () -> new ArrayList<>(persisted));
+        for (long i = MIN_ID; i <= MAX_ID; i++) {
+            persisted.add(allocator.allocate(id -> true).getAsLong());
+        }
+
+        // released by another worker
+        persisted.remove(MIN_ID + 2);
+        assertEquals(OptionalLong.of(MIN_ID + 2), allocator.allocate(id -> !persisted.contains(id)));
+    }
+
+    @Test
+    public void shouldAllocateUniqueIdsConcurrently() throws Exception {
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        BitmapIdAllocator allocator = new BitmapIdAllocator(0, 9999, () -> new ArrayList<>(ids));
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                futures.add(executor.submit(() -> {
+                    for (int j = 0; j < 1250; j++) {
+                        assertTrue(ids.add(allocator.allocate(id -> true).getAsLong()));
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(1, TimeUnit.MINUTES);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(10000, ids.size());
+        assertFalse(allocator.allocate(id -> true).isPresent());
+    }
+}
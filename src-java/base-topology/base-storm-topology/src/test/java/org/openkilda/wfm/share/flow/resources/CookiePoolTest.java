@@ -42,7 +42,7 @@ public class CookiePoolTest extends InMemoryGraphBasedTest {
 
     @Before
     public void setUp() {
-        cookiePool = new CookiePool(persistenceManager, MIN_COOKIE, MAX_COOKIE, 1);
+        cookiePool = new CookiePool(persistenceManager, MIN_COOKIE, MAX_COOKIE);
         flowCookieRepository = persistenceManager.getRepositoryFactory().createFlowCookieRepository();
     }
 
@@ -55,7 +55,7 @@ public class TransitVlanPoolTest extends InMemoryGraphBasedTest {
 
     @Before
     public void setUp() {
-        transitVlanPool = new TransitVlanPool(persistenceManager, MIN_TRANSIT_VLAN, MAX_TRANSIT_VLAN, 1);
+        transitVlanPool = new TransitVlanPool(persistenceManager, MIN_TRANSIT_VLAN, MAX_TRANSIT_VLAN);
         transitVlanRepository = persistenceManager.getRepositoryFactory().createTransitVlanRepository();
     }
 
@@ -52,7 +52,7 @@ public class VxlanPoolTest extends InMemoryGraphBasedTest {
 
     @Before
     public void setUp() {
-        vxlanPool = new VxlanPool(persistenceManager, MIN_VXLAN, MAX_VXLAN, 1);
+        vxlanPool = new VxlanPool(persistenceManager, MIN_VXLAN, MAX_VXLAN);
         vxlanRepository = persistenceManager.getRepositoryFactory().createVxlanRepository();
     }
 
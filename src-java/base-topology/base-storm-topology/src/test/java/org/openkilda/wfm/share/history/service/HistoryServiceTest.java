@@ -0,0 +1,118 @@
+/* Copyright 2023 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.wfm.share.history.service;
+
+import static org.junit.Assert.assertEquals;
+
+import org.openkilda.model.history.FlowEvent;
+import org.openkilda.model.history.FlowStatusView;
+import org.openkilda.persistence.inmemory.InMemoryGraphBasedTest;
+import org.openkilda.wfm.share.history.model.FlowEventData;
+import org.openkilda.wfm.share.history.model.FlowEventData.Event;
+import org.openkilda.wfm.share.history.model.FlowEventData.Initiator;
+import org.openkilda.wfm.share.history.model.FlowHistoryData;
+import org.openkilda.wfm.share.history.model.FlowHistoryHolder;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+public class HistoryServiceTest extends InMemoryGraphBasedTest {
+    private static final String FLOW_ID = "flow";
+    private static final String TASK_1 = "task-1";
+    private static final String TASK_2 = "task-2";
+    private static final Instant TIME_1 = Instant.parse("2023-01-01T10:00:00Z");
+    private static final Instant TIME_2 = Instant.parse("2023-01-01T10:00:01Z");
+
+    private HistoryService historyService;
+
+    @Before
+    public void setUp() {
+        historyService = new HistoryService(persistenceManager);
+    }
+
+    @Test
+    public void shouldStoreGroupWithActionsBeforeTheirEvent() {
+        historyService.store(Arrays.asList(
+                makeAction(TASK_1, FlowEvent.FLOW_STATUS_ACTION_PARTS.get(0) + "UP", TIME_2),
+                makeEvent(TASK_1, TIME_1)));
+
+        List<FlowEvent> events = historyService.listFlowEvents(
+                FLOW_ID, TIME_1.minusSeconds(1), TIME_2.plusSeconds(1), 100);
+        assertEquals(1, events.size());
+        List<FlowStatusView> statuses = historyService.getFlowStatusTimestamps(
+                FLOW_ID, TIME_1.minusSeconds(1), TIME_2.plusSeconds(1), 100);
+        assertEquals(1, statuses.size());
+        assertEquals("UP", statuses.get(0).getStatusBecome());
+    }
+
+    @Test
+    public void shouldSkipAlreadyStoredEventsOfRedeliveredGroup() {
+        historyService.store(Arrays.asList(makeEvent(TASK_1, TIME_1)));
+        historyService.store(Arrays.asList(makeEvent(TASK_1, TIME_1), makeEvent(TASK_2, TIME_2)));
+
+        List<FlowEvent> events = historyService.listFlowEvents(
+                FLOW_ID, TIME_1.minusSeconds(1), TIME_2.plusSeconds(1), 100);
+        assertEquals(2, events.size());
+        assertEquals(TASK_1, events.get(0).getTaskId());
+        assertEquals(TASK_2, events.get(1).getTaskId());
+    }
+
+    @Test
+    public void shouldSkipActionsOfAlreadyStoredEvent() {
+        FlowHistoryHolder holder = FlowHistoryHolder.builder()
+                .taskId(TASK_1)
+                .flowEventData(makeEvent(TASK_1, TIME_1).getFlowEventData())
+                .flowHistoryData(makeAction(TASK_1, FlowEvent.FLOW_STATUS_ACTION_PARTS.get(0) + "UP", TIME_2)
+                        .getFlowHistoryData())
+                .build();
+        historyService.store(Collections.singletonList(holder));
+        historyService.store(Arrays.asList(holder, makeEvent(TASK_2, TIME_2)));
+
+        assertEquals(2, historyService.listFlowEvents(
+                FLOW_ID, TIME_1.minusSeconds(1), TIME_2.plusSeconds(1), 100).size());
+        List<FlowStatusView> statuses = historyService.getFlowStatusTimestamps(
+                FLOW_ID, TIME_1.minusSeconds(1), TIME_2.plusSeconds(1), 100);
+        assertEquals(1, statuses.size());
+    }
+
+    private static FlowHistoryHolder makeEvent(String taskId, Instant time) {
+        return FlowHistoryHolder.builder()
+                .taskId(taskId)
+                .flowEventData(FlowEventData.builder()
+                        .flowId(FLOW_ID)
+                        .event(Event.UPDATE)
+                        .initiator(Initiator.NB)
+                        .time(time)
+                        .build())
+                .build();
+    }
+
+    private static FlowHistoryHolder makeAction(String taskId, String action, Instant time) {
+        return FlowHistoryHolder.builder()
+                .taskId(taskId)
+                .flowHistoryData(FlowHistoryData.builder()
+                        .flowId(FLOW_ID)
+                        .action(action)
+                        .time(time)
+                        .build())
+                .build();
+    }
+}
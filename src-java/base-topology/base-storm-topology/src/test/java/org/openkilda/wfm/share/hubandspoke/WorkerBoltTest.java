@@ -15,7 +15,9 @@
 
 package org.openkilda.wfm.share.hubandspoke;
 
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -49,6 +51,7 @@ public class WorkerBoltTest {
     private static final String HUB_COMPONENT = "hub";
     private static final String SPOUT_COMPONENT = "spout";
     private static final String COORDINATOR_COMPONENT = CoordinatorBolt.ID;
+    private static final String COORDINATOR_SPOUT_COMPONENT = CoordinatorSpout.ID;
 
     private static final String WORKER_TO_HUB_STREAM_ID = "worker-to-hub";
 
@@ -61,6 +64,7 @@ public class WorkerBoltTest {
     private static final int HUB_TASK_ID = 1;
     private static final int SPOUT_TASK_ID = 2;
     private static final int COORDINATOR_TASK_ID = 3;
+    private static final int COORDINATOR_SPOUT_TASK_ID = 4;
 
     private WorkerDummyImpl worker;
 
@@ -181,9 +185,83 @@ public class WorkerBoltTest {
         verifyNoMoreInteractions(output);
     }
 
+    @Test
+    public void embeddedTimeoutDoesNotUseCoordinatorBolt() {
+        WorkerDummyImpl embeddedWorker = makeEmbeddedWorker();
+        String key = "key";
+        String payload = "payload";
+
+        Tuple request = new TupleImpl(topologyContext, new Values(key, payload, new CommandContext()), HUB_TASK_ID,
+                                      Utils.DEFAULT_STREAM_ID);
+        embeddedWorker.execute(request);
+        verify(output, never()).emit(eq(CoordinatorBolt.INCOME_STREAM), eq(request), anyList());
+
+        embeddedWorker.execute(makeCoordinatorTick(System.currentTimeMillis() - 1000));
+        Assert.assertNull(embeddedWorker.timedOutRequest);
+
+        embeddedWorker.execute(makeCoordinatorTick(System.currentTimeMillis() + 1000));
+        Assert.assertSame(request, embeddedWorker.timedOutRequest);
+        Assert.assertNull("Must not produce unhandled input errors", embeddedWorker.lastError);
+
+        reset(output);
+        Tuple response = new TupleImpl(topologyContext, new Values(key, payload, new CommandContext()), SPOUT_TASK_ID,
+                                       Utils.DEFAULT_STREAM_ID);
+        embeddedWorker.execute(response);
+
+        // timeout must clean pending request
+        verify(output).ack(response);
+        verifyNoMoreInteractions(output);
+    }
+
+    @Test
+    public void embeddedTimeoutIsCancelledByResponse() {
+        WorkerDummyImpl embeddedWorker = makeEmbeddedWorker();
+        String key = "key";
+        String payload = "payload";
+
+        Tuple request = new TupleImpl(topologyContext, new Values(key, payload, new CommandContext()), HUB_TASK_ID,
+                                      Utils.DEFAULT_STREAM_ID);
+        embeddedWorker.execute(request);
+
+        reset(output);
+        Tuple response = new TupleImpl(topologyContext, new Values(key, payload, new CommandContext()), SPOUT_TASK_ID,
+                                       Utils.DEFAULT_STREAM_ID);
+        embeddedWorker.execute(response);
+        verify(output).emitDirect(eq(HUB_TASK_ID), eq(WORKER_TO_HUB_STREAM_ID), eq(response), Mockito.any());
+        verify(output).ack(response);
+        verifyNoMoreInteractions(output);
+
+        embeddedWorker.execute(makeCoordinatorTick(System.currentTimeMillis() + 1000));
+        Assert.assertNull(embeddedWorker.timedOutRequest);
+        Assert.assertNull("Must not produce unhandled input errors", embeddedWorker.lastError);
+    }
+
+    private WorkerDummyImpl makeEmbeddedWorker() {
+        WorkerBolt.Config config = WorkerBolt.Config.builder()
+                .hubComponent(HUB_COMPONENT)
+                .workerSpoutComponent(SPOUT_COMPONENT)
+                .streamToHub(WORKER_TO_HUB_STREAM_ID)
+                .embeddedTimeouts(true)
+                .build();
+        WorkerDummyImpl embeddedWorker = new WorkerDummyImpl(config);
+
+        when(topologyContext.getComponentId(COORDINATOR_SPOUT_TASK_ID)).thenReturn(COORDINATOR_SPOUT_COMPONENT);
+        when(topologyContext.getComponentOutputFields(COORDINATOR_SPOUT_COMPONENT, Utils.DEFAULT_STREAM_ID))
+                .thenReturn(new Fields(CoordinatorSpout.FIELD_ID_TIME_MS, FIELD_ID_CONTEXT));
+
+        embeddedWorker.prepare(Collections.emptyMap(), topologyContext, output);
+        return embeddedWorker;
+    }
+
+    private Tuple makeCoordinatorTick(long currentTime) {
+        return new TupleImpl(topologyContext, new Values(currentTime, new CommandContext()),
+                             COORDINATOR_SPOUT_TASK_ID, Utils.DEFAULT_STREAM_ID);
+    }
+
     private static final class WorkerDummyImpl extends WorkerBolt {
         private boolean emitHubResponse = true;
         private Exception lastError;
+        private Tuple timedOutRequest;
 
         private WorkerDummyImpl(Config config) {
             super(config);
@@ -213,7 +291,7 @@ public class WorkerBoltTest {
 
         @Override
         protected void onRequestTimeout(Tuple request) {
-            // dummy implementation - do nothing
+            timedOutRequest = request;
         }
 
         @Override
@@ -0,0 +1,149 @@
+/* Copyright 2023 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.wfm.share.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+public class TimingWheelTest {
+    @Test
+    public void firesOnlyExpiredTimeouts() {
+        TimingWheel<String> wheel = new TimingWheel<>(1, 8);
+        wheel.schedule("a", 5);
+        wheel.schedule("b", 7);
+
+        assertEquals(Collections.emptyList(), advance(wheel, 4));
+        assertEquals(Collections.singletonList("a"), advance(wheel, 5));
+        assertEquals(Collections.emptyList(), advance(wheel, 6));
+        assertEquals(Collections.singletonList("b"), advance(wheel, 10));
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    public void keepsTimeoutsOfLaterRounds() {
+        TimingWheel<String> wheel = new TimingWheel<>(1, 8);
+        wheel.schedule("a", 3);
+        wheel.schedule("b", 3 + 8);
+        wheel.schedule("c", 3 + 16);
+
+        assertEquals(Collections.singletonList("a"), advance(wheel, 3));
+        assertEquals(Collections.emptyList(), advance(wheel, 10));
+        assertEquals(Collections.singletonList("b"), advance(wheel, 11));
+        assertEquals(Collections.singletonList("c"), advance(wheel, 100));
+    }
+
+    @Test
+    public void rescheduleReplacesPendingTimeout() {
+        TimingWheel<String> wheel = new TimingWheel<>(1, 8);
+        wheel.schedule("a", 2);
+        wheel.schedule("a", 6);
+
+        assertEquals(1, wheel.size());
+        assertEquals(Collections.emptyList(), advance(wheel, 5));
+        assertEquals(Collections.singletonList("a"), advance(wheel, 6));
+    }
+
+    @Test
+    public void cancel() {
+        TimingWheel<String> wheel = new TimingWheel<>(1, 8);
+        wheel.schedule("a", 2);
+        wheel.schedule("b", 2);
+
+        assertTrue(wheel.cancel("a"));
+        assertFalse(wheel.cancel("a"));
+        assertFalse(wheel.isScheduled("a"));
+        assertEquals(Collections.singletonList("b"), advance(wheel, 2));
+    }
+
+    @Test
+    public void timeoutInThePastFiresOnNextAdvance() {
+        TimingWheel<String> wheel = new TimingWheel<>(1, 8);
+        advance(wheel, 20);
+        wheel.schedule("a", 15);
+
+        assertEquals(Collections.singletonList("a"), advance(wheel, 20));
+    }
+
+    @Test
+    public void actionCanRescheduleExpiredKey() {
+        TimingWheel<String> wheel = new TimingWheel<>(1, 8);
+        wheel.schedule("a", 1);
+        List<Long> fired = new ArrayList<>();
+        for (long now = 0; now <= 30; now++) {
+            long tickTime = now;
+            wheel.advance(tickTime, key -> {
+                fired.add(tickTime);
+                wheel.schedule(key, tickTime + 10);
+            });
+        }
+
+        assertEquals(Arrays.asList(1L, 11L, 21L), fired);
+    }
+
+    @Test
+    public void matchesSortedMapBehaviour() {
+        Random random = new Random(42);
+        TimingWheel<Integer> wheel = new TimingWheel<>(4, 16);
+        Map<Integer, Long> expected = new HashMap<>();
+
+        long now = -1000;
+        for (int step = 0; step < 10_000; step++) {
+            int key = random.nextInt(100);
+            switch (random.nextInt(3)) {
+                case 0:
+                    long deadline = now + random.nextInt(300) - 20;
+                    wheel.schedule(key, deadline);
+                    expected.put(key, deadline);
+                    break;
+                case 1:
+                    assertEquals(expected.remove(key) != null, wheel.cancel(key));
+                    break;
+                default:
+                    now += random.nextInt(random.nextInt(10) == 0 ? 200 : 10);
+                    long tickTime = now;
+                    List<Integer> fired = advance(wheel, tickTime);
+                    List<Integer> due = new ArrayList<>();
+                    expected.forEach((k, v) -> {
+                        if (v <= tickTime) {
+                            due.add(k);
+                        }
+                    });
+                    due.forEach(expected::remove);
+                    Collections.sort(fired);
+                    Collections.sort(due);
+                    assertEquals(due, fired);
+            }
+            assertEquals(expected.size(), wheel.size());
+        }
+    }
+
+    private static <K> List<K> advance(TimingWheel<K> wheel, long now) {
+        List<K> fired = new ArrayList<>();
+        wheel.advance(now, fired::add);
+        return fired;
+    }
+}
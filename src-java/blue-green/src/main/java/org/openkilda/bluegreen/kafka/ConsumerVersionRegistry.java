@@ -0,0 +1,111 @@
+/* Copyright 2023 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.bluegreen.kafka;
+
+import lombok.Value;
+import org.apache.kafka.common.MetricName;
+import org.apache.kafka.common.metrics.JmxReporter;
+import org.apache.kafka.common.metrics.MetricConfig;
+import org.apache.kafka.common.metrics.Metrics;
+import org.apache.kafka.common.utils.Time;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Shares the messaging version of a component between its consumer interceptors and deserializers. Both are
+ * created by kafka consumer from the same config, so they are matched by component name and run id.
+ *
+ * <p>Counters of records skipped without deserialization are reported over JMX the same way as kafka consumer
+ * metrics, as {@code kilda.bluegreen:type=consumer-versioning-metrics,component=<name>,run-id=<id>}.
+ */
+public final class ConsumerVersionRegistry {
+    private static final String METRICS_JMX_PREFIX = "kilda.bluegreen";
+    private static final String METRICS_GROUP = "consumer-versioning-metrics";
+
+    private static final ConcurrentMap<StateKey, VersionState> states = new ConcurrentHashMap<>();
+    private static final Metrics metrics = new Metrics(new MetricConfig(),
+            Collections.singletonList(new JmxReporter(METRICS_JMX_PREFIX)), Time.SYSTEM);
+
+    private ConsumerVersionRegistry() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Returns shared version state of the component.
+     */
+    public static VersionState get(String componentName, String runId) {
+        return states.computeIfAbsent(new StateKey(componentName, runId), ConsumerVersionRegistry::makeState);
+    }
+
+    private static VersionState makeState(StateKey key) {
+        VersionState state = new VersionState();
+        Map<String, String> tags = new HashMap<>();
+        tags.put("component", String.valueOf(key.getComponentName()));
+        tags.put("run-id", String.valueOf(key.getRunId()));
+        metrics.addMetric(makeMetricName("skipped-records-total",
+                "The total number of records of other messaging versions skipped without deserialization", tags),
+                (config, now) -> state.getSkippedRecords());
+        metrics.addMetric(makeMetricName("skipped-bytes-total",
+                "The total size of records of other messaging versions skipped without deserialization", tags),
+                (config, now) -> state.getSkippedBytes());
+        return state;
+    }
+
+    private static MetricName makeMetricName(String name, String description, Map<String, String> tags) {
+        return metrics.metricName(name, METRICS_GROUP, description, tags);
+    }
+
+    public static final class VersionState {
+        private volatile byte[] version;
+        private final AtomicLong skippedRecords = new AtomicLong();
+        private final AtomicLong skippedBytes = new AtomicLong();
+
+        public byte[] getVersion() {
+            return version;
+        }
+
+        public void setVersion(byte[] version) {
+            this.version = version;
+        }
+
+        /**
+         * Counts a record skipped without deserialization.
+         */
+        public void recordSkipped(int size) {
+            skippedRecords.incrementAndGet();
+            skippedBytes.addAndGet(size);
+        }
+
+        public long getSkippedRecords() {
+            return skippedRecords.get();
+        }
+
+        public long getSkippedBytes() {
+            return skippedBytes.get();
+        }
+    }
+
+    @Value
+    private static class StateKey {
+        String componentName;
+        String runId;
+    }
+}
@@ -46,6 +46,12 @@ public final class Utils {
     public static final String CONSUMER_ZOOKEEPER_RECONNECTION_DELAY_PROPERTY =
             "kafka.consumer.messaging.zookeeper.reconnection.delay.property";
 
+    /**
+     * Property name for Kafka consumer to specify deserializer class wrapped by {@link VersioningDeserializer}.
+     */
+    public static final String CONSUMER_DELEGATE_DESERIALIZER_PROPERTY =
+            "kafka.consumer.messaging.delegate.deserializer.property";
+
     /**
      * Property name for Kafka producer to specify component name for producer interceptor.
      */
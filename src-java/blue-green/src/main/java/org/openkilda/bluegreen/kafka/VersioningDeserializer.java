@@ -0,0 +1,142 @@
+/* Copyright 2023 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.bluegreen.kafka;
+
+import static org.openkilda.bluegreen.kafka.Utils.CONSUMER_COMPONENT_NAME_PROPERTY;
+import static org.openkilda.bluegreen.kafka.Utils.CONSUMER_DELEGATE_DESERIALIZER_PROPERTY;
+import static org.openkilda.bluegreen.kafka.Utils.CONSUMER_RUN_ID_PROPERTY;
+import static org.openkilda.bluegreen.kafka.Utils.MESSAGE_VERSION_HEADER;
+import static org.openkilda.bluegreen.kafka.Utils.getValue;
+
+import org.openkilda.bluegreen.kafka.ConsumerVersionRegistry.VersionState;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.KafkaException;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Deserializer;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Checks {@link Utils#MESSAGE_VERSION_HEADER} before the payload is parsed by the delegate deserializer. Records of
+ * other versions are returned as {@code null} without deserialization, they are dropped later by
+ * {@link org.openkilda.bluegreen.kafka.interceptors.VersioningConsumerInterceptor}, which drops all records with
+ * {@code null} value, so they are not passed to the consumer even if the version changes in between. Skipped records
+ * are counted by {@link ConsumerVersionRegistry} metrics.
+ *
+ * <p>The target version is taken from the consumer interceptor of the same component and run id, so records are
+ * passed to the delegate as is until the interceptor gets the version.
+ */
+@Slf4j
+public class VersioningDeserializer<T> implements Deserializer<T> {
+    private static final long REPORT_INTERVAL = TimeUnit.SECONDS.toMillis(60);
+
+    private Deserializer<T> delegate;
+    private String componentName;
+    private VersionState versionState;
+    private volatile long lastReportedAt;
+
+    public VersioningDeserializer() {
+        this(null);
+    }
+
+    public VersioningDeserializer(Deserializer<T> delegate) {
+        this.delegate = delegate;
+    }
+
+    /**
+     * Creates deserializer which is not configured by kafka consumer, i.e. passed to the consumer as an instance.
+     */
+    public VersioningDeserializer(Deserializer<T> delegate, String componentName, String runId) {
+        this(delegate);
+        bindVersion(componentName, runId);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void configure(Map<String, ?> configs, boolean isKey) {
+        if (delegate == null) {
+            String delegateClass = getValue(configs, CONSUMER_DELEGATE_DESERIALIZER_PROPERTY, String.class);
+            try {
+                delegate = org.apache.kafka.common.utils.Utils.newInstance(delegateClass, Deserializer.class);
+            } catch (ClassNotFoundException e) {
+                throw new KafkaException(String.format("Can't load delegate deserializer %s", delegateClass), e);
+            }
+        }
+        delegate.configure(configs, isKey);
+
+        if (versionState == null && configs.containsKey(CONSUMER_COMPONENT_NAME_PROPERTY)
+                && configs.containsKey(CONSUMER_RUN_ID_PROPERTY)) {
+            bindVersion(getValue(configs, CONSUMER_COMPONENT_NAME_PROPERTY, String.class),
+                    getValue(configs, CONSUMER_RUN_ID_PROPERTY, String.class));
+        }
+    }
+
+    @Override
+    public T deserialize(String topic, byte[] data) {
+        return delegate.deserialize(topic, data);
+    }
+
+    @Override
+    public T deserialize(String topic, Headers headers, byte[] data) {
+        if (isSkipped(headers)) {
+            versionState.recordSkipped(data == null ? 0 : data.length);
+            reportSkipped();
+            return null;
+        }
+        return delegate.deserialize(topic, headers, data);
+    }
+
+    @Override
+    public void close() {
+        if (delegate != null) {
+            delegate.close();
+        }
+    }
+
+    private void bindVersion(String componentName, String runId) {
+        this.componentName = componentName;
+        this.versionState = ConsumerVersionRegistry.get(componentName, runId);
+    }
+
+    private boolean isSkipped(Headers headers) {
+        byte[] version = versionState == null ? null : versionState.getVersion();
+        if (version == null || headers == null) {
+            return false;
+        }
+
+        // Same rules as in the consumer interceptor: exactly one header with the target version.
+        Iterator<Header> iterator = headers.headers(MESSAGE_VERSION_HEADER).iterator();
+        if (!iterator.hasNext()) {
+            return true;
+        }
+        Header header = iterator.next();
+        return iterator.hasNext() || !Arrays.equals(version, header.value());
+    }
+
+    private void reportSkipped() {
+        long now = System.currentTimeMillis();
+        if (lastReportedAt + REPORT_INTERVAL < now) {
+            lastReportedAt = now;
+            log.info("Component {} skipped {} records ({} bytes) of other messaging versions without deserialization",
+                    componentName, versionState.getSkippedRecords(), versionState.getSkippedBytes());
+        }
+    }
+}
@@ -23,6 +23,7 @@ import static org.openkilda.bluegreen.kafka.Utils.CONSUMER_ZOOKEEPER_RECONNECTIO
 import static org.openkilda.bluegreen.kafka.Utils.MESSAGE_VERSION_HEADER;
 import static org.openkilda.bluegreen.kafka.Utils.getValue;
 
+import org.openkilda.bluegreen.kafka.ConsumerVersionRegistry;
 import org.openkilda.bluegreen.kafka.TransportAdapter;
 
 import com.google.common.collect.Lists;
@@ -70,6 +71,14 @@ public class VersioningConsumerInterceptor<K, V> extends VersioningInterceptorBa
                     continue;
                 }
 
+                if (record.value() == null) {
+                    // Skipped by VersioningDeserializer, the version could change after the record was deserialized.
+                    if (log.isDebugEnabled()) {
+                        log.debug("Skip record {} without value", record);
+                    }
+                    continue;
+                }
+
                 if (! checkDeserializationError(record.value())) {
                     filteredRecords.add(record);
                 }
@@ -148,6 +157,7 @@ public class VersioningConsumerInterceptor<K, V> extends VersioningInterceptorBa
         log.info("Configuring VersioningConsumerInterceptor for component {} with id {} and connection string {}",
                 componentName, runId, connectionString);
         initWatchDog();
+        publishVersion();
         log.info("Consumer interceptor was configured for component {} and id {} with kafka messaging version '{}'",
                 componentName, runId, getVersionAsString());
     }
@@ -173,5 +183,13 @@ public class VersioningConsumerInterceptor<K, V> extends VersioningInterceptorBa
         log.info("Updating consumer kafka messaging version from {} to {} for component {} with id {}",
                 getVersionAsString(), buildVersion, componentName, runId);
         version = buildVersion.getBytes();
+        publishVersion();
+    }
+
+    /**
+     * Shares the version with {@link org.openkilda.bluegreen.kafka.VersioningDeserializer} of the same consumer.
+     */
+    private void publishVersion() {
+        ConsumerVersionRegistry.get(componentName, runId).setVersion(version);
     }
 }
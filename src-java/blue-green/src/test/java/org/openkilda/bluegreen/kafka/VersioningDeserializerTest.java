@@ -0,0 +1,112 @@
+/* Copyright 2023 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.bluegreen.kafka;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.openkilda.bluegreen.kafka.Utils.CONSUMER_COMPONENT_NAME_PROPERTY;
+import static org.openkilda.bluegreen.kafka.Utils.CONSUMER_DELEGATE_DESERIALIZER_PROPERTY;
+import static org.openkilda.bluegreen.kafka.Utils.CONSUMER_RUN_ID_PROPERTY;
+import static org.openkilda.bluegreen.kafka.Utils.MESSAGE_VERSION_HEADER;
+
+import org.openkilda.bluegreen.kafka.ConsumerVersionRegistry.VersionState;
+
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.junit.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+public class VersioningDeserializerTest {
+    private static final String TOPIC = "topic";
+    private static final String VERSION_1 = "version1";
+    private static final String VERSION_2 = "version2";
+    private static final String VALUE = "value";
+
+    private final String componentName = "component-" + UUID.randomUUID();
+    private final String runId = "blue";
+
+    @Test
+    public void shouldPassRecordsUntilVersionIsKnown() {
+        VersioningDeserializer<String> deserializer = createDeserializer();
+
+        assertEquals(VALUE, deserializer.deserialize(TOPIC, headers(VERSION_2), VALUE.getBytes()));
+        assertEquals(VALUE, deserializer.deserialize(TOPIC, headers(), VALUE.getBytes()));
+    }
+
+    @Test
+    public void shouldSkipRecordsOfOtherVersions() {
+        VersioningDeserializer<String> deserializer = createDeserializer();
+        VersionState state = ConsumerVersionRegistry.get(componentName, runId);
+        state.setVersion(VERSION_1.getBytes());
+
+        assertEquals(VALUE, deserializer.deserialize(TOPIC, headers(VERSION_1), VALUE.getBytes()));
+        assertNull(deserializer.deserialize(TOPIC, headers(VERSION_2), VALUE.getBytes()));
+        assertNull(deserializer.deserialize(TOPIC, headers(), VALUE.getBytes()));
+        assertNull(deserializer.deserialize(TOPIC, headers(VERSION_1, VERSION_1), VALUE.getBytes()));
+
+        assertEquals(3, state.getSkippedRecords());
+        assertEquals(3 * VALUE.length(), state.getSkippedBytes());
+    }
+
+    @Test
+    public void shouldReportSkippedRecordsOverJmx() throws Exception {
+        VersioningDeserializer<String> deserializer = createDeserializer();
+        ConsumerVersionRegistry.get(componentName, runId).setVersion(VERSION_1.getBytes());
+
+        assertNull(deserializer.deserialize(TOPIC, headers(VERSION_2), VALUE.getBytes()));
+
+        ObjectName name = new ObjectName(String.format(
+                "kilda.bluegreen:type=consumer-versioning-metrics,component=%s,run-id=%s", componentName, runId));
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        assertEquals(1.0, (Double) server.getAttribute(name, "skipped-records-total"), 0);
+        assertEquals(VALUE.length(), (Double) server.getAttribute(name, "skipped-bytes-total"), 0);
+    }
+
+    @Test
+    public void shouldUseVersionOfConfiguredComponent() {
+        VersioningDeserializer<String> deserializer = new VersioningDeserializer<>(
+                new StringDeserializer(), componentName, runId);
+        ConsumerVersionRegistry.get(componentName, "green").setVersion(VERSION_1.getBytes());
+
+        assertEquals(VALUE, deserializer.deserialize(TOPIC, headers(VERSION_2), VALUE.getBytes()));
+    }
+
+    private VersioningDeserializer<String> createDeserializer() {
+        Map<String, Object> config = new HashMap<>();
+        config.put(CONSUMER_DELEGATE_DESERIALIZER_PROPERTY, StringDeserializer.class.getName());
+        config.put(CONSUMER_COMPONENT_NAME_PROPERTY, componentName);
+        config.put(CONSUMER_RUN_ID_PROPERTY, runId);
+
+        VersioningDeserializer<String> deserializer = new VersioningDeserializer<>();
+        deserializer.configure(config, false);
+        return deserializer;
+    }
+
+    private static Headers headers(String... versions) {
+        Headers headers = new RecordHeaders();
+        for (String version : versions) {
+            headers.add(MESSAGE_VERSION_HEADER, version.getBytes());
+        }
+        return headers;
+    }
+}
@@ -80,6 +80,22 @@ public class VersioningConsumerInterceptorTest {
         Assert.assertTrue(values.contains(VALUE_3));
     }
 
+    @Test
+    public void nullValueTest() {
+        VersioningConsumerInterceptor<String, String> interceptor = createInterceptor();
+        interceptor.handle(VERSION_1);
+
+        // the value of the record was skipped by the deserializer before the version has been changed
+        ConsumerRecord<String, String> record = new ConsumerRecord<>(TOPIC, PARTITION_1, 0L, KEY_1, null);
+        addVersion(record, VERSION_1);
+
+        Map<TopicPartition, List<ConsumerRecord<String, String>>> recordMap = new HashMap<>();
+        recordMap.put(new TopicPartition(TOPIC, PARTITION_1), Lists.newArrayList(record));
+
+        ConsumerRecords<String, String> result = interceptor.onConsume(new ConsumerRecords<>(recordMap));
+        Assert.assertEquals(0, result.count());
+    }
+
     @Test
     public void severalHeadersTest() {
         VersioningConsumerInterceptor<String, String> interceptor = createInterceptor();
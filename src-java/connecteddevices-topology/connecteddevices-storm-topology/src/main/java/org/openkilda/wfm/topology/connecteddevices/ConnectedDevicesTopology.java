@@ -17,6 +17,7 @@ package org.openkilda.wfm.topology.connecteddevices;
 
 import org.openkilda.persistence.PersistenceManager;
 import org.openkilda.wfm.LaunchEnvironment;
+import org.openkilda.wfm.share.hubandspoke.CoordinatorSpout;
 import org.openkilda.wfm.share.zk.ZkStreams;
 import org.openkilda.wfm.share.zk.ZooKeeperBolt;
 import org.openkilda.wfm.share.zk.ZooKeeperSpout;
@@ -29,6 +30,8 @@ import org.apache.storm.generated.StormTopology;
 import org.apache.storm.topology.TopologyBuilder;
 import org.apache.storm.tuple.Fields;
 
+import java.time.Duration;
+
 public class ConnectedDevicesTopology extends AbstractTopology<ConnectedDevicesTopologyConfig> {
     public static final String CONNECTED_DEVICES_SPOUT_ID = "connected-devices-spout";
     public static final String ROUTER_BOLT_ID = "router-bolt";
@@ -46,6 +49,7 @@ public class ConnectedDevicesTopology extends AbstractTopology<ConnectedDevicesT
         PersistenceManager persistenceManager = new PersistenceManager(configurationProvider);
 
         createZkSpout(builder);
+        declareSpout(builder, new CoordinatorSpout(), CoordinatorSpout.ID);
 
         createSpout(builder);
         createRouterBolt(builder, persistenceManager);
@@ -70,10 +74,13 @@ public class ConnectedDevicesTopology extends AbstractTopology<ConnectedDevicesT
     }
 
     private void createPacketBolt(TopologyBuilder builder, PersistenceManager persistenceManager) {
-        PacketBolt packetBolt = new PacketBolt(persistenceManager);
+        PacketBolt packetBolt = new PacketBolt(persistenceManager,
+                Duration.ofMillis(topologyConfig.getConnectedDevicesLastSeenMaxStalenessMs()),
+                Duration.ofSeconds(topologyConfig.getConnectedDevicesCacheIdleExpirySeconds()));
         declareBolt(builder, packetBolt, PACKET_BOLT_ID)
                 .fieldsGrouping(ROUTER_BOLT_ID, RouterBolt.PACKET_STREAM_ID,
-                        new Fields(KafkaRecordTranslator.FIELD_ID_KEY));
+                        new Fields(KafkaRecordTranslator.FIELD_ID_KEY))
+                .allGrouping(CoordinatorSpout.ID);
     }
 
     private void createSpout(TopologyBuilder builder) {
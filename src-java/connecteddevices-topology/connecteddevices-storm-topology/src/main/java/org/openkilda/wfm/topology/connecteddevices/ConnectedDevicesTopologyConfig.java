@@ -18,6 +18,8 @@ package org.openkilda.wfm.topology.connecteddevices;
 import org.openkilda.wfm.topology.AbstractTopologyConfig;
 
 import com.sabre.oss.conf4j.annotation.Configuration;
+import com.sabre.oss.conf4j.annotation.Default;
+import com.sabre.oss.conf4j.annotation.Key;
 
 @Configuration
 public interface ConnectedDevicesTopologyConfig extends AbstractTopologyConfig {
@@ -25,4 +27,17 @@ public interface ConnectedDevicesTopologyConfig extends AbstractTopologyConfig {
     default String getKafkaTopoConnectedDevicesTopic() {
         return getKafkaTopics().getTopoConnectedDevicesTopic();
     }
+
+    /*
+     * Packets which only renew the last seen time of a known device are written in batches, the last seen time in
+     * the database can lag by connected.devices.last.seen.max.staleness.ms. A staleness of 0 writes each packet
+     * immediately. Devices not seen for connected.devices.cache.idle.expiry.seconds are evicted from the cache.
+     */
+    @Key("connected.devices.last.seen.max.staleness.ms")
+    @Default("5000")
+    int getConnectedDevicesLastSeenMaxStalenessMs();
+
+    @Key("connected.devices.cache.idle.expiry.seconds")
+    @Default("3600")
+    int getConnectedDevicesCacheIdleExpirySeconds();
 }
@@ -23,26 +23,39 @@ import org.openkilda.messaging.info.event.LldpInfoData;
 import org.openkilda.persistence.PersistenceManager;
 import org.openkilda.wfm.AbstractBolt;
 import org.openkilda.wfm.error.PipelineException;
+import org.openkilda.wfm.share.hubandspoke.CoordinatorSpout;
 import org.openkilda.wfm.topology.connecteddevices.service.PacketService;
 
 import lombok.extern.slf4j.Slf4j;
 import org.apache.storm.tuple.Tuple;
 
+import java.time.Duration;
+
 @Slf4j
 public class PacketBolt extends AbstractBolt {
+    private final Duration lastSeenMaxStaleness;
+    private final Duration cacheIdleExpiry;
+
     private transient PacketService packetService;
 
-    public PacketBolt(PersistenceManager persistenceManager) {
+    public PacketBolt(PersistenceManager persistenceManager, Duration lastSeenMaxStaleness, Duration cacheIdleExpiry) {
         super(persistenceManager);
+        this.lastSeenMaxStaleness = lastSeenMaxStaleness;
+        this.cacheIdleExpiry = cacheIdleExpiry;
     }
 
     @Override
     protected void init() {
-        packetService = new PacketService(persistenceManager);
+        packetService = new PacketService(persistenceManager, lastSeenMaxStaleness, cacheIdleExpiry);
     }
 
     @Override
     protected void handleInput(Tuple input) throws PipelineException {
+        if (CoordinatorSpout.ID.equals(input.getSourceComponent())) {
+            packetService.tick();
+            return;
+        }
+
         ConnectedDevicePacketBase data = pullValue(input, FIELD_ID_PAYLOAD, ConnectedDevicePacketBase.class);
 
         if (data instanceof LldpInfoData) {
@@ -36,6 +36,7 @@ import static org.openkilda.model.cookie.Cookie.LLDP_TRANSIT_COOKIE;
 import org.openkilda.messaging.info.event.ArpInfoData;
 import org.openkilda.messaging.info.event.ConnectedDevicePacketBase;
 import org.openkilda.messaging.info.event.LldpInfoData;
+import org.openkilda.model.ConnectedDeviceType;
 import org.openkilda.model.Flow;
 import org.openkilda.model.Switch;
 import org.openkilda.model.SwitchConnectedDevice;
@@ -49,14 +50,34 @@ import org.openkilda.persistence.repositories.TransitVlanRepository;
 import org.openkilda.persistence.tx.TransactionManager;
 
 import com.google.common.annotations.VisibleForTesting;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
 import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
 
+import java.time.Clock;
+import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
+/**
+ * Keeps connected devices up to date with received LLDP and ARP packets.
+ *
+ * <p>Devices are cached by their unique index. New devices and devices with changed attributes are written
+ * immediately, while a packet which only renews the last seen time of a known device updates the cache. Such
+ * updates are written behind in one transaction per {@link #tick()}, when the oldest of them is older than
+ * {@code maxStaleness}, so the last seen time in the database lags by at most {@code maxStaleness} plus the tick
+ * period. Devices which are not seen for {@code idleExpiry} are evicted from the cache.
+ *
+ * <p>Not thread safe, packets of the same device must be handled by the same service instance.
+ */
 @Slf4j
 public class PacketService {
     public static final int FULL_PORT_VLAN = 0;
@@ -67,15 +88,32 @@ public class PacketService {
     private final TransitVlanRepository transitVlanRepository;
     private final FlowRepository flowRepository;
 
-    private final Map<String, SwitchConnectedDevice> switchConnectedDeviceCache = new HashMap<>();
+    private final Clock clock;
+    private final Duration maxStaleness;
+    private final Duration idleExpiry;
+
+    private final Map<String, CachedDevice> deviceCache = new HashMap<>();
+    private final Set<String> dirtyDevices = new HashSet<>();
+    private Instant dirtySince;
+    private Instant lastEvictionTime;
+
+    public PacketService(PersistenceManager persistenceManager, Duration maxStaleness, Duration idleExpiry) {
+        this(persistenceManager, Clock.systemUTC(), maxStaleness, idleExpiry);
+    }
 
-    public PacketService(PersistenceManager persistenceManager) {
+    public PacketService(
+            PersistenceManager persistenceManager, Clock clock, Duration maxStaleness, Duration idleExpiry) {
         transactionManager = persistenceManager.getTransactionManager();
         switchRepository = persistenceManager.getRepositoryFactory().createSwitchRepository();
         switchConnectedDeviceRepository = persistenceManager.getRepositoryFactory()
                 .createSwitchConnectedDeviceRepository();
         transitVlanRepository = persistenceManager.getRepositoryFactory().createTransitVlanRepository();
         flowRepository = persistenceManager.getRepositoryFactory().createFlowRepository();
+
+        this.clock = clock;
+        this.maxStaleness = maxStaleness;
+        this.idleExpiry = idleExpiry;
+        this.lastEvictionTime = clock.instant();
     }
 
     /**
@@ -88,23 +126,13 @@ public class PacketService {
         }
 
         String uniqueIndex = buildLldpUniqueIndex(data, flowRelatedData.getOriginalVlan());
-        SwitchConnectedDevice device = Optional.ofNullable(switchConnectedDeviceCache.get(uniqueIndex))
-                .orElseGet(() -> switchConnectedDeviceRepository.findLldpByUniqueIndex(uniqueIndex).orElse(null));
-
-        if (device != null) {
-            transactionManager.doInTransaction(() -> {
-                device.setTtl(data.getTtl());
-                device.setPortDescription(data.getPortDescription());
-                device.setSystemName(data.getSystemName());
-                device.setSystemDescription(data.getSystemDescription());
-                device.setSystemCapabilities(data.getSystemCapabilities());
-                device.setManagementAddress(data.getManagementAddress());
-                device.setTimeLastSeen(Instant.ofEpochMilli(data.getTimestamp()));
-                device.setFlowId(flowRelatedData.getFlowId());
-                device.setSource(flowRelatedData.getSource());
-            });
-        } else {
-            createLldpDevice(data, flowRelatedData);
+        DeviceAttributes attributes = new DeviceAttributes(data.getTtl(), data.getPortDescription(),
+                data.getSystemName(), data.getSystemDescription(), data.getSystemCapabilities(),
+                data.getManagementAddress(), flowRelatedData.getFlowId(), flowRelatedData.getSource());
+        Instant timeLastSeen = Instant.ofEpochMilli(data.getTimestamp());
+
+        if (!updateDevice(LLDP, uniqueIndex, attributes, timeLastSeen)) {
+            createLldpDevice(data, flowRelatedData, uniqueIndex, attributes);
         }
     }
 
@@ -118,20 +146,174 @@ public class PacketService {
         }
 
         String uniqueIndex = buildArpUniqueIndex(data, flowRelatedData.getOriginalVlan());
-        SwitchConnectedDevice device = Optional.ofNullable(switchConnectedDeviceCache.get(uniqueIndex))
-                .orElseGet(() -> switchConnectedDeviceRepository.findArpByUniqueIndex(uniqueIndex).orElse(null));
-
-        if (device != null) {
-            transactionManager.doInTransaction(() -> {
-                device.setTimeLastSeen(Instant.ofEpochMilli(data.getTimestamp()));
-                device.setFlowId(flowRelatedData.getFlowId());
-                device.setSource(flowRelatedData.getSource());
+        DeviceAttributes attributes = new DeviceAttributes(null, null, null, null, null, null,
+                flowRelatedData.getFlowId(), flowRelatedData.getSource());
+        Instant timeLastSeen = Instant.ofEpochMilli(data.getTimestamp());
+
+        if (!updateDevice(ARP, uniqueIndex, attributes, timeLastSeen)) {
+            createArpDevice(data, flowRelatedData, uniqueIndex, attributes);
+        }
+    }
+
+    /**
+     * Writes pending last seen updates if the oldest of them has reached the staleness limit and evicts idle
+     * devices from the cache.
+     */
+    public void tick() {
+        Instant now = clock.instant();
+        if (dirtySince != null && !now.isBefore(dirtySince.plus(maxStaleness))) {
+            flush();
+        }
+        if (!now.isBefore(lastEvictionTime.plus(idleExpiry))) {
+            evictIdleDevices(now);
+        }
+    }
+
+    /**
+     * Writes all pending last seen updates in one transaction. If the transaction fails, the updates are written
+     * one by one, so a single failing device does not hold back the others.
+     */
+    public void flush() {
+        if (dirtyDevices.isEmpty()) {
+            return;
+        }
+
+        List<String> removed;
+        try {
+            removed = transactionManager.doInTransaction(() -> {
+                List<String> missing = new ArrayList<>();
+                for (String uniqueIndex : dirtyDevices) {
+                    CachedDevice cached = deviceCache.get(uniqueIndex);
+                    if (!writeDevice(cached.getType(), uniqueIndex, cached.getAttributes(),
+                            cached.getTimeLastSeen())) {
+                        missing.add(uniqueIndex);
+                    }
+                }
+                return missing;
             });
+        } catch (Exception e) {
+            log.warn("Failed to write last seen time of {} connected devices, writing them one by one",
+                    dirtyDevices.size(), e);
+            removed = flushOneByOne();
+        }
+
+        log.debug("Last seen time of {} connected devices has been written", dirtyDevices.size() - removed.size());
+        dirtyDevices.clear();
+        dirtySince = null;
+        // Devices removed from the database in the meantime are created again by their next packet.
+        removed.forEach(deviceCache::remove);
+    }
+
+    private List<String> flushOneByOne() {
+        List<String> failed = new ArrayList<>();
+        for (String uniqueIndex : dirtyDevices) {
+            CachedDevice cached = deviceCache.get(uniqueIndex);
+            try {
+                if (!transactionManager.doInTransaction(() -> writeDevice(cached.getType(), uniqueIndex,
+                        cached.getAttributes(), cached.getTimeLastSeen()))) {
+                    failed.add(uniqueIndex);
+                }
+            } catch (Exception e) {
+                // The device is reloaded from the database by its next packet.
+                log.error("Failed to write last seen time {} of connected device {}, the update is dropped",
+                        cached.getTimeLastSeen(), uniqueIndex, e);
+                failed.add(uniqueIndex);
+            }
+        }
+        return failed;
+    }
+
+    @VisibleForTesting
+    int getPendingUpdatesCount() {
+        return dirtyDevices.size();
+    }
+
+    @VisibleForTesting
+    int getCachedDevicesCount() {
+        return deviceCache.size();
+    }
+
+    /**
+     * Applies the packet to a known device.
+     *
+     * @return false if the device is unknown.
+     */
+    private boolean updateDevice(
+            ConnectedDeviceType type, String uniqueIndex, DeviceAttributes attributes, Instant timeLastSeen) {
+        CachedDevice cached = getCachedDevice(type, uniqueIndex);
+        if (cached == null) {
+            return false;
+        }
+
+        Instant now = clock.instant();
+        if (cached.getAttributes().equals(attributes)) {
+            cached.seen(timeLastSeen, now);
+            if (dirtyDevices.add(uniqueIndex) && dirtySince == null) {
+                dirtySince = now;
+            }
+            if (maxStaleness.isZero()) {
+                flush();
+            }
+            return true;
+        }
+
+        boolean written = transactionManager.doInTransaction(() ->
+                writeDevice(type, uniqueIndex, attributes, timeLastSeen));
+        if (!written) {
+            deviceCache.remove(uniqueIndex);
+            dirtyDevices.remove(uniqueIndex);
+            return false;
+        }
+        cached.setAttributes(attributes);
+        cached.seen(timeLastSeen, now);
+        dirtyDevices.remove(uniqueIndex);
+        return true;
+    }
+
+    private CachedDevice getCachedDevice(ConnectedDeviceType type, String uniqueIndex) {
+        CachedDevice cached = deviceCache.get(uniqueIndex);
+        if (cached != null) {
+            return cached;
+        }
+
+        Optional<SwitchConnectedDevice> device = findDevice(type, uniqueIndex);
+        if (!device.isPresent()) {
+            return null;
+        }
+        cached = new CachedDevice(type, DeviceAttributes.of(device.get()), device.get().getTimeLastSeen(),
+                clock.instant());
+        deviceCache.put(uniqueIndex, cached);
+        return cached;
+    }
+
+    private boolean writeDevice(
+            ConnectedDeviceType type, String uniqueIndex, DeviceAttributes attributes, Instant timeLastSeen) {
+        Optional<SwitchConnectedDevice> device = findDevice(type, uniqueIndex);
+        if (!device.isPresent()) {
+            return false;
+        }
+        attributes.applyTo(device.get());
+        device.get().setTimeLastSeen(timeLastSeen);
+        return true;
+    }
+
+    private Optional<SwitchConnectedDevice> findDevice(ConnectedDeviceType type, String uniqueIndex) {
+        if (type == LLDP) {
+            return switchConnectedDeviceRepository.findLldpByUniqueIndex(uniqueIndex);
         } else {
-            createArpDevice(data, flowRelatedData);
+            return switchConnectedDeviceRepository.findArpByUniqueIndex(uniqueIndex);
         }
     }
 
+    private void evictIdleDevices(Instant now) {
+        Instant threshold = now.minus(idleExpiry);
+        int sizeBefore = deviceCache.size();
+        deviceCache.entrySet().removeIf(entry -> !dirtyDevices.contains(entry.getKey())
+                && entry.getValue().getLastAccessTime().isBefore(threshold));
+        lastEvictionTime = now;
+        log.debug("{} idle connected devices have been evicted from the cache", sizeBefore - deviceCache.size());
+    }
+
     /**
      * This key is needed to balance load on Packet Bolt. If you see that some packet bolts have high load, and
      * some have low load, try to extend this key. Maximum extension is equal to
@@ -387,7 +569,8 @@ public class PacketService {
         }
     }
 
-    private void createLldpDevice(LldpInfoData data, FlowRelatedData flowRelatedData) {
+    private void createLldpDevice(
+            LldpInfoData data, FlowRelatedData flowRelatedData, String uniqueIndex, DeviceAttributes attributes) {
         Optional<Switch> optionalSwitch = switchRepository.findById(data.getSwitchId());
         int vlan = flowRelatedData.getOriginalVlan();
 
@@ -418,10 +601,12 @@ public class PacketService {
                 .source(flowRelatedData.getSource())
                 .build();
         switchConnectedDeviceRepository.add(connectedDevice);
-        switchConnectedDeviceCache.put(buildLldpUniqueIndex(data, vlan), connectedDevice);
+        deviceCache.put(uniqueIndex, new CachedDevice(LLDP, attributes, connectedDevice.getTimeLastSeen(),
+                clock.instant()));
     }
 
-    private void createArpDevice(ArpInfoData data, FlowRelatedData flowRelatedData) {
+    private void createArpDevice(
+            ArpInfoData data, FlowRelatedData flowRelatedData, String uniqueIndex, DeviceAttributes attributes) {
         Optional<Switch> sw = switchRepository.findById(data.getSwitchId());
         int vlan = flowRelatedData.getOriginalVlan();
 
@@ -445,7 +630,8 @@ public class PacketService {
                 .source(flowRelatedData.getSource())
                 .build();
         switchConnectedDeviceRepository.add(connectedDevice);
-        switchConnectedDeviceCache.put(buildArpUniqueIndex(data, vlan), connectedDevice);
+        deviceCache.put(uniqueIndex, new CachedDevice(ARP, attributes, connectedDevice.getTimeLastSeen(),
+                clock.instant()));
     }
 
     private String getPacketName(ConnectedDevicePacketBase data) {
@@ -464,4 +650,56 @@ public class PacketService {
         String flowId;
         Boolean source; // device connected to source of Flow or to destination
     }
+
+    /**
+     * Device attributes which are written immediately when changed. LLDP specific attributes are null for ARP devices.
+     */
+    @Value
+    static class DeviceAttributes {
+        Integer ttl;
+        String portDescription;
+        String systemName;
+        String systemDescription;
+        String systemCapabilities;
+        String managementAddress;
+        String flowId;
+        Boolean source;
+
+        static DeviceAttributes of(SwitchConnectedDevice device) {
+            if (device.getType() == LLDP) {
+                return new DeviceAttributes(device.getTtl(), device.getPortDescription(), device.getSystemName(),
+                        device.getSystemDescription(), device.getSystemCapabilities(), device.getManagementAddress(),
+                        device.getFlowId(), device.getSource());
+            }
+            return new DeviceAttributes(null, null, null, null, null, null, device.getFlowId(), device.getSource());
+        }
+
+        void applyTo(SwitchConnectedDevice device) {
+            if (device.getType() == LLDP) {
+                device.setTtl(ttl);
+                device.setPortDescription(portDescription);
+                device.setSystemName(systemName);
+                device.setSystemDescription(systemDescription);
+                device.setSystemCapabilities(systemCapabilities);
+                device.setManagementAddress(managementAddress);
+            }
+            device.setFlowId(flowId);
+            device.setSource(source);
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class CachedDevice {
+        private final ConnectedDeviceType type;
+        @Setter
+        private DeviceAttributes attributes;
+        private Instant timeLastSeen;
+        private Instant lastAccessTime;
+
+        void seen(Instant timeLastSeen, Instant now) {
+            this.timeLastSeen = timeLastSeen;
+            this.lastAccessTime = now;
+        }
+    }
 }
@@ -20,6 +20,7 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertTrue;
 import static org.openkilda.model.cookie.Cookie.ARP_INPUT_PRE_DROP_COOKIE;
+import static org.openkilda.model.cookie.Cookie.ARP_POST_INGRESS_COOKIE;
 import static org.openkilda.model.cookie.Cookie.LLDP_INPUT_PRE_DROP_COOKIE;
 
 import org.openkilda.messaging.info.event.ArpInfoData;
@@ -35,6 +36,7 @@ import org.openkilda.persistence.repositories.FlowRepository;
 import org.openkilda.persistence.repositories.SwitchConnectedDeviceRepository;
 import org.openkilda.persistence.repositories.SwitchRepository;
 import org.openkilda.persistence.repositories.TransitVlanRepository;
+import org.openkilda.stubs.ManualClock;
 import org.openkilda.wfm.topology.connecteddevices.service.PacketService.FlowRelatedData;
 
 import junitparams.JUnitParamsRunner;
@@ -44,6 +46,8 @@ import org.junit.BeforeClass;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
@@ -81,12 +85,15 @@ public class PacketServiceTest extends InMemoryGraphBasedTest {
     public static final int VLAN_3 = 3;
     public static final int TTL_1 = 120;
     public static final int TTL_2 = 240;
+    public static final Duration MAX_STALENESS = Duration.ofSeconds(5);
+    public static final Duration IDLE_EXPIRY = Duration.ofMinutes(10);
 
     private static SwitchConnectedDeviceRepository switchConnectedDeviceRepository;
     private static SwitchRepository switchRepository;
     private static FlowRepository flowRepository;
     private static TransitVlanRepository transitVlanRepository;
     private static PacketService packetService;
+    private static ManualClock clock;
 
     @BeforeClass
     public static void setUpOnce() {
@@ -99,7 +106,8 @@ public class PacketServiceTest extends InMemoryGraphBasedTest {
 
     @Before
     public void setUp() {
-        packetService = new PacketService(persistenceManager);
+        clock = new ManualClock();
+        packetService = new PacketService(persistenceManager, clock, MAX_STALENESS, IDLE_EXPIRY);
         switchRepository.add(Switch.builder().switchId(SWITCH_ID_1).build());
         switchRepository.add(Switch.builder().switchId(SWITCH_ID_2).build());
     }
@@ -129,6 +137,8 @@ public class PacketServiceTest extends InMemoryGraphBasedTest {
         Thread.sleep(10);
         // update
         packetService.handleLldpData(createLldpInfoDataData());
+        clock.adjust(MAX_STALENESS);
+        packetService.tick();
 
         Collection<SwitchConnectedDevice> devices = switchConnectedDeviceRepository.findAll();
         assertEquals(1, devices.size());
@@ -143,12 +153,129 @@ public class PacketServiceTest extends InMemoryGraphBasedTest {
         Thread.sleep(10);
         // update
         packetService.handleArpData(createArpInfoData());
+        clock.adjust(MAX_STALENESS);
+        packetService.tick();
 
         Collection<SwitchConnectedDevice> devices = switchConnectedDeviceRepository.findAll();
         assertEquals(1, devices.size());
         assertNotEquals(devices.iterator().next().getTimeFirstSeen(), devices.iterator().next().getTimeLastSeen());
     }
 
+    @Test
+    public void testLastSeenUpdateIsWrittenBehind() {
+        LldpInfoData data = createLldpInfoDataData();
+        packetService.handleLldpData(data);
+
+        LldpInfoData updatedData = createLldpInfoDataData();
+        updatedData.setTimestamp(data.getTimestamp() + 1000);
+        packetService.handleLldpData(updatedData);
+        assertEquals(1, packetService.getPendingUpdatesCount());
+        assertEquals(Instant.ofEpochMilli(data.getTimestamp()), getSingleDevice().getTimeLastSeen());
+
+        clock.adjust(MAX_STALENESS.minusMillis(1));
+        packetService.tick();
+        assertEquals(Instant.ofEpochMilli(data.getTimestamp()), getSingleDevice().getTimeLastSeen());
+
+        clock.adjust(Duration.ofMillis(1));
+        packetService.tick();
+        assertEquals(0, packetService.getPendingUpdatesCount());
+        assertEquals(Instant.ofEpochMilli(updatedData.getTimestamp()), getSingleDevice().getTimeLastSeen());
+    }
+
+    @Test
+    public void testLastSeenUpdatesAreCoalesced() {
+        LldpInfoData lldpData = createLldpInfoDataData();
+        ArpInfoData arpData = createArpInfoData();
+        packetService.handleLldpData(lldpData);
+        packetService.handleArpData(arpData);
+
+        long timestamp = lldpData.getTimestamp();
+        for (int i = 1; i <= 3; i++) {
+            timestamp += 1000;
+            clock.adjust(Duration.ofSeconds(1));
+            lldpData.setTimestamp(timestamp);
+            arpData.setTimestamp(timestamp);
+            packetService.handleLldpData(lldpData);
+            packetService.handleArpData(arpData);
+            packetService.tick();
+        }
+        assertEquals(2, packetService.getPendingUpdatesCount());
+
+        clock.adjust(MAX_STALENESS);
+        packetService.tick();
+        assertEquals(0, packetService.getPendingUpdatesCount());
+        Collection<SwitchConnectedDevice> devices = switchConnectedDeviceRepository.findAll();
+        assertEquals(2, devices.size());
+        for (SwitchConnectedDevice device : devices) {
+            assertEquals(Instant.ofEpochMilli(timestamp), device.getTimeLastSeen());
+        }
+    }
+
+    @Test
+    public void testChangedFlowIsWrittenImmediately() {
+        packetService.handleArpData(createArpInfoData());
+
+        createFlow(FLOW_ID, VLAN_1, VLAN_2, VLAN_3, false, false);
+        ArpInfoData data = createArpInfoData();
+        data.setCookie(ARP_POST_INGRESS_COOKIE);
+        data.setVlans(newArrayList(VLAN_3));
+        packetService.handleArpData(data);
+
+        assertEquals(0, packetService.getPendingUpdatesCount());
+        SwitchConnectedDevice device = switchConnectedDeviceRepository
+                .findArpByUniqueIndex(packetService.buildArpUniqueIndex(data, VLAN_1)).get();
+        assertEquals(FLOW_ID, device.getFlowId());
+        assertTrue(device.getSource());
+    }
+
+    @Test
+    public void testZeroStalenessWritesImmediately() {
+        packetService = new PacketService(persistenceManager, clock, Duration.ZERO, IDLE_EXPIRY);
+        ArpInfoData data = createArpInfoData();
+        packetService.handleArpData(data);
+
+        ArpInfoData updatedData = createArpInfoData();
+        updatedData.setTimestamp(data.getTimestamp() + 1000);
+        packetService.handleArpData(updatedData);
+
+        assertEquals(0, packetService.getPendingUpdatesCount());
+        assertEquals(Instant.ofEpochMilli(updatedData.getTimestamp()), getSingleDevice().getTimeLastSeen());
+    }
+
+    @Test
+    public void testDeviceRemovedFromDatabaseIsCreatedAgain() {
+        ArpInfoData data = createArpInfoData();
+        packetService.handleArpData(data);
+        packetService.handleArpData(data);
+        switchConnectedDeviceRepository.remove(getSingleDevice());
+
+        clock.adjust(MAX_STALENESS);
+        packetService.tick();
+        assertEquals(0, packetService.getCachedDevicesCount());
+        assertTrue(switchConnectedDeviceRepository.findAll().isEmpty());
+
+        packetService.handleArpData(data);
+        assertArpConnectedDeviceExistInDatabase(data);
+    }
+
+    @Test
+    public void testIdleDevicesAreEvicted() {
+        packetService.handleLldpData(createLldpInfoDataData());
+        packetService.handleArpData(createArpInfoData());
+        assertEquals(2, packetService.getCachedDevicesCount());
+
+        clock.adjust(IDLE_EXPIRY.minusSeconds(1));
+        packetService.handleArpData(createArpInfoData());
+        clock.adjust(Duration.ofSeconds(2));
+        packetService.tick();
+        assertEquals(1, packetService.getCachedDevicesCount());
+
+        clock.adjust(IDLE_EXPIRY);
+        packetService.tick();
+        assertEquals(0, packetService.getCachedDevicesCount());
+        assertEquals(2, switchConnectedDeviceRepository.findAll().size());
+    }
+
     @Test
     public void testHandleLldpDataNonExistentSwitch() {
         LldpInfoData data = createLldpInfoDataData();
@@ -494,6 +621,12 @@ public class PacketServiceTest extends InMemoryGraphBasedTest {
         flowRepository.add(flow);
     }
 
+    private SwitchConnectedDevice getSingleDevice() {
+        Collection<SwitchConnectedDevice> devices = switchConnectedDeviceRepository.findAll();
+        assertEquals(1, devices.size());
+        return devices.iterator().next();
+    }
+
     private LldpInfoData createLldpInfoDataData() {
         return createLldpInfoDataData(SWITCH_ID_1, newArrayList(VLAN_1), PORT_NUMBER_1);
     }
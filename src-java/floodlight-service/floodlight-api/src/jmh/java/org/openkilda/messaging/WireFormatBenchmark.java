@@ -0,0 +1,126 @@
+/* Copyright 2023 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.messaging;
+
+import org.openkilda.messaging.info.InfoMessage;
+import org.openkilda.messaging.info.event.IslChangeType;
+import org.openkilda.messaging.info.event.IslInfoData;
+import org.openkilda.messaging.info.event.PathNode;
+import org.openkilda.messaging.info.stats.FlowStatsData;
+import org.openkilda.messaging.info.stats.FlowStatsEntry;
+import org.openkilda.model.SwitchId;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link WireFormat#JSON} and {@link WireFormat#SMILE} encoding of typical stats and discovery messages.
+ * Besides the operation rate, the amount of encoded bytes per second is reported as the {@code bytes} secondary
+ * result, dividing it by the operation rate gives the encoded message size. Run with
+ * {@code ./gradlew :floodlight-api:jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WireFormatBenchmark {
+    @Param({"JSON", "SMILE"})
+    public WireFormat format;
+
+    @Param({"stats", "discovery"})
+    public String messageType;
+
+    private ObjectMapper mapper;
+    private Message message;
+    private byte[] encoded;
+
+    /**
+     * Prepares the message and its encoded form.
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        mapper = format.getMapper();
+        message = "stats".equals(messageType) ? makeStatsMessage() : makeDiscoveryMessage();
+        encoded = mapper.writeValueAsBytes(message);
+    }
+
+    /**
+     * Encodes the message.
+     */
+    @Benchmark
+    public byte[] encode(EncodedBytes counter) throws IOException {
+        byte[] result = mapper.writeValueAsBytes(message);
+        counter.bytes += result.length;
+        return result;
+    }
+
+    /**
+     * Decodes the message.
+     */
+    @Benchmark
+    public Message decode(EncodedBytes counter) throws IOException {
+        counter.bytes += encoded.length;
+        return WireFormat.detect(encoded).getMapper().readValue(encoded, Message.class);
+    }
+
+    /**
+     * Amount of encoded bytes written or read by a benchmark thread.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class EncodedBytes {
+        public long bytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            bytes = 0;
+        }
+    }
+
+    private static Message makeStatsMessage() {
+        List<FlowStatsEntry> entries = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            entries.add(new FlowStatsEntry(0, 0x4000000000000000L + i, 1000L * i, 1500000L * i, i % 48, 48 - i % 48));
+        }
+        return new InfoMessage(new FlowStatsData(new SwitchId(1), entries), System.currentTimeMillis(), "stats");
+    }
+
+    private static Message makeDiscoveryMessage() {
+        IslInfoData isl = new IslInfoData(
+                new PathNode(new SwitchId(1), 1, 0), new PathNode(new SwitchId(2), 2, 1),
+                IslChangeType.DISCOVERED, false);
+        return new InfoMessage(isl, System.currentTimeMillis(), "discovery");
+    }
+}
@@ -0,0 +1,141 @@
+/* Copyright 2023 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.floodlight.api.routing;
+
+import org.openkilda.floodlight.api.request.SpeakerRequest;
+import org.openkilda.messaging.AbstractMessage;
+import org.openkilda.messaging.Message;
+import org.openkilda.messaging.info.InfoData;
+import org.openkilda.messaging.info.InfoMessage;
+import org.openkilda.messaging.info.event.ConnectedDevicePacketBase;
+import org.openkilda.messaging.info.event.IslBaseLatency;
+import org.openkilda.messaging.info.event.IslInfoData;
+import org.openkilda.messaging.info.event.IslOneWayLatency;
+import org.openkilda.model.SwitchId;
+
+import lombok.NonNull;
+import lombok.Value;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Routing attributes of a speaker request or a speaker event, carried in Kafka record headers. They allow the
+ * floodlight router to route and forward a record without payload deserialization. Records without routing headers
+ * are routed by their payload.
+ *
+ * <p>The switch id of a request points to the switch which must receive it. The switch id of an event is set only
+ * if the event must be suppressed when it was received via a region which is not active for the switch.
+ */
+@Value
+public class RoutingKey implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    public static final String MESSAGE_TYPE_HEADER = "kilda.routing.message-type";
+    public static final String SWITCH_ID_HEADER = "kilda.routing.switch-id";
+    public static final String REGION_HEADER = "kilda.routing.region";
+    public static final String CORRELATION_ID_HEADER = "kilda.routing.correlation-id";
+
+    @NonNull
+    String messageType;
+    SwitchId switchId;
+    String region;
+    String correlationId;
+
+    public static RoutingKey forSpeakerRequest(SpeakerRequest request) {
+        return new RoutingKey(request.getClass().getName(), request.getSwitchId(), null,
+                request.getMessageContext().getCorrelationId());
+    }
+
+    /**
+     * Makes the key of the event produced by speaker, the message type is the type of the payload.
+     */
+    public static RoutingKey forSpeakerEvent(Message message) {
+        if (message instanceof InfoMessage) {
+            InfoMessage envelope = (InfoMessage) message;
+            InfoData payload = envelope.getData();
+            String messageType = payload != null ? payload.getClass().getName() : envelope.getClass().getName();
+            return new RoutingKey(messageType, lookupRegionBoundSwitch(payload), envelope.getRegion(),
+                    envelope.getCorrelationId());
+        }
+        return new RoutingKey(message.getClass().getName(), null, null, message.getCorrelationId());
+    }
+
+    public static RoutingKey forSpeakerEvent(AbstractMessage message) {
+        return new RoutingKey(message.getClass().getName(), null, null,
+                message.getMessageContext().getCorrelationId());
+    }
+
+    /**
+     * Writes the key into record headers, replacing routing headers which are already there.
+     */
+    public void writeTo(Headers headers) {
+        writeHeader(headers, MESSAGE_TYPE_HEADER, messageType);
+        writeHeader(headers, SWITCH_ID_HEADER, switchId != null ? switchId.toString() : null);
+        writeHeader(headers, REGION_HEADER, region);
+        writeHeader(headers, CORRELATION_ID_HEADER, correlationId);
+    }
+
+    /**
+     * Reads the key from record headers.
+     *
+     * @return the key or null if the record has no routing headers.
+     */
+    public static RoutingKey readFrom(Headers headers) {
+        if (headers == null) {
+            return null;
+        }
+        String messageType = readHeader(headers, MESSAGE_TYPE_HEADER);
+        if (messageType == null) {
+            return null;
+        }
+        String switchId = readHeader(headers, SWITCH_ID_HEADER);
+        return new RoutingKey(messageType, switchId != null ? new SwitchId(switchId) : null,
+                readHeader(headers, REGION_HEADER), readHeader(headers, CORRELATION_ID_HEADER));
+    }
+
+    private static SwitchId lookupRegionBoundSwitch(InfoData payload) {
+        // Same switches as the floodlight router uses to check the region of such events.
+        if (payload instanceof IslInfoData) {
+            IslInfoData isl = (IslInfoData) payload;
+            return isl.getDestination() != null ? isl.getDestination().getSwitchId() : null;
+        } else if (payload instanceof IslOneWayLatency) {
+            return ((IslOneWayLatency) payload).getDstSwitchId();
+        } else if (payload instanceof IslBaseLatency) {
+            return ((IslBaseLatency) payload).getSrcSwitchId();
+        } else if (payload instanceof ConnectedDevicePacketBase) {
+            return ((ConnectedDevicePacketBase) payload).getSwitchId();
+        }
+        return null;
+    }
+
+    private static void writeHeader(Headers headers, String name, String value) {
+        headers.remove(name);
+        if (value != null) {
+            headers.add(name, value.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    private static String readHeader(Headers headers, String name) {
+        Header header = headers.lastHeader(name);
+        if (header == null || header.value() == null) {
+            return null;
+        }
+        return new String(header.value(), StandardCharsets.UTF_8);
+    }
+}
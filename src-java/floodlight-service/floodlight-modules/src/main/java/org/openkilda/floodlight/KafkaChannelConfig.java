@@ -16,6 +16,7 @@
 package org.openkilda.floodlight;
 
 import static org.openkilda.bluegreen.kafka.Utils.CONSUMER_COMPONENT_NAME_PROPERTY;
+import static org.openkilda.bluegreen.kafka.Utils.CONSUMER_DELEGATE_DESERIALIZER_PROPERTY;
 import static org.openkilda.bluegreen.kafka.Utils.CONSUMER_RUN_ID_PROPERTY;
 import static org.openkilda.bluegreen.kafka.Utils.CONSUMER_ZOOKEEPER_CONNECTION_STRING_PROPERTY;
 import static org.openkilda.bluegreen.kafka.Utils.CONSUMER_ZOOKEEPER_RECONNECTION_DELAY_PROPERTY;
@@ -25,6 +26,7 @@ import static org.openkilda.bluegreen.kafka.Utils.PRODUCER_ZOOKEEPER_CONNECTION_
 import static org.openkilda.bluegreen.kafka.Utils.PRODUCER_ZOOKEEPER_RECONNECTION_DELAY_PROPERTY;
 import static org.openkilda.floodlight.service.zookeeper.ZooKeeperService.ZK_COMPONENT_NAME;
 
+import org.openkilda.bluegreen.kafka.VersioningDeserializer;
 import org.openkilda.bluegreen.kafka.interceptors.VersioningConsumerInterceptor;
 import org.openkilda.bluegreen.kafka.interceptors.VersioningProducerInterceptor;
 import org.openkilda.config.KafkaConsumerGroupConfig;
@@ -65,6 +67,13 @@ public interface KafkaChannelConfig extends KafkaConsumerGroupConfig {
     @Default("500")
     int getMessagesBatchSize();
 
+    /**
+     * Comma separated list of topics which are encoded in the binary (Smile) wire format. Must contain only topics
+     * consumed by storm topologies, floodlight itself reads JSON messages only.
+     */
+    @Key("binary-topics")
+    String getBinaryTopics();
+
     /**
      * Returns Kafka properties built with the configuration data for Consumer.
      */
@@ -77,7 +86,9 @@ public interface KafkaChannelConfig extends KafkaConsumerGroupConfig {
         properties.put("enable.auto.commit", "false");
 
         properties.put("key.deserializer", "org.apache.kafka.common.serialization.StringDeserializer");
-        properties.put("value.deserializer", "org.apache.kafka.common.serialization.StringDeserializer");
+        properties.put("value.deserializer", VersioningDeserializer.class.getName());
+        properties.put(CONSUMER_DELEGATE_DESERIALIZER_PROPERTY,
+                "org.apache.kafka.common.serialization.StringDeserializer");
 
         properties.put(ConsumerConfig.INTERCEPTOR_CLASSES_CONFIG, VersioningConsumerInterceptor.class.getName());
         properties.put(CONSUMER_COMPONENT_NAME_PROPERTY, ZK_COMPONENT_NAME);
@@ -101,7 +112,7 @@ public interface KafkaChannelConfig extends KafkaConsumerGroupConfig {
         properties.put("linger.ms", 10);
 
         properties.put("key.serializer", "org.apache.kafka.common.serialization.StringSerializer");
-        properties.put("value.serializer", "org.apache.kafka.common.serialization.StringSerializer");
+        properties.put("value.serializer", "org.apache.kafka.common.serialization.ByteArraySerializer");
 
         properties.put(ProducerConfig.INTERCEPTOR_CLASSES_CONFIG,
                 VersioningProducerInterceptor.class.getName());
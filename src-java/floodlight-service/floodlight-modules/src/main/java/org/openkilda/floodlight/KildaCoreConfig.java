@@ -38,10 +38,20 @@ public interface KildaCoreConfig {
     @Default("8")
     int getCommandDeferredRequestsLimit();
 
+    @Key("command-processor-rejected-requests-limit")
+    @Default("8192")
+    @Min(1)
+    int getCommandRejectedRequestsLimit();
+
     @Key("command-processor-idle-workers-keep-alive-seconds")
     @Default("300")
     long getCommandIdleWorkersKeepAliveSeconds();
 
+    @Key("command-processor-stats-report-interval-seconds")
+    @Default("60")
+    @Min(1)
+    long getCommandStatsReportIntervalSeconds();
+
     @Key("flow-ping-magic-src-mac-address")
     @Default("00:26:E1:FF:FF:FE")
     String getFlowPingMagicSrcMacAddress();
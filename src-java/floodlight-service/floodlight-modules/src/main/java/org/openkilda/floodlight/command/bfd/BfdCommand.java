@@ -83,6 +83,15 @@ abstract class BfdCommand extends Command {
         return null;
     }
 
+    @Override
+    public Command exceptional(Throwable e) {
+        // the command can fail without being executed (i.e. rejected by the command processor), the requester must
+        // get the error response in this case too
+        handleError(e);
+        sendResponse();
+        return null;
+    }
+
     protected void validate(IOFSwitch sw) throws NoFeatureException {
         checkSwitchCapabilities(sw);
     }
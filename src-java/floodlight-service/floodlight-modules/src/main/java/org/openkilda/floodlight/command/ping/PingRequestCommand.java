@@ -68,6 +68,13 @@ public class PingRequestCommand extends PingCommand {
         return null;
     }
 
+    @Override
+    public Command exceptional(Throwable e) {
+        log.error("Unable to send ping {}: {}", ping, e.getMessage(), e);
+        sendErrorResponse(ping.getPingId(), Errors.WRITE_FAILURE);
+        return null;
+    }
+
     private IOFSwitch checkSource() throws PingImpossibleException {
         SwitchId swId = ping.getSource().getDatapath();
         IOFSwitch sw = lookupSwitch(swId);
@@ -25,7 +25,10 @@ import org.openkilda.floodlight.api.BatchCommandProcessor;
 import org.openkilda.floodlight.service.session.Session;
 import org.openkilda.floodlight.service.session.SessionService;
 import org.openkilda.messaging.MessageContext;
+import org.openkilda.model.GroupId;
+import org.openkilda.model.MeterId;
 import org.openkilda.model.SwitchFeature;
+import org.openkilda.model.cookie.CookieBase;
 import org.openkilda.rulemanager.FlowSpeakerData;
 import org.openkilda.rulemanager.GroupSpeakerData;
 import org.openkilda.rulemanager.MeterSpeakerData;
@@ -47,7 +50,6 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutionException;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -68,6 +70,10 @@ public class OfBatchExecutor {
     private boolean hasGroups;
     private boolean hasFlows;
 
+    private final Set<CookieBase> verifiedCookies = new HashSet<>();
+    private final Set<MeterId> verifiedMeterIds = new HashSet<>();
+    private final Set<GroupId> verifiedGroupIds = new HashSet<>();
+
     private CompletableFuture<List<MeterSpeakerData>> meterStats = CompletableFuture.completedFuture(emptyList());
     private CompletableFuture<List<GroupSpeakerData>> groupStats = CompletableFuture.completedFuture(emptyList());
     private CompletableFuture<List<FlowSpeakerData>> flowStats = CompletableFuture.completedFuture(emptyList());
@@ -76,7 +82,7 @@ public class OfBatchExecutor {
     public OfBatchExecutor(IOFSwitch iofSwitch, BatchCommandProcessor commandProcessor, SessionService sessionService,
                            MessageContext messageContext, OfBatchHolder holder,
                            Set<SwitchFeature> switchFeatures, String kafkaKey, String sourceTopic,
-                           Boolean failIfExists) {
+                           Boolean failIfExists, SwitchDumpCoalescer dumpCoalescer) {
         this.iofSwitch = iofSwitch;
         this.commandProcessor = commandProcessor;
         this.sessionService = sessionService;
@@ -85,6 +91,7 @@ public class OfBatchExecutor {
                 .messageContext(messageContext)
                 .switchFeatures(switchFeatures)
                 .kafkaKey(kafkaKey)
+                .dumpCoalescer(dumpCoalescer)
                 .build();
         this.messageContext = messageContext;
         this.holder = holder;
@@ -110,6 +117,9 @@ public class OfBatchExecutor {
                 hasFlows |= batchData.isFlow();
                 hasMeters |= batchData.isMeter();
                 hasGroups |= batchData.isGroup();
+                if (batchData.isPresenceBeVerified()) {
+                    addVerifiedEntity(batchData.getOrigin());
+                }
                 stageMessages.add(batchData);
             } else {
                 Map<UUID, String> blockingDependencies = holder.getBlockingDependencies(uuid);
@@ -124,10 +134,34 @@ public class OfBatchExecutor {
             }
         }
 
-        if (!failIfExists) {
-            removeAlreadyExists(stageMessages);
+        if (failIfExists) {
+            writeStage(stageMessages);
+        } else {
+            removeAlreadyExists(stageMessages)
+                    .exceptionally(ex -> {
+                        holder.otherFail("Failed to verify OpenFlow elements already exists.", ex);
+                        return null;
+                    })
+                    .thenRun(() -> writeStage(stageMessages))
+                    .exceptionally(ex -> {
+                        holder.otherFail("Failed to process OpenFlow messages.", ex);
+                        sendResponse();
+                        return null;
+                    });
+        }
+    }
+
+    private void addVerifiedEntity(SpeakerData origin) {
+        if (origin instanceof FlowSpeakerData) {
+            verifiedCookies.add(((FlowSpeakerData) origin).getCookie());
+        } else if (origin instanceof MeterSpeakerData) {
+            verifiedMeterIds.add(((MeterSpeakerData) origin).getMeterId());
+        } else if (origin instanceof GroupSpeakerData) {
+            verifiedGroupIds.add(((GroupSpeakerData) origin).getGroupId());
         }
+    }
 
+    private void writeStage(List<BatchData> stageMessages) {
         Collection<OFMessage> ofMessages = stageMessages.stream()
                 .map(BatchData::getMessage)
                 .collect(Collectors.toList());
@@ -168,35 +202,28 @@ public class OfBatchExecutor {
                 });
     }
 
-    private void removeAlreadyExists(List<BatchData> stageMessages) {
-        if (hasMeters) {
-            meterStats = switchDataProvider.getMeters();
-        }
-        if (hasGroups) {
-            groupStats = switchDataProvider.getGroups();
-        }
+    private CompletableFuture<Void> removeAlreadyExists(List<BatchData> stageMessages) {
+        Set<MeterId> stageMeterIds = stageMessages.stream()
+                .map(BatchData::getOrigin)
+                .filter(MeterSpeakerData.class::isInstance)
+                .map(origin -> ((MeterSpeakerData) origin).getMeterId())
+                .collect(Collectors.toSet());
+        CompletableFuture<List<MeterSpeakerData>> switchMeters = switchDataProvider.getMeters(stageMeterIds);
+        CompletableFuture<List<GroupSpeakerData>> switchGroups = hasGroups
+                ? switchDataProvider.getGroups() : CompletableFuture.completedFuture(emptyList());
 
-        try {
-            List<SpeakerData> speakerData = new ArrayList<>(meterStats.get());
-            speakerData.addAll(groupStats.get());
-            Set<BatchData> toRemove = new HashSet<>();
-            for (BatchData batchData : stageMessages) {
-                if (speakerData.contains(batchData.getOrigin())) {
-                    toRemove.add(batchData);
+        return CompletableFuture.allOf(switchMeters, switchGroups).thenRun(() -> {
+            Set<SpeakerData> existing = new HashSet<>(switchMeters.join());
+            existing.addAll(switchGroups.join());
+            stageMessages.removeIf(data -> {
+                if (!existing.contains(data.getOrigin())) {
+                    return false;
                 }
-            }
-            toRemove.forEach(data -> {
                 log.debug("OpenFlow entry is already exist. Skipping command {}", data);
                 holder.recordSuccessUuid(data.getOrigin().getUuid());
-                stageMessages.remove(data);
+                return true;
             });
-        } catch (ExecutionException | InterruptedException e) {
-            holder.otherFail("Failed to verify OpenFlow elements already exists.", e);
-        }
-
-        meterStats = CompletableFuture.completedFuture(emptyList());
-        groupStats = CompletableFuture.completedFuture(emptyList());
-        flowStats = CompletableFuture.completedFuture(emptyList());
+        });
     }
 
     private void onSuccessfulOfMessage(OFMessage ofMessage) {
@@ -212,13 +239,13 @@ public class OfBatchExecutor {
 
     private void checkOfResponses() {
         if (hasMeters) {
-            meterStats = switchDataProvider.getMeters();
+            meterStats = switchDataProvider.getMeters(verifiedMeterIds);
         }
-        if (hasGroups) {
+        if (hasGroups && !verifiedGroupIds.isEmpty()) {
             groupStats = switchDataProvider.getGroups();
         }
         if (hasFlows) {
-            flowStats = switchDataProvider.getFlows();
+            flowStats = switchDataProvider.getFlows(verifiedCookies);
         }
         CompletableFuture.allOf(meterStats, groupStats, flowStats)
                 .thenAccept(ignore -> runVerify())
@@ -242,6 +269,9 @@ public class OfBatchExecutor {
             hasMeters = false;
             hasGroups = false;
             hasFlows = false;
+            verifiedCookies.clear();
+            verifiedMeterIds.clear();
+            verifiedGroupIds.clear();
             executeBatch();
         } else {
             sendResponse();
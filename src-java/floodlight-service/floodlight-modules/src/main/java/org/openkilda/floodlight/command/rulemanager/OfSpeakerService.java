@@ -47,6 +47,7 @@ public class OfSpeakerService implements BatchCommandProcessor {
     private final SessionService sessionService;
     private final IKafkaProducerService kafkaProducerService;
     private final FeatureDetectorService featureDetectorService;
+    private final SwitchDumpCoalescer dumpCoalescer = new SwitchDumpCoalescer();
 
     private final Map<String, String> responseTopics;
 
@@ -106,6 +107,7 @@ public class OfSpeakerService implements BatchCommandProcessor {
                 .kafkaKey(key)
                 .failIfExists(failIfExists)
                 .sourceTopic(request.getSourceTopic())
+                .dumpCoalescer(dumpCoalescer)
                 .build();
         executor.executeBatch();
     }
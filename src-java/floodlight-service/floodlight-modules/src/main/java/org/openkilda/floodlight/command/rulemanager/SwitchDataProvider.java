@@ -15,12 +15,15 @@
 
 package org.openkilda.floodlight.command.rulemanager;
 
+import org.openkilda.floodlight.command.rulemanager.SwitchDumpCoalescer.DumpKind;
 import org.openkilda.floodlight.converter.rulemanager.OfFlowConverter;
 import org.openkilda.floodlight.converter.rulemanager.OfGroupConverter;
 import org.openkilda.floodlight.converter.rulemanager.OfMeterConverter;
 import org.openkilda.messaging.MessageContext;
+import org.openkilda.model.MeterId;
 import org.openkilda.model.SwitchFeature;
 import org.openkilda.model.SwitchId;
+import org.openkilda.model.cookie.CookieBase;
 import org.openkilda.rulemanager.FlowSpeakerData;
 import org.openkilda.rulemanager.GroupSpeakerData;
 import org.openkilda.rulemanager.MeterSpeakerData;
@@ -28,82 +31,117 @@ import org.openkilda.rulemanager.MeterSpeakerData;
 import lombok.Builder;
 import lombok.extern.slf4j.Slf4j;
 import net.floodlightcontroller.core.IOFSwitch;
+import org.projectfloodlight.openflow.protocol.OFFlowStatsReply;
+import org.projectfloodlight.openflow.protocol.OFMeterConfigStatsReply;
+import org.projectfloodlight.openflow.protocol.OFVersion;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Provides ability to read OpenFlow flows, meters and groups from switch in RuleManager format.
+ *
+ * <p>Full table dumps are shared between concurrent batches on the same switch. Small sets of flows and meters are
+ * requested one by one, so verification of a few entities doesn't dump the whole table.
  */
 @Slf4j
 public class SwitchDataProvider {
+    public static final int MAX_TARGETED_REQUESTS = 16;
 
     private final IOFSwitch iofSwitch;
     private final MessageContext messageContext;
     private final Set<SwitchFeature> switchFeatures;
     private final String kafkaKey;
+    private final SwitchDumpCoalescer dumpCoalescer;
 
     @Builder
     public SwitchDataProvider(IOFSwitch iofSwitch, MessageContext messageContext,
-                              Set<SwitchFeature> switchFeatures, String kafkaKey) {
+                              Set<SwitchFeature> switchFeatures, String kafkaKey,
+                              SwitchDumpCoalescer dumpCoalescer) {
         this.iofSwitch = iofSwitch;
         this.messageContext = messageContext;
         this.switchFeatures = switchFeatures;
         this.kafkaKey = kafkaKey;
+        this.dumpCoalescer = dumpCoalescer != null ? dumpCoalescer : new SwitchDumpCoalescer();
     }
 
     /**
      * Request flow data from switch and convert it to RuleManager representation.
      */
     public CompletableFuture<List<FlowSpeakerData>> getFlows() {
-        return OfUtils.getFlows(messageContext, iofSwitch)
-                .thenCompose(replies -> {
-                    log.debug("Get flow stats: {} (key={})", replies, kafkaKey);
-                    List<FlowSpeakerData> switchFlows = new ArrayList<>();
-                    if (replies != null) {
-                        replies.forEach(reply -> switchFlows.addAll(
-                                OfFlowConverter.INSTANCE.convertToFlowSpeakerData(reply,
-                                        new SwitchId(iofSwitch.getId().getLong()))));
-                    }
-                    return CompletableFuture.completedFuture(switchFlows);
-                })
+        return dumpCoalescer.dump(iofSwitch.getId(), DumpKind.FLOWS,
+                () -> OfUtils.getFlows(messageContext, iofSwitch))
+                .thenApply(this::convertFlows)
                 .exceptionally(ex -> {
                     log.error("Can't get flows from switch", ex);
                     return Collections.emptyList();
                 });
     }
 
+    /**
+     * Request flows with the given cookies from switch and convert them to RuleManager representation.
+     */
+    public CompletableFuture<List<FlowSpeakerData>> getFlows(Collection<CookieBase> cookies) {
+        if (cookies.isEmpty()) {
+            return CompletableFuture.completedFuture(Collections.emptyList());
+        }
+        if (MAX_TARGETED_REQUESTS < cookies.size()
+                || iofSwitch.getOFFactory().getVersion().compareTo(OFVersion.OF_11) < 0) {
+            return getFlows();
+        }
+        return collect(cookies, cookie -> OfUtils.getFlows(messageContext, iofSwitch, cookie.getValue())
+                .thenApply(this::convertFlows)
+                .exceptionally(ex -> {
+                    log.error("Can't get flows with cookie {} from switch", cookie, ex);
+                    return Collections.emptyList();
+                }));
+    }
+
     /**
      * Request meter data from switch and convert it to RuleManager representation.
      */
     public CompletableFuture<List<MeterSpeakerData>> getMeters() {
-        return OfUtils.getMeters(messageContext, iofSwitch)
-                .thenCompose(replies -> {
-                    log.debug("Get meter stats: {} (key={})", replies, kafkaKey);
-                    boolean inaccurate = switchFeatures.contains(SwitchFeature.INACCURATE_METER);
-                    List<MeterSpeakerData> switchMeters = new ArrayList<>();
-                    if (replies != null) {
-                        replies.forEach(reply -> switchMeters.addAll(
-                                OfMeterConverter.INSTANCE.convertToMeterSpeakerData(reply, inaccurate,
-                                        new SwitchId(iofSwitch.getId().getLong()))));
-                    }
-                    return CompletableFuture.completedFuture(switchMeters);
-                })
+        return dumpCoalescer.dump(iofSwitch.getId(), DumpKind.METERS,
+                () -> OfUtils.getMeters(messageContext, iofSwitch))
+                .thenApply(this::convertMeters)
                 .exceptionally(ex -> {
                     log.error("Can't get meters from switch", ex);
                     return Collections.emptyList();
                 });
     }
 
+    /**
+     * Request meters with the given ids from switch and convert them to RuleManager representation.
+     */
+    public CompletableFuture<List<MeterSpeakerData>> getMeters(Collection<MeterId> meterIds) {
+        if (meterIds.isEmpty()) {
+            return CompletableFuture.completedFuture(Collections.emptyList());
+        }
+        if (MAX_TARGETED_REQUESTS < meterIds.size()) {
+            return getMeters();
+        }
+        return collect(meterIds, meterId -> OfUtils.getMeter(messageContext, iofSwitch, meterId.getValue())
+                .thenApply(this::convertMeters)
+                .exceptionally(ex -> {
+                    // A meter which is not installed yet is reported as an error by the switch.
+                    log.debug("Can't get meter {} from switch", meterId, ex);
+                    return Collections.emptyList();
+                }));
+    }
+
     /**
      * Request group data from switch and convert it to RuleManager representation.
      */
     public CompletableFuture<List<GroupSpeakerData>> getGroups() {
-        return OfUtils.getGroups(messageContext, iofSwitch)
-                .thenCompose(replies -> {
+        return dumpCoalescer.dump(iofSwitch.getId(), DumpKind.GROUPS,
+                () -> OfUtils.getGroups(messageContext, iofSwitch))
+                .thenApply(replies -> {
                     log.debug("Get group stats: {} (key={})", replies, kafkaKey);
                     List<GroupSpeakerData> switchGroups = new ArrayList<>();
                     if (replies != null) {
@@ -111,11 +149,45 @@ public class SwitchDataProvider {
                                 OfGroupConverter.INSTANCE.convertToGroupSpeakerData(reply,
                                         new SwitchId(iofSwitch.getId().getLong()))));
                     }
-                    return CompletableFuture.completedFuture(switchGroups);
+                    return switchGroups;
                 })
                 .exceptionally(ex -> {
                     log.error("Can't get groups from switch", ex);
                     return Collections.emptyList();
                 });
     }
+
+    private List<FlowSpeakerData> convertFlows(List<OFFlowStatsReply> replies) {
+        log.debug("Get flow stats: {} (key={})", replies, kafkaKey);
+        List<FlowSpeakerData> switchFlows = new ArrayList<>();
+        if (replies != null) {
+            replies.forEach(reply -> switchFlows.addAll(
+                    OfFlowConverter.INSTANCE.convertToFlowSpeakerData(reply,
+                            new SwitchId(iofSwitch.getId().getLong()))));
+        }
+        return switchFlows;
+    }
+
+    private List<MeterSpeakerData> convertMeters(List<OFMeterConfigStatsReply> replies) {
+        log.debug("Get meter stats: {} (key={})", replies, kafkaKey);
+        boolean inaccurate = switchFeatures.contains(SwitchFeature.INACCURATE_METER);
+        List<MeterSpeakerData> switchMeters = new ArrayList<>();
+        if (replies != null) {
+            replies.forEach(reply -> switchMeters.addAll(
+                    OfMeterConverter.INSTANCE.convertToMeterSpeakerData(reply, inaccurate,
+                            new SwitchId(iofSwitch.getId().getLong()))));
+        }
+        return switchMeters;
+    }
+
+    private static <K, T> CompletableFuture<List<T>> collect(
+            Collection<K> keys, Function<K, CompletableFuture<List<T>>> request) {
+        List<CompletableFuture<List<T>>> requests = keys.stream()
+                .map(request)
+                .collect(Collectors.toList());
+        return CompletableFuture.allOf(requests.toArray(new CompletableFuture<?>[0]))
+                .thenApply(ignore -> requests.stream()
+                        .flatMap(entry -> entry.join().stream())
+                        .collect(Collectors.toList()));
+    }
 }
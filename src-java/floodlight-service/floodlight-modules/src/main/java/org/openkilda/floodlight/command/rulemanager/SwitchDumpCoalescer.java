@@ -0,0 +1,118 @@
+/* Copyright 2023 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.floodlight.command.rulemanager;
+
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.projectfloodlight.openflow.types.DatapathId;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Shares table dumps between concurrent batches on the same switch.
+ *
+ * <p>A dump in progress can be sent to the switch before changes written by the caller, so callers never join it.
+ * Callers arriving while a dump is in progress wait for the next one, which is requested once the current dump is
+ * completed and is shared by all of them. So there is at most one dump of a kind in progress on a switch.
+ */
+@Slf4j
+public class SwitchDumpCoalescer {
+    private final ConcurrentMap<DumpKey, DumpState> states = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the result of a dump of the given kind requested after this call. The loader is called only if there
+     * is no other caller waiting for the next dump.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> CompletableFuture<T> dump(DatapathId dpId, DumpKind kind, Supplier<CompletableFuture<T>> loader) {
+        DumpState state = states.computeIfAbsent(new DumpKey(dpId, kind), ignore -> new DumpState());
+        CompletableFuture<Object> result;
+        boolean start = false;
+        synchronized (state) {
+            if (state.inProgress == null) {
+                result = new CompletableFuture<>();
+                state.inProgress = result;
+                start = true;
+            } else {
+                if (state.next == null) {
+                    state.next = new CompletableFuture<>();
+                    state.nextLoader = (Supplier<CompletableFuture<Object>>) (Supplier<?>) loader;
+                } else {
+                    log.debug("Join pending {} dump on switch {}", kind, dpId);
+                }
+                result = state.next;
+            }
+        }
+
+        if (start) {
+            load(state, result, (Supplier<CompletableFuture<Object>>) (Supplier<?>) loader);
+        }
+        // Callers get own futures, so one of them can't cancel the dump for others.
+        return (CompletableFuture<T>) result.thenApply(Function.identity());
+    }
+
+    private void load(DumpState state, CompletableFuture<Object> target, Supplier<CompletableFuture<Object>> loader) {
+        CompletableFuture<Object> response;
+        try {
+            response = loader.get();
+        } catch (RuntimeException e) {
+            response = new CompletableFuture<>();
+            response.completeExceptionally(e);
+        }
+        response.whenComplete((result, error) -> {
+            CompletableFuture<Object> next;
+            Supplier<CompletableFuture<Object>> nextLoader;
+            synchronized (state) {
+                next = state.next;
+                nextLoader = state.nextLoader;
+                state.inProgress = next;
+                state.next = null;
+                state.nextLoader = null;
+            }
+
+            if (error != null) {
+                target.completeExceptionally(error);
+            } else {
+                target.complete(result);
+            }
+            if (next != null) {
+                load(state, next, nextLoader);
+            }
+        });
+    }
+
+    public enum DumpKind {
+        FLOWS,
+        METERS,
+        GROUPS
+    }
+
+    @Value
+    private static class DumpKey {
+        DatapathId dpId;
+        DumpKind kind;
+    }
+
+    private static class DumpState {
+        private CompletableFuture<Object> inProgress;
+        private CompletableFuture<Object> next;
+        private Supplier<CompletableFuture<Object>> nextLoader;
+    }
+}
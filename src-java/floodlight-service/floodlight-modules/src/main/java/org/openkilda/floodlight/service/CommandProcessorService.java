@@ -22,6 +22,7 @@ import org.openkilda.floodlight.command.CommandContext;
 import org.openkilda.floodlight.command.CommandWrapper;
 import org.openkilda.floodlight.command.PendingCommandSubmitter;
 import org.openkilda.floodlight.utils.CommandContextFactory;
+import org.openkilda.floodlight.utils.LatencyHistogram;
 
 import net.floodlightcontroller.core.module.FloodlightModuleContext;
 import net.floodlightcontroller.threadpool.IThreadPoolService;
@@ -30,13 +31,18 @@ import org.slf4j.LoggerFactory;
 
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Queue;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.RejectedExecutionHandler;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class CommandProcessorService implements IService {
     private static final Logger log = LoggerFactory.getLogger(CommandProcessorService.class);
@@ -51,9 +57,16 @@ public class CommandProcessorService implements IService {
     private ThreadPoolExecutor executor;
 
     private LinkedList<ProcessorTask> tasks = new LinkedList<>();
-    private final LinkedList<Runnable> rejectedQueue = new LinkedList<>();
+    private final Queue<Runnable> rejectedQueue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger rejectedQueueSize = new AtomicInteger();
+    private int rejectedQueueLimit;
     private long lastRejectCountReportedAt = 0;
 
+    private final LatencyHistogram queueTime = new LatencyHistogram();
+    private final LatencyHistogram executionTime = new LatencyHistogram();
+    private long statsReportInterval;
+    private long lastStatsReportedAt;
+
     public CommandProcessorService(KildaCore kildaCore, CommandContextFactory commandContextFactory) {
         this.kildaCore = kildaCore;
         this.commandContextFactory = commandContextFactory;
@@ -70,6 +83,12 @@ public class CommandProcessorService implements IService {
         log.info("config - workers limit = {}", config.getCommandWorkersLimit());
         log.info("config - idle workers keep alive seconds = {}", config.getCommandIdleWorkersKeepAliveSeconds());
         log.info("config - deferred requests limit = {}", config.getCommandDeferredRequestsLimit());
+        log.info("config - rejected requests limit = {}", config.getCommandRejectedRequestsLimit());
+        log.info("config - stats report interval seconds = {}", config.getCommandStatsReportIntervalSeconds());
+
+        statsReportInterval = TimeUnit.SECONDS.toMillis(config.getCommandStatsReportIntervalSeconds());
+        lastStatsReportedAt = System.currentTimeMillis();
+        rejectedQueueLimit = config.getCommandRejectedRequestsLimit();
 
         executor = new ThreadPoolExecutor(
                 config.getCommandPersistentWorkersCount(), config.getCommandWorkersLimit(),
@@ -113,9 +132,18 @@ public class CommandProcessorService implements IService {
      *
      * <p>Initiator will receive exception returned by future object (if it will raise one). I.e. this interface
      * allow to wait for some background task to complete, without occupy any working thread.
+     *
+     * <p>The successor of a {@link CompletableFuture} is processed as soon as the future is completed, other futures
+     * are polled by the timer.
      */
-    public synchronized void submitPending(Command initiator, Future<Command> successor) {
-        tasks.add(new ProcessorTask(initiator, successor));
+    public void submitPending(Command initiator, Future<Command> successor) {
+        if (successor instanceof CompletableFuture) {
+            chainSuccessor(initiator, (CompletableFuture<Command>) successor);
+        } else {
+            synchronized (this) {
+                tasks.add(new ProcessorTask(initiator, successor));
+            }
+        }
     }
 
     public synchronized void markCompleted(ProcessorTask task) { }
@@ -125,20 +153,64 @@ public class CommandProcessorService implements IService {
     }
 
     private void executeOneShot(Command command) {
-        executor.execute(() -> {
-            try {
-                command.call();
-            } catch (Exception e) {
-                command.exceptional(e);
-            }
-        });
+        long queuedAt = System.nanoTime();
+        try {
+            executor.execute(() -> {
+                long startedAt = startExecution(queuedAt);
+                try {
+                    command.call();
+                } catch (Throwable e) {
+                    command.exceptional(e);
+                } finally {
+                    executionTime.record(System.nanoTime() - startedAt);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            command.exceptional(e);
+        }
     }
 
     private void executeChainResult(Command command) {
-        Future<Command> successor = executor.submit(command);
-        synchronized (this) {
-            tasks.addLast(new ProcessorTask(command, successor));
+        CompletableFuture<Command> successor = new CompletableFuture<>();
+        long queuedAt = System.nanoTime();
+        try {
+            executor.execute(() -> {
+                long startedAt = startExecution(queuedAt);
+                try {
+                    successor.complete(command.call());
+                } catch (Throwable e) {
+                    // any error must complete the future, otherwise the chain hangs forever
+                    successor.completeExceptionally(e);
+                } finally {
+                    executionTime.record(System.nanoTime() - startedAt);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            successor.completeExceptionally(e);
         }
+        chainSuccessor(command, successor);
+    }
+
+    private void chainSuccessor(Command initiator, CompletableFuture<Command> successor) {
+        successor.whenComplete((command, error) -> {
+            if (successor.isCancelled()) {
+                return;
+            }
+
+            Command next = command;
+            if (error != null) {
+                next = initiator.exceptional(error);
+            }
+            if (next != null) {
+                processLazy(next);
+            }
+        });
+    }
+
+    private long startExecution(long queuedAt) {
+        long now = System.nanoTime();
+        queueTime.record(now - queuedAt);
+        return now;
     }
 
     private synchronized void reSubmitPending(List<ProcessorTask> pending) {
@@ -146,14 +218,18 @@ public class CommandProcessorService implements IService {
     }
 
     private void handleExecutorReject(Runnable command) {
-        synchronized (rejectedQueue) {
-            rejectedQueue.addLast(command);
+        if (rejectedQueueLimit < rejectedQueueSize.incrementAndGet()) {
+            rejectedQueueSize.decrementAndGet();
+            throw new RejectedExecutionException(String.format(
+                    "Rejected commands queue is full (limit: %d)", rejectedQueueLimit));
         }
+        rejectedQueue.add(command);
     }
 
     private void timerTrigger() {
         pushRejected();
         verifyPendingStatus();
+        reportLatencyStats();
     }
 
     private void pushRejected() {
@@ -161,22 +237,30 @@ public class CommandProcessorService implements IService {
             return;
         }
 
+        // Only the timer thread takes entries from the rejected queue, so the peeked entry can't be taken by others.
         BlockingQueue<Runnable> queue = executor.getQueue();
-        int count;
-        synchronized (rejectedQueue) {
-            while (!rejectedQueue.isEmpty()) {
-                Runnable entry = rejectedQueue.getFirst();
-                if (queue.offer(entry)) {
-                    rejectedQueue.removeFirst();
-                    continue;
-                }
+        Runnable entry;
+        while ((entry = rejectedQueue.peek()) != null && queue.offer(entry)) {
+            rejectedQueue.poll();
+            rejectedQueueSize.decrementAndGet();
+        }
 
-                break;
-            }
-            count = rejectedQueue.size();
+        reportQueueStatus(rejectedQueueSize.get());
+    }
+
+    private void reportLatencyStats() {
+        long now = System.currentTimeMillis();
+        if (now < lastStatsReportedAt + statsReportInterval) {
+            return;
         }
+        lastStatsReportedAt = now;
 
-        reportQueueStatus(count);
+        LatencyHistogram.Snapshot queued = queueTime.snapshotAndReset();
+        LatencyHistogram.Snapshot executed = executionTime.snapshotAndReset();
+        if (0 < queued.getCount() || 0 < executed.getCount()) {
+            log.info("Commands queue time: {}; execution time: {} (workers: {} / {})",
+                    queued, executed, executor.getActiveCount(), executor.getPoolSize());
+        }
     }
 
     private void verifyPendingStatus() {
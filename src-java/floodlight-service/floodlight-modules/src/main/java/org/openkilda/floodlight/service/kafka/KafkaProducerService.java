@@ -19,17 +19,18 @@ import static org.openkilda.floodlight.service.zookeeper.ZooKeeperService.ZK_COM
 
 import org.openkilda.bluegreen.LifecycleEvent;
 import org.openkilda.bluegreen.Signal;
+import org.openkilda.floodlight.api.routing.RoutingKey;
 import org.openkilda.floodlight.service.zookeeper.ZooKeeperEventObserver;
 import org.openkilda.floodlight.service.zookeeper.ZooKeeperService;
 import org.openkilda.messaging.AbstractMessage;
 import org.openkilda.messaging.Message;
+import org.openkilda.messaging.WireFormatSelector;
 import org.openkilda.messaging.info.ChunkedInfoMessage;
 import org.openkilda.messaging.info.InfoData;
 import org.openkilda.messaging.info.InfoMessage;
 import org.openkilda.messaging.info.event.IslInfoData;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import net.floodlightcontroller.core.module.FloodlightModuleContext;
 import org.apache.kafka.clients.producer.Callback;
 import org.apache.kafka.clients.producer.Producer;
@@ -48,15 +49,17 @@ public class KafkaProducerService implements IKafkaProducerService, ZooKeeperEve
             String.format("%s.DISCO", KafkaProducerService.class.getName()));
 
     private int failedSendMessageCounter;
-    private Producer<String, String> producer;
-    private final ObjectMapper jsonObjectMapper = new ObjectMapper();
+    private Producer<String, byte[]> producer;
+    private WireFormatSelector wireFormatSelector;
 
     private ZooKeeperService zkService;
     private final AtomicBoolean active = new AtomicBoolean(false);
 
     @Override
     public void setup(FloodlightModuleContext moduleContext) {
-        producer = moduleContext.getServiceImpl(KafkaUtilityService.class).makeProducer();
+        KafkaUtilityService kafkaUtility = moduleContext.getServiceImpl(KafkaUtilityService.class);
+        producer = kafkaUtility.makeProducer();
+        wireFormatSelector = kafkaUtility.makeWireFormatSelector();
         zkService = moduleContext.getServiceImpl(ZooKeeperService.class);
         zkService.subscribe(this);
     }
@@ -134,23 +137,38 @@ public class KafkaProducerService implements IKafkaProducerService, ZooKeeperEve
         return sendStatus;
     }
 
-    protected SendStatus produce(ProducerRecord<String, String> record, Callback callback) {
-        logger.debug("Send kafka message: {} <== key:{} value:{}", record.topic(), record.key(), record.value());
+    protected SendStatus produce(ProducerRecord<String, byte[]> record, Callback callback) {
         return new SendStatus(producer.send(record, callback));
     }
 
-    private ProducerRecord<String, String> encode(String topic, Message payload) {
+    private ProducerRecord<String, byte[]> encode(String topic, Message payload) {
         return encode(topic, null, payload);
     }
 
-    private ProducerRecord<String, String> encode(String topic, String key, Object payload) {
-        return new ProducerRecord<>(topic, key, encodeValue(payload));
+    private ProducerRecord<String, byte[]> encode(String topic, String key, Object payload) {
+        logger.debug("Send kafka message: {} <== key:{} value:{}", topic, key, payload);
+        ProducerRecord<String, byte[]> record = new ProducerRecord<>(topic, key, encodeValue(topic, payload));
+        RoutingKey routingKey = makeRoutingKey(payload);
+        if (routingKey != null) {
+            routingKey.writeTo(record.headers());
+        }
+        return record;
+    }
+
+    private RoutingKey makeRoutingKey(Object payload) {
+        // Lets the floodlight router forward events without payload deserialization.
+        if (payload instanceof Message) {
+            return RoutingKey.forSpeakerEvent((Message) payload);
+        } else if (payload instanceof AbstractMessage) {
+            return RoutingKey.forSpeakerEvent((AbstractMessage) payload);
+        }
+        return null;
     }
 
-    private String encodeValue(Object message) {
-        String encoded;
+    private byte[] encodeValue(String topic, Object message) {
+        byte[] encoded;
         try {
-            encoded = jsonObjectMapper.writeValueAsString(message);
+            encoded = wireFormatSelector.select(topic).getMapper().writeValueAsBytes(message);
         } catch (JsonProcessingException e) {
             throw new IllegalArgumentException(String.format("Can not serialize message: %s", e.toString()), e);
         }
@@ -17,6 +17,7 @@ package org.openkilda.floodlight.service.kafka;
 
 import org.openkilda.floodlight.KafkaChannel;
 import org.openkilda.floodlight.service.IService;
+import org.openkilda.messaging.WireFormatSelector;
 
 import net.floodlightcontroller.core.module.FloodlightModuleContext;
 import net.floodlightcontroller.core.module.FloodlightModuleException;
@@ -44,10 +45,14 @@ public class KafkaUtilityService implements IService {
         return consumer;
     }
 
-    public Producer<String, String> makeProducer() {
+    public Producer<String, byte[]> makeProducer() {
         return new KafkaProducer<>(owner.getConfig().producerProperties());
     }
 
+    public WireFormatSelector makeWireFormatSelector() {
+        return new WireFormatSelector(owner.getConfig().getBinaryTopics());
+    }
+
     public KafkaChannel getKafkaChannel() {
         return owner;
     }
@@ -0,0 +1,103 @@
+/* Copyright 2023 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.floodlight.utils;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free histogram of durations with power of two microsecond buckets. A percentile is reported as the upper
+ * bound of its bucket, so it is at most two times bigger than the real value.
+ */
+public class LatencyHistogram {
+    private static final int BUCKETS_COUNT = Long.SIZE;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS_COUNT);
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Records a duration in nanoseconds.
+     */
+    public void record(long durationNanos) {
+        long micros = TimeUnit.NANOSECONDS.toMicros(Math.max(0, durationNanos));
+        buckets.incrementAndGet(bucketIndex(micros));
+        max.accumulateAndGet(micros, Math::max);
+    }
+
+    /**
+     * Returns recorded durations and starts a new collecting period. Records made concurrently with this call
+     * go either to the returned snapshot or to the next one.
+     */
+    public Snapshot snapshotAndReset() {
+        long[] counts = new long[BUCKETS_COUNT];
+        for (int i = 0; i < BUCKETS_COUNT; i++) {
+            counts[i] = buckets.getAndSet(i, 0);
+        }
+        return new Snapshot(counts, max.getAndSet(0));
+    }
+
+    private static int bucketIndex(long micros) {
+        return micros == 0 ? 0 : Long.SIZE - Long.numberOfLeadingZeros(micros) - 1;
+    }
+
+    public static final class Snapshot {
+        private final long[] counts;
+        private final long count;
+        private final long maxMicros;
+
+        private Snapshot(long[] counts, long maxMicros) {
+            this.counts = counts;
+            long total = 0;
+            for (long entry : counts) {
+                total += entry;
+            }
+            this.count = total;
+            this.maxMicros = maxMicros;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public long getMaxMicros() {
+            return maxMicros;
+        }
+
+        /**
+         * Returns the upper bound of the bucket holding the given percentile (0 < percentile <= 100) in
+         * microseconds or 0 if there are no records.
+         */
+        public long percentileMicros(double percentile) {
+            long rank = (long) Math.ceil(count * percentile / 100);
+            long seen = 0;
+            for (int i = 0; i < counts.length; i++) {
+                seen += counts[i];
+                if (0 < seen && rank <= seen) {
+                    long upperBound = i < Long.SIZE - 2 ? (2L << i) - 1 : Long.MAX_VALUE;
+                    return Math.min(upperBound, maxMicros);
+                }
+            }
+            return 0;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("count=%d p50=%dus p99=%dus max=%dus",
+                    count, percentileMicros(50), percentileMicros(99), maxMicros);
+        }
+    }
+}
@@ -15,6 +15,7 @@
 
 package org.openkilda.floodlight.command.rulemanager;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
@@ -46,6 +47,7 @@ import org.projectfloodlight.openflow.protocol.OFFlowStatsRequest;
 import org.projectfloodlight.openflow.protocol.OFMessage;
 import org.projectfloodlight.openflow.protocol.ver13.OFFactoryVer13;
 import org.projectfloodlight.openflow.types.DatapathId;
+import org.projectfloodlight.openflow.types.U64;
 
 import java.util.Collections;
 import java.util.List;
@@ -81,15 +83,9 @@ public class OfBatchExecutorTest {
     public void shouldSendSuccessResponse() {
         when(switchService.getSwitch(DatapathId.of(SWITCH_ID.toLong()))).thenReturn(sw);
         when(sw.getOFFactory()).thenReturn(new OFFactoryVer13());
-        when(sw.getId()).thenReturn(DatapathId.of(SWITCH_ID.toLong()));
         Session session = mock(Session.class);
         when(sessionService.open(MESSAGE_CONTEXT, sw)).thenReturn(session);
         when(session.write(any(OFMessage.class))).thenReturn(CompletableFuture.completedFuture(Optional.empty()));
-        OFFlowStatsReply reply = mock(OFFlowStatsReply.class);
-        when(reply.getEntries()).thenReturn(Collections.emptyList());
-        SettableFuture<List<OFFlowStatsReply>> future = SettableFuture.create();
-        future.set(Collections.singletonList(reply));
-        when(sw.writeStatsRequest(any(OFFlowStatsRequest.class))).thenReturn(future);
 
         holder.addDeleteFlow(FlowSpeakerData.builder()
                 .switchId(SWITCH_ID)
@@ -108,6 +104,46 @@ public class OfBatchExecutorTest {
         verifyNoMoreInteractions(batchCommandProcessor);
     }
 
+    @Test
+    public void shouldVerifyOnlyInstalledFlows() {
+        when(switchService.getSwitch(DatapathId.of(SWITCH_ID.toLong()))).thenReturn(sw);
+        when(sw.getOFFactory()).thenReturn(new OFFactoryVer13());
+        when(sw.getId()).thenReturn(DatapathId.of(SWITCH_ID.toLong()));
+        Session session = mock(Session.class);
+        when(sessionService.open(MESSAGE_CONTEXT, sw)).thenReturn(session);
+        when(session.write(any(OFMessage.class))).thenReturn(CompletableFuture.completedFuture(Optional.empty()));
+        OFFlowStatsReply reply = mock(OFFlowStatsReply.class);
+        when(reply.getEntries()).thenReturn(Collections.emptyList());
+        SettableFuture<List<OFFlowStatsReply>> future = SettableFuture.create();
+        future.set(Collections.singletonList(reply));
+        ArgumentCaptor<OFFlowStatsRequest> requestCaptor = ArgumentCaptor.forClass(OFFlowStatsRequest.class);
+        when(sw.writeStatsRequest(requestCaptor.capture())).thenReturn(future);
+
+        holder.addInstallFlow(FlowSpeakerData.builder()
+                .switchId(SWITCH_ID)
+                .cookie(new Cookie(1))
+                .priority(2)
+                .table(OfTable.INPUT)
+                .instructions(Instructions.builder().build())
+                .build(), SWITCH_ID);
+        holder.addDeleteFlow(FlowSpeakerData.builder()
+                .switchId(SWITCH_ID)
+                .cookie(new Cookie(2))
+                .priority(2)
+                .table(OfTable.INPUT)
+                .instructions(Instructions.builder().build())
+                .build(), SWITCH_ID);
+
+        executor.executeBatch();
+
+        assertEquals(1, requestCaptor.getAllValues().size());
+        assertEquals(U64.of(1), requestCaptor.getValue().getCookie());
+        assertEquals(U64.NO_MASK, requestCaptor.getValue().getCookieMask());
+        verify(batchCommandProcessor).processResponse(any(SpeakerCommandResponse.class), any(String.class),
+                any(String.class));
+        verifyNoMoreInteractions(batchCommandProcessor);
+    }
+
     @Test
     public void shouldSendFailedResponse() {
         when(switchService.getSwitch(DatapathId.of(SWITCH_ID.toLong()))).thenReturn(sw);
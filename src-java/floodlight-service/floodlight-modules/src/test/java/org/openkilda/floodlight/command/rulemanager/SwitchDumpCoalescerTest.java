@@ -0,0 +1,81 @@
+/* Copyright 2023 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.floodlight.command.rulemanager;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.openkilda.floodlight.command.rulemanager.SwitchDumpCoalescer.DumpKind;
+
+import org.junit.Test;
+import org.projectfloodlight.openflow.types.DatapathId;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+public class SwitchDumpCoalescerTest {
+    private static final DatapathId DPID = DatapathId.of(1);
+
+    private final SwitchDumpCoalescer coalescer = new SwitchDumpCoalescer();
+    private final List<CompletableFuture<String>> requests = new ArrayList<>();
+
+    @Test
+    public void shouldShareNextDumpBetweenWaitingCallers() {
+        CompletableFuture<String> first = coalescer.dump(DPID, DumpKind.GROUPS, this::request);
+        CompletableFuture<String> second = coalescer.dump(DPID, DumpKind.GROUPS, this::request);
+        CompletableFuture<String> third = coalescer.dump(DPID, DumpKind.GROUPS, this::request);
+        assertEquals(1, requests.size());
+
+        requests.get(0).complete("first dump");
+        assertEquals("first dump", first.join());
+        assertFalse(second.isDone());
+        assertEquals(2, requests.size());
+
+        requests.get(1).complete("second dump");
+        assertEquals("second dump", second.join());
+        assertEquals("second dump", third.join());
+        assertEquals(2, requests.size());
+    }
+
+    @Test
+    public void shouldNotShareDumpsOfDifferentKinds() {
+        coalescer.dump(DPID, DumpKind.FLOWS, this::request);
+        coalescer.dump(DPID, DumpKind.METERS, this::request);
+        coalescer.dump(DatapathId.of(2), DumpKind.FLOWS, this::request);
+
+        assertEquals(3, requests.size());
+    }
+
+    @Test
+    public void shouldRequestNewDumpAfterFailure() {
+        CompletableFuture<String> first = coalescer.dump(DPID, DumpKind.FLOWS, this::request);
+        requests.get(0).completeExceptionally(new IllegalStateException("switch is disconnected"));
+        assertTrue(first.isCompletedExceptionally());
+
+        CompletableFuture<String> second = coalescer.dump(DPID, DumpKind.FLOWS, this::request);
+        assertEquals(2, requests.size());
+        requests.get(1).complete("dump");
+        assertEquals("dump", second.join());
+    }
+
+    private CompletableFuture<String> request() {
+        CompletableFuture<String> request = new CompletableFuture<>();
+        requests.add(request);
+        return request;
+    }
+}
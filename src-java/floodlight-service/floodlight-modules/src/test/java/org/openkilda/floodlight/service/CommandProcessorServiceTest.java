@@ -0,0 +1,218 @@
+/* Copyright 2023 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.floodlight.service;
+
+import static org.easymock.EasyMock.expect;
+
+import org.openkilda.floodlight.KildaCore;
+import org.openkilda.floodlight.KildaCoreConfig;
+import org.openkilda.floodlight.command.Command;
+import org.openkilda.floodlight.command.CommandContext;
+import org.openkilda.floodlight.utils.CommandContextFactory;
+
+import net.floodlightcontroller.core.module.FloodlightModuleContext;
+import net.floodlightcontroller.threadpool.IThreadPoolService;
+import org.easymock.EasyMockSupport;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+public class CommandProcessorServiceTest extends EasyMockSupport {
+    private static final long WAIT_SECONDS = 5;
+
+    private final FloodlightModuleContext moduleContext = new FloodlightModuleContext();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+
+    private CommandProcessorService commandProcessor;
+
+    @Before
+    public void setUp() {
+        KildaCoreConfig config = createMock(KildaCoreConfig.class);
+        expect(config.getCommandPersistentWorkersCount()).andStubReturn(1);
+        expect(config.getCommandWorkersLimit()).andStubReturn(1);
+        expect(config.getCommandIdleWorkersKeepAliveSeconds()).andStubReturn(300L);
+        expect(config.getCommandDeferredRequestsLimit()).andStubReturn(1);
+        expect(config.getCommandRejectedRequestsLimit()).andStubReturn(1);
+        expect(config.getCommandStatsReportIntervalSeconds()).andStubReturn(60L);
+
+        KildaCore kildaCore = createMock(KildaCore.class);
+        expect(kildaCore.getConfig()).andStubReturn(config);
+
+        IThreadPoolService threadPool = createMock(IThreadPoolService.class);
+        expect(threadPool.getScheduledExecutor()).andStubReturn(scheduler);
+        moduleContext.addService(IThreadPoolService.class, threadPool);
+
+        replayAll();
+
+        CommandContextFactory commandContextFactory = new CommandContextFactory();
+        commandContextFactory.init(moduleContext);
+        commandProcessor = new CommandProcessorService(kildaCore, commandContextFactory);
+        commandProcessor.setup(moduleContext);
+    }
+
+    @After
+    public void tearDown() {
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    public void successorOfChainedCommandIsProcessed() throws Exception {
+        CountDownLatch successorCalled = new CountDownLatch(1);
+        Command successor = new LatchCommand(makeContext(), successorCalled);
+
+        commandProcessor.process(new ChainCommand(makeContext(), successor));
+
+        Assert.assertTrue(successorCalled.await(WAIT_SECONDS, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void successorOfPendingFutureIsProcessed() throws Exception {
+        CountDownLatch successorCalled = new CountDownLatch(1);
+        CompletableFuture<Command> future = new CompletableFuture<>();
+        commandProcessor.submitPending(new LatchCommand(makeContext(), new CountDownLatch(1)), future);
+
+        future.complete(new LatchCommand(makeContext(), successorCalled));
+
+        Assert.assertTrue(successorCalled.await(WAIT_SECONDS, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void errorOfChainedCommandIsPassedToInitiator() throws Exception {
+        ErrorCommand command = new ErrorCommand(makeContext(), new AssertionError("chained command failure"));
+
+        commandProcessor.process(command);
+
+        Assert.assertTrue(command.error.get(WAIT_SECONDS, TimeUnit.SECONDS) instanceof AssertionError);
+    }
+
+    @Test
+    public void commandIsRejectedWhenRejectedQueueIsFull() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        commandProcessor.process(new BlockingCommand(makeContext(), started, release));
+        Assert.assertTrue(started.await(WAIT_SECONDS, TimeUnit.SECONDS));
+
+        CountDownLatch completed = new CountDownLatch(2);
+        // first one occupies the deferred queue, second one - the rejected queue
+        commandProcessor.process(new LatchCommand(makeContext(), completed));
+        commandProcessor.process(new LatchCommand(makeContext(), completed));
+
+        LatchCommand overflow = new LatchCommand(makeContext(), new CountDownLatch(1));
+        commandProcessor.process(overflow);
+        Assert.assertTrue(
+                overflow.error.get(WAIT_SECONDS, TimeUnit.SECONDS) instanceof RejectedExecutionException);
+
+        release.countDown();
+        Assert.assertTrue(completed.await(WAIT_SECONDS, TimeUnit.SECONDS));
+    }
+
+    private CommandContext makeContext() {
+        return new CommandContext(moduleContext);
+    }
+
+    private static class LatchCommand extends Command {
+        private final CountDownLatch latch;
+        final CompletableFuture<Throwable> error = new CompletableFuture<>();
+
+        LatchCommand(CommandContext context, CountDownLatch latch) {
+            super(context);
+            this.latch = latch;
+        }
+
+        @Override
+        public Command call() {
+            latch.countDown();
+            return null;
+        }
+
+        @Override
+        public Command exceptional(Throwable e) {
+            error.complete(e);
+            return null;
+        }
+    }
+
+    private static class BlockingCommand extends Command {
+        private final CountDownLatch started;
+        private final CountDownLatch release;
+
+        BlockingCommand(CommandContext context, CountDownLatch started, CountDownLatch release) {
+            super(context);
+            this.started = started;
+            this.release = release;
+        }
+
+        @Override
+        public Command call() throws Exception {
+            started.countDown();
+            release.await(WAIT_SECONDS, TimeUnit.SECONDS);
+            return null;
+        }
+    }
+
+    private static class ChainCommand extends Command {
+        private final Command successor;
+
+        ChainCommand(CommandContext context, Command successor) {
+            super(context);
+            this.successor = successor;
+        }
+
+        @Override
+        public Command call() {
+            return successor;
+        }
+
+        @Override
+        public boolean isOneShot() {
+            return false;
+        }
+    }
+
+    private static class ErrorCommand extends Command {
+        private final Error failure;
+        final CompletableFuture<Throwable> error = new CompletableFuture<>();
+
+        ErrorCommand(CommandContext context, Error failure) {
+            super(context);
+            this.failure = failure;
+        }
+
+        @Override
+        public Command call() {
+            throw failure;
+        }
+
+        @Override
+        public Command exceptional(Throwable e) {
+            error.complete(e);
+            return null;
+        }
+
+        @Override
+        public boolean isOneShot() {
+            return false;
+        }
+    }
+}
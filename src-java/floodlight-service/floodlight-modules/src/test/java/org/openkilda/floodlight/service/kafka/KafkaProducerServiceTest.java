@@ -22,6 +22,7 @@ import static org.easymock.EasyMock.replay;
 import static org.easymock.EasyMock.verify;
 
 import org.openkilda.floodlight.service.zookeeper.ZooKeeperService;
+import org.openkilda.messaging.WireFormatSelector;
 import org.openkilda.messaging.info.InfoMessage;
 import org.openkilda.messaging.info.event.PortChangeType;
 import org.openkilda.messaging.info.event.PortInfoData;
@@ -55,7 +56,7 @@ public class KafkaProducerServiceTest extends EasyMockSupport {
     private KafkaProducerService subject;
 
     @SuppressWarnings("unchecked")
-    private Producer<String, String> kafkaProducer = (Producer<String, String>) strictMock(Producer.class);
+    private Producer<String, byte[]> kafkaProducer = (Producer<String, byte[]>) strictMock(Producer.class);
 
     @Before
     public void setUp() {
@@ -65,6 +66,7 @@ public class KafkaProducerServiceTest extends EasyMockSupport {
 
         KafkaUtilityService kafkaUtility = createMock(KafkaUtilityService.class);
         expect(kafkaUtility.makeProducer()).andReturn(kafkaProducer);
+        expect(kafkaUtility.makeWireFormatSelector()).andReturn(new WireFormatSelector(null));
         moduleContext.addService(KafkaUtilityService.class, kafkaUtility);
         moduleContext.addService(ZooKeeperService.class, createMock(ZooKeeperService.class));
 
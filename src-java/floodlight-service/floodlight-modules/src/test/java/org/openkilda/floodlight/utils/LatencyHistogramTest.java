@@ -0,0 +1,53 @@
+/* Copyright 2023 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.floodlight.utils;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+public class LatencyHistogramTest {
+    @Test
+    public void percentilesAreUpperBoundsOfBuckets() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 0; i < 98; i++) {
+            histogram.record(TimeUnit.MICROSECONDS.toNanos(10));
+        }
+        histogram.record(TimeUnit.MICROSECONDS.toNanos(1000));
+        histogram.record(TimeUnit.MICROSECONDS.toNanos(1500));
+
+        LatencyHistogram.Snapshot snapshot = histogram.snapshotAndReset();
+        assertEquals(100, snapshot.getCount());
+        assertEquals(15, snapshot.percentileMicros(50));
+        assertEquals(1023, snapshot.percentileMicros(99));
+        assertEquals(1500, snapshot.percentileMicros(100));
+        assertEquals(1500, snapshot.getMaxMicros());
+    }
+
+    @Test
+    public void snapshotResetsHistogram() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(TimeUnit.MILLISECONDS.toNanos(5));
+        histogram.snapshotAndReset();
+
+        LatencyHistogram.Snapshot snapshot = histogram.snapshotAndReset();
+        assertEquals(0, snapshot.getCount());
+        assertEquals(0, snapshot.getMaxMicros());
+        assertEquals(0, snapshot.percentileMicros(99));
+    }
+}
@@ -0,0 +1,113 @@
+/* Copyright 2023 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.wfm.topology.floodlightrouter.kafka;
+
+import org.openkilda.floodlight.api.request.rulemanager.InstallSpeakerCommandsRequest;
+import org.openkilda.floodlight.api.routing.RoutingKey;
+import org.openkilda.messaging.MessageContext;
+import org.openkilda.messaging.WireFormat;
+import org.openkilda.messaging.info.InfoMessage;
+import org.openkilda.messaging.info.event.IslOneWayLatency;
+import org.openkilda.model.SwitchId;
+
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Collections;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the router's per-message cost of legacy records, which are decoded and encoded again, with records
+ * forwarded by their routing headers. Run with {@code ./gradlew :floodlightrouter-storm-topology:jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RawRecordRoutingBenchmark {
+    private static final String SPEAKER_TOPIC = "kilda.speaker.flowhs";
+    private static final String CONTROLLER_TOPIC = "kilda.topo.isl.latency";
+
+    private final RawRecordDeserializer messageDeserializer = new RawMessageDeserializer();
+    private final RawRecordDeserializer abstractMessageDeserializer = new RawAbstractMessageDeserializer();
+    private final RawRecordSerializer serializer = new RawRecordSerializer();
+
+    private final Headers legacyHeaders = new RecordHeaders();
+    private byte[] speakerEvent;
+    private Headers speakerEventHeaders;
+    private byte[] speakerRequest;
+    private Headers speakerRequestHeaders;
+
+    /**
+     * Encodes an ISL latency event produced by speaker and a speaker request produced by flow H&S.
+     */
+    @Setup
+    public void setUp() throws Exception {
+        serializer.configure(Collections.emptyMap(), false);
+
+        InfoMessage event = new InfoMessage(
+                new IslOneWayLatency(new SwitchId(1), 1, new SwitchId(2), 2, 1000L, 1L),
+                System.currentTimeMillis(), "benchmark-event", "region-1");
+        speakerEvent = WireFormat.JSON.getMapper().writeValueAsBytes(event);
+        speakerEventHeaders = new RecordHeaders();
+        RoutingKey.forSpeakerEvent(event).writeTo(speakerEventHeaders);
+
+        InstallSpeakerCommandsRequest request = new InstallSpeakerCommandsRequest(
+                new MessageContext("benchmark-request"), new SwitchId(1), UUID.randomUUID(),
+                Collections.emptyList(), true);
+        speakerRequest = WireFormat.JSON.getMapper().writeValueAsBytes(request);
+        speakerRequestHeaders = new RecordHeaders();
+        RoutingKey.forSpeakerRequest(request).writeTo(speakerRequestHeaders);
+    }
+
+    @Benchmark
+    public byte[] speakerEventLegacy() {
+        return forward(messageDeserializer, CONTROLLER_TOPIC, legacyHeaders, speakerEvent);
+    }
+
+    @Benchmark
+    public byte[] speakerEventRouted() {
+        return forward(messageDeserializer, CONTROLLER_TOPIC, speakerEventHeaders, speakerEvent);
+    }
+
+    @Benchmark
+    public byte[] speakerRequestLegacy() {
+        return forward(abstractMessageDeserializer, SPEAKER_TOPIC, legacyHeaders, speakerRequest);
+    }
+
+    @Benchmark
+    public byte[] speakerRequestRouted() {
+        return forward(abstractMessageDeserializer, SPEAKER_TOPIC, speakerRequestHeaders, speakerRequest);
+    }
+
+    private byte[] forward(RawRecordDeserializer deserializer, String topic, Headers headers, byte[] payload) {
+        Object decoded = deserializer.deserialize(topic, headers, payload);
+        return serializer.serialize(topic, new RecordHeaders(), decoded);
+    }
+}
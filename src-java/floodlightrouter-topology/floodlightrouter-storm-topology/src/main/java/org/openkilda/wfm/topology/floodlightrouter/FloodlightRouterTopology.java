@@ -19,8 +19,6 @@ import org.openkilda.config.KafkaTopicsConfig;
 import org.openkilda.persistence.PersistenceManager;
 import org.openkilda.wfm.LaunchEnvironment;
 import org.openkilda.wfm.error.ConfigurationException;
-import org.openkilda.wfm.kafka.AbstractMessageSerializer;
-import org.openkilda.wfm.kafka.MessageSerializer;
 import org.openkilda.wfm.share.bolt.MonotonicClock;
 import org.openkilda.wfm.share.zk.ZkStreams;
 import org.openkilda.wfm.share.zk.ZooKeeperBolt;
@@ -33,17 +31,24 @@ import org.openkilda.wfm.topology.floodlightrouter.bolts.RegionTrackerBolt;
 import org.openkilda.wfm.topology.floodlightrouter.bolts.SpeakerToControllerProxyBolt;
 import org.openkilda.wfm.topology.floodlightrouter.bolts.SpeakerToNetworkProxyBolt;
 import org.openkilda.wfm.topology.floodlightrouter.bolts.SwitchMonitorBolt;
+import org.openkilda.wfm.topology.floodlightrouter.kafka.RawAbstractMessageDeserializer;
+import org.openkilda.wfm.topology.floodlightrouter.kafka.RawMessageDeserializer;
+import org.openkilda.wfm.topology.floodlightrouter.kafka.RawRecordDeserializer;
+import org.openkilda.wfm.topology.floodlightrouter.kafka.RawRecordSerializer;
+import org.openkilda.wfm.topology.floodlightrouter.kafka.RawRecordTranslator;
 
 import joptsimple.internal.Strings;
 import lombok.Value;
 import org.apache.storm.generated.StormTopology;
 import org.apache.storm.kafka.bolt.mapper.FieldNameBasedTupleToKafkaMapper;
+import org.apache.storm.kafka.spout.KafkaSpoutConfig;
 import org.apache.storm.topology.BoltDeclarer;
 import org.apache.storm.topology.TopologyBuilder;
 import org.apache.storm.tuple.Fields;
 
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -155,16 +160,18 @@ public class FloodlightRouterTopology extends AbstractTopology<FloodlightRouterT
     }
 
     private void networkToSpeaker(TopologyBuilder topology, TopologyOutput output) {
-        declareKafkaSpoutForAbstractMessage(topology,
-                kafkaTopics.getNetworkControlTopic(), ComponentType.SPEAKER_NETWORK_KAFKA_SPOUT);
+        declareProxyKafkaSpout(topology,
+                kafkaTopics.getNetworkControlTopic(), ComponentType.SPEAKER_NETWORK_KAFKA_SPOUT,
+                RawAbstractMessageDeserializer.class);
         declareControllerToSpeakerProxy(
                 topology, kafkaTopics.getNetworkControlRegionTopic(),
                 ComponentType.SPEAKER_NETWORK_KAFKA_SPOUT, ComponentType.SPEAKER_NETWORK_REQUEST_BOLT,
                 output.getKafkaHsOutput());
 
-        declareKafkaSpoutForAbstractMessage(topology,
+        declareProxyKafkaSpout(topology,
                 makeRegionTopics(kafkaTopics.getNetworkControlResponseRegionTopic()),
-                ComponentType.KILDA_NETWORK_REQUEST_KAFKA_SPOUT);
+                ComponentType.KILDA_NETWORK_REQUEST_KAFKA_SPOUT,
+                RawAbstractMessageDeserializer.class);
         declareSpeakerToControllerProxy(
                 topology, kafkaTopics.getNetworkControlResponseTopic(),
                 ComponentType.KILDA_NETWORK_REQUEST_KAFKA_SPOUT,
@@ -178,8 +185,9 @@ public class FloodlightRouterTopology extends AbstractTopology<FloodlightRouterT
     }
 
     private void speakerToFlowHs(TopologyBuilder topology, TopologyOutput output) {
-        declareKafkaSpoutForAbstractMessage(topology,
-                makeRegionTopics(kafkaTopics.getFlowHsSpeakerRegionTopic()), ComponentType.KILDA_FLOW_HS_KAFKA_SPOUT);
+        declareProxyKafkaSpout(topology,
+                makeRegionTopics(kafkaTopics.getFlowHsSpeakerRegionTopic()), ComponentType.KILDA_FLOW_HS_KAFKA_SPOUT,
+                RawAbstractMessageDeserializer.class);
         declareSpeakerToControllerProxy(
                 topology, kafkaTopics.getFlowHsSpeakerTopic(),
                 ComponentType.KILDA_FLOW_HS_KAFKA_SPOUT, ComponentType.KILDA_FLOW_HS_REPLY_BOLT,
@@ -187,8 +195,9 @@ public class FloodlightRouterTopology extends AbstractTopology<FloodlightRouterT
     }
 
     private void flowHsToSpeaker(TopologyBuilder topology, TopologyOutput output) {
-        declareKafkaSpoutForAbstractMessage(topology,
-                kafkaTopics.getSpeakerFlowHsTopic(), ComponentType.SPEAKER_FLOW_HS_KAFKA_SPOUT);
+        declareProxyKafkaSpout(topology,
+                kafkaTopics.getSpeakerFlowHsTopic(), ComponentType.SPEAKER_FLOW_HS_KAFKA_SPOUT,
+                RawAbstractMessageDeserializer.class);
 
         declareControllerToSpeakerProxy(
                 topology, kafkaTopics.getSpeakerFlowRegionTopic(),
@@ -232,16 +241,18 @@ public class FloodlightRouterTopology extends AbstractTopology<FloodlightRouterT
     }
 
     private void speakerToSwitchManager(TopologyBuilder topology, TopologyOutput output) {
-        declareKafkaSpoutForAbstractMessage(topology,
-                kafkaTopics.getSpeakerSwitchManagerTopic(), ComponentType.SPEAKER_SWITCH_MANAGER_KAFKA_SPOUT);
+        declareProxyKafkaSpout(topology,
+                kafkaTopics.getSpeakerSwitchManagerTopic(), ComponentType.SPEAKER_SWITCH_MANAGER_KAFKA_SPOUT,
+                RawAbstractMessageDeserializer.class);
         declareControllerToSpeakerProxy(
                 topology, kafkaTopics.getSpeakerSwitchManagerRegionTopic(),
                 ComponentType.SPEAKER_SWITCH_MANAGER_KAFKA_SPOUT, ComponentType.SPEAKER_SWITCH_MANAGER_REQUEST_BOLT,
                 output.getKafkaHsOutput());
 
-        declareKafkaSpoutForAbstractMessage(topology,
+        declareProxyKafkaSpout(topology,
                 makeRegionTopics(kafkaTopics.getSwitchManagerSpeakerRegionTopic()),
-                ComponentType.KILDA_SWITCH_MANAGER_REQUEST_KAFKA_SPOUT);
+                ComponentType.KILDA_SWITCH_MANAGER_REQUEST_KAFKA_SPOUT,
+                RawAbstractMessageDeserializer.class);
         declareSpeakerToControllerProxy(
                 topology, kafkaTopics.getSwitchManagerSpeakerTopic(),
                 ComponentType.KILDA_SWITCH_MANAGER_REQUEST_KAFKA_SPOUT,
@@ -272,7 +283,9 @@ public class FloodlightRouterTopology extends AbstractTopology<FloodlightRouterT
             TopologyBuilder topology, TopologyOutput output) {
         BoltDeclarer kafkaProducer = output.getKafkaGenericOutput();
 
-        declareKafkaSpout(topology, kafkaTopics.getSpeakerTopic(), ComponentType.SPEAKER_KAFKA_SPOUT);
+        declareProxyKafkaSpout(
+                topology, kafkaTopics.getSpeakerTopic(), ComponentType.SPEAKER_KAFKA_SPOUT,
+                RawMessageDeserializer.class);
 
         ControllerToSpeakerProxyBolt proxy = new ControllerToSpeakerSharedProxyBolt(
                 kafkaTopics.getSpeakerRegionTopic(), regions, kafkaTopics,
@@ -328,21 +341,40 @@ public class FloodlightRouterTopology extends AbstractTopology<FloodlightRouterT
     private TopologyOutput kafkaOutput(TopologyBuilder topology) {
         RegionAwareKafkaTopicSelector topicSelector = new RegionAwareKafkaTopicSelector();
         BoltDeclarer generic = declareBolt(topology,
-                makeKafkaBolt(MessageSerializer.class)
+                makeKafkaBolt(RawRecordSerializer.class)
                         .withTopicSelector(topicSelector),
                 ComponentType.KAFKA_GENERIC_OUTPUT);
         BoltDeclarer hs = declareBolt(topology,
-                makeKafkaBolt(AbstractMessageSerializer.class)
+                makeKafkaBolt(RawRecordSerializer.class)
                         .withTopicSelector(topicSelector),
                 ComponentType.KAFKA_HS_OUTPUT);
 
         return new TopologyOutput(generic, hs);
     }
 
+    private void declareProxyKafkaSpout(
+            TopologyBuilder topology, String topic, String spoutId,
+            Class<? extends RawRecordDeserializer> deserializer) {
+        declareProxyKafkaSpout(topology, Collections.singletonList(topic), spoutId, deserializer);
+    }
+
+    /**
+     * Declares a spout of proxy bolts. Records with routing headers are passed to the proxy without deserialization,
+     * legacy records are decoded by the deserializer.
+     */
+    private void declareProxyKafkaSpout(
+            TopologyBuilder topology, List<String> topics, String spoutId,
+            Class<? extends RawRecordDeserializer> deserializer) {
+        KafkaSpoutConfig<String, Object> config = makeKafkaSpoutConfig(topics, spoutId, deserializer)
+                .setRecordTranslator(new RawRecordTranslator())
+                .build();
+        declareKafkaSpout(topology, config, spoutId);
+    }
+
     private void declareSpeakerToControllerProxy(
             TopologyBuilder topology, String speakerTopicsSeed, String controllerTopic, String spoutId,
             String proxyBoltId, BoltDeclarer output) {
-        declareKafkaSpout(topology, makeRegionTopics(speakerTopicsSeed), spoutId);
+        declareProxyKafkaSpout(topology, makeRegionTopics(speakerTopicsSeed), spoutId, RawMessageDeserializer.class);
 
         declareSpeakerToControllerProxy(topology, controllerTopic, spoutId, proxyBoltId, output);
     }
@@ -362,7 +394,7 @@ public class FloodlightRouterTopology extends AbstractTopology<FloodlightRouterT
     private void declareControllerToSpeakerProxy(
             TopologyBuilder topology, String speakerTopicsSeed, String controllerTopic, String spoutId,
             String proxyBoltId, BoltDeclarer output) {
-        declareKafkaSpout(topology, controllerTopic, spoutId);
+        declareProxyKafkaSpout(topology, controllerTopic, spoutId, RawMessageDeserializer.class);
 
         declareControllerToSpeakerProxy(
                 topology, speakerTopicsSeed, spoutId, proxyBoltId, output);
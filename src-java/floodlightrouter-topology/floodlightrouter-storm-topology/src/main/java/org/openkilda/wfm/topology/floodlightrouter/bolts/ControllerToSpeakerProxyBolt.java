@@ -28,6 +28,7 @@ import org.openkilda.wfm.share.zk.ZkStreams;
 import org.openkilda.wfm.share.zk.ZooKeeperBolt;
 import org.openkilda.wfm.share.zk.ZooKeeperSpout;
 import org.openkilda.wfm.topology.floodlightrouter.RegionAwareKafkaTopicSelector;
+import org.openkilda.wfm.topology.floodlightrouter.model.RawRecord;
 import org.openkilda.wfm.topology.floodlightrouter.model.RegionMapping;
 import org.openkilda.wfm.topology.floodlightrouter.model.RegionMappingUpdate;
 import org.openkilda.wfm.topology.floodlightrouter.service.ControllerToSpeakerProxyCarrier;
@@ -82,6 +83,8 @@ public class ControllerToSpeakerProxyBolt extends AbstractBolt implements Contro
             handleControllerRequest((Message) raw);
         } else if (raw instanceof AbstractMessage) {
             handleControllerRequest((AbstractMessage) raw);
+        } else if (raw instanceof RawRecord && ((RawRecord) raw).getRoutingKey().getSwitchId() != null) {
+            service.unicastRequest((RawRecord) raw);
         } else {
             unhandledInput(input);
         }
@@ -128,6 +131,11 @@ public class ControllerToSpeakerProxyBolt extends AbstractBolt implements Contro
         getOutput().emit(getCurrentTuple(), makeDefaultTuple(message, pullKafkaKey(), region));
     }
 
+    @Override
+    public void sendToSpeaker(RawRecord record, String region) {
+        getOutput().emit(getCurrentTuple(), makeDefaultTuple(record, pullKafkaKey(), region));
+    }
+
     @Override
     public void regionNotFoundError(Message message, SwitchId switchId) {
         handleRegionNotFoundError(message, switchId);
@@ -138,6 +146,11 @@ public class ControllerToSpeakerProxyBolt extends AbstractBolt implements Contro
         handleRegionNotFoundError(message, switchId);
     }
 
+    @Override
+    public void regionNotFoundError(RawRecord record, SwitchId switchId) {
+        handleRegionNotFoundError(record, switchId);
+    }
+
     // stream management
 
     @Override
@@ -16,6 +16,7 @@
 package org.openkilda.wfm.topology.floodlightrouter.bolts;
 
 import org.openkilda.bluegreen.LifecycleEvent;
+import org.openkilda.floodlight.api.routing.RoutingKey;
 import org.openkilda.messaging.info.InfoData;
 import org.openkilda.messaging.info.InfoMessage;
 import org.openkilda.messaging.info.event.ConnectedDevicePacketBase;
@@ -30,6 +31,7 @@ import org.openkilda.wfm.share.zk.ZkStreams;
 import org.openkilda.wfm.share.zk.ZooKeeperBolt;
 import org.openkilda.wfm.share.zk.ZooKeeperSpout;
 import org.openkilda.wfm.topology.floodlightrouter.RegionAwareKafkaTopicSelector;
+import org.openkilda.wfm.topology.floodlightrouter.model.RawRecord;
 import org.openkilda.wfm.topology.floodlightrouter.model.RegionMapping;
 import org.openkilda.wfm.topology.floodlightrouter.model.RegionMappingUpdate;
 import org.openkilda.wfm.topology.utils.MessageKafkaTranslator;
@@ -84,7 +86,9 @@ public class SpeakerToControllerProxyBolt extends AbstractBolt {
     }
 
     private void proxy(String key, Object value) {
-        if (value instanceof InfoMessage) {
+        if (value instanceof RawRecord) {
+            proxyRawRecord(key, (RawRecord) value);
+        } else if (value instanceof InfoMessage) {
             proxyInfoMessage(key, (InfoMessage) value);
         } else {
             proxyOther(key, value);
@@ -110,6 +114,19 @@ public class SpeakerToControllerProxyBolt extends AbstractBolt {
         }
     }
 
+    private void proxyRawRecord(String key, RawRecord record) {
+        RoutingKey routingKey = record.getRoutingKey();
+        if (routingKey.getSwitchId() != null) {
+            proxyOnlyIfActiveRegion(key, record, routingKey.getSwitchId(), routingKey.getRegion());
+        } else if (PortInfoData.class.getName().equals(routingKey.getMessageType())) {
+            log.error(
+                    "Drop Port status update event {}, it must not be handled by generic proxy, it must be handled "
+                            + "by network specific handler", record);
+        } else {
+            proxyOther(key, record);
+        }
+    }
+
     protected void proxyOther(String key, Object value) {
         getOutput().emit(getCurrentTuple(), makeDefaultTuple(key, value));
     }
@@ -132,14 +149,17 @@ public class SpeakerToControllerProxyBolt extends AbstractBolt {
     }
 
     private void proxyOnlyIfActiveRegion(String key, InfoMessage envelope, SwitchId switchId) {
+        proxyOnlyIfActiveRegion(key, envelope, switchId, envelope.getRegion());
+    }
+
+    private void proxyOnlyIfActiveRegion(String key, Object payload, SwitchId switchId, String region) {
         switchMapping.lookupReadWriteRegion(switchId).ifPresent(activeRegion -> {
-            String region = envelope.getRegion();
             if (Objects.equals(activeRegion, region)) {
-                proxyOther(key, envelope);
+                proxyOther(key, payload);
             } else {
                 log.debug(
                         "Suppress speaker event {} (received via region \"{}\" while active region is \"{}\")",
-                        envelope, region, activeRegion);
+                        payload, region, activeRegion);
             }
         });
     }
@@ -0,0 +1,60 @@
+/* Copyright 2023 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.wfm.topology.floodlightrouter.kafka;
+
+import org.openkilda.floodlight.api.routing.RoutingKey;
+import org.openkilda.wfm.topology.floodlightrouter.model.RawRecord;
+
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Deserializer;
+
+import java.util.Map;
+
+/**
+ * Returns {@link RawRecord} for records with routing headers (see {@link RoutingKey}), so they are routed and
+ * forwarded without payload deserialization. Legacy records without routing headers are decoded by the delegate.
+ */
+public abstract class RawRecordDeserializer implements Deserializer<Object> {
+    private final Deserializer<?> legacyDeserializer;
+
+    protected RawRecordDeserializer(Deserializer<?> legacyDeserializer) {
+        this.legacyDeserializer = legacyDeserializer;
+    }
+
+    @Override
+    public void configure(Map<String, ?> configs, boolean isKey) {
+        legacyDeserializer.configure(configs, isKey);
+    }
+
+    @Override
+    public Object deserialize(String topic, byte[] data) {
+        return legacyDeserializer.deserialize(topic, data);
+    }
+
+    @Override
+    public Object deserialize(String topic, Headers headers, byte[] data) {
+        RoutingKey routingKey = RoutingKey.readFrom(headers);
+        if (routingKey == null) {
+            return legacyDeserializer.deserialize(topic, data);
+        }
+        return new RawRecord(data, routingKey);
+    }
+
+    @Override
+    public void close() {
+        legacyDeserializer.close();
+    }
+}
@@ -0,0 +1,100 @@
+/* Copyright 2023 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.wfm.topology.floodlightrouter.kafka;
+
+import org.openkilda.messaging.AbstractMessage;
+import org.openkilda.messaging.Message;
+import org.openkilda.messaging.WireFormat;
+import org.openkilda.messaging.WireFormatSelector;
+import org.openkilda.wfm.kafka.AbstractMessageSerializer;
+import org.openkilda.wfm.kafka.MessageSerializer;
+import org.openkilda.wfm.topology.floodlightrouter.model.RawRecord;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Serializer;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Writes {@link RawRecord} payload as is together with its routing headers, {@link Message} and
+ * {@link AbstractMessage} are encoded by their own serializers.
+ */
+@Slf4j
+public class RawRecordSerializer implements Serializer<Object> {
+    private final MessageSerializer messageSerializer = new MessageSerializer();
+    private final AbstractMessageSerializer abstractMessageSerializer = new AbstractMessageSerializer();
+    private WireFormatSelector wireFormatSelector = new WireFormatSelector(null);
+
+    @Override
+    public void configure(Map<String, ?> configs, boolean isKey) {
+        messageSerializer.configure(configs, isKey);
+        abstractMessageSerializer.configure(configs, isKey);
+        wireFormatSelector = WireFormatSelector.fromConfigs(configs);
+    }
+
+    @Override
+    public byte[] serialize(String topic, Object data) {
+        return serialize(topic, null, data);
+    }
+
+    @Override
+    public byte[] serialize(String topic, Headers headers, Object data) {
+        if (data == null) {
+            return null;
+        } else if (data instanceof RawRecord) {
+            return serialize(topic, headers, (RawRecord) data);
+        } else if (data instanceof Message) {
+            return messageSerializer.serialize(topic, (Message) data);
+        } else if (data instanceof AbstractMessage) {
+            return abstractMessageSerializer.serialize(topic, headers, (AbstractMessage) data);
+        }
+        throw new SerializationException(String.format(
+                "Unsupported payload %s for topic %s", data.getClass().getName(), topic));
+    }
+
+    private byte[] serialize(String topic, Headers headers, RawRecord record) {
+        if (headers != null) {
+            record.getRoutingKey().writeTo(headers);
+        }
+
+        byte[] payload = record.getPayload();
+        if (payload == null) {
+            return null;
+        }
+        WireFormat source = WireFormat.detect(payload);
+        WireFormat target = wireFormatSelector.select(topic);
+        if (source == target) {
+            return payload;
+        }
+
+        // Wire formats of source and target topics can differ, the payload is transcoded without typed parsing.
+        try {
+            return target.getMapper().writeValueAsBytes(source.getMapper().readTree(payload));
+        } catch (IOException e) {
+            log.error(String.format("Failed to transcode record %s, for topic: %s", record, topic), e);
+            throw new SerializationException(e.getMessage());
+        }
+    }
+
+    @Override
+    public void close() {
+        messageSerializer.close();
+        abstractMessageSerializer.close();
+    }
+}
@@ -0,0 +1,69 @@
+/* Copyright 2023 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.wfm.topology.floodlightrouter.kafka;
+
+import static org.openkilda.wfm.AbstractBolt.FIELD_ID_CONTEXT;
+
+import org.openkilda.messaging.AbstractMessage;
+import org.openkilda.messaging.Message;
+import org.openkilda.wfm.CommandContext;
+import org.openkilda.wfm.topology.floodlightrouter.model.RawRecord;
+import org.openkilda.wfm.topology.utils.KafkaRecordTranslator;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.storm.tuple.Fields;
+import org.apache.storm.tuple.Values;
+
+/**
+ * Translates records decoded by {@link RawRecordDeserializer}, the payload is either {@link RawRecord} or
+ * a legacy decoded message.
+ */
+public class RawRecordTranslator extends KafkaRecordTranslator<String, Object, Object> {
+    public static final Fields STREAM_FIELDS = new Fields(FIELD_ID_KEY, FIELD_ID_PAYLOAD, FIELD_ID_CONTEXT);
+
+    @Override
+    public Fields getFieldsFor(String stream) {
+        return STREAM_FIELDS;
+    }
+
+    @Override
+    protected Object decodePayload(Object payload) {
+        return payload;
+    }
+
+    @Override
+    protected CommandContext makeContext(ConsumerRecord<?, ?> record, Object payload) {
+        if (payload instanceof Message) {
+            return new CommandContext((Message) payload, record);
+        }
+
+        String correlationId = null;
+        if (payload instanceof RawRecord) {
+            correlationId = ((RawRecord) payload).getRoutingKey().getCorrelationId();
+        } else if (payload instanceof AbstractMessage) {
+            correlationId = ((AbstractMessage) payload).getMessageContext().getCorrelationId();
+        }
+        if (correlationId == null) {
+            return new CommandContext(record);
+        }
+        return new CommandContext(correlationId, record);
+    }
+
+    @Override
+    protected Values makeTuple(ConsumerRecord<String, Object> record, Object payload, CommandContext context) {
+        return new Values(record.key(), payload, context);
+    }
+}
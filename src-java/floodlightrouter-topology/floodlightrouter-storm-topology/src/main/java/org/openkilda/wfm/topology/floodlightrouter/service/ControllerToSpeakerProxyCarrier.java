@@ -18,13 +18,18 @@ package org.openkilda.wfm.topology.floodlightrouter.service;
 import org.openkilda.messaging.AbstractMessage;
 import org.openkilda.messaging.Message;
 import org.openkilda.model.SwitchId;
+import org.openkilda.wfm.topology.floodlightrouter.model.RawRecord;
 
 public interface ControllerToSpeakerProxyCarrier {
     void sendToSpeaker(Message message, String region);
 
     void sendToSpeaker(AbstractMessage message, String region);
 
+    void sendToSpeaker(RawRecord record, String region);
+
     void regionNotFoundError(Message message, SwitchId switchId);
 
     void regionNotFoundError(AbstractMessage message, SwitchId switchId);
+
+    void regionNotFoundError(RawRecord record, SwitchId switchId);
 }
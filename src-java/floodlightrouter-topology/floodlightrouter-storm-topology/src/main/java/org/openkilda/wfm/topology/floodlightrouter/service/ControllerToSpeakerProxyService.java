@@ -22,6 +22,7 @@ import org.openkilda.messaging.command.CommandData;
 import org.openkilda.messaging.command.CommandMessage;
 import org.openkilda.messaging.command.stats.StatsRequest;
 import org.openkilda.model.SwitchId;
+import org.openkilda.wfm.topology.floodlightrouter.model.RawRecord;
 import org.openkilda.wfm.topology.floodlightrouter.model.RegionMapping;
 import org.openkilda.wfm.topology.floodlightrouter.model.RegionMappingUpdate;
 
@@ -70,6 +71,14 @@ public class ControllerToSpeakerProxyService {
         proxyUnicastRequest(new ProxyHsMessageWrapper(message), switchId);
     }
 
+    /**
+     * Route the record by the switch id of its routing key, the payload is not decoded.
+     */
+    public void unicastRequest(RawRecord record) {
+        SwitchId switchId = record.getRoutingKey().getSwitchId();
+        proxyUnicastRequest(new ProxyRawRecordWrapper(record), switchId);
+    }
+
     /**
      * Route request into all known regions.
      */
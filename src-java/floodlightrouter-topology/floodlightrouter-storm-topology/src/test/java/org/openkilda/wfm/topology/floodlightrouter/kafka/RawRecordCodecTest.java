@@ -0,0 +1,103 @@
+/* Copyright 2023 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.wfm.topology.floodlightrouter.kafka;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.openkilda.floodlight.api.routing.RoutingKey;
+import org.openkilda.messaging.Message;
+import org.openkilda.messaging.WireFormat;
+import org.openkilda.messaging.WireFormatSelector;
+import org.openkilda.messaging.info.InfoMessage;
+import org.openkilda.messaging.info.event.IslChangeType;
+import org.openkilda.messaging.info.event.IslInfoData;
+import org.openkilda.messaging.info.event.PathNode;
+import org.openkilda.model.SwitchId;
+import org.openkilda.wfm.topology.floodlightrouter.model.RawRecord;
+
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.junit.Test;
+
+import java.util.Collections;
+
+public class RawRecordCodecTest {
+    private static final String TOPIC = "kilda.topo.disco";
+    private static final String REGION = "region-1";
+    private static final SwitchId SWITCH_ALPHA = new SwitchId(1);
+    private static final SwitchId SWITCH_BETA = new SwitchId(2);
+
+    @Test
+    public void shouldKeepRecordWithRoutingHeadersRaw() throws Exception {
+        InfoMessage origin = makeMessage();
+        byte[] encoded = WireFormat.JSON.getMapper().writeValueAsBytes(origin);
+        Headers headers = new RecordHeaders();
+        RoutingKey.forSpeakerEvent(origin).writeTo(headers);
+
+        Object decoded = new RawMessageDeserializer().deserialize(TOPIC, headers, encoded);
+
+        assertTrue(decoded instanceof RawRecord);
+        assertArrayEquals(encoded, ((RawRecord) decoded).getPayload());
+        RoutingKey routingKey = ((RawRecord) decoded).getRoutingKey();
+        assertEquals(IslInfoData.class.getName(), routingKey.getMessageType());
+        assertEquals(SWITCH_BETA, routingKey.getSwitchId());
+        assertEquals(REGION, routingKey.getRegion());
+        assertEquals(origin.getCorrelationId(), routingKey.getCorrelationId());
+    }
+
+    @Test
+    public void shouldDecodeLegacyRecord() throws Exception {
+        InfoMessage origin = makeMessage();
+        byte[] encoded = WireFormat.JSON.getMapper().writeValueAsBytes(origin);
+
+        assertEquals(origin, new RawMessageDeserializer().deserialize(TOPIC, new RecordHeaders(), encoded));
+    }
+
+    @Test
+    public void shouldForwardRawPayloadWithRoutingHeaders() throws Exception {
+        InfoMessage origin = makeMessage();
+        RawRecord record = new RawRecord(
+                WireFormat.JSON.getMapper().writeValueAsBytes(origin), RoutingKey.forSpeakerEvent(origin));
+        RawRecordSerializer serializer = new RawRecordSerializer();
+        serializer.configure(Collections.emptyMap(), false);
+
+        Headers headers = new RecordHeaders();
+        assertSame(record.getPayload(), serializer.serialize(TOPIC, headers, record));
+        assertEquals(record.getRoutingKey(), RoutingKey.readFrom(headers));
+    }
+
+    @Test
+    public void shouldTranscodeRawPayloadForBinaryTopic() throws Exception {
+        InfoMessage origin = makeMessage();
+        RawRecord record = new RawRecord(
+                WireFormat.JSON.getMapper().writeValueAsBytes(origin), RoutingKey.forSpeakerEvent(origin));
+        RawRecordSerializer serializer = new RawRecordSerializer();
+        serializer.configure(Collections.singletonMap(WireFormatSelector.BINARY_TOPICS_PROPERTY, TOPIC), false);
+
+        byte[] encoded = serializer.serialize(TOPIC, new RecordHeaders(), record);
+        assertEquals(WireFormat.SMILE, WireFormat.detect(encoded));
+        assertEquals(origin, WireFormat.SMILE.getMapper().readValue(encoded, Message.class));
+    }
+
+    private InfoMessage makeMessage() {
+        IslInfoData isl = new IslInfoData(
+                new PathNode(SWITCH_ALPHA, 1, 0), new PathNode(SWITCH_BETA, 2, 1), IslChangeType.DISCOVERED, false);
+        return new InfoMessage(isl, 1000L, "raw-record-test", REGION);
+    }
+}
@@ -18,11 +18,13 @@ package org.openkilda.wfm.topology.floodlightrouter.service;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 
+import org.openkilda.floodlight.api.routing.RoutingKey;
 import org.openkilda.messaging.command.BroadcastWrapper;
 import org.openkilda.messaging.command.CommandMessage;
 import org.openkilda.messaging.command.stats.StatsRequest;
 import org.openkilda.model.SwitchId;
 import org.openkilda.stubs.ManualClock;
+import org.openkilda.wfm.topology.floodlightrouter.model.RawRecord;
 import org.openkilda.wfm.topology.floodlightrouter.model.RegionMappingAdd;
 
 import com.google.common.collect.ImmutableSet;
@@ -77,6 +79,21 @@ public class ControllerToSpeakerProxyServiceTest {
         verifyNoMoreInteractions(carrier);
     }
 
+    @Test
+    public void verifyRawRecordRoutedByRoutingKey() {
+        ControllerToSpeakerProxyService subject = makeSubject();
+        subject.switchMappingUpdate(new RegionMappingAdd(SWITCH_ALPHA, REGION_MANAGEMENT, true));
+
+        RawRecord known = makeRawRecord(SWITCH_ALPHA);
+        subject.unicastRequest(known);
+        verify(carrier).sendToSpeaker(known, REGION_MANAGEMENT);
+
+        RawRecord unknown = makeRawRecord(SWITCH_GAMMA);
+        subject.unicastRequest(unknown);
+        verify(carrier).regionNotFoundError(unknown, SWITCH_GAMMA);
+        verifyNoMoreInteractions(carrier);
+    }
+
     private ControllerToSpeakerProxyService makeSubject() {
         Set<String> allRegions = ImmutableSet.of(REGION_STATS, REGION_MANAGEMENT);
         return new ControllerToSpeakerProxyService(clock, carrier, allRegions, switchMappingRemoveDelay);
@@ -86,4 +103,9 @@ public class ControllerToSpeakerProxyServiceTest {
         BroadcastWrapper wrapper = new BroadcastWrapper(scope, seed);
         return new CommandMessage(wrapper, clock.instant().toEpochMilli(), correlationId);
     }
+
+    private RawRecord makeRawRecord(SwitchId switchId) {
+        RoutingKey routingKey = new RoutingKey("dummy-type", switchId, null, "dummy-request");
+        return new RawRecord(new byte[]{'{', '}'}, routingKey);
+    }
 }
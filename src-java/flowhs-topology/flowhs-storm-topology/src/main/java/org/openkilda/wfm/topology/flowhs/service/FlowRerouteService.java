@@ -40,6 +40,7 @@ import lombok.extern.slf4j.Slf4j;
 public class FlowRerouteService extends FlowProcessingService<FlowRerouteFsm, Event, FlowRerouteContext,
         FlowRerouteHubCarrier, FlowProcessingFsmRegister<FlowRerouteFsm>, FlowRerouteEventListener> {
     private final FlowRerouteFsm.Factory fsmFactory;
+    private final PathComputer pathComputer;
 
     public FlowRerouteService(@NonNull FlowRerouteHubCarrier carrier, @NonNull PersistenceManager persistenceManager,
                               @NonNull PathComputer pathComputer, @NonNull FlowResourcesManager flowResourcesManager,
@@ -55,6 +56,7 @@ public class FlowRerouteService extends FlowProcessingService<FlowRerouteFsm, Ev
                 .build();
         fsmFactory = new FlowRerouteFsm.Factory(carrier, fsmConfig, persistenceManager, pathComputer,
                 flowResourcesManager);
+        this.pathComputer = pathComputer;
     }
 
     /**
@@ -87,6 +89,10 @@ public class FlowRerouteService extends FlowProcessingService<FlowRerouteFsm, Ev
         String flowId = reroute.getFlowId();
         log.debug("Handling flow reroute request with key {} and flow ID: {}", key, flowId);
 
+        if (reroute.getAffectedIsls() != null) {
+            pathComputer.handleIslFailure(reroute.getAffectedIsls());
+        }
+
         try {
             checkRequestsCollision(key, flowId);
         } catch (Exception e) {
@@ -40,6 +40,7 @@ import lombok.extern.slf4j.Slf4j;
 public class HaFlowRerouteService extends FlowProcessingService<HaFlowRerouteFsm, Event, HaFlowRerouteContext,
         FlowRerouteHubCarrier, FlowProcessingFsmRegister<HaFlowRerouteFsm>, FlowRerouteEventListener> {
     private final HaFlowRerouteFsm.Factory fsmFactory;
+    private final PathComputer pathComputer;
 
     public HaFlowRerouteService(
             @NonNull FlowRerouteHubCarrier carrier, @NonNull PersistenceManager persistenceManager,
@@ -56,6 +57,7 @@ public class HaFlowRerouteService extends FlowProcessingService<HaFlowRerouteFsm
                 .build();
         fsmFactory = new HaFlowRerouteFsm.Factory(carrier, fsmConfig, persistenceManager, ruleManager, pathComputer,
                 flowResourcesManager);
+        this.pathComputer = pathComputer;
     }
 
     /**
@@ -67,6 +69,10 @@ public class HaFlowRerouteService extends FlowProcessingService<HaFlowRerouteFsm
         String haFlowId = request.getHaFlowId();
         log.debug("Handling ha-flow reroute request with key {} and flow ID: {}", key, haFlowId);
 
+        if (request.getAffectedIsls() != null) {
+            pathComputer.handleIslFailure(request.getAffectedIsls());
+        }
+
         if (fsmRegister.hasRegisteredFsmWithKey(key)) {
             log.error("Attempt to create a FSM with key {}, while there's another active FSM with the same key. "
                     + "HA-flow id: '{}'", key, haFlowId);
@@ -21,6 +21,7 @@ import static org.openkilda.wfm.topology.flowmonitoring.FlowMonitoringTopology.S
 import static org.openkilda.wfm.topology.flowmonitoring.FlowMonitoringTopology.Stream.FLOW_STATS_STREAM_ID;
 import static org.openkilda.wfm.topology.flowmonitoring.FlowMonitoringTopology.Stream.FLOW_UPDATE_STREAM_ID;
 import static org.openkilda.wfm.topology.flowmonitoring.FlowMonitoringTopology.Stream.HA_SUB_FLOW_UPDATE_STREAM_ID;
+import static org.openkilda.wfm.topology.flowmonitoring.FlowMonitoringTopology.Stream.ISL_LATENCY_TABLE_STREAM_ID;
 import static org.openkilda.wfm.topology.flowmonitoring.FlowMonitoringTopology.Stream.ISL_UPDATE_STREAM_ID;
 import static org.openkilda.wfm.topology.flowmonitoring.FlowMonitoringTopology.Stream.STATS_STREAM_ID;
 import static org.openkilda.wfm.topology.flowmonitoring.bolt.FlowCacheBolt.FLOW_ID_FIELD;
@@ -46,6 +47,7 @@ import org.openkilda.wfm.topology.flowmonitoring.bolt.TickBolt;
 
 import org.apache.storm.generated.StormTopology;
 import org.apache.storm.kafka.bolt.KafkaBolt;
+import org.apache.storm.topology.BoltDeclarer;
 import org.apache.storm.topology.TopologyBuilder;
 import org.apache.storm.tuple.Fields;
 
@@ -143,8 +145,10 @@ public class FlowMonitoringTopology extends AbstractTopology<FlowMonitoringTopol
     private void flowCacheBolt(TopologyBuilder topologyBuilder, PersistenceManager persistenceManager) {
         FlowCacheBolt flowCacheBolt = new FlowCacheBolt(
                 persistenceManager, ZooKeeperSpout.SPOUT_ID,
-                Duration.ofSeconds(getConfig().getFlowRttStatsExpirationSeconds()), getConfig().getMetricPrefix());
-        declareBolt(topologyBuilder, flowCacheBolt, ComponentId.FLOW_CACHE_BOLT.name())
+                Duration.ofSeconds(getConfig().getFlowRttStatsExpirationSeconds()), getConfig().getMetricPrefix(),
+                getConfig().isFlowLatencyLocalIslTable(),
+                Duration.ofSeconds(getConfig().getIslRttLatencyExpirationSeconds()));
+        BoltDeclarer declarer = declareBolt(topologyBuilder, flowCacheBolt, ComponentId.FLOW_CACHE_BOLT.name())
                 .fieldsGrouping(ComponentId.FLOW_STATE_CACHE_BOLT.name(), FLOW_UPDATE_STREAM_ID.name(), FLOW_ID_FIELDS)
                 .fieldsGrouping(ComponentId.FLOW_STATE_CACHE_BOLT.name(), FLOW_REMOVE_STREAM_ID.name(), FLOW_ID_FIELDS)
                 .fieldsGrouping(ComponentId.FLOW_STATE_CACHE_BOLT.name(), HA_SUB_FLOW_UPDATE_STREAM_ID.name(),
@@ -153,11 +157,15 @@ public class FlowMonitoringTopology extends AbstractTopology<FlowMonitoringTopol
                 .fieldsGrouping(ComponentId.FLOW_SPLITTER_BOLT.name(), FLOW_ID_FIELDS)
                 .fieldsGrouping(ComponentId.ISL_CACHE_BOLT.name(), FLOW_ID_FIELDS)
                 .allGrouping(ZooKeeperSpout.SPOUT_ID);
+        if (getConfig().isFlowLatencyLocalIslTable()) {
+            declarer.allGrouping(ComponentId.ISL_CACHE_BOLT.name(), ISL_LATENCY_TABLE_STREAM_ID.name());
+        }
     }
 
     private void islCacheBolt(TopologyBuilder topologyBuilder, PersistenceManager persistenceManager) {
         IslCacheBolt islCacheBolt = new IslCacheBolt(persistenceManager,
-                Duration.ofSeconds(getConfig().getIslRttLatencyExpirationSeconds()), ZooKeeperSpout.SPOUT_ID);
+                Duration.ofSeconds(getConfig().getIslRttLatencyExpirationSeconds()), ZooKeeperSpout.SPOUT_ID,
+                getConfig().isFlowLatencyLocalIslTable());
         declareBolt(topologyBuilder, islCacheBolt, ComponentId.ISL_CACHE_BOLT.name())
                 .fieldsGrouping(ComponentId.ISL_SPLITTER_BOLT.name(), ISL_KEY_FIELDS)
                 .fieldsGrouping(ComponentId.ISL_SPLITTER_BOLT.name(), ISL_UPDATE_STREAM_ID.name(), ISL_KEY_FIELDS)
@@ -278,6 +286,7 @@ public class FlowMonitoringTopology extends AbstractTopology<FlowMonitoringTopol
         FLOW_UPDATE_STREAM_ID,
         FLOW_REMOVE_STREAM_ID,
         ISL_UPDATE_STREAM_ID,
+        ISL_LATENCY_TABLE_STREAM_ID,
         FLOW_HS_STREAM_ID,
         HA_SUB_FLOW_UPDATE_STREAM_ID
     }
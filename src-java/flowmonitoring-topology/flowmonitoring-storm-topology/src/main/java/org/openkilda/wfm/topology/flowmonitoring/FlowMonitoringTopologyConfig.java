@@ -71,6 +71,14 @@ public interface FlowMonitoringTopologyConfig extends AbstractTopologyConfig {
     @Default("10")
     int getIslRttLatencyExpirationSeconds();
 
+    /*
+     * When enabled flow cache bolts keep a replica of ISL latencies and compute flow path latency locally, instead of
+     * requesting latency of each flow path link from the ISL cache bolt.
+     */
+    @Key("flow.latency.local.isl.table")
+    @Default("false")
+    boolean isFlowLatencyLocalIslTable();
+
     @Key("opentsdb.metric.prefix")
     @Default("kilda.")
     String getMetricPrefix();
@@ -19,6 +19,7 @@ import static org.openkilda.wfm.topology.flowmonitoring.FlowMonitoringTopology.S
 import static org.openkilda.wfm.topology.flowmonitoring.FlowMonitoringTopology.Stream.FLOW_REMOVE_STREAM_ID;
 import static org.openkilda.wfm.topology.flowmonitoring.FlowMonitoringTopology.Stream.FLOW_UPDATE_STREAM_ID;
 import static org.openkilda.wfm.topology.flowmonitoring.FlowMonitoringTopology.Stream.HA_SUB_FLOW_UPDATE_STREAM_ID;
+import static org.openkilda.wfm.topology.flowmonitoring.FlowMonitoringTopology.Stream.ISL_LATENCY_TABLE_STREAM_ID;
 import static org.openkilda.wfm.topology.flowmonitoring.FlowMonitoringTopology.Stream.STATS_STREAM_ID;
 import static org.openkilda.wfm.topology.flowmonitoring.bolt.FlowSplitterBolt.COMMAND_DATA_FIELD;
 import static org.openkilda.wfm.topology.flowmonitoring.bolt.FlowSplitterBolt.INFO_DATA_FIELD;
@@ -31,6 +32,7 @@ import org.openkilda.messaging.info.Datapoint;
 import org.openkilda.messaging.info.flow.UpdateFlowCommand;
 import org.openkilda.messaging.info.haflow.UpdateHaSubFlowCommand;
 import org.openkilda.messaging.info.stats.FlowRttStatsData;
+import org.openkilda.messaging.info.stats.FlowRttStatsRollupData;
 import org.openkilda.persistence.PersistenceManager;
 import org.openkilda.persistence.context.PersistenceContextRequired;
 import org.openkilda.server42.messaging.FlowDirection;
@@ -42,9 +44,11 @@ import org.openkilda.wfm.share.zk.ZkStreams;
 import org.openkilda.wfm.share.zk.ZooKeeperBolt;
 import org.openkilda.wfm.topology.flowmonitoring.FlowMonitoringTopology.ComponentId;
 import org.openkilda.wfm.topology.flowmonitoring.model.Link;
+import org.openkilda.wfm.topology.flowmonitoring.model.LinkState;
 import org.openkilda.wfm.topology.flowmonitoring.service.CalculateFlowLatencyService;
 import org.openkilda.wfm.topology.flowmonitoring.service.FlowCacheBoltCarrier;
 import org.openkilda.wfm.topology.flowmonitoring.service.FlowCacheService;
+import org.openkilda.wfm.topology.flowmonitoring.service.IslLatencyTable;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.google.common.collect.ImmutableMap;
@@ -67,32 +71,45 @@ public class FlowCacheBolt extends AbstractBolt implements FlowCacheBoltCarrier
     public static final String REQUEST_ID_FIELD = "request-id";
     public static final String LINK_FIELD = "link";
     public static final String LATENCY_FIELD = "latency";
+    public static final String LINK_STATE_FIELD = "link-state";
 
     private final Duration flowRttStatsExpirationTime;
     private final MetricFormatter metricFormatter;
+    private final boolean localIslLatencyTable;
+    private final Duration islRttLatencyExpiration;
 
     private transient FlowCacheService flowCacheService;
     private transient CalculateFlowLatencyService calculateFlowLatencyService;
+    private transient IslLatencyTable islLatencyTable;
 
     public FlowCacheBolt(
             PersistenceManager persistenceManager, String lifeCycleEventSourceComponent,
-            Duration flowRttStatsExpirationTime, String flowStatsPrefix) {
+            Duration flowRttStatsExpirationTime, String flowStatsPrefix, boolean localIslLatencyTable,
+            Duration islRttLatencyExpiration) {
         super(persistenceManager, lifeCycleEventSourceComponent);
         this.flowRttStatsExpirationTime = flowRttStatsExpirationTime;
         this.metricFormatter = new MetricFormatter(flowStatsPrefix);
+        this.localIslLatencyTable = localIslLatencyTable;
+        this.islRttLatencyExpiration = islRttLatencyExpiration;
     }
 
     @PersistenceContextRequired(requiresNew = true)
     protected void init() {
         flowCacheService = new FlowCacheService(persistenceManager, Clock.systemUTC(),
                 flowRttStatsExpirationTime, this);
-        calculateFlowLatencyService = new CalculateFlowLatencyService(this);
+        if (localIslLatencyTable) {
+            islLatencyTable = new IslLatencyTable(persistenceManager, Clock.systemUTC(), islRttLatencyExpiration);
+        }
+        calculateFlowLatencyService = new CalculateFlowLatencyService(this, islLatencyTable);
     }
 
     @Override
     protected boolean activateAndConfirm() {
         try {
             flowCacheService.activate();
+            if (islLatencyTable != null) {
+                islLatencyTable.activate();
+            }
         } catch (Exception e) {
             log.error(String.format("Error on flow cache initialization: %s", e.getMessage()), e);
             return false;
@@ -126,6 +143,12 @@ public class FlowCacheBolt extends AbstractBolt implements FlowCacheBoltCarrier
                 return;
             }
 
+            if (ComponentId.ISL_CACHE_BOLT.name().equals(input.getSourceComponent())
+                    && ISL_LATENCY_TABLE_STREAM_ID.name().equals(input.getSourceStreamId())) {
+                handleIslLatencyTableUpdate(input);
+                return;
+            }
+
             if (ComponentId.ISL_CACHE_BOLT.name().equals(input.getSourceComponent())) {
                 String requestId = pullValue(input, REQUEST_ID_FIELD, String.class);
                 Link link = pullValue(input, LINK_FIELD, Link.class);
@@ -134,14 +157,37 @@ public class FlowCacheBolt extends AbstractBolt implements FlowCacheBoltCarrier
                 return;
             }
 
-            FlowRttStatsData flowRttStatsData = pullValue(input, INFO_DATA_FIELD, FlowRttStatsData.class);
-            flowCacheService.processFlowRttStatsData(flowRttStatsData);
+            Object flowRttData = pullValue(input, INFO_DATA_FIELD, Object.class);
+            if (flowRttData instanceof FlowRttStatsData) {
+                flowCacheService.processFlowRttStatsData((FlowRttStatsData) flowRttData);
+            } else if (flowRttData instanceof FlowRttStatsRollupData) {
+                flowCacheService.processFlowRttStatsRollupData((FlowRttStatsRollupData) flowRttData);
+            } else {
+                unhandledInput(input);
+            }
+        }
+    }
+
+    private void handleIslLatencyTableUpdate(Tuple input) throws PipelineException {
+        if (islLatencyTable == null) {
+            unhandledInput(input);
+            return;
+        }
+        Link link = pullValue(input, LINK_FIELD, Link.class);
+        LinkState linkState = (LinkState) input.getValueByField(LINK_STATE_FIELD);
+        if (linkState == null) {
+            islLatencyTable.handleLinkRemoved(link);
+        } else {
+            islLatencyTable.handleLinkStateUpdate(link, linkState);
         }
     }
 
     @Override
     protected boolean deactivate(LifecycleEvent event) {
         flowCacheService.deactivate();
+        if (islLatencyTable != null) {
+            islLatencyTable.deactivate();
+        }
         return true;
     }
 
@@ -29,7 +29,9 @@ import org.openkilda.messaging.info.InfoMessage;
 import org.openkilda.messaging.info.flow.RemoveFlowCommand;
 import org.openkilda.messaging.info.flow.UpdateFlowCommand;
 import org.openkilda.messaging.info.haflow.UpdateHaSubFlowCommand;
+import org.openkilda.messaging.info.stats.FlowRttStatsBatchData;
 import org.openkilda.messaging.info.stats.FlowRttStatsData;
+import org.openkilda.messaging.info.stats.FlowRttStatsRollupData;
 import org.openkilda.wfm.AbstractBolt;
 import org.openkilda.wfm.error.PipelineException;
 
@@ -49,8 +51,9 @@ public class FlowSplitterBolt extends AbstractBolt {
         if (message instanceof InfoMessage) {
             InfoData infoData = ((InfoMessage) message).getData();
             if (infoData instanceof FlowRttStatsData) {
-                FlowRttStatsData flowRttStatsData = (FlowRttStatsData) infoData;
-                emit(input, new Values(flowRttStatsData.getFlowId(), flowRttStatsData, getCommandContext()));
+                emitFlowRttStats(input, (FlowRttStatsData) infoData);
+            } else if (infoData instanceof FlowRttStatsBatchData) {
+                emitFlowRttStatsBatch(input, (FlowRttStatsBatchData) infoData);
             } else {
                 unhandledInput(input);
             }
@@ -79,6 +82,24 @@ public class FlowSplitterBolt extends AbstractBolt {
         }
     }
 
+    private void emitFlowRttStatsBatch(Tuple input, FlowRttStatsBatchData batch) {
+        // A batch covers a range of flow ids, each entry is routed to the flow cache bolt which owns its flow.
+        if (batch.getStats() != null) {
+            for (FlowRttStatsData stats : batch.getStats()) {
+                emitFlowRttStats(input, stats);
+            }
+        }
+        if (batch.getRollups() != null) {
+            for (FlowRttStatsRollupData rollup : batch.getRollups()) {
+                emit(input, new Values(rollup.getFlowId(), rollup, getCommandContext()));
+            }
+        }
+    }
+
+    private void emitFlowRttStats(Tuple input, FlowRttStatsData stats) {
+        emit(input, new Values(stats.getFlowId(), stats, getCommandContext()));
+    }
+
     @Override
     public void declareOutputFields(OutputFieldsDeclarer declarer) {
         declarer.declare(new Fields(FLOW_ID_FIELD, INFO_DATA_FIELD, FIELD_ID_CONTEXT));
@@ -15,10 +15,12 @@
 
 package org.openkilda.wfm.topology.flowmonitoring.bolt;
 
+import static org.openkilda.wfm.topology.flowmonitoring.FlowMonitoringTopology.Stream.ISL_LATENCY_TABLE_STREAM_ID;
 import static org.openkilda.wfm.topology.flowmonitoring.FlowMonitoringTopology.Stream.ISL_UPDATE_STREAM_ID;
 import static org.openkilda.wfm.topology.flowmonitoring.bolt.FlowCacheBolt.FLOW_ID_FIELD;
 import static org.openkilda.wfm.topology.flowmonitoring.bolt.FlowCacheBolt.LATENCY_FIELD;
 import static org.openkilda.wfm.topology.flowmonitoring.bolt.FlowCacheBolt.LINK_FIELD;
+import static org.openkilda.wfm.topology.flowmonitoring.bolt.FlowCacheBolt.LINK_STATE_FIELD;
 import static org.openkilda.wfm.topology.flowmonitoring.bolt.FlowCacheBolt.REQUEST_ID_FIELD;
 import static org.openkilda.wfm.topology.flowmonitoring.bolt.IslDataSplitterBolt.INFO_DATA_FIELD;
 
@@ -35,7 +37,9 @@ import org.openkilda.wfm.share.zk.ZkStreams;
 import org.openkilda.wfm.share.zk.ZooKeeperBolt;
 import org.openkilda.wfm.topology.flowmonitoring.FlowMonitoringTopology.ComponentId;
 import org.openkilda.wfm.topology.flowmonitoring.model.Link;
+import org.openkilda.wfm.topology.flowmonitoring.model.LinkState;
 import org.openkilda.wfm.topology.flowmonitoring.service.IslCacheService;
+import org.openkilda.wfm.topology.flowmonitoring.service.IslLatencyTableCarrier;
 
 import org.apache.storm.topology.OutputFieldsDeclarer;
 import org.apache.storm.tuple.Fields;
@@ -45,15 +49,17 @@ import org.apache.storm.tuple.Values;
 import java.time.Clock;
 import java.time.Duration;
 
-public class IslCacheBolt extends AbstractBolt {
+public class IslCacheBolt extends AbstractBolt implements IslLatencyTableCarrier {
     private Duration islRttLatencyExpiration;
+    private final boolean replicateLatencyTable;
 
     private transient IslCacheService islCacheService;
 
     public IslCacheBolt(PersistenceManager persistenceManager, Duration islRttLatencyExpiration,
-                        String lifeCycleEventSourceComponent) {
+                        String lifeCycleEventSourceComponent, boolean replicateLatencyTable) {
         super(persistenceManager, lifeCycleEventSourceComponent);
         this.islRttLatencyExpiration = islRttLatencyExpiration;
+        this.replicateLatencyTable = replicateLatencyTable;
     }
 
     protected void init() {
@@ -113,15 +119,28 @@ public class IslCacheBolt extends AbstractBolt {
         return true;
     }
 
+    @Override
+    public void emitLinkStateUpdate(Link link, LinkState linkState) {
+        emit(ISL_LATENCY_TABLE_STREAM_ID.name(), getCurrentTuple(), new Values(link, linkState, getCommandContext()));
+    }
+
+    @Override
+    public void emitLinkRemoved(Link link) {
+        emit(ISL_LATENCY_TABLE_STREAM_ID.name(), getCurrentTuple(), new Values(link, null, getCommandContext()));
+    }
+
     @Override
     public void declareOutputFields(OutputFieldsDeclarer declarer) {
         declarer.declare(new Fields(REQUEST_ID_FIELD, FLOW_ID_FIELD, LINK_FIELD, LATENCY_FIELD, FIELD_ID_CONTEXT));
+        declarer.declareStream(ISL_LATENCY_TABLE_STREAM_ID.name(),
+                new Fields(LINK_FIELD, LINK_STATE_FIELD, FIELD_ID_CONTEXT));
         declarer.declareStream(ZkStreams.ZK.toString(), new Fields(ZooKeeperBolt.FIELD_ID_STATE,
                 ZooKeeperBolt.FIELD_ID_CONTEXT));
     }
 
     @PersistenceContextRequired(requiresNew = true)
     private IslCacheService newIslCacheService() {
-        return new IslCacheService(persistenceManager, Clock.systemUTC(), islRttLatencyExpiration);
+        return new IslCacheService(persistenceManager, Clock.systemUTC(), islRttLatencyExpiration,
+                replicateLatencyTable ? this : null);
     }
 }
@@ -17,6 +17,7 @@ package org.openkilda.wfm.topology.flowmonitoring.mapper;
 
 import org.openkilda.messaging.info.flow.UpdateFlowCommand;
 import org.openkilda.messaging.info.stats.FlowRttStatsData;
+import org.openkilda.messaging.info.stats.FlowRttStatsRollupData;
 import org.openkilda.messaging.payload.flow.PathNodePayload;
 import org.openkilda.model.Flow;
 import org.openkilda.model.PathSegment;
@@ -30,6 +31,8 @@ import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.factory.Mappers;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -90,4 +93,14 @@ public abstract class FlowMapper {
         latency.setLatency(TimestampHelper.noviflowTimestampsToDuration(data.getT0(), data.getT1()));
         return latency;
     }
+
+    /**
+     * Convert {@link FlowRttStatsRollupData} to {@link FlowPathLatency}, the average RTT of the rollup is used.
+     */
+    public FlowPathLatency toFlowPathLatency(@NonNull FlowRttStatsRollupData data) {
+        FlowPathLatency latency = new FlowPathLatency();
+        latency.setTimestamp(Instant.ofEpochMilli(data.getTimestamp()));
+        latency.setLatency(Duration.ofNanos(data.getAvg()));
+        return latency;
+    }
 }
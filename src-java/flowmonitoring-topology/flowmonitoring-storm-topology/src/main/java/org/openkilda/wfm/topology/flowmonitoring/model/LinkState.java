@@ -45,6 +45,13 @@ public class LinkState {
         return rttLatency;
     }
 
+    /**
+     * Get a detached copy of the link state, it is safe to pass it to another bolt.
+     */
+    public LinkState copy() {
+        return new LinkState(rttLatency.toNanos(), rttTimestamp, oneWayLatency.toNanos());
+    }
+
     public void setRttLatency(long rttLatency) {
         this.rttLatency = Duration.ofNanos(rttLatency);
     }
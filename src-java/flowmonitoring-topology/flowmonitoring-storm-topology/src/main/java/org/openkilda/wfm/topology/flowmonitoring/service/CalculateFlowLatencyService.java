@@ -19,6 +19,7 @@ import org.openkilda.server42.messaging.FlowDirection;
 import org.openkilda.wfm.topology.flowmonitoring.model.FlowLatencyRequest;
 import org.openkilda.wfm.topology.flowmonitoring.model.Link;
 
+import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
 
 import java.time.Duration;
@@ -31,10 +32,21 @@ import java.util.UUID;
 public class CalculateFlowLatencyService {
 
     private final Map<String, FlowLatencyRequest> requests = new HashMap<>();
+    private final Map<FlowDirectionKey, String> requestIdByFlowDirection = new HashMap<>();
     private final FlowCacheBoltCarrier carrier;
+    private final IslLatencyTable islLatencyTable;
 
     public CalculateFlowLatencyService(FlowCacheBoltCarrier carrier) {
+        this(carrier, null);
+    }
+
+    /**
+     * Create the service. If {@code islLatencyTable} is not null, flow latency is computed locally from the table
+     * instead of requesting latency of each link of the flow path.
+     */
+    public CalculateFlowLatencyService(FlowCacheBoltCarrier carrier, IslLatencyTable islLatencyTable) {
         this.carrier = carrier;
+        this.islLatencyTable = islLatencyTable;
     }
 
     /**
@@ -42,16 +54,23 @@ public class CalculateFlowLatencyService {
      */
     public void handleCalculateFlowLatencyRequest(String flowId, FlowDirection direction, List<Link> flowPath,
                                                   String haFlowId) {
-        requests.values().stream()
-                .filter(request -> request.getFlowId().equals(flowId) && request.getDirection() == direction)
-                .findAny()
-                .ifPresent(flowLatencyRequest -> {
-                    FlowLatencyRequest remove = requests.remove(flowLatencyRequest.getRequestId());
-                    log.warn("Removing previous calculate flow latency request for {} {} for requestId {}",
-                            flowId, direction, remove.getRequestId());
-                });
+        if (islLatencyTable != null) {
+            Duration result = islLatencyTable.getPathLatency(flowPath);
+            carrier.emitCheckFlowLatencyRequest(flowId, direction, result);
+            carrier.emitLatencyStats(flowId, direction, result, haFlowId);
+            return;
+        }
+
+        FlowDirectionKey key = new FlowDirectionKey(flowId, direction);
+        String previousRequestId = requestIdByFlowDirection.get(key);
+        if (previousRequestId != null) {
+            requests.remove(previousRequestId);
+            log.warn("Removing previous calculate flow latency request for {} {} for requestId {}",
+                    flowId, direction, previousRequestId);
+        }
 
         String requestId = UUID.randomUUID().toString();
+        requestIdByFlowDirection.put(key, requestId);
         requests.put(requestId, FlowLatencyRequest.builder()
                 .requestId(requestId)
                 .flowId(flowId)
@@ -83,6 +102,13 @@ public class CalculateFlowLatencyService {
             carrier.emitCheckFlowLatencyRequest(flowId, direction, result);
             carrier.emitLatencyStats(flowId, direction, result, flowLatencyRequest.getHaFlowId());
             requests.remove(requestId);
+            requestIdByFlowDirection.remove(new FlowDirectionKey(flowId, direction));
         }
     }
+
+    @Value
+    private static class FlowDirectionKey {
+        String flowId;
+        FlowDirection direction;
+    }
 }
@@ -21,6 +21,7 @@ import static org.openkilda.server42.messaging.FlowDirection.FORWARD;
 import org.openkilda.messaging.info.flow.UpdateFlowCommand;
 import org.openkilda.messaging.info.haflow.UpdateHaSubFlowCommand;
 import org.openkilda.messaging.info.stats.FlowRttStatsData;
+import org.openkilda.messaging.info.stats.FlowRttStatsRollupData;
 import org.openkilda.model.Flow;
 import org.openkilda.model.HaFlow;
 import org.openkilda.model.HaSubFlow;
@@ -95,6 +96,22 @@ public class FlowCacheService {
         }
     }
 
+    /**
+     * Update flow RTT latency with the average of a server42 rollup.
+     */
+    public void processFlowRttStatsRollupData(FlowRttStatsRollupData rollupData) {
+        FlowState flowState = flowStates.get(rollupData.getFlowId());
+        if (flowState == null) {
+            log.warn("Skipping flow RTT rollup for an unknown flow '{}'.", rollupData.getFlowId());
+            return;
+        }
+        if (FORWARD.name().toLowerCase().equals(rollupData.getDirection())) {
+            flowState.setForwardPathLatency(FlowMapper.INSTANCE.toFlowPathLatency(rollupData));
+        } else {
+            flowState.setReversePathLatency(FlowMapper.INSTANCE.toFlowPathLatency(rollupData));
+        }
+    }
+
     /**
      * Update flow info.
      */
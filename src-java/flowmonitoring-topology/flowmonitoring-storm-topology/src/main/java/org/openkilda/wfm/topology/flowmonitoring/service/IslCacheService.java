@@ -44,8 +44,19 @@ public class IslCacheService {
     private Map<Link, LinkState> linkStates;
     private boolean active;
     private final IslRepository islRepository;
+    private final IslLatencyTableCarrier latencyTableCarrier;
 
     public IslCacheService(PersistenceManager persistenceManager, Clock clock, Duration islRttLatencyExpiration) {
+        this(persistenceManager, clock, islRttLatencyExpiration, null);
+    }
+
+    /**
+     * Create the service. Each link state change is sent to {@code latencyTableCarrier} (if it is not null) to keep
+     * {@link IslLatencyTable} replicas up to date.
+     */
+    public IslCacheService(PersistenceManager persistenceManager, Clock clock, Duration islRttLatencyExpiration,
+                           IslLatencyTableCarrier latencyTableCarrier) {
+        this.latencyTableCarrier = latencyTableCarrier;
         this.clock = clock;
         this.islRttLatencyExpiration = islRttLatencyExpiration;
         active = false;
@@ -92,12 +103,14 @@ public class IslCacheService {
                 .build();
         LinkState linkState = linkStates.get(link);
         if (linkState == null) {
-            linkStates.put(link, LinkState.builder()
+            linkState = LinkState.builder()
                     .oneWayLatency(data.getLatency())
-                    .build());
+                    .build();
+            linkStates.put(link, linkState);
         } else {
             linkState.setOneWayLatency(data.getLatency());
         }
+        notifyLinkStateUpdate(link, linkState);
     }
 
     /**
@@ -111,14 +124,16 @@ public class IslCacheService {
         links.forEach(link -> {
             LinkState linkState = linkStates.get(link);
             if (linkState == null) {
-                linkStates.put(link, LinkState.builder()
+                linkState = LinkState.builder()
                         .rttLatency(data.getLatency())
                         .rttTimestamp(instant)
-                        .build());
+                        .build();
+                linkStates.put(link, linkState);
             } else {
                 linkState.setRttLatency(data.getLatency());
                 linkState.setRttTimestamp(instant);
             }
+            notifyLinkStateUpdate(link, linkState);
         });
     }
 
@@ -144,13 +159,15 @@ public class IslCacheService {
         cleanUpLinkStatesByEndpoint(data.getSource().getDatapath(), data.getSource().getPortNumber());
         if (!data.isRemoved()) {
             // Handle moved or added ISL
-            linkStates.put(Link.builder()
-                            .srcSwitchId(data.getSource().getDatapath())
-                            .srcPort(data.getSource().getPortNumber())
-                            .destSwitchId(data.getDestination().getDatapath())
-                            .destPort(data.getDestination().getPortNumber())
-                            .build(),
-                    LinkState.builder().build());
+            Link link = Link.builder()
+                    .srcSwitchId(data.getSource().getDatapath())
+                    .srcPort(data.getSource().getPortNumber())
+                    .destSwitchId(data.getDestination().getDatapath())
+                    .destPort(data.getDestination().getPortNumber())
+                    .build();
+            LinkState linkState = LinkState.builder().build();
+            linkStates.put(link, linkState);
+            notifyLinkStateUpdate(link, linkState);
         }
     }
 
@@ -158,7 +175,18 @@ public class IslCacheService {
         linkStates.keySet().stream()
                 .filter(link -> link.srcEquals(switchId, port))
                 .collect(Collectors.toList())
-                .forEach(link -> linkStates.remove(link));
+                .forEach(link -> {
+                    linkStates.remove(link);
+                    if (latencyTableCarrier != null) {
+                        latencyTableCarrier.emitLinkRemoved(link);
+                    }
+                });
+    }
+
+    private void notifyLinkStateUpdate(Link link, LinkState linkState) {
+        if (latencyTableCarrier != null) {
+            latencyTableCarrier.emitLinkStateUpdate(link, linkState.copy());
+        }
     }
 
     /**
@@ -0,0 +1,94 @@
+/* Copyright 2023 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.wfm.topology.flowmonitoring.service;
+
+import org.openkilda.persistence.PersistenceManager;
+import org.openkilda.persistence.repositories.IslRepository;
+import org.openkilda.wfm.topology.flowmonitoring.mapper.LinkMapper;
+import org.openkilda.wfm.topology.flowmonitoring.model.Link;
+import org.openkilda.wfm.topology.flowmonitoring.model.LinkState;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Read-only replica of the {@link IslCacheService} link states. It is filled from the database on activation and
+ * kept up to date by link state deltas sent by {@link IslLatencyTableCarrier}, so flow path latency can be computed
+ * locally without a request per link.
+ */
+@Slf4j
+public class IslLatencyTable {
+
+    private final Clock clock;
+    private final Duration islRttLatencyExpiration;
+    private final IslRepository islRepository;
+    private final Map<Link, LinkState> linkStates = new HashMap<>();
+
+    public IslLatencyTable(PersistenceManager persistenceManager, Clock clock, Duration islRttLatencyExpiration) {
+        this.clock = clock;
+        this.islRttLatencyExpiration = islRttLatencyExpiration;
+        this.islRepository = persistenceManager.getRepositoryFactory().createIslRepository();
+    }
+
+    /**
+     * Load known ISLs without latency, latencies are received with the following updates.
+     */
+    public void activate() {
+        linkStates.clear();
+        islRepository.findAll().forEach(
+                isl -> linkStates.put(LinkMapper.INSTANCE.toLink(isl), LinkState.builder().build()));
+        log.info("Isl latency table initialized with {} links.", linkStates.size());
+    }
+
+    /**
+     * Clear the table.
+     */
+    public void deactivate() {
+        linkStates.clear();
+        log.info("Isl latency table cleared.");
+    }
+
+    public void handleLinkStateUpdate(Link link, LinkState linkState) {
+        linkStates.put(link, linkState);
+    }
+
+    public void handleLinkRemoved(Link link) {
+        linkStates.remove(link);
+    }
+
+    /**
+     * Get sum of latencies of the path links. Unknown links have zero latency like in {@link IslCacheService}.
+     */
+    public Duration getPathLatency(List<Link> flowPath) {
+        Instant now = clock.instant();
+        Duration result = Duration.ZERO;
+        for (Link link : flowPath) {
+            LinkState linkState = linkStates.get(link);
+            if (linkState == null) {
+                log.warn("Link not found in ISL latency table {}", link);
+            } else {
+                result = result.plus(linkState.getLatency(now, islRttLatencyExpiration));
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,120 @@
+/* Copyright 2023 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.wfm.topology.flowmonitoring.bolt;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.openkilda.wfm.topology.utils.KafkaRecordTranslator.FIELD_ID_PAYLOAD;
+
+import org.openkilda.messaging.info.InfoData;
+import org.openkilda.messaging.info.InfoMessage;
+import org.openkilda.messaging.info.stats.FlowRttStatsBatchData;
+import org.openkilda.messaging.info.stats.FlowRttStatsData;
+import org.openkilda.messaging.info.stats.FlowRttStatsRollupData;
+import org.openkilda.wfm.topology.flowmonitoring.FlowMonitoringTopology.ComponentId;
+
+import org.apache.storm.task.OutputCollector;
+import org.apache.storm.task.TopologyContext;
+import org.apache.storm.tuple.Fields;
+import org.apache.storm.tuple.Tuple;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+@RunWith(MockitoJUnitRunner.class)
+public class FlowSplitterBoltTest {
+    private static final String FLOW_ID_1 = "flow1";
+    private static final String FLOW_ID_2 = "flow2";
+    private static final String FORWARD = "forward";
+
+    @Mock
+    private TopologyContext topologyContext;
+    @Mock
+    private OutputCollector output;
+    @Mock
+    private Tuple input;
+
+    private FlowSplitterBolt bolt;
+
+    @Before
+    public void setup() {
+        when(topologyContext.getThisTaskId()).thenReturn(1);
+        when(input.getSourceComponent()).thenReturn(ComponentId.FLOW_LATENCY_SPOUT.name());
+        when(input.getFields()).thenReturn(new Fields());
+
+        bolt = new FlowSplitterBolt();
+        bolt.prepare(Collections.emptyMap(), topologyContext, output);
+    }
+
+    @Test
+    public void singleFlowRttStats() {
+        FlowRttStatsData stats = new FlowRttStatsData(FLOW_ID_1, FORWARD, 1L, 2L);
+        execute(stats);
+
+        List<List<Object>> emitted = captureEmitted(1);
+        assertEquals(FLOW_ID_1, emitted.get(0).get(0));
+        assertEquals(stats, emitted.get(0).get(1));
+    }
+
+    @Test
+    public void flowRttStatsBatchIsSplitByFlow() {
+        FlowRttStatsData stats1 = new FlowRttStatsData(FLOW_ID_1, FORWARD, 1L, 2L);
+        FlowRttStatsData stats2 = new FlowRttStatsData(FLOW_ID_2, FORWARD, 3L, 4L);
+        execute(new FlowRttStatsBatchData(Arrays.asList(stats1, stats2), null));
+
+        List<List<Object>> emitted = captureEmitted(2);
+        assertEquals(FLOW_ID_1, emitted.get(0).get(0));
+        assertEquals(stats1, emitted.get(0).get(1));
+        assertEquals(FLOW_ID_2, emitted.get(1).get(0));
+        assertEquals(stats2, emitted.get(1).get(1));
+    }
+
+    @Test
+    public void flowRttRollupBatchIsSplitByFlow() {
+        FlowRttStatsRollupData rollup1 = new FlowRttStatsRollupData(FLOW_ID_1, FORWARD, 1000, 1, 2, 3, 3);
+        FlowRttStatsRollupData rollup2 = new FlowRttStatsRollupData(FLOW_ID_2, FORWARD, 1000, 4, 5, 6, 2);
+        execute(new FlowRttStatsBatchData(null, Arrays.asList(rollup1, rollup2)));
+
+        List<List<Object>> emitted = captureEmitted(2);
+        assertEquals(FLOW_ID_1, emitted.get(0).get(0));
+        assertEquals(rollup1, emitted.get(0).get(1));
+        assertEquals(FLOW_ID_2, emitted.get(1).get(0));
+        assertEquals(rollup2, emitted.get(1).get(1));
+    }
+
+    private void execute(InfoData data) {
+        when(input.getValueByField(FIELD_ID_PAYLOAD)).thenReturn(new InfoMessage(data, 0, "test"));
+        bolt.execute(input);
+        verify(output).ack(input);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<List<Object>> captureEmitted(int count) {
+        ArgumentCaptor<List<Object>> values = ArgumentCaptor.forClass(List.class);
+        verify(output, times(count)).emit(any(Tuple.class), values.capture());
+        return values.getAllValues();
+    }
+}
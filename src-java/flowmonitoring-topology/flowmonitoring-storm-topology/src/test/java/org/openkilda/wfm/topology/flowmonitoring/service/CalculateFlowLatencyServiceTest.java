@@ -17,8 +17,11 @@ package org.openkilda.wfm.topology.flowmonitoring.service;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
 
 import org.openkilda.model.SwitchId;
 import org.openkilda.server42.messaging.FlowDirection;
@@ -55,6 +58,8 @@ public class CalculateFlowLatencyServiceTest {
 
     @Mock
     private FlowCacheBoltCarrier carrier;
+    @Mock
+    private IslLatencyTable islLatencyTable;
     private CalculateFlowLatencyService service;
 
     @Before
@@ -91,6 +96,39 @@ public class CalculateFlowLatencyServiceTest {
         verifyNoMoreInteractions(carrier);
     }
 
+    @Test
+    public void shouldReplacePreviousRequestForTheSameFlowDirection() {
+        service.handleCalculateFlowLatencyRequest(FLOW_ID, FlowDirection.FORWARD, FLOW_PATH, null);
+        service.handleCalculateFlowLatencyRequest(FLOW_ID, FlowDirection.FORWARD, FLOW_PATH, null);
+
+        ArgumentCaptor<String> captor = ArgumentCaptor.forClass(String.class);
+        verify(carrier, times(2)).emitGetLinkLatencyRequest(eq(FLOW_ID), captor.capture(), eq(FIRST_LINK));
+        String previousRequestId = captor.getAllValues().get(0);
+        String requestId = captor.getAllValues().get(1);
+
+        Duration latency = Duration.ofMillis(10);
+        service.handleGetLinkLatencyResponse(previousRequestId, FIRST_LINK, latency);
+        service.handleGetLinkLatencyResponse(previousRequestId, SECOND_LINK, latency);
+        verify(carrier, never()).emitCheckFlowLatencyRequest(any(), any(), any());
+
+        service.handleGetLinkLatencyResponse(requestId, FIRST_LINK, latency);
+        service.handleGetLinkLatencyResponse(requestId, SECOND_LINK, latency);
+        verify(carrier).emitCheckFlowLatencyRequest(FLOW_ID, FlowDirection.FORWARD, latency.plus(latency));
+    }
+
+    @Test
+    public void shouldCalculateLatencyByLocalIslLatencyTable() {
+        service = new CalculateFlowLatencyService(carrier, islLatencyTable);
+        Duration latency = Duration.ofMillis(30);
+        when(islLatencyTable.getPathLatency(FLOW_PATH)).thenReturn(latency);
+
+        service.handleCalculateFlowLatencyRequest(FLOW_ID, FlowDirection.REVERSE, FLOW_PATH, null);
+
+        verify(carrier).emitCheckFlowLatencyRequest(FLOW_ID, FlowDirection.REVERSE, latency);
+        verify(carrier).emitLatencyStats(FLOW_ID, FlowDirection.REVERSE, latency, null);
+        verifyNoMoreInteractions(carrier);
+    }
+
     @Test
     public void shouldNotSendCalculatedResponseForNotFinishedRequests() {
         service.handleCalculateFlowLatencyRequest(FLOW_ID, FlowDirection.FORWARD, FLOW_PATH, null);
@@ -25,6 +25,7 @@ import static org.openkilda.model.IslStatus.ACTIVE;
 import org.openkilda.messaging.info.flow.UpdateFlowCommand;
 import org.openkilda.messaging.info.haflow.UpdateHaSubFlowCommand;
 import org.openkilda.messaging.info.stats.FlowRttStatsData;
+import org.openkilda.messaging.info.stats.FlowRttStatsRollupData;
 import org.openkilda.messaging.model.FlowPathDto;
 import org.openkilda.messaging.payload.flow.PathNodePayload;
 import org.openkilda.model.Flow;
@@ -203,6 +204,35 @@ public class FlowCacheServiceTest extends InMemoryGraphBasedTest {
         verifyNoMoreInteractions(carrier);
     }
 
+    @Test
+    public void sendCheckFlowSlaRequestsWithRollupLatency() {
+        Instant now = Instant.now();
+        when(clock.instant()).thenReturn(now);
+
+        Flow flow = createFlow();
+        service = new FlowCacheService(persistenceManager, clock, FLOW_RTT_STATS_EXPIRATION_TIME, carrier);
+        service.activate();
+
+        FlowRttStatsRollupData rollupData = FlowRttStatsRollupData.builder()
+                .flowId(flow.getFlowId())
+                .direction(FlowDirection.FORWARD.name().toLowerCase())
+                .timestamp(now.toEpochMilli())
+                .min(1000)
+                .avg(2000)
+                .max(3000)
+                .count(3)
+                .build();
+        service.processFlowRttStatsRollupData(rollupData);
+        service.processFlowLatencyCheck(flow.getFlowId());
+
+        verify(carrier).emitCheckFlowLatencyRequest(flow.getFlowId(), FlowDirection.FORWARD, Duration.ofNanos(2000));
+        List<Link> expectedReversePath = reverse(getLinks(SWITCH_ID_1, ISL_SRC_PORT, SWITCH_ID_2, ISL_DST_PORT));
+        verify(carrier).emitCalculateFlowLatencyRequest(flow.getFlowId(), FlowDirection.REVERSE, expectedReversePath,
+                null);
+
+        verifyNoMoreInteractions(carrier);
+    }
+
     @Test
     public void activationDeactivationAndReactivation() {
         createFlow();
@@ -31,6 +31,7 @@ import org.openkilda.model.SwitchId;
 import org.openkilda.persistence.inmemory.InMemoryGraphBasedTest;
 import org.openkilda.persistence.repositories.IslRepository;
 import org.openkilda.wfm.topology.flowmonitoring.model.Link;
+import org.openkilda.wfm.topology.flowmonitoring.model.LinkState;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -42,6 +43,7 @@ import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.Collections;
 
 @RunWith(MockitoJUnitRunner.class)
 public class IslCacheServiceTest extends InMemoryGraphBasedTest {
@@ -180,6 +182,41 @@ public class IslCacheServiceTest extends InMemoryGraphBasedTest {
         assertEquals(rttLatency, actual);
     }
 
+    @Test
+    public void shouldReplicateLinkStateChangesToLatencyTable() {
+        IslLatencyTable table = new IslLatencyTable(persistenceManager, clock, ISL_RTT_LATENCY_EXPIRATION);
+        table.activate();
+        service = new IslCacheService(persistenceManager, clock, ISL_RTT_LATENCY_EXPIRATION,
+                new IslLatencyTableCarrier() {
+                    @Override
+                    public void emitLinkStateUpdate(Link link, LinkState linkState) {
+                        table.handleLinkStateUpdate(link, linkState);
+                    }
+
+                    @Override
+                    public void emitLinkRemoved(Link link) {
+                        table.handleLinkRemoved(link);
+                    }
+                });
+        service.activate();
+        when(clock.instant()).thenReturn(Instant.now());
+
+        service.handleOneWayLatency(new IslOneWayLatency(FIRST_SWITCH, ISL_SRC_PORT,
+                SECOND_SWITCH, ISL_DST_PORT, 100L, 1L));
+        assertEquals(service.getLatencyForLink(LINK), table.getPathLatency(Collections.singletonList(LINK)));
+
+        service.handleRoundTripLatency(new IslRoundTripLatency(FIRST_SWITCH, ISL_SRC_PORT, 1000L, 1L));
+        assertEquals(service.getLatencyForLink(LINK), table.getPathLatency(Collections.singletonList(LINK)));
+        assertEquals(1000L, table.getPathLatency(Collections.singletonList(LINK)).getNano());
+
+        service.handleIslChangedData(IslChangedInfoData.builder()
+                .source(NetworkEndpoint.builder().datapath(FIRST_SWITCH).portNumber(ISL_SRC_PORT).build())
+                .destination(NetworkEndpoint.builder().datapath(SECOND_SWITCH).portNumber(ISL_DST_PORT).build())
+                .removed(true)
+                .build());
+        assertEquals(Duration.ZERO, table.getPathLatency(Collections.singletonList(LINK)));
+    }
+
     @Test
     public void serviceActivationDeactivationAndReactivation() {
         //check service.linkStates is not empty
@@ -43,6 +43,10 @@ public class GrpcResponseObserver<V> implements StreamObserver<V> {
         this.responses = Collections.synchronizedList(new ArrayList<>());
     }
 
+    public GrpcOperation getOperation() {
+        return operation;
+    }
+
     @Override
     public void onNext(V reply) {
         log.debug("Retrieved message: {} from switch {}", reply, switchAddress);
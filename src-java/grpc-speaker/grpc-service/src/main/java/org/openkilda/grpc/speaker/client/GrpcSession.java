@@ -42,6 +42,7 @@ import org.openkilda.grpc.speaker.model.RemoteLogServerDto;
 import org.openkilda.messaging.error.ErrorType;
 
 import com.google.common.net.InetAddresses;
+import io.grpc.ConnectivityState;
 import io.grpc.ManagedChannel;
 import io.grpc.ManagedChannelBuilder;
 import io.grpc.noviflow.AuthenticateUser;
@@ -61,6 +62,8 @@ import io.grpc.noviflow.RemoteLogServer;
 import io.grpc.noviflow.ShowPacketInOutStats;
 import io.grpc.noviflow.ShowRemoteLogServer;
 import io.grpc.noviflow.StatusSwitch;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.Closeable;
@@ -68,12 +71,15 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 /**
  * The GRPC client session.
  */
 @Slf4j
 public class GrpcSession implements Closeable {
+    public static final long DEFAULT_RPC_TIMEOUT_MILLIS = 30000;
+
     private static final int PORT = 50051;
 
     private final NoviflowResponseMapper mapper;
@@ -81,16 +87,52 @@ public class GrpcSession implements Closeable {
     private final ManagedChannel channel;
     private final NoviFlowGrpcGrpc.NoviFlowGrpcStub stub;
     private final String address;
+    private final MeterRegistry meterRegistry;
+    private final long rpcTimeoutMillis;
 
     private CompletableFuture<Void> chain = CompletableFuture.completedFuture(null);
 
     public GrpcSession(NoviflowResponseMapper mapper, String address) {
+        this(mapper, address, null);
+    }
+
+    public GrpcSession(NoviflowResponseMapper mapper, String address, MeterRegistry meterRegistry) {
+        this(mapper, address, meterRegistry, DEFAULT_RPC_TIMEOUT_MILLIS);
+    }
+
+    public GrpcSession(NoviflowResponseMapper mapper, String address, MeterRegistry meterRegistry,
+                       long rpcTimeoutMillis) {
         this.mapper = mapper;
         this.address = address;
+        this.meterRegistry = meterRegistry;
+        this.rpcTimeoutMillis = rpcTimeoutMillis;
         this.channel = makeChannel(address);
         this.stub = NoviFlowGrpcGrpc.newStub(channel);
     }
 
+    public String getAddress() {
+        return address;
+    }
+
+    /**
+     * Checks whether the GRPC channel of the session can still be used.
+     */
+    public boolean isHealthy() {
+        if (channel.isShutdown()) {
+            return false;
+        }
+        return channel.getState(false) != ConnectivityState.TRANSIENT_FAILURE;
+    }
+
+    /**
+     * Returns a future completed when all planned operations are completed. Failures of these operations are not
+     * propagated to the operations planned after this call, so the session can be reused by the next user.
+     */
+    public synchronized CompletableFuture<Void> drain() {
+        chain = chain.handle((dummy, e) -> null);
+        return chain;
+    }
+
     /**
      * Plan GRPC channel close.
      */
@@ -122,8 +164,8 @@ public class GrpcSession implements Closeable {
         GrpcResponseObserver<CliReply> observer = new GrpcResponseObserver<>(address, LOGIN);
         extendChain(() -> {
             log.debug("Performs auth user request to switch {} with user {}", address, user);
-            stub.setLoginDetails(authUser, observer);
-        }, observer.future);
+            callStub().setLoginDetails(authUser, observer);
+        }, observer);
         return observer.future;
     }
 
@@ -136,7 +178,7 @@ public class GrpcSession implements Closeable {
         log.info("Getting switch status for switch {}", address);
 
         GrpcResponseObserver<StatusSwitch> observer = new GrpcResponseObserver<>(address, SHOW_SWITCH_STATUS);
-        extendChain(() -> stub.showStatusSwitch(StatusSwitch.newBuilder().build(), observer), observer.future);
+        extendChain(() -> callStub().showStatusSwitch(StatusSwitch.newBuilder().build(), observer), observer);
         return observer.future
                 .thenApply(responses -> responses.stream().findFirst());
     }
@@ -162,7 +204,7 @@ public class GrpcSession implements Closeable {
                 port.getLogicalPortNumber(), port.getType(), port.getPortNumbers(), address);
 
         GrpcResponseObserver<CliReply> observer = new GrpcResponseObserver<>(address, SET_LOGICAL_PORT);
-        extendChain(() -> stub.setConfigLogicalPort(request, observer), observer.future);
+        extendChain(() -> callStub().setConfigLogicalPort(request, observer), observer);
         return observer.future;
     }
 
@@ -181,7 +223,7 @@ public class GrpcSession implements Closeable {
         log.info("Reading logical port {} details from the switch {}", port, address);
 
         GrpcResponseObserver<LogicalPort> observer = new GrpcResponseObserver<>(address, SHOW_CONFIG_LOGICAL_PORT);
-        extendChain(() -> stub.showConfigLogicalPort(request, observer), observer.future);
+        extendChain(() -> callStub().showConfigLogicalPort(request, observer), observer);
         return observer.future
                 .thenApply(responses -> responses.stream().findFirst());
     }
@@ -197,8 +239,8 @@ public class GrpcSession implements Closeable {
         GrpcResponseObserver<LogicalPort> observer = new GrpcResponseObserver<>(address, DUMP_LOGICAL_PORTS);
         extendChain(() -> {
             LogicalPort request = LogicalPort.newBuilder().build();
-            stub.showConfigLogicalPort(request, observer);
-        }, observer.future);
+            callStub().showConfigLogicalPort(request, observer);
+        }, observer);
         return observer.future;
     }
 
@@ -218,7 +260,7 @@ public class GrpcSession implements Closeable {
         log.info("Deleting logical port {} on switch {}", port, address);
 
         GrpcResponseObserver<CliReply> observer = new GrpcResponseObserver<>(address, DELETE_LOGICAL_PORT);
-        extendChain(() -> stub.delConfigLogicalPort(logicalPort, observer), observer.future);
+        extendChain(() -> callStub().delConfigLogicalPort(logicalPort, observer), observer);
         return observer.future
                 .thenApply(responses -> responses.stream().findFirst());
     }
@@ -236,7 +278,7 @@ public class GrpcSession implements Closeable {
         LogMessages logMessages = LogMessages.newBuilder()
                 .setStatus(OnOff.forNumber(logMessagesDto.getState().getNumber()))
                 .build();
-        extendChain(() -> stub.setLogMessages(logMessages, observer), observer.future);
+        extendChain(() -> callStub().setLogMessages(logMessages, observer), observer);
         return observer.future
                 .thenApply(responses -> responses.stream().findFirst());
     }
@@ -254,7 +296,7 @@ public class GrpcSession implements Closeable {
         LogOferrors logOferrors = LogOferrors.newBuilder()
                 .setStatus(OnOff.forNumber(logOferrorsDto.getState().getNumber()))
                 .build();
-        extendChain(() -> stub.setLogOferrors(logOferrors, observer), observer.future);
+        extendChain(() -> callStub().setLogOferrors(logOferrors, observer), observer);
         return observer.future
                 .thenApply(responses -> responses.stream().findFirst());
     }
@@ -271,7 +313,7 @@ public class GrpcSession implements Closeable {
 
         GrpcResponseObserver<RemoteLogServer> observer = new GrpcResponseObserver<>(
                 address, SHOW_CONFIG_REMOTE_LOG_SERVER);
-        extendChain(() -> stub.showConfigRemoteLogServer(showRemoteLogServer, observer), observer.future);
+        extendChain(() -> callStub().showConfigRemoteLogServer(showRemoteLogServer, observer), observer);
         return observer.future
                 .thenApply(responses -> responses.stream().findFirst());
     }
@@ -293,7 +335,7 @@ public class GrpcSession implements Closeable {
                 .setIpaddr(remoteServer.getIpAddress())
                 .setPort(remoteServer.getPort())
                 .build();
-        extendChain(() -> stub.setConfigRemoteLogServer(logServer, observer), observer.future);
+        extendChain(() -> callStub().setConfigRemoteLogServer(logServer, observer), observer);
 
         return observer.future
                 .thenApply(responses -> responses.stream().findFirst());
@@ -309,7 +351,7 @@ public class GrpcSession implements Closeable {
 
         GrpcResponseObserver<CliReply> observer = new GrpcResponseObserver<>(address, DELETE_CONFIG_REMOTE_LOG_SERVER);
         RemoteLogServer logServer = RemoteLogServer.newBuilder().build();
-        extendChain(() -> stub.delConfigRemoteLogServer(logServer, observer), observer.future);
+        extendChain(() -> callStub().delConfigRemoteLogServer(logServer, observer), observer);
         return observer.future
                 .thenApply(responses -> responses.stream().findFirst());
     }
@@ -364,7 +406,7 @@ public class GrpcSession implements Closeable {
         }
 
         GrpcResponseObserver<CliReply> observer = new GrpcResponseObserver<>(address, SET_PORT_CONFIG);
-        extendChain(() -> stub.setConfigPort(builder.build(), observer), observer.future);
+        extendChain(() -> callStub().setConfigPort(builder.build(), observer), observer);
         return observer.future
                 .thenApply(responses -> responses.stream().findFirst());
     }
@@ -387,7 +429,7 @@ public class GrpcSession implements Closeable {
         }
 
         GrpcResponseObserver<CliReply> observer = new GrpcResponseObserver<>(address, SET_CONFIG_LICENSE);
-        extendChain(() -> stub.setConfigLicense(licenseBuilder.build(), observer), observer.future);
+        extendChain(() -> callStub().setConfigLicense(licenseBuilder.build(), observer), observer);
         return observer.future
                 .thenApply(responses -> responses.stream().findFirst());
     }
@@ -402,16 +444,28 @@ public class GrpcSession implements Closeable {
 
         GrpcResponseObserver<PacketInOutStats> observer = new GrpcResponseObserver<>(address, GET_PACKET_IN_OUT_STATS);
         extendChain(
-                () -> stub.showStatsPacketInOut(ShowPacketInOutStats.newBuilder().build(), observer),
-                observer.future);
+                () -> callStub().showStatsPacketInOut(ShowPacketInOutStats.newBuilder().build(), observer),
+                observer);
         return observer.future
                 .thenApply(responses -> responses.stream().findFirst());
     }
 
-    private synchronized void extendChain(Runnable action, CompletableFuture<?> operation) {
+    /**
+     * Returns the stub with the deadline of one call. The deadline must be set when the call is started, not when it
+     * is planned, so the time spent waiting for previous calls of the session is not counted.
+     */
+    private NoviFlowGrpcGrpc.NoviFlowGrpcStub callStub() {
+        return stub.withDeadlineAfter(rpcTimeoutMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private synchronized void extendChain(Runnable action, GrpcResponseObserver<?> observer) {
+        CompletableFuture<?> operation = observer.future;
         chain = CompletableFuture.allOf(
                 chain.whenComplete((v, e) -> {
                     if (e == null) {
+                        long start = System.nanoTime();
+                        operation.whenComplete((result, error) -> recordLatency(
+                                observer.getOperation(), System.nanoTime() - start, error == null));
                         action.run();
                     } else {
                         operation.completeExceptionally(e);
@@ -419,6 +473,17 @@ public class GrpcSession implements Closeable {
                 }), operation);
     }
 
+    private void recordLatency(GrpcOperation operation, long durationNanos, boolean success) {
+        if (meterRegistry == null) {
+            return;
+        }
+        Timer.builder("grpc.rpc.latency")
+                .tag("operation", operation.name())
+                .tag("result", success ? "success" : "failure")
+                .register(meterRegistry)
+                .record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
     private static ManagedChannel makeChannel(String address) {
         return ManagedChannelBuilder.forAddress(verifyHostAddress(address), PORT)
                 .usePlaintext()
@@ -0,0 +1,364 @@
+/* Copyright 2023 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.grpc.speaker.client;
+
+import org.openkilda.grpc.speaker.exception.GrpcRequestFailureException;
+import org.openkilda.grpc.speaker.mapper.NoviflowResponseMapper;
+import org.openkilda.messaging.error.ErrorType;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import javax.annotation.PreDestroy;
+
+/**
+ * Keeps logged in GRPC sessions per switch, so consequent requests to the same switch don't pay for the channel
+ * setup and the login request.
+ *
+ * <p>A session is used by one operation at a time. At most {@code maxSessionsPerSwitch} sessions are opened for a
+ * switch, operations above this limit wait for a released session. Sessions are evicted if they are idle longer than
+ * {@code idleTimeout}, if their channel is broken or if the switch rejects the authentication. An operation rejected
+ * due to the authentication failure is retried once with a new logged in session.
+ *
+ * <p>An operation waits for a released session at most {@code acquireTimeout}, and each GRPC call of a session is
+ * limited by the {@code rpcTimeout} deadline.
+ */
+@Slf4j
+@Component
+public class GrpcSessionPool {
+    private final Function<String, GrpcSession> sessionFactory;
+    private final int maxSessionsPerSwitch;
+    private final long idleTimeoutNanos;
+    private final long acquireTimeoutMillis;
+    private final ScheduledThreadPoolExecutor acquireTimeoutScheduler;
+
+    private final Map<String, SwitchSessions> switches = new ConcurrentHashMap<>();
+    private final AtomicInteger openSessions = new AtomicInteger();
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter evictions;
+
+    @Autowired
+    public GrpcSessionPool(NoviflowResponseMapper mapper, MeterRegistry meterRegistry,
+                           @Value("${grpc.user}") String user,
+                           @Value("${grpc.pass}") String password,
+                           @Value("${grpc.session.pool.max_per_switch:4}") int maxSessionsPerSwitch,
+                           @Value("${grpc.session.pool.idle_timeout_ms:60000}") long idleTimeoutMillis,
+                           @Value("${grpc.session.pool.acquire_timeout_ms:30000}") long acquireTimeoutMillis,
+                           @Value("${grpc.rpc.timeout_ms:30000}") long rpcTimeoutMillis) {
+        this(address -> {
+            GrpcSession session = new GrpcSession(mapper, address, meterRegistry, rpcTimeoutMillis);
+            session.login(user, password);
+            return session;
+        }, meterRegistry, maxSessionsPerSwitch, idleTimeoutMillis, acquireTimeoutMillis);
+    }
+
+    @VisibleForTesting
+    GrpcSessionPool(Function<String, GrpcSession> sessionFactory, MeterRegistry meterRegistry,
+                    int maxSessionsPerSwitch, long idleTimeoutMillis, long acquireTimeoutMillis) {
+        this.sessionFactory = sessionFactory;
+        this.maxSessionsPerSwitch = Math.max(1, maxSessionsPerSwitch);
+        this.idleTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(idleTimeoutMillis);
+        this.acquireTimeoutMillis = acquireTimeoutMillis;
+
+        // CompletableFuture.orTimeout is not available in java 8.
+        acquireTimeoutScheduler = new ScheduledThreadPoolExecutor(1, new ThreadFactoryBuilder()
+                .setNameFormat("grpc-session-pool-timeout-%d")
+                .setDaemon(true)
+                .build());
+        acquireTimeoutScheduler.setRemoveOnCancelPolicy(true);
+
+        hits = Counter.builder("grpc.session.pool.requests").tag("result", "hit").register(meterRegistry);
+        misses = Counter.builder("grpc.session.pool.requests").tag("result", "miss").register(meterRegistry);
+        evictions = Counter.builder("grpc.session.pool.evictions").register(meterRegistry);
+        Gauge.builder("grpc.session.pool.open", openSessions, AtomicInteger::get).register(meterRegistry);
+    }
+
+    /**
+     * Performs the operation with a pooled session of the switch. The session is returned to the pool when the
+     * future returned by the operation is completed.
+     *
+     * @param switchAddress the switch address.
+     * @param operation GRPC requests to perform.
+     * @return {@link CompletableFuture} with the operation result.
+     */
+    public <T> CompletableFuture<T> execute(
+            String switchAddress, Function<GrpcSession, CompletableFuture<T>> operation) {
+        return execute(switchAddress, operation, true);
+    }
+
+    private <T> CompletableFuture<T> execute(
+            String switchAddress, Function<GrpcSession, CompletableFuture<T>> operation, boolean retryOnAuthFailure) {
+        SwitchSessions sessions = switches.computeIfAbsent(switchAddress, SwitchSessions::new);
+        return acquire(sessions).thenCompose(pooled -> {
+            CompletableFuture<T> result;
+            try {
+                result = operation.apply(pooled.session);
+            } catch (RuntimeException e) {
+                result = new CompletableFuture<>();
+                result.completeExceptionally(e);
+            }
+
+            CompletableFuture<T> done = new CompletableFuture<>();
+            result.whenComplete((value, error) -> {
+                Throwable cause = unwrap(error);
+                boolean authFailed = isAuthFailure(cause);
+                release(sessions, pooled, !authFailed && !isConnectionFailure(cause));
+                if (authFailed) {
+                    // Credentials of other idle sessions are most likely expired too.
+                    evictIdle(sessions);
+                }
+
+                if (authFailed && retryOnAuthFailure) {
+                    log.info("GRPC session to switch {} is not authenticated, retry with a new session",
+                            switchAddress);
+                    execute(switchAddress, operation, false).whenComplete((retryValue, retryError) -> {
+                        if (retryError == null) {
+                            done.complete(retryValue);
+                        } else {
+                            done.completeExceptionally(unwrap(retryError));
+                        }
+                    });
+                } else if (error != null) {
+                    done.completeExceptionally(cause);
+                } else {
+                    done.complete(value);
+                }
+            });
+            return done;
+        });
+    }
+
+    /**
+     * Closes sessions which were not used longer than the idle timeout.
+     */
+    @Scheduled(fixedDelayString = "${grpc.session.pool.idle_timeout_ms:60000}")
+    public void evictExpired() {
+        long now = System.nanoTime();
+        for (SwitchSessions sessions : switches.values()) {
+            List<PooledSession> expired = new ArrayList<>();
+            synchronized (sessions) {
+                Iterator<PooledSession> iterator = sessions.idle.iterator();
+                while (iterator.hasNext()) {
+                    PooledSession pooled = iterator.next();
+                    if (idleTimeoutNanos <= now - pooled.releasedAt || !pooled.session.isHealthy()) {
+                        iterator.remove();
+                        sessions.total--;
+                        expired.add(pooled);
+                    }
+                }
+            }
+            expired.forEach(this::closeSession);
+        }
+    }
+
+    /**
+     * Closes all idle sessions.
+     */
+    @PreDestroy
+    public void close() {
+        acquireTimeoutScheduler.shutdownNow();
+        for (SwitchSessions sessions : switches.values()) {
+            evictIdle(sessions);
+        }
+    }
+
+    @VisibleForTesting
+    int getOpenSessionsCount() {
+        return openSessions.get();
+    }
+
+    private CompletableFuture<PooledSession> acquire(SwitchSessions sessions) {
+        List<PooledSession> broken = new ArrayList<>();
+        CompletableFuture<PooledSession> result = null;
+        CompletableFuture<PooledSession> waiter = null;
+        synchronized (sessions) {
+            while (result == null && !sessions.idle.isEmpty()) {
+                PooledSession pooled = sessions.idle.pollFirst();
+                if (pooled.session.isHealthy()) {
+                    hits.increment();
+                    result = CompletableFuture.completedFuture(pooled);
+                } else {
+                    sessions.total--;
+                    broken.add(pooled);
+                }
+            }
+            if (result == null && sessions.total < maxSessionsPerSwitch) {
+                misses.increment();
+                result = CompletableFuture.completedFuture(openSession(sessions));
+            } else if (result == null) {
+                waiter = new CompletableFuture<>();
+                sessions.waiters.addLast(waiter);
+                result = waiter;
+            }
+        }
+        broken.forEach(this::closeSession);
+        if (waiter != null) {
+            scheduleAcquireTimeout(sessions, waiter);
+        }
+        return result;
+    }
+
+    private void scheduleAcquireTimeout(SwitchSessions sessions, CompletableFuture<PooledSession> waiter) {
+        ScheduledFuture<?> timeout = acquireTimeoutScheduler.schedule(() -> {
+            boolean expired;
+            synchronized (sessions) {
+                expired = sessions.waiters.remove(waiter);
+            }
+            if (expired) {
+                waiter.completeExceptionally(new GrpcRequestFailureException(null, String.format(
+                        "No GRPC session to switch %s is released in %d ms", sessions.address,
+                        acquireTimeoutMillis), ErrorType.OPERATION_TIMED_OUT));
+            }
+        }, acquireTimeoutMillis, TimeUnit.MILLISECONDS);
+        waiter.whenComplete((pooled, error) -> timeout.cancel(false));
+    }
+
+    private void release(SwitchSessions sessions, PooledSession pooled, boolean reusable) {
+        pooled.session.drain().whenComplete((dummy, e) -> {
+            CompletableFuture<PooledSession> waiter;
+            PooledSession handover = null;
+            PooledSession closed = null;
+            synchronized (sessions) {
+                waiter = sessions.waiters.pollFirst();
+                if (reusable && pooled.session.isHealthy()) {
+                    if (waiter == null) {
+                        pooled.releasedAt = System.nanoTime();
+                        sessions.idle.addFirst(pooled);
+                    } else {
+                        hits.increment();
+                        handover = pooled;
+                    }
+                } else {
+                    closed = pooled;
+                    sessions.total--;
+                    if (waiter != null) {
+                        misses.increment();
+                        try {
+                            handover = openSession(sessions);
+                        } catch (RuntimeException ex) {
+                            waiter.completeExceptionally(ex);
+                            waiter = null;
+                        }
+                    }
+                }
+            }
+
+            if (closed != null) {
+                closeSession(closed);
+            }
+            if (waiter != null) {
+                waiter.complete(handover);
+            }
+        });
+    }
+
+    private void evictIdle(SwitchSessions sessions) {
+        List<PooledSession> evicted;
+        synchronized (sessions) {
+            evicted = new ArrayList<>(sessions.idle);
+            sessions.idle.clear();
+            sessions.total -= evicted.size();
+        }
+        evicted.forEach(this::closeSession);
+    }
+
+    /**
+     * Must be called with the lock of {@code sessions} held.
+     */
+    private PooledSession openSession(SwitchSessions sessions) {
+        log.debug("Open GRPC session to switch {}", sessions.address);
+        GrpcSession session = sessionFactory.apply(sessions.address);
+        sessions.total++;
+        openSessions.incrementAndGet();
+        return new PooledSession(session);
+    }
+
+    private void closeSession(PooledSession pooled) {
+        log.debug("Close GRPC session to switch {}", pooled.session.getAddress());
+        evictions.increment();
+        openSessions.decrementAndGet();
+        pooled.session.close();
+    }
+
+    private static boolean isAuthFailure(Throwable error) {
+        if (error instanceof GrpcRequestFailureException) {
+            return ((GrpcRequestFailureException) error).getErrorType() == ErrorType.AUTH_FAILED;
+        }
+        return error instanceof StatusRuntimeException
+                && ((StatusRuntimeException) error).getStatus().getCode() == Status.Code.UNAUTHENTICATED;
+    }
+
+    private static boolean isConnectionFailure(Throwable error) {
+        if (!(error instanceof StatusRuntimeException)) {
+            return false;
+        }
+        Status.Code code = ((StatusRuntimeException) error).getStatus().getCode();
+        return code == Status.Code.UNAVAILABLE || code == Status.Code.DEADLINE_EXCEEDED;
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        if (error instanceof CompletionException && error.getCause() != null) {
+            return error.getCause();
+        }
+        return error;
+    }
+
+    private static final class SwitchSessions {
+        private final String address;
+        private final Deque<PooledSession> idle = new ArrayDeque<>();
+        private final Deque<CompletableFuture<PooledSession>> waiters = new ArrayDeque<>();
+        private int total = 0;
+
+        private SwitchSessions(String address) {
+            this.address = address;
+        }
+    }
+
+    private static final class PooledSession {
+        private final GrpcSession session;
+        private long releasedAt;
+
+        private PooledSession(GrpcSession session) {
+            this.session = session;
+        }
+    }
+}
@@ -29,6 +29,7 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 import java.util.List;
 
@@ -41,6 +42,7 @@ import java.util.List;
 @ConfigurationType(name = "kafkaGroupConfig", value = KafkaGrpcSpeakerConfig.class)
 @ConfigurationType(EnvironmentConfig.class)
 @ComponentScan({"org.openkilda.grpc.speaker"})
+@EnableScheduling
 public class AppConfig {
 
     @Bean(CONF4J_CONFIGURATION_VALUE_PROCESSORS)
@@ -21,6 +21,7 @@ import static org.openkilda.bluegreen.kafka.Utils.CONSUMER_ZOOKEEPER_CONNECTION_
 import static org.openkilda.bluegreen.kafka.Utils.CONSUMER_ZOOKEEPER_RECONNECTION_DELAY_PROPERTY;
 import static org.openkilda.grpc.speaker.config.KafkaGrpcSpeakerConfig.GRPC_COMPONENT_NAME;
 
+import org.openkilda.bluegreen.kafka.VersioningDeserializer;
 import org.openkilda.bluegreen.kafka.interceptors.VersioningConsumerInterceptor;
 import org.openkilda.messaging.command.CommandMessage;
 
@@ -128,8 +129,9 @@ public class MessageConsumerConfig {
     @Bean
     public ConsumerFactory<String, CommandMessage> consumerFactory() {
         return new DefaultKafkaConsumerFactory<>(consumerConfigs(),
-                new StringDeserializer(), new ErrorHandlingDeserializer2(
-                        new JsonDeserializer<>(CommandMessage.class)));
+                new StringDeserializer(), new VersioningDeserializer<>(
+                        new ErrorHandlingDeserializer2<>(new JsonDeserializer<>(CommandMessage.class)),
+                        GRPC_COMPONENT_NAME, blueGreenMode));
     }
 
     /**
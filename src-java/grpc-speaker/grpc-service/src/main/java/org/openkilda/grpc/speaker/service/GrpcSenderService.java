@@ -17,7 +17,7 @@ package org.openkilda.grpc.speaker.service;
 
 import static java.lang.String.format;
 
-import org.openkilda.grpc.speaker.client.GrpcSession;
+import org.openkilda.grpc.speaker.client.GrpcSessionPool;
 import org.openkilda.grpc.speaker.exception.GrpcException;
 import org.openkilda.grpc.speaker.mapper.NoviflowResponseMapper;
 import org.openkilda.grpc.speaker.model.EnableLogMessagesResponse;
@@ -37,7 +37,6 @@ import org.openkilda.messaging.model.grpc.SwitchInfoStatus;
 
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -51,16 +50,12 @@ import java.util.stream.Collectors;
 @Service
 public class GrpcSenderService {
 
-    @Value("${grpc.user}")
-    private String name;
-
-    @Value("${grpc.pass}")
-    private String password;
-
     private final NoviflowResponseMapper mapper;
+    private final GrpcSessionPool sessionPool;
 
-    public GrpcSenderService(@Autowired NoviflowResponseMapper mapper) {
+    public GrpcSenderService(@Autowired NoviflowResponseMapper mapper, @Autowired GrpcSessionPool sessionPool) {
         this.mapper = mapper;
+        this.sessionPool = sessionPool;
     }
 
     /**
@@ -70,13 +65,13 @@ public class GrpcSenderService {
      * @return {@link CompletableFuture} with the execution result.
      */
     public CompletableFuture<LogicalPort> createOrUpdateLogicalPort(String switchAddress, LogicalPortDto port) {
-        try (GrpcSession session = makeSession(switchAddress)) {
+        return sessionPool.execute(switchAddress, session -> {
             session.setLogicalPort(port);
             return session.showConfigLogicalPort(port.getLogicalPortNumber())
                     .thenApply(portOptional -> portOptional
                             .map(mapper::map)
                             .orElseThrow(() -> new GrpcException(format("Port %s was not created ", port))));
-        }
+        });
     }
 
     /**
@@ -86,10 +81,10 @@ public class GrpcSenderService {
      * @return list of logical ports wrapped into {@link CompletableFuture}.
      */
     public CompletableFuture<List<LogicalPort>> dumpLogicalPorts(String switchAddress) {
-        try (GrpcSession session = makeSession(switchAddress)) {
+        return sessionPool.execute(switchAddress, session -> {
             return session.dumpLogicalPorts()
                     .thenApply(ports -> ports.stream().map(mapper::map).collect(Collectors.toList()));
-        }
+        });
     }
 
     /**
@@ -99,13 +94,13 @@ public class GrpcSenderService {
      * @return {@link CompletableFuture} with the execution result.
      */
     public CompletableFuture<SwitchInfoStatus> getSwitchStatus(String switchAddress) {
-        try (GrpcSession session = makeSession(switchAddress)) {
+        return sessionPool.execute(switchAddress, session -> {
             return session.showSwitchStatus()
                     .thenApply(statusOptional -> statusOptional
                             .map(mapper::map)
                             .orElseThrow(() ->
                                     new GrpcException(format("Couldn't get status for switch %s", switchAddress))));
-        }
+        });
     }
 
     /**
@@ -116,13 +111,13 @@ public class GrpcSenderService {
      * @return {@link CompletableFuture} with the execution result.
      */
     public CompletableFuture<LogicalPort> showConfigLogicalPort(String switchAddress, Integer port) {
-        try (GrpcSession session = makeSession(switchAddress)) {
+        return sessionPool.execute(switchAddress, session -> {
             return session.showConfigLogicalPort(port)
                     .thenApply(statusOptional -> statusOptional
                             .map(mapper::map)
                             .orElseThrow(() -> new GrpcException(format("Couldn't get logical port %d for switch %s",
                                     port, switchAddress))));
-        }
+        });
     }
 
     /**
@@ -133,13 +128,13 @@ public class GrpcSenderService {
      * @return {@link CompletableFuture} with the execution result.
      */
     public CompletableFuture<GrpcDeleteOperationResponse> deleteConfigLogicalPort(String switchAddress, Integer port) {
-        try (GrpcSession session = makeSession(switchAddress)) {
+        return sessionPool.execute(switchAddress, session -> {
             return session.deleteLogicalPort(port)
                     .thenApply(optional -> optional
                             .map(value -> new GrpcDeleteOperationResponse(value.getReplyStatus() == 0))
                             .orElseThrow(() -> new GrpcException(
                                     format("Could not delete logical port %d for switch %s", port, switchAddress))));
-        }
+        });
     }
 
     /**
@@ -151,13 +146,13 @@ public class GrpcSenderService {
      */
     public CompletableFuture<EnableLogMessagesResponse> enableLogMessages(String switchAddress,
                                                                           LogMessagesDto logMessagesDto) {
-        try (GrpcSession session = makeSession(switchAddress)) {
+        return sessionPool.execute(switchAddress, session -> {
             return session.setLogMessagesStatus(logMessagesDto)
                     .thenApply(optional -> optional
                             .map(value -> new EnableLogMessagesResponse(logMessagesDto.getState()))
                             .orElseThrow(() -> new GrpcException(format("Could not set log messages to status: %s",
                                     logMessagesDto.getState().toString()))));
-        }
+        });
     }
 
     /**
@@ -169,13 +164,13 @@ public class GrpcSenderService {
      */
     public CompletableFuture<EnableLogMessagesResponse> enableLogOfError(String switchAddress,
                                                                          LogOferrorsDto logOferrorsDto) {
-        try (GrpcSession session = makeSession(switchAddress)) {
+        return sessionPool.execute(switchAddress, session -> {
             return session.setLogOfErrorsStatus(logOferrorsDto)
                     .thenApply(optional -> optional
                             .map(value -> new EnableLogMessagesResponse(logOferrorsDto.getState()))
                             .orElseThrow(() -> new GrpcException(format("Could not set log OF errors to status: %s",
                                     logOferrorsDto.getState().toString()))));
-        }
+        });
     }
 
     /**
@@ -185,13 +180,13 @@ public class GrpcSenderService {
      * @return {@link CompletableFuture} with the execution result.
      */
     public CompletableFuture<RemoteLogServer> showConfigRemoteLogServer(String switchAddress) {
-        try (GrpcSession session = makeSession(switchAddress)) {
+        return sessionPool.execute(switchAddress, session -> {
             return session.showConfigRemoteLogServer()
                     .thenApply(optional -> optional
                             .map(mapper::map)
                             .orElseThrow(() -> new GrpcException(
                                     format("Could not to get remote log server for switch: %s", switchAddress))));
-        }
+        });
     }
 
     /**
@@ -203,14 +198,14 @@ public class GrpcSenderService {
      */
     public CompletableFuture<RemoteLogServer> setConfigRemoteLogServer(
             String switchAddress, RemoteLogServerDto remoteLogServerDto) {
-        try (GrpcSession session = makeSession(switchAddress)) {
+        return sessionPool.execute(switchAddress, session -> {
             session.setConfigRemoteLogServer(remoteLogServerDto);
             return session.showConfigRemoteLogServer()
                     .thenApply(optional -> optional
                             .map(mapper::map)
                             .orElseThrow(() -> new GrpcException(format("Could not set remote log server for switch %s",
                                     switchAddress))));
-        }
+        });
     }
 
     /**
@@ -221,13 +216,13 @@ public class GrpcSenderService {
      */
     public CompletableFuture<GrpcDeleteOperationResponse> deleteConfigRemoteLogServer(
             String switchAddress) {
-        try (GrpcSession session = makeSession(switchAddress)) {
+        return sessionPool.execute(switchAddress, session -> {
             return session.deleteConfigRemoteLogServer()
                     .thenApply(optional -> optional
                             .map(value -> new GrpcDeleteOperationResponse(value.getReplyStatus() == 0))
                             .orElseThrow(() -> new GrpcException(
                                     format("Could not delete remote log server for switch %s", switchAddress))));
-        }
+        });
     }
 
     /**
@@ -240,14 +235,14 @@ public class GrpcSenderService {
      */
     public CompletableFuture<PortConfigSetupResponse> setPortConfig(
             String switchAddress, Integer portNumber, PortConfigDto portConfigDto) {
-        try (GrpcSession session = makeSession(switchAddress)) {
+        return sessionPool.execute(switchAddress, session -> {
             return session.setPortConfig(portNumber, portConfigDto)
                     .thenApply(optional -> optional
                             .map(value -> new PortConfigSetupResponse(value.getReplyStatus() == 0))
                             .orElseThrow(() ->
                                     new GrpcException(format("Could not setup port №%d configuration for switch %s",
                                             portNumber, switchAddress))));
-        }
+        });
     }
 
     /**
@@ -258,13 +253,13 @@ public class GrpcSenderService {
      * @return {@link CompletableFuture} with the execution result.
      */
     public CompletableFuture<LicenseResponse> setConfigLicense(String switchAddress, LicenseDto licenseDto) {
-        try (GrpcSession session = makeSession(switchAddress)) {
+        return sessionPool.execute(switchAddress, session -> {
             return session.setConfigLicense(licenseDto)
                     .thenApply(optional -> optional
                             .map(value -> new LicenseResponse(value.getReplyStatus() == 0))
                             .orElseThrow(() ->
                                     new GrpcException(format("Could not setup license for switch %s", switchAddress))));
-        }
+        });
     }
 
     /**
@@ -274,19 +269,13 @@ public class GrpcSenderService {
      * @return {@link CompletableFuture} with the execution result.
      */
     public CompletableFuture<PacketInOutStatsResponse> getPacketInOutStats(String switchAddress) {
-        try (GrpcSession session = makeSession(switchAddress)) {
+        return sessionPool.execute(switchAddress, session -> {
             return session.getPacketInOutStats()
                     .thenApply(statusOptional -> statusOptional
                             .map(mapper::map)
                             .orElseThrow(() ->
                                     new GrpcException(format(
                                             "Couldn't get packet in out stats for switch %s", switchAddress))));
-        }
-    }
-
-    private GrpcSession makeSession(String address) {
-        GrpcSession session = new GrpcSession(mapper, address);
-        session.login(name, password);
-        return session;
+        });
     }
 }
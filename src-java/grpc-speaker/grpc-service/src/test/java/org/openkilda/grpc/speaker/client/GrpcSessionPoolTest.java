@@ -0,0 +1,173 @@
+/* Copyright 2023 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.grpc.speaker.client;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.openkilda.grpc.speaker.exception.GrpcRequestFailureException;
+import org.openkilda.messaging.error.ErrorType;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+public class GrpcSessionPoolTest {
+    private static final String SWITCH_ADDRESS = "127.0.0.1";
+
+    private final List<GrpcSession> createdSessions = new ArrayList<>();
+    private MeterRegistry meterRegistry;
+
+    @Before
+    public void setUp() {
+        createdSessions.clear();
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    public void shouldReuseSession() {
+        GrpcSessionPool pool = makePool(2, 60000);
+
+        assertEquals("a", pool.execute(SWITCH_ADDRESS, session -> CompletableFuture.completedFuture("a")).join());
+        assertEquals("b", pool.execute(SWITCH_ADDRESS, session -> CompletableFuture.completedFuture("b")).join());
+
+        assertEquals(1, createdSessions.size());
+        assertEquals(1, pool.getOpenSessionsCount());
+        assertEquals(1, meterRegistry.counter("grpc.session.pool.requests", "result", "hit").count(), 0);
+        assertEquals(1, meterRegistry.counter("grpc.session.pool.requests", "result", "miss").count(), 0);
+    }
+
+    @Test
+    public void shouldLimitSessionsPerSwitch() {
+        GrpcSessionPool pool = makePool(1, 60000);
+
+        CompletableFuture<String> first = new CompletableFuture<>();
+        CompletableFuture<String> firstResult = pool.execute(SWITCH_ADDRESS, session -> first);
+        CompletableFuture<String> secondResult = pool.execute(
+                SWITCH_ADDRESS, session -> CompletableFuture.completedFuture("b"));
+
+        assertFalse(secondResult.isDone());
+        assertEquals(1, createdSessions.size());
+
+        first.complete("a");
+        assertEquals("a", firstResult.join());
+        assertEquals("b", secondResult.join());
+        assertEquals(1, createdSessions.size());
+    }
+
+    @Test
+    public void shouldRetryWithNewSessionOnAuthFailure() {
+        GrpcSessionPool pool = makePool(2, 60000);
+        pool.execute(SWITCH_ADDRESS, session -> CompletableFuture.completedFuture("a")).join();
+        GrpcSession expired = createdSessions.get(0);
+
+        CompletableFuture<String> result = pool.execute(SWITCH_ADDRESS, session -> {
+            CompletableFuture<String> response = new CompletableFuture<>();
+            if (session == expired) {
+                response.completeExceptionally(new GrpcRequestFailureException(
+                        57, "Not authenticated", ErrorType.AUTH_FAILED));
+            } else {
+                response.complete("b");
+            }
+            return response;
+        });
+
+        assertEquals("b", result.join());
+        assertEquals(2, createdSessions.size());
+        verify(expired).close();
+        assertEquals(1, pool.getOpenSessionsCount());
+    }
+
+    @Test
+    public void shouldNotReuseUnhealthySession() {
+        GrpcSessionPool pool = makePool(2, 60000);
+        pool.execute(SWITCH_ADDRESS, session -> CompletableFuture.completedFuture("a")).join();
+        when(createdSessions.get(0).isHealthy()).thenReturn(false);
+
+        pool.execute(SWITCH_ADDRESS, session -> CompletableFuture.completedFuture("b")).join();
+
+        assertEquals(2, createdSessions.size());
+        verify(createdSessions.get(0)).close();
+        verify(createdSessions.get(1), never()).close();
+    }
+
+    @Test
+    public void shouldEvictIdleSessions() {
+        GrpcSessionPool pool = makePool(2, 0);
+        pool.execute(SWITCH_ADDRESS, session -> CompletableFuture.completedFuture("a")).join();
+        assertEquals(1, pool.getOpenSessionsCount());
+
+        pool.evictExpired();
+
+        assertEquals(0, pool.getOpenSessionsCount());
+        verify(createdSessions.get(0)).close();
+        assertTrue(pool.execute(SWITCH_ADDRESS, session -> CompletableFuture.completedFuture("b")).isDone());
+        assertEquals(2, createdSessions.size());
+    }
+
+    @Test
+    public void shouldTimeoutWaitingForSession() throws Exception {
+        GrpcSessionPool pool = makePool(1, 60000, 50);
+
+        CompletableFuture<String> first = new CompletableFuture<>();
+        CompletableFuture<String> firstResult = pool.execute(SWITCH_ADDRESS, session -> first);
+        CompletableFuture<String> secondResult = pool.execute(
+                SWITCH_ADDRESS, session -> CompletableFuture.completedFuture("b"));
+
+        try {
+            secondResult.get(1, TimeUnit.SECONDS);
+            fail("Waiting for the session must be timed out");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof GrpcRequestFailureException);
+            assertEquals(ErrorType.OPERATION_TIMED_OUT, ((GrpcRequestFailureException) e.getCause()).getErrorType());
+        }
+
+        // the timed out waiter doesn't take the released session
+        first.complete("a");
+        assertEquals("a", firstResult.join());
+        assertEquals("c", pool.execute(SWITCH_ADDRESS, session -> CompletableFuture.completedFuture("c")).join());
+        assertEquals(1, createdSessions.size());
+        assertEquals(1, pool.getOpenSessionsCount());
+    }
+
+    private GrpcSessionPool makePool(int maxSessionsPerSwitch, long idleTimeoutMillis) {
+        return makePool(maxSessionsPerSwitch, idleTimeoutMillis, 60000);
+    }
+
+    private GrpcSessionPool makePool(int maxSessionsPerSwitch, long idleTimeoutMillis, long acquireTimeoutMillis) {
+        return new GrpcSessionPool(address -> {
+            GrpcSession session = mock(GrpcSession.class);
+            when(session.getAddress()).thenReturn(address);
+            when(session.isHealthy()).thenReturn(true);
+            when(session.drain()).thenReturn(CompletableFuture.completedFuture(null));
+            createdSessions.add(session);
+            return session;
+        }, meterRegistry, maxSessionsPerSwitch, idleTimeoutMillis, acquireTimeoutMillis);
+    }
+}
@@ -0,0 +1,178 @@
+/* Copyright 2023 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.wfm.topology.history;
+
+import org.openkilda.config.provider.PropertiesBasedConfigurationProvider;
+import org.openkilda.persistence.PersistenceManager;
+import org.openkilda.persistence.context.PersistenceContextManager;
+import org.openkilda.wfm.share.history.model.FlowEventData;
+import org.openkilda.wfm.share.history.model.FlowEventData.Event;
+import org.openkilda.wfm.share.history.model.FlowEventData.Initiator;
+import org.openkilda.wfm.share.history.model.FlowHistoryData;
+import org.openkilda.wfm.share.history.model.FlowHistoryHolder;
+import org.openkilda.wfm.share.history.service.HistoryService;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares flow history writes with a transaction per record and with one transaction per group of records
+ * ({@link HistoryService#store(java.util.Collection)}), using the hibernate persistence implementation on top of an
+ * embedded H2 database. Run with {@code ./gradlew :history-storm-topology:jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class HistoryStoreBenchmark {
+    private static final int GROUP_SIZE = 100;
+    private static final String DB_URL = "jdbc:h2:mem:history;MODE=MySQL;DB_CLOSE_DELAY=-1";
+
+    // H2 version of docker/db-mysql-migration/migrations/000-create-history-tables.yaml
+    private static final String[] SCHEMA = {
+            "CREATE TABLE flow_event (id INT AUTO_INCREMENT PRIMARY KEY, flow_id VARCHAR(255) NOT NULL, "
+                    + "task_id VARCHAR(255) NOT NULL, task_id_unique_key CHAR(100) NOT NULL, "
+                    + "action VARCHAR(1024) NOT NULL, unstructured TEXT NOT NULL, "
+                    + "time_create TIMESTAMP(3) DEFAULT CURRENT_TIMESTAMP(3) NOT NULL, time_modify TIMESTAMP(3), "
+                    + "event_time TIMESTAMP(3))",
+            "CREATE UNIQUE INDEX ix_task_id ON flow_event (task_id_unique_key)",
+            "CREATE TABLE flow_event_action (id INT AUTO_INCREMENT PRIMARY KEY, "
+                    + "flow_event_id INT NOT NULL REFERENCES flow_event (id), action TEXT NOT NULL, details TEXT, "
+                    + "time_create TIMESTAMP(3) DEFAULT CURRENT_TIMESTAMP(3) NOT NULL, time_modify TIMESTAMP(3), "
+                    + "event_time TIMESTAMP(3))",
+            "CREATE TABLE flow_event_dump (id INT AUTO_INCREMENT PRIMARY KEY, "
+                    + "flow_event_id INT NOT NULL REFERENCES flow_event (id), kind VARCHAR(64) NOT NULL, "
+                    + "unstructured TEXT NOT NULL, "
+                    + "time_create TIMESTAMP(3) DEFAULT CURRENT_TIMESTAMP(3) NOT NULL, time_modify TIMESTAMP(3))"
+    };
+
+    private Connection keepAlive;
+    private HistoryService historyService;
+    private long taskSequence;
+
+    /**
+     * Creates the schema and the history service bound to the H2 database.
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        keepAlive = DriverManager.getConnection(DB_URL, "sa", "");
+        try (Statement statement = keepAlive.createStatement()) {
+            for (String entry : SCHEMA) {
+                statement.execute(entry);
+            }
+        }
+
+        Properties properties = new Properties();
+        properties.put("persistence.implementation.default", "hibernate");
+        properties.put("persistence.implementation.area.common", "hibernate");
+        properties.put("persistence.implementation.area.history", "hibernate");
+        properties.put("hibernate.url", DB_URL);
+        properties.put("hibernate.user", "sa");
+        properties.put("hibernate.password", "");
+        properties.put("hibernate.driver_class", "org.h2.Driver");
+        PersistenceManager persistenceManager = new PersistenceManager(
+                new PropertiesBasedConfigurationProvider(properties));
+        persistenceManager.install();
+        historyService = new HistoryService(persistenceManager);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        keepAlive.close();
+    }
+
+    /**
+     * Each record is written in its own transaction, the same way as without group commit.
+     */
+    @Benchmark
+    @OperationsPerInvocation(GROUP_SIZE)
+    public void transactionPerRecord() {
+        List<FlowHistoryHolder> records = makeRecords();
+        try {
+            for (FlowHistoryHolder entry : records) {
+                historyService.store(entry);
+            }
+        } finally {
+            PersistenceContextManager.INSTANCE.close();
+        }
+    }
+
+    /**
+     * All records are written in one transaction.
+     */
+    @Benchmark
+    @OperationsPerInvocation(GROUP_SIZE)
+    public void groupCommit() {
+        List<FlowHistoryHolder> records = makeRecords();
+        try {
+            historyService.store(records);
+        } finally {
+            PersistenceContextManager.INSTANCE.close();
+        }
+    }
+
+    private List<FlowHistoryHolder> makeRecords() {
+        List<FlowHistoryHolder> records = new ArrayList<>(GROUP_SIZE);
+        Instant now = Instant.now();
+        // An event followed by its action, as produced by flow H&S operations.
+        for (int i = 0; i < GROUP_SIZE / 2; i++) {
+            String taskId = "task-" + taskSequence++;
+            String flowId = "flow-" + i;
+            records.add(FlowHistoryHolder.builder()
+                    .taskId(taskId)
+                    .flowEventData(FlowEventData.builder()
+                            .flowId(flowId)
+                            .event(Event.REROUTE)
+                            .initiator(Initiator.AUTO)
+                            .time(now)
+                            .build())
+                    .build());
+            records.add(FlowHistoryHolder.builder()
+                    .taskId(taskId)
+                    .flowHistoryData(FlowHistoryData.builder()
+                            .flowId(flowId)
+                            .action("Flow was rerouted")
+                            .time(now)
+                            .description("benchmark")
+                            .build())
+                    .build());
+        }
+        return records;
+    }
+}
@@ -17,6 +17,7 @@ package org.openkilda.wfm.topology.history;
 
 import org.openkilda.persistence.PersistenceManager;
 import org.openkilda.wfm.LaunchEnvironment;
+import org.openkilda.wfm.share.hubandspoke.CoordinatorSpout;
 import org.openkilda.wfm.share.zk.ZkStreams;
 import org.openkilda.wfm.share.zk.ZooKeeperBolt;
 import org.openkilda.wfm.share.zk.ZooKeeperSpout;
@@ -28,6 +29,8 @@ import org.apache.storm.generated.StormTopology;
 import org.apache.storm.topology.TopologyBuilder;
 import org.apache.storm.tuple.Fields;
 
+import java.time.Duration;
+
 public class HistoryTopology extends AbstractTopology<HistoryTopologyConfig> {
     public static final String HISTORY_SPOUT_ID = "history-spout";
     public static final String HISTORY_BOLT_ID = "history-bolt";
@@ -42,6 +45,7 @@ public class HistoryTopology extends AbstractTopology<HistoryTopologyConfig> {
         PersistenceManager persistenceManager = new PersistenceManager(configurationProvider);
 
         createZkSpout(builder);
+        declareSpout(builder, new CoordinatorSpout(), CoordinatorSpout.ID);
 
         createSpout(builder);
         createHistoryBolt(builder, persistenceManager);
@@ -58,10 +62,14 @@ public class HistoryTopology extends AbstractTopology<HistoryTopologyConfig> {
     }
 
     private void createHistoryBolt(TopologyBuilder builder, PersistenceManager persistenceManager) {
-        HistoryBolt historyBolt = new HistoryBolt(persistenceManager, ZooKeeperSpout.SPOUT_ID);
+        HistoryBolt historyBolt = new HistoryBolt(persistenceManager, ZooKeeperSpout.SPOUT_ID,
+                topologyConfig.getHistoryGroupCommitMaxSize(),
+                Duration.ofMillis(topologyConfig.getHistoryGroupCommitMaxDelayMs()),
+                topologyConfig.getHistoryGroupCommitMaxRedeliveries());
         declareBolt(builder, historyBolt, HISTORY_BOLT_ID)
                 .fieldsGrouping(HISTORY_SPOUT_ID, new Fields(KafkaRecordTranslator.FIELD_ID_KEY))
-                .allGrouping(ZooKeeperSpout.SPOUT_ID);
+                .allGrouping(ZooKeeperSpout.SPOUT_ID)
+                .allGrouping(CoordinatorSpout.ID);
     }
 
     private void createSpout(TopologyBuilder builder) {
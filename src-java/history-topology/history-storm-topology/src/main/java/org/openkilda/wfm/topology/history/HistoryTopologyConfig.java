@@ -18,6 +18,8 @@ package org.openkilda.wfm.topology.history;
 import org.openkilda.wfm.topology.AbstractTopologyConfig;
 
 import com.sabre.oss.conf4j.annotation.Configuration;
+import com.sabre.oss.conf4j.annotation.Default;
+import com.sabre.oss.conf4j.annotation.Key;
 
 @Configuration
 public interface HistoryTopologyConfig extends AbstractTopologyConfig {
@@ -25,4 +27,22 @@ public interface HistoryTopologyConfig extends AbstractTopologyConfig {
     default String getKafkaTopoHistoryTopic() {
         return getKafkaTopics().getTopoHistoryTopic();
     }
+
+    /*
+     * Flow history records are written in groups of up to history.group.commit.max.size records, one transaction per
+     * group. A group is written when it is full or when its oldest record waits history.group.commit.max.delay.ms.
+     * A size of 1 writes each record in its own transaction. A group whose records all fail is redelivered at most
+     * history.group.commit.max.redeliveries times.
+     */
+    @Key("history.group.commit.max.size")
+    @Default("100")
+    int getHistoryGroupCommitMaxSize();
+
+    @Key("history.group.commit.max.delay.ms")
+    @Default("200")
+    int getHistoryGroupCommitMaxDelayMs();
+
+    @Key("history.group.commit.max.redeliveries")
+    @Default("3")
+    int getHistoryGroupCommitMaxRedeliveries();
 }
@@ -17,6 +17,7 @@ package org.openkilda.wfm.topology.history.bolts;
 
 import static org.openkilda.wfm.topology.utils.KafkaRecordTranslator.FIELD_ID_PAYLOAD;
 
+import org.openkilda.bluegreen.LifecycleEvent;
 import org.openkilda.messaging.Message;
 import org.openkilda.messaging.info.InfoData;
 import org.openkilda.messaging.info.InfoMessage;
@@ -24,33 +25,57 @@ import org.openkilda.persistence.PersistenceManager;
 import org.openkilda.wfm.AbstractBolt;
 import org.openkilda.wfm.share.history.model.FlowHistoryHolder;
 import org.openkilda.wfm.share.history.service.HistoryService;
+import org.openkilda.wfm.share.hubandspoke.CoordinatorSpout;
 import org.openkilda.wfm.share.zk.ZkStreams;
 import org.openkilda.wfm.share.zk.ZooKeeperBolt;
+import org.openkilda.wfm.topology.history.service.HistoryGroupCommitCarrier;
+import org.openkilda.wfm.topology.history.service.HistoryGroupCommitService;
 
 import org.apache.storm.topology.OutputFieldsDeclarer;
 import org.apache.storm.tuple.Fields;
 import org.apache.storm.tuple.Tuple;
 
-public class HistoryBolt extends AbstractBolt {
+import java.time.Duration;
+
+public class HistoryBolt extends AbstractBolt implements HistoryGroupCommitCarrier<Tuple> {
+    private final int groupCommitMaxSize;
+    private final Duration groupCommitMaxDelay;
+    private final int groupCommitMaxRedeliveries;
+
     private transient HistoryService historyService;
+    private transient HistoryGroupCommitService<Tuple> groupCommitService;
+    private transient Tuple deferredAck;
 
-    public HistoryBolt(PersistenceManager persistenceManager, String lifeCycleEventSourceComponent) {
+    public HistoryBolt(
+            PersistenceManager persistenceManager, String lifeCycleEventSourceComponent,
+            int groupCommitMaxSize, Duration groupCommitMaxDelay, int groupCommitMaxRedeliveries) {
         super(persistenceManager, lifeCycleEventSourceComponent);
+        this.groupCommitMaxSize = groupCommitMaxSize;
+        this.groupCommitMaxDelay = groupCommitMaxDelay;
+        this.groupCommitMaxRedeliveries = groupCommitMaxRedeliveries;
     }
 
     @Override
     protected void init() {
         historyService = new HistoryService(persistenceManager);
+        if (1 < groupCommitMaxSize) {
+            groupCommitService = new HistoryGroupCommitService<>(
+                    historyService, this, groupCommitMaxSize, groupCommitMaxDelay, groupCommitMaxRedeliveries);
+        }
     }
 
     @Override
     protected void handleInput(Tuple input) throws Exception {
-        if (active) {
+        if (CoordinatorSpout.ID.equals(input.getSourceComponent())) {
+            if (groupCommitService != null) {
+                groupCommitService.tick();
+            }
+        } else if (active) {
             Message message = pullValue(input, FIELD_ID_PAYLOAD, Message.class);
             if (message instanceof InfoMessage) {
                 InfoData payload = ((InfoMessage) message).getData();
                 if (payload instanceof FlowHistoryHolder) {
-                    historyService.store((FlowHistoryHolder) payload);
+                    store(input, (FlowHistoryHolder) payload);
                 } else {
                     unhandledInput(input);
                 }
@@ -60,6 +85,43 @@ public class HistoryBolt extends AbstractBolt {
         }
     }
 
+    private void store(Tuple input, FlowHistoryHolder historyHolder) {
+        if (groupCommitService != null) {
+            // The tuple is acknowledged by the group commit service once the group is stored.
+            deferredAck = input;
+            groupCommitService.add(input, historyHolder);
+        } else {
+            historyService.store(historyHolder);
+        }
+    }
+
+    @Override
+    protected boolean deactivate(LifecycleEvent event) {
+        if (groupCommitService != null) {
+            groupCommitService.flush();
+        }
+        return true;
+    }
+
+    @Override
+    protected void ack(Tuple input) {
+        if (input == deferredAck) {
+            deferredAck = null;
+        } else {
+            super.ack(input);
+        }
+    }
+
+    @Override
+    public void acknowledge(Tuple reference) {
+        super.ack(reference);
+    }
+
+    @Override
+    public void redeliver(Tuple reference) {
+        getOutput().fail(reference);
+    }
+
     @Override
     public void declareOutputFields(OutputFieldsDeclarer declarer) {
         declarer.declareStream(ZkStreams.ZK.toString(), new Fields(ZooKeeperBolt.FIELD_ID_STATE,
@@ -0,0 +1,186 @@
+/* Copyright 2023 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.wfm.topology.history.service;
+
+import org.openkilda.persistence.exceptions.RecoverablePersistenceException;
+import org.openkilda.wfm.share.history.model.FlowHistoryHolder;
+import org.openkilda.wfm.share.history.service.HistoryService;
+
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Buffers flow history records and writes them in one transaction when the group reaches {@code maxSize} records or
+ * the oldest record waits for {@code maxDelay}. Each record is acknowledged only after the transaction it belongs to
+ * is committed.
+ *
+ * <p>If the group transaction fails, records are written one by one. Records which still fail are redelivered if
+ * the failure is recoverable or if all records of a multi-record group have failed (the storage is likely
+ * unavailable), otherwise they are logged and acknowledged, the same way as in per-record mode. Records of an
+ * all-failed group are redelivered at most {@code maxRedeliveries} times, then they are logged and acknowledged too,
+ * so a group of broken records is not redelivered forever.
+ */
+@Slf4j
+public class HistoryGroupCommitService<R> {
+    private static final int MAX_TRACKED_REDELIVERIES = 10000;
+
+    private final Clock clock;
+    private final HistoryService historyService;
+    private final HistoryGroupCommitCarrier<R> carrier;
+    private final int maxSize;
+    private final Duration maxDelay;
+    private final int maxRedeliveries;
+
+    private final List<PendingRecord<R>> pending = new ArrayList<>();
+    private Instant groupStartTime;
+
+    /**
+     * Redeliveries made because all records of the group have failed. Records which are never seen again, e.g.
+     * because the topology has been restarted, are evicted when the size limit is reached.
+     */
+    private final Map<FlowHistoryHolder, Integer> redeliveries = new LinkedHashMap<FlowHistoryHolder, Integer>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<FlowHistoryHolder, Integer> eldest) {
+            return MAX_TRACKED_REDELIVERIES < size();
+        }
+    };
+
+    public HistoryGroupCommitService(
+            HistoryService historyService, HistoryGroupCommitCarrier<R> carrier, int maxSize, Duration maxDelay,
+            int maxRedeliveries) {
+        this(Clock.systemUTC(), historyService, carrier, maxSize, maxDelay, maxRedeliveries);
+    }
+
+    public HistoryGroupCommitService(
+            Clock clock, HistoryService historyService, HistoryGroupCommitCarrier<R> carrier, int maxSize,
+            Duration maxDelay, int maxRedeliveries) {
+        this.clock = clock;
+        this.historyService = historyService;
+        this.carrier = carrier;
+        this.maxSize = maxSize;
+        this.maxDelay = maxDelay;
+        this.maxRedeliveries = maxRedeliveries;
+    }
+
+    /**
+     * Adds the record into the current group, the group is written if it reaches the size limit.
+     */
+    public void add(R reference, FlowHistoryHolder historyHolder) {
+        if (pending.isEmpty()) {
+            groupStartTime = clock.instant();
+        }
+        pending.add(new PendingRecord<>(reference, historyHolder));
+        if (maxSize <= pending.size()) {
+            flush();
+        }
+    }
+
+    /**
+     * Writes the current group if its oldest record waits longer than the delay limit.
+     */
+    public void tick() {
+        if (!pending.isEmpty() && !clock.instant().isBefore(groupStartTime.plus(maxDelay))) {
+            flush();
+        }
+    }
+
+    /**
+     * Writes the current group.
+     */
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        List<PendingRecord<R>> group = new ArrayList<>(pending);
+        pending.clear();
+
+        try {
+            historyService.store(group.stream()
+                    .map(PendingRecord::getHistoryHolder)
+                    .collect(Collectors.toList()));
+            log.debug("Group of {} history records has been stored", group.size());
+        } catch (RecoverablePersistenceException e) {
+            log.warn("Failed to store group of {} history records, they will be redelivered", group.size(), e);
+            group.forEach(entry -> carrier.redeliver(entry.getReference()));
+            return;
+        } catch (Exception e) {
+            log.warn("Failed to store group of {} history records, storing them one by one", group.size(), e);
+            storeOneByOne(group);
+            return;
+        }
+        group.forEach(this::acknowledge);
+    }
+
+    public int size() {
+        return pending.size();
+    }
+
+    private void storeOneByOne(List<PendingRecord<R>> group) {
+        List<PendingRecord<R>> rejected = new ArrayList<>();
+        for (PendingRecord<R> entry : group) {
+            try {
+                historyService.store(Collections.singletonList(entry.getHistoryHolder()));
+                acknowledge(entry);
+            } catch (RecoverablePersistenceException e) {
+                log.warn("Failed to store history record {}, it will be redelivered", entry.getHistoryHolder(), e);
+                carrier.redeliver(entry.getReference());
+            } catch (Exception e) {
+                log.error("Failed to store history record {}", entry.getHistoryHolder(), e);
+                rejected.add(entry);
+            }
+        }
+
+        if (1 < group.size() && rejected.size() == group.size()) {
+            log.warn("All {} history records of the group have failed, they will be redelivered", group.size());
+            rejected.forEach(this::redeliverRejected);
+        } else {
+            rejected.forEach(this::acknowledge);
+        }
+    }
+
+    private void redeliverRejected(PendingRecord<R> entry) {
+        int attempt = redeliveries.merge(entry.getHistoryHolder(), 1, Integer::sum);
+        if (attempt <= maxRedeliveries) {
+            carrier.redeliver(entry.getReference());
+        } else {
+            log.error("History record {} has failed {} times, it is dropped", entry.getHistoryHolder(), attempt);
+            acknowledge(entry);
+        }
+    }
+
+    private void acknowledge(PendingRecord<R> entry) {
+        if (!redeliveries.isEmpty()) {
+            redeliveries.remove(entry.getHistoryHolder());
+        }
+        carrier.acknowledge(entry.getReference());
+    }
+
+    @Value
+    private static class PendingRecord<R> {
+        R reference;
+        FlowHistoryHolder historyHolder;
+    }
+}
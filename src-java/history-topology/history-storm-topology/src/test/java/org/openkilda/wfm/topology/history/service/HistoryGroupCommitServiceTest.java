@@ -0,0 +1,189 @@
+/* Copyright 2023 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.wfm.topology.history.service;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+import org.openkilda.persistence.exceptions.ConstraintViolationException;
+import org.openkilda.persistence.exceptions.PersistenceException;
+import org.openkilda.persistence.exceptions.RecoverablePersistenceException;
+import org.openkilda.stubs.ManualClock;
+import org.openkilda.wfm.share.history.model.FlowHistoryHolder;
+import org.openkilda.wfm.share.history.service.HistoryService;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+
+@RunWith(MockitoJUnitRunner.class)
+public class HistoryGroupCommitServiceTest {
+    private static final Duration MAX_DELAY = Duration.ofMillis(200);
+    private static final int MAX_REDELIVERIES = 2;
+
+    private static final FlowHistoryHolder RECORD_1 = FlowHistoryHolder.builder().taskId("task-1").build();
+    private static final FlowHistoryHolder RECORD_2 = FlowHistoryHolder.builder().taskId("task-2").build();
+    private static final FlowHistoryHolder RECORD_3 = FlowHistoryHolder.builder().taskId("task-3").build();
+
+    private final ManualClock clock = new ManualClock();
+
+    @Mock
+    private HistoryService historyService;
+
+    @Mock
+    private HistoryGroupCommitCarrier<String> carrier;
+
+    @Test
+    public void shouldStoreGroupWhenItIsFull() {
+        HistoryGroupCommitService<String> subject = makeSubject(3);
+
+        subject.add("a", RECORD_1);
+        subject.add("b", RECORD_2);
+        verifyNoInteractions(historyService, carrier);
+
+        subject.add("c", RECORD_3);
+        verify(historyService).store(eq(Arrays.asList(RECORD_1, RECORD_2, RECORD_3)));
+        verify(carrier).acknowledge("a");
+        verify(carrier).acknowledge("b");
+        verify(carrier).acknowledge("c");
+        verifyNoMoreInteractions(historyService, carrier);
+        assertEquals(0, subject.size());
+    }
+
+    @Test
+    public void shouldStoreGroupWhenDelayIsExceeded() {
+        HistoryGroupCommitService<String> subject = makeSubject(100);
+
+        subject.add("a", RECORD_1);
+        clock.adjust(MAX_DELAY.minusMillis(1));
+        subject.add("b", RECORD_2);
+        subject.tick();
+        verifyNoInteractions(historyService, carrier);
+
+        clock.adjust(Duration.ofMillis(1));
+        subject.tick();
+        verify(historyService).store(eq(Arrays.asList(RECORD_1, RECORD_2)));
+        verify(carrier).acknowledge("a");
+        verify(carrier).acknowledge("b");
+        verifyNoMoreInteractions(carrier);
+    }
+
+    @Test
+    public void shouldStoreRecordsOneByOneOnGroupFailure() {
+        HistoryGroupCommitService<String> subject = makeSubject(3);
+        lenient().doThrow(new PersistenceException("group failure"))
+                .when(historyService).store(eq(Arrays.asList(RECORD_1, RECORD_2, RECORD_3)));
+        lenient().doThrow(new ConstraintViolationException("broken record"))
+                .when(historyService).store(eq(Collections.singletonList(RECORD_2)));
+
+        subject.add("a", RECORD_1);
+        subject.add("b", RECORD_2);
+        subject.add("c", RECORD_3);
+
+        verify(historyService).store(eq(Collections.singletonList(RECORD_1)));
+        verify(historyService).store(eq(Collections.singletonList(RECORD_3)));
+        // The broken record is dropped, it would fail again on redelivery.
+        verify(carrier).acknowledge("a");
+        verify(carrier).acknowledge("b");
+        verify(carrier).acknowledge("c");
+        verify(carrier, never()).redeliver("b");
+    }
+
+    @Test
+    public void shouldRedeliverGroupOnRecoverableFailure() {
+        HistoryGroupCommitService<String> subject = makeSubject(2);
+        doThrow(new RecoverablePersistenceException("transient failure"))
+                .when(historyService).store(anyCollection());
+
+        subject.add("a", RECORD_1);
+        subject.add("b", RECORD_2);
+
+        verify(historyService, times(1)).store(anyCollection());
+        verify(carrier).redeliver("a");
+        verify(carrier).redeliver("b");
+        verifyNoMoreInteractions(carrier);
+    }
+
+    @Test
+    public void shouldRedeliverGroupIfAllRecordsFail() {
+        HistoryGroupCommitService<String> subject = makeSubject(2);
+        doThrow(new PersistenceException("storage is not available"))
+                .when(historyService).store(anyCollection());
+
+        subject.add("a", RECORD_1);
+        subject.add("b", RECORD_2);
+
+        verify(carrier).redeliver("a");
+        verify(carrier).redeliver("b");
+        verifyNoMoreInteractions(carrier);
+
+        // Redelivered records are stored when the storage is back.
+        doNothing().when(historyService).store(anyCollection());
+        subject.add("a", RECORD_1);
+        subject.add("b", RECORD_2);
+        verify(carrier).acknowledge("a");
+        verify(carrier).acknowledge("b");
+    }
+
+    @Test
+    public void shouldDropGroupIfAllRecordsFailTooManyTimes() {
+        HistoryGroupCommitService<String> subject = makeSubject(2);
+        doThrow(new PersistenceException("broken records"))
+                .when(historyService).store(anyCollection());
+
+        for (int i = 0; i <= MAX_REDELIVERIES; i++) {
+            subject.add("a", RECORD_1);
+            subject.add("b", RECORD_2);
+        }
+
+        verify(carrier, times(MAX_REDELIVERIES)).redeliver("a");
+        verify(carrier, times(MAX_REDELIVERIES)).redeliver("b");
+        verify(carrier).acknowledge("a");
+        verify(carrier).acknowledge("b");
+        verifyNoMoreInteractions(carrier);
+    }
+
+    @Test
+    public void shouldStorePendingRecordsOnFlush() {
+        HistoryGroupCommitService<String> subject = makeSubject(100);
+        subject.add("a", RECORD_1);
+
+        subject.flush();
+        verify(historyService).store(eq(Collections.singletonList(RECORD_1)));
+        verify(carrier).acknowledge("a");
+
+        subject.flush();
+        verifyNoMoreInteractions(historyService, carrier);
+    }
+
+    private HistoryGroupCommitService<String> makeSubject(int maxSize) {
+        return new HistoryGroupCommitService<>(clock, historyService, carrier, maxSize, MAX_DELAY, MAX_REDELIVERIES);
+    }
+}
@@ -116,14 +116,19 @@ public class IslLatencyTopology extends AbstractTopology<IslLatencyTopologyConfi
         String openTsdbTopic = topologyConfig.getKafkaOtsdbTopic();
         KafkaBolt openTsdbBolt = createKafkaBolt(openTsdbTopic);
         declareBolt(builder, openTsdbBolt, ISL_LATENCY_OTSDB_BOLT_ID)
-                .shuffleGrouping(ISL_STATS_BOLT_ID);
+                .shuffleGrouping(ISL_STATS_BOLT_ID)
+                .shuffleGrouping(ISL_LATENCY_BOLT_ID, StreamType.STATS.toString());
     }
 
     private void createLatencyBolt(TopologyBuilder builder, PersistenceManager persistenceManager) {
         IslLatencyBolt islLatencyBolt = new IslLatencyBolt(
                 persistenceManager,
                 topologyConfig.getLatencyUpdateInterval(),
-                topologyConfig.getLatencyUpdateTimeRange());
+                topologyConfig.getLatencyUpdateTimeRange(),
+                topologyConfig.getLatencyUpdateTimeRangeBuckets(),
+                topologyConfig.getLatencyUpdateAggregation(),
+                topologyConfig.isLatencyPercentilesStats(),
+                topologyConfig.getMetricPrefix());
         declareBolt(builder, islLatencyBolt, ISL_LATENCY_BOLT_ID)
                 .fieldsGrouping(ONE_WAY_MANIPULATION_BOLT_ID, StreamType.LATENCY.toString(), ISL_GROUPING_FIELDS)
                 .fieldsGrouping(CACHE_BOLT_ID, StreamType.LATENCY.toString(), ISL_GROUPING_FIELDS);
@@ -15,9 +15,12 @@
 
 package org.openkilda.wfm.topology.isllatency;
 
+import org.openkilda.config.converter.EnumLowerCaseConverter;
 import org.openkilda.wfm.topology.AbstractTopologyConfig;
+import org.openkilda.wfm.topology.isllatency.model.LatencyAggregation;
 
 import com.sabre.oss.conf4j.annotation.Configuration;
+import com.sabre.oss.conf4j.annotation.Converter;
 import com.sabre.oss.conf4j.annotation.Default;
 import com.sabre.oss.conf4j.annotation.Key;
 
@@ -56,6 +59,20 @@ public interface IslLatencyTopologyConfig extends AbstractTopologyConfig {
     @Min(1)
     int getLatencyUpdateTimeRange();
 
+    @Key("latency.update.time.range.buckets") // latency time range is expired by this number of buckets
+    @Default("20")
+    @Min(1)
+    int getLatencyUpdateTimeRangeBuckets();
+
+    @Key("latency.update.aggregation") // average, p50 or p99 of the time range is sent to the database
+    @Default("average")
+    @Converter(EnumLowerCaseConverter.class)
+    LatencyAggregation getLatencyUpdateAggregation();
+
+    @Key("latency.percentiles.stats") // emit p50 and p99 of the time range on each database update
+    @Default("false")
+    boolean isLatencyPercentilesStats();
+
     @Key("latency.discovery.interval.multiplier")
     @Default("3")
     @Min(1)
@@ -18,31 +18,56 @@ package org.openkilda.wfm.topology.isllatency.bolts;
 import static org.openkilda.wfm.topology.isllatency.IslLatencyTopology.CACHE_DATA_FIELD;
 import static org.openkilda.wfm.topology.isllatency.IslLatencyTopology.LATENCY_DATA_FIELD;
 
+import org.openkilda.messaging.Utils;
+import org.openkilda.messaging.info.Datapoint;
 import org.openkilda.messaging.info.InfoData;
 import org.openkilda.messaging.info.event.IslOneWayLatency;
 import org.openkilda.messaging.info.event.IslRoundTripLatency;
+import org.openkilda.model.SwitchId;
 import org.openkilda.persistence.PersistenceManager;
 import org.openkilda.persistence.repositories.RepositoryFactory;
 import org.openkilda.persistence.tx.TransactionManager;
 import org.openkilda.wfm.AbstractBolt;
 import org.openkilda.wfm.error.PipelineException;
 import org.openkilda.wfm.share.model.Endpoint;
+import org.openkilda.wfm.share.utils.MetricFormatter;
+import org.openkilda.wfm.topology.isllatency.carriers.IslLatencyCarrier;
+import org.openkilda.wfm.topology.isllatency.model.LatencyAggregation;
+import org.openkilda.wfm.topology.isllatency.model.StreamType;
 import org.openkilda.wfm.topology.isllatency.service.IslLatencyService;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.storm.topology.OutputFieldsDeclarer;
 import org.apache.storm.tuple.Tuple;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
 @Slf4j
-public class IslLatencyBolt extends AbstractBolt {
+public class IslLatencyBolt extends AbstractBolt implements IslLatencyCarrier {
+    public static final String LATENCY_P50_METRIC_NAME = "isl.rtt.p50";
+    public static final String LATENCY_P99_METRIC_NAME = "isl.rtt.p99";
+
     private final long latencyUpdateInterval; // emit data in DB interval
     private final long latencyUpdateTimeRange; // average latency will be calculated in this time range
+    private final int latencyUpdateTimeRangeBuckets;
+    private final LatencyAggregation latencyUpdateAggregation;
+    private final boolean percentilesStats;
+    private final MetricFormatter metricFormatter;
     private transient IslLatencyService islLatencyService;
 
     public IslLatencyBolt(PersistenceManager persistenceManager, long latencyUpdateInterval,
-                          long latencyUpdateTimeRange) {
+                          long latencyUpdateTimeRange, int latencyUpdateTimeRangeBuckets,
+                          LatencyAggregation latencyUpdateAggregation, boolean percentilesStats, String metricPrefix) {
         super(persistenceManager);
         this.latencyUpdateInterval = latencyUpdateInterval;
         this.latencyUpdateTimeRange = latencyUpdateTimeRange;
+        this.latencyUpdateTimeRangeBuckets = latencyUpdateTimeRangeBuckets;
+        this.latencyUpdateAggregation = latencyUpdateAggregation;
+        this.percentilesStats = percentilesStats;
+        this.metricFormatter = new MetricFormatter(metricPrefix);
     }
 
     @Override
@@ -50,7 +75,8 @@ public class IslLatencyBolt extends AbstractBolt {
         TransactionManager transactionManager = persistenceManager.getTransactionManager();
         RepositoryFactory repositoryFactory = persistenceManager.getRepositoryFactory();
         islLatencyService = new IslLatencyService(transactionManager, repositoryFactory,
-                latencyUpdateInterval, latencyUpdateTimeRange);
+                latencyUpdateInterval, latencyUpdateTimeRange, latencyUpdateTimeRangeBuckets,
+                latencyUpdateAggregation, percentilesStats ? this : null);
     }
 
     @Override
@@ -67,4 +93,32 @@ public class IslLatencyBolt extends AbstractBolt {
             unhandledInput(input);
         }
     }
+
+    @Override
+    public void emitLatencyPercentiles(SwitchId srcSwitch, int srcPort, SwitchId dstSwitch, int dstPort, long p50,
+                                       long p99, long timestamp, String origin) {
+        Map<String, String> tags = new HashMap<>();
+        tags.put("src_switch", srcSwitch.toOtsdFormat());
+        tags.put("src_port", String.valueOf(srcPort));
+        tags.put("dst_switch", dstSwitch.toOtsdFormat());
+        tags.put("dst_port", String.valueOf(dstPort));
+        tags.put("origin", origin);
+
+        emitDatapoint(new Datapoint(metricFormatter.format(LATENCY_P50_METRIC_NAME), timestamp, tags, p50));
+        emitDatapoint(new Datapoint(metricFormatter.format(LATENCY_P99_METRIC_NAME), timestamp, tags, p99));
+    }
+
+    private void emitDatapoint(Datapoint datapoint) {
+        try {
+            emit(StreamType.STATS.toString(), getCurrentTuple(),
+                    Collections.singletonList(Utils.MAPPER.writeValueAsString(datapoint)));
+        } catch (JsonProcessingException e) {
+            log.error(String.format("Couldn't create OpenTSDB tuple: %s", e.getMessage()), e);
+        }
+    }
+
+    @Override
+    public void declareOutputFields(OutputFieldsDeclarer declarer) {
+        declarer.declareStream(StreamType.STATS.toString(), IslStatsBolt.OUTGOING_STREAM_FIELDS);
+    }
 }
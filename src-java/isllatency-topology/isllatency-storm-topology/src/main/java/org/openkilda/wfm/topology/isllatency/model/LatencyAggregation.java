@@ -1,4 +1,4 @@
-/* Copyright 2019 Telstra Open Source
+/* Copyright 2023 Telstra Open Source
  *
  *   Licensed under the Apache License, Version 2.0 (the "License");
  *   you may not use this file except in compliance with the License.
@@ -15,10 +15,11 @@
 
 package org.openkilda.wfm.topology.isllatency.model;
 
-import lombok.Value;
-
-@Value
-public class LatencyRecord {
-    long latency;
-    long timestamp;
+/**
+ * Aggregation of the latency window which is written into the database.
+ */
+public enum LatencyAggregation {
+    AVERAGE,
+    P50,
+    P99
 }
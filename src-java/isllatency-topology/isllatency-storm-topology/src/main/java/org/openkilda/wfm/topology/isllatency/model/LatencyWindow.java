@@ -0,0 +1,226 @@
+/* Copyright 2023 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.wfm.topology.isllatency.model;
+
+import com.google.common.base.Preconditions;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Sliding time window of latency samples without per sample allocation.
+ *
+ * <p>The time range is split into {@code bucketsCount} buckets, each bucket keeps the sum and the count of its
+ * samples, running totals are kept for the whole window. Whole buckets are expired, so after {@link #expire(long)}
+ * the window covers from {@code timeRange} up to {@code timeRange + timeRange / bucketsCount} of samples. Buckets
+ * are kept until they are expired and are reused afterwards.
+ *
+ * <p>If percentiles are enabled the window keeps one log-linear histogram of its samples (4 bins per power of two
+ * from 2^10 up to 2^35 ns), reported percentiles are the upper bounds of the matched bins, i.e. up to 25% above the
+ * exact value. Latency of a link is rather stable, so each bucket keeps only the few bins its samples fall into, to
+ * be able to subtract them from the histogram when the bucket is expired.
+ */
+public class LatencyWindow {
+    private static final int SUB_BINS_BITS = 2;
+    private static final int SUB_BINS = 1 << SUB_BINS_BITS;
+    // samples below 2^10 ns (~1 us) are counted in the first bin
+    private static final int MIN_EXPONENT = 10;
+    // samples above 2^35 ns (~34 seconds) are counted in the last bin
+    private static final int MAX_EXPONENT = 34;
+    private static final int BINS_COUNT = 1 + (MAX_EXPONENT - MIN_EXPONENT + 1) * SUB_BINS;
+
+    private final long bucketSpan;
+    private final long timeRange;
+    private final boolean percentiles;
+
+    private final NavigableMap<Long, Bucket> buckets = new TreeMap<>();
+    private final Deque<Bucket> freeBuckets = new ArrayDeque<>();
+    // lazily allocated on the first sample, if percentiles are enabled
+    private int[] histogram;
+
+    private long totalSum;
+    private long totalCount;
+
+    public LatencyWindow(long timeRange, int bucketsCount, boolean percentiles) {
+        Preconditions.checkArgument(0 < bucketsCount, "Buckets count must be positive (%s)", bucketsCount);
+        Preconditions.checkArgument(bucketsCount <= timeRange,
+                "Time range %s is too small for %s buckets", timeRange, bucketsCount);
+        this.timeRange = timeRange;
+        this.bucketSpan = timeRange / bucketsCount;
+        this.percentiles = percentiles;
+    }
+
+    /**
+     * Add a sample.
+     */
+    public void add(long latency, long timestamp) {
+        long bucketIndex = Math.floorDiv(timestamp, bucketSpan);
+        Bucket bucket = buckets.get(bucketIndex);
+        if (bucket == null) {
+            bucket = freeBuckets.isEmpty() ? new Bucket() : freeBuckets.pop();
+            buckets.put(bucketIndex, bucket);
+        }
+
+        bucket.sum += latency;
+        bucket.count++;
+        totalSum += latency;
+        totalCount++;
+        if (percentiles) {
+            if (histogram == null) {
+                histogram = new int[BINS_COUNT];
+            }
+            int bin = binIndex(latency);
+            histogram[bin]++;
+            bucket.addBin(bin);
+        }
+    }
+
+    /**
+     * Remove samples with timestamp before {@code now - timeRange}.
+     */
+    public void expire(long now) {
+        long oldestBucketIndex = Math.floorDiv(now - timeRange, bucketSpan);
+        Iterator<Bucket> expired = buckets.headMap(oldestBucketIndex).values().iterator();
+        while (expired.hasNext()) {
+            release(expired.next());
+            expired.remove();
+        }
+    }
+
+    public boolean isEmpty() {
+        return totalCount == 0;
+    }
+
+    public long getCount() {
+        return totalCount;
+    }
+
+    /**
+     * Get average latency of the window or -1 if the window is empty.
+     */
+    public long getAverage() {
+        if (totalCount == 0) {
+            return -1;
+        }
+        return totalSum / totalCount;
+    }
+
+    public boolean isPercentilesEnabled() {
+        return percentiles;
+    }
+
+    /**
+     * Get latency percentile of the window or -1 if the window is empty.
+     *
+     * @param percentile percentile in range (0, 100].
+     */
+    public long getPercentile(double percentile) {
+        Preconditions.checkState(percentiles, "Percentiles are not enabled for the latency window");
+        Preconditions.checkArgument(0 < percentile && percentile <= 100,
+                "Percentile must be in range (0, 100] (%s)", percentile);
+        if (totalCount == 0) {
+            return -1;
+        }
+
+        long rank = Math.max(1, (long) Math.ceil(totalCount * percentile / 100));
+        long seen = 0;
+        for (int bin = 0; bin < BINS_COUNT; bin++) {
+            seen += histogram[bin];
+            if (seen >= rank) {
+                return binUpperBound(bin);
+            }
+        }
+        return binUpperBound(BINS_COUNT - 1);
+    }
+
+    private void release(Bucket bucket) {
+        totalSum -= bucket.sum;
+        totalCount -= bucket.count;
+        if (histogram != null) {
+            for (int i = 0; i < bucket.binsSize; i++) {
+                histogram[bucket.getBin(i)] -= bucket.getBinCount(i);
+            }
+        }
+        bucket.clear();
+        freeBuckets.push(bucket);
+    }
+
+    static int binIndex(long value) {
+        if (value < 1L << MIN_EXPONENT) {
+            return 0;
+        }
+        int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+        if (exponent > MAX_EXPONENT) {
+            return BINS_COUNT - 1;
+        }
+        int subBin = (int) (value >>> (exponent - SUB_BINS_BITS)) & (SUB_BINS - 1);
+        return 1 + (exponent - MIN_EXPONENT) * SUB_BINS + subBin;
+    }
+
+    static long binUpperBound(int bin) {
+        if (bin == 0) {
+            return (1L << MIN_EXPONENT) - 1;
+        }
+        int exponent = (bin - 1) / SUB_BINS + MIN_EXPONENT;
+        long subBin = (bin - 1) % SUB_BINS;
+        long width = 1L << (exponent - SUB_BINS_BITS);
+        long lowerBound = (SUB_BINS + subBin) * width;
+        return lowerBound + width - 1;
+    }
+
+    private static final class Bucket {
+        private static final int INITIAL_BINS = 2;
+
+        private long sum;
+        private int count;
+        // an entry packs the bin index into the high and the samples count into the low 32 bits
+        private long[] bins;
+        private int binsSize;
+
+        void addBin(int bin) {
+            for (int i = 0; i < binsSize; i++) {
+                if (getBin(i) == bin) {
+                    bins[i]++;
+                    return;
+                }
+            }
+            if (bins == null) {
+                bins = new long[INITIAL_BINS];
+            } else if (binsSize == bins.length) {
+                bins = Arrays.copyOf(bins, binsSize * 2);
+            }
+            bins[binsSize++] = ((long) bin << 32) | 1;
+        }
+
+        int getBin(int i) {
+            return (int) (bins[i] >>> 32);
+        }
+
+        int getBinCount(int i) {
+            return (int) bins[i];
+        }
+
+        void clear() {
+            sum = 0;
+            count = 0;
+            binsSize = 0;
+        }
+    }
+}
@@ -25,8 +25,10 @@ import org.openkilda.persistence.tx.TransactionManager;
 import org.openkilda.wfm.error.IslNotFoundException;
 import org.openkilda.wfm.error.SwitchNotFoundException;
 import org.openkilda.wfm.share.model.Endpoint;
+import org.openkilda.wfm.topology.isllatency.carriers.IslLatencyCarrier;
 import org.openkilda.wfm.topology.isllatency.model.IslKey;
-import org.openkilda.wfm.topology.isllatency.model.LatencyRecord;
+import org.openkilda.wfm.topology.isllatency.model.LatencyAggregation;
+import org.openkilda.wfm.topology.isllatency.model.LatencyWindow;
 
 import com.google.common.annotations.VisibleForTesting;
 import lombok.extern.slf4j.Slf4j;
@@ -34,34 +36,57 @@ import lombok.extern.slf4j.Slf4j;
 import java.time.Instant;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.LinkedList;
 import java.util.Map;
-import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
 @Slf4j
 public class IslLatencyService {
     public static final String ONE_WAY_LATENCY = "one way";
     public static final String ROUND_TRIP_LATENCY = "round trip";
+    public static final int DEFAULT_WINDOW_BUCKETS = 20;
     private TransactionManager transactionManager;
     private IslRepository islRepository;
     private final long latencyUpdateInterval; // emit data in DB interval
     private final long latencyUpdateTimeRange; // average latency will be calculated in this time range
+    private final int windowBuckets;
+    private final LatencyAggregation aggregation;
+    private final IslLatencyCarrier carrier;
 
-    private Map<IslKey, Queue<LatencyRecord>> roundTripLatencyStorage;
-    private Map<IslKey, Queue<LatencyRecord>> oneWayLatencyStorage;
+    private Map<IslKey, LatencyWindow> roundTripLatencyStorage;
+    private Map<IslKey, LatencyWindow> oneWayLatencyStorage;
+    private Map<IslKey, String> roundTripLatencyOrigins; // origin of the last round trip latency record
     private Map<IslKey, Instant> nextUpdateTimeMap;
     private Set<IslKey> roundTripLatencyIsSet; // Contains ISLs for which round trip latency were stored in DB
 
     public IslLatencyService(TransactionManager transactionManager,
                              RepositoryFactory repositoryFactory, long latencyUpdateInterval,
                              long latencyUpdateTimeRange) {
+        this(transactionManager, repositoryFactory, latencyUpdateInterval, latencyUpdateTimeRange,
+                DEFAULT_WINDOW_BUCKETS, LatencyAggregation.AVERAGE, null);
+    }
+
+    /**
+     * Create the service.
+     *
+     * @param windowBuckets number of buckets of latency time range windows
+     * @param aggregation aggregation of the latency window written into the database
+     * @param carrier if not null, percentiles of the latency window are emitted on each database update
+     */
+    public IslLatencyService(TransactionManager transactionManager,
+                             RepositoryFactory repositoryFactory, long latencyUpdateInterval,
+                             long latencyUpdateTimeRange, int windowBuckets, LatencyAggregation aggregation,
+                             IslLatencyCarrier carrier) {
         this.transactionManager = transactionManager;
         this.latencyUpdateInterval = latencyUpdateInterval;
         this.latencyUpdateTimeRange = latencyUpdateTimeRange;
+        this.windowBuckets = windowBuckets;
+        this.aggregation = aggregation;
+        this.carrier = carrier;
         islRepository = repositoryFactory.createIslRepository();
         oneWayLatencyStorage = new HashMap<>();
         roundTripLatencyStorage = new HashMap<>();
+        roundTripLatencyOrigins = new HashMap<>();
         roundTripLatencyIsSet = new HashSet<>();
         nextUpdateTimeMap = new HashMap<>();
     }
@@ -87,8 +112,8 @@ public class IslLatencyService {
 
         IslKey islKey = new IslKey(data, destination);
 
-        roundTripLatencyStorage.putIfAbsent(islKey, new LinkedList<>());
-        roundTripLatencyStorage.get(islKey).add(new LatencyRecord(data.getLatency(), timestamp));
+        getWindow(roundTripLatencyStorage, islKey).add(data.getLatency(), timestamp);
+        roundTripLatencyOrigins.put(islKey, data.getOrigin());
 
         if (isUpdateRequired(islKey) || !roundTripLatencyIsSet.contains(islKey)) {
             updateRoundTripLatency(data, destination, islKey);
@@ -108,8 +133,7 @@ public class IslLatencyService {
 
         IslKey islKey = new IslKey(data);
 
-        oneWayLatencyStorage.putIfAbsent(islKey, new LinkedList<>());
-        oneWayLatencyStorage.get(islKey).add(new LatencyRecord(data.getLatency(), timestamp));
+        getWindow(oneWayLatencyStorage, islKey).add(data.getLatency(), timestamp);
 
         if (isUpdateRequired(islKey)) {
             updateOneWayLatencyIfNeeded(data, islKey);
@@ -117,7 +141,7 @@ public class IslLatencyService {
     }
 
     private void updateRoundTripLatency(IslRoundTripLatency data, Endpoint destination, IslKey islKey) {
-        Queue<LatencyRecord> roundTripRecords = roundTripLatencyStorage.get(islKey);
+        LatencyWindow roundTripRecords = roundTripLatencyStorage.get(islKey);
 
         pollExpiredRecords(roundTripRecords);
         pollExpiredRecords(oneWayLatencyStorage.get(islKey));
@@ -129,21 +153,23 @@ public class IslLatencyService {
                     destination.getDatapath(), destination.getPortNumber(), data.getPacketId(), data.getOrigin());
         }
 
-        long averageLatency = calculateAverageLatency(roundTripRecords);
+        long latency = calculateLatency(roundTripRecords);
 
-        boolean updated = updateLatencyInDataBase(data, destination, averageLatency);
+        boolean updated = updateLatencyInDataBase(data, destination, latency);
 
         if (updated) {
+            emitPercentiles(data.getSrcSwitchId(), data.getSrcPortNo(), destination.getDatapath(),
+                    destination.getPortNumber(), roundTripRecords, data.getOrigin());
             nextUpdateTimeMap.put(islKey, getNextUpdateTime());
             roundTripLatencyIsSet.add(islKey);
         }
     }
 
     private void updateOneWayLatencyIfNeeded(IslOneWayLatency data, IslKey islKey) {
-        Queue<LatencyRecord> oneWayRecords = oneWayLatencyStorage.get(islKey);
+        LatencyWindow oneWayRecords = oneWayLatencyStorage.get(islKey);
         pollExpiredRecords(oneWayRecords);
 
-        Queue<LatencyRecord> roundTripRecords = roundTripLatencyStorage.get(islKey);
+        LatencyWindow roundTripRecords = roundTripLatencyStorage.get(islKey);
         pollExpiredRecords(roundTripRecords);
         if (roundTripRecords != null && !roundTripRecords.isEmpty()) {
             // next round trip latency packet will update ISL latency
@@ -151,14 +177,20 @@ public class IslLatencyService {
         }
 
         IslKey reverseIslKey = islKey.getReverse();
-        Queue<LatencyRecord> reverseRoundTripRecords = roundTripLatencyStorage.get(reverseIslKey);
+        LatencyWindow reverseRoundTripRecords = roundTripLatencyStorage.get(reverseIslKey);
         pollExpiredRecords(reverseRoundTripRecords);
 
         boolean updated;
+        LatencyWindow usedRecords;
+        String origin;
         if (reverseRoundTripRecords != null && !reverseRoundTripRecords.isEmpty()) {
             // reverse ISL has round trip latency records. We can use them for forward ISL
-            long averageReverseLatency = calculateAverageLatency(reverseRoundTripRecords);
-            updated = updateLatencyInDataBase(data, averageReverseLatency);
+            long reverseLatency = calculateLatency(reverseRoundTripRecords);
+            origin = roundTripLatencyOrigins.get(reverseIslKey);
+            updated = updateLatencyInDataBase(data.getSrcSwitchId(), data.getSrcPortNo(),
+                    data.getDstSwitchId(), data.getDstPortNo(), reverseLatency, data.getPacketId(),
+                    ROUND_TRIP_LATENCY, origin);
+            usedRecords = reverseRoundTripRecords;
         } else {
             // There are no round trip latency records for both ISL direction. We have to use one way latency records
             if (oneWayRecords.isEmpty()) {
@@ -169,11 +201,15 @@ public class IslLatencyService {
                 return;
             }
 
-            long averageOneWayLatency = calculateAverageLatency(oneWayRecords);
-            updated = updateLatencyInDataBase(data, averageOneWayLatency);
+            long oneWayLatency = calculateLatency(oneWayRecords);
+            updated = updateLatencyInDataBase(data, oneWayLatency);
+            usedRecords = oneWayRecords;
+            origin = ONE_WAY_LATENCY;
         }
 
         if (updated) {
+            emitPercentiles(data.getSrcSwitchId(), data.getSrcPortNo(), data.getDstSwitchId(), data.getDstPortNo(),
+                    usedRecords, origin);
             nextUpdateTimeMap.put(islKey, getNextUpdateTime());
             roundTripLatencyIsSet.remove(islKey);
         }
@@ -211,30 +247,44 @@ public class IslLatencyService {
         return true;
     }
 
+    private LatencyWindow getWindow(Map<IslKey, LatencyWindow> storage, IslKey islKey) {
+        return storage.computeIfAbsent(islKey, key -> new LatencyWindow(
+                TimeUnit.SECONDS.toMillis(latencyUpdateTimeRange), windowBuckets,
+                carrier != null || aggregation != LatencyAggregation.AVERAGE));
+    }
+
+    private void emitPercentiles(SwitchId srcSwitch, int srcPort, SwitchId dstSwitch, int dstPort,
+                                 LatencyWindow window, String origin) {
+        if (carrier != null) {
+            carrier.emitLatencyPercentiles(srcSwitch, srcPort, dstSwitch, dstPort, window.getPercentile(50),
+                    window.getPercentile(99), System.currentTimeMillis(), origin);
+        }
+    }
+
     @VisibleForTesting
-    void pollExpiredRecords(Queue<LatencyRecord> recordsQueue) {
-        if (recordsQueue == null) {
+    void pollExpiredRecords(LatencyWindow window) {
+        if (window == null) {
             return;
         }
-        Instant oldestTimeInRange = Instant.now().minusSeconds(latencyUpdateTimeRange);
-        while (!recordsQueue.isEmpty()
-                && Instant.ofEpochMilli(recordsQueue.peek().getTimestamp()).isBefore(oldestTimeInRange)) {
-            recordsQueue.poll();
-        }
+        window.expire(Instant.now().toEpochMilli());
     }
 
     @VisibleForTesting
-    long calculateAverageLatency(Queue<LatencyRecord> recordsQueue) {
-        if (recordsQueue.isEmpty()) {
-            log.error("Couldn't calculate average latency. Records queue is empty");
+    long calculateLatency(LatencyWindow window) {
+        if (window.isEmpty()) {
+            log.error("Couldn't calculate latency. Records window is empty");
             return -1;
         }
 
-        long sum = 0;
-        for (LatencyRecord record : recordsQueue) {
-            sum += record.getLatency();
+        switch (aggregation) {
+            case P50:
+                return window.getPercentile(50);
+            case P99:
+                return window.getPercentile(99);
+            case AVERAGE:
+            default:
+                return window.getAverage();
         }
-        return sum / recordsQueue.size();
     }
 
     @VisibleForTesting
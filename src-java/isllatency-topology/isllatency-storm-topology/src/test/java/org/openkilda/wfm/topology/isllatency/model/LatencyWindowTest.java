@@ -0,0 +1,106 @@
+/* Copyright 2023 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.wfm.topology.isllatency.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+public class LatencyWindowTest {
+    private static final long TIME_RANGE = 10_000;
+    private static final int BUCKETS = 10;
+
+    @Test
+    public void averageOfSamplesInRange() {
+        LatencyWindow window = new LatencyWindow(TIME_RANGE, BUCKETS, false);
+        window.add(10, 0);
+        window.add(20, 4_000);
+        window.add(60, 9_000);
+
+        window.expire(9_000);
+        assertEquals(3, window.getCount());
+        assertEquals(30, window.getAverage());
+
+        window.expire(15_500);
+        assertEquals(1, window.getCount());
+        assertEquals(60, window.getAverage());
+
+        window.expire(20_000);
+        assertTrue(window.isEmpty());
+        assertEquals(-1, window.getAverage());
+    }
+
+    @Test
+    public void samplesAreKeptUntilExpired() {
+        LatencyWindow window = new LatencyWindow(TIME_RANGE, BUCKETS, false);
+        window.add(10, 0);
+        window.add(30, 11_000);
+        // late sample of an already used bucket
+        window.add(50, 500);
+        assertEquals(3, window.getCount());
+
+        window.expire(11_000);
+        assertEquals(1, window.getCount());
+        assertEquals(30, window.getAverage());
+
+        // expired bucket is reused by a new sample
+        window.add(90, 12_000);
+        assertEquals(2, window.getCount());
+        assertEquals(60, window.getAverage());
+    }
+
+    @Test
+    public void percentiles() {
+        LatencyWindow window = new LatencyWindow(TIME_RANGE, BUCKETS, true);
+        for (int i = 1; i <= 100; i++) {
+            window.add(i * 1000, i * 50);
+        }
+
+        assertEquals(50_000, window.getPercentile(50), 50_000 / 4);
+        assertEquals(99_000, window.getPercentile(99), 99_000 / 4);
+        assertEquals(100_000, window.getPercentile(100), 100_000 / 4);
+        assertTrue(window.getPercentile(50) >= 50_000);
+    }
+
+    @Test
+    public void percentilesOfExpiredBucketsAreDropped() {
+        LatencyWindow window = new LatencyWindow(TIME_RANGE, BUCKETS, true);
+        for (int i = 0; i < 10; i++) {
+            window.add(1_000_000, i);
+            window.add(10_000 + i, 5_000 + i);
+        }
+        assertTrue(window.getPercentile(100) >= 1_000_000);
+
+        window.expire(15_500);
+        assertEquals(10, window.getCount());
+        assertEquals(10_000, window.getPercentile(100), 10_000 / 4);
+        assertTrue(window.getPercentile(100) >= 10_009);
+    }
+
+    @Test
+    public void binBoundsCoverValues() {
+        Random random = new Random(7);
+        for (int i = 0; i < 10_000; i++) {
+            long value = random.nextInt(8) == 0 ? random.nextInt(2048) : (long) (random.nextDouble() * (1L << 35));
+            int bin = LatencyWindow.binIndex(value);
+            assertTrue(value <= LatencyWindow.binUpperBound(bin));
+            assertTrue(bin == 0 || LatencyWindow.binUpperBound(bin - 1) < value);
+        }
+    }
+}
@@ -32,14 +32,13 @@ import org.openkilda.wfm.error.IslNotFoundException;
 import org.openkilda.wfm.error.SwitchNotFoundException;
 import org.openkilda.wfm.share.model.Endpoint;
 import org.openkilda.wfm.topology.isllatency.model.IslKey;
-import org.openkilda.wfm.topology.isllatency.model.LatencyRecord;
+import org.openkilda.wfm.topology.isllatency.model.LatencyAggregation;
+import org.openkilda.wfm.topology.isllatency.model.LatencyWindow;
 
 import org.junit.Before;
 import org.junit.Test;
 
 import java.time.Instant;
-import java.util.LinkedList;
-import java.util.Queue;
 
 public class IslLatencyServiceTest extends InMemoryGraphBasedTest {
     private static final SwitchId SWITCH_ID_1 = new SwitchId("00:00:00:00:00:00:00:01");
@@ -195,42 +194,63 @@ public class IslLatencyServiceTest extends InMemoryGraphBasedTest {
 
     @Test
     public void calculateAverageLatencyTest() {
-        Queue<LatencyRecord> latencyRecords = new LinkedList<>();
+        LatencyWindow latencyRecords = createLatencyWindow();
 
         for (int i = 1; i <= 5; i++) {
-            latencyRecords.add(new LatencyRecord(i, 1));
+            latencyRecords.add(i, 1);
         }
-        assertEquals(3, islLatencyService.calculateAverageLatency(latencyRecords));
+        assertEquals(3, islLatencyService.calculateLatency(latencyRecords));
     }
 
     @Test
     public void calculateAverageLatencyEmptyTest() {
-        assertEquals(-1, islLatencyService.calculateAverageLatency(new LinkedList<>()));
+        assertEquals(-1, islLatencyService.calculateLatency(createLatencyWindow()));
+    }
+
+    @Test
+    public void calculateP99LatencyTest() {
+        islLatencyService = new IslLatencyService(
+                persistenceManager.getTransactionManager(), persistenceManager.getRepositoryFactory(),
+                LATENCY_UPDATE_INTERVAL, LATENCY_UPDATE_TIME_RANGE, IslLatencyService.DEFAULT_WINDOW_BUCKETS,
+                LatencyAggregation.P99, null);
+        LatencyWindow latencyRecords = new LatencyWindow(LATENCY_UPDATE_TIME_RANGE * 1000,
+                IslLatencyService.DEFAULT_WINDOW_BUCKETS, true);
+        for (int i = 0; i < 99; i++) {
+            latencyRecords.add(1, 1);
+        }
+        latencyRecords.add(1000, 1);
+        latencyRecords.add(1000, 1);
+
+        // p99 is reported as the upper bound of the histogram bin
+        assertEquals(1023, islLatencyService.calculateLatency(latencyRecords));
     }
 
     @Test
     public void pollExpiredRecordsTest() {
         Instant time = Instant.now().minusSeconds(LATENCY_UPDATE_TIME_RANGE * 2);
-        Queue<LatencyRecord> latencyRecords = new LinkedList<>();
+        LatencyWindow latencyRecords = createLatencyWindow();
 
         for (int i = 0; i < 5; i++) {
-            latencyRecords.add(new LatencyRecord(i, time.toEpochMilli()));
+            latencyRecords.add(i, time.toEpochMilli());
             time = time.plusSeconds(1);
         }
 
         time = Instant.now().minusSeconds(LATENCY_UPDATE_TIME_RANGE - 7);
         for (int i = 5; i < 10; i++) {
-            latencyRecords.add(new LatencyRecord(i, time.toEpochMilli()));
+            latencyRecords.add(i, time.toEpochMilli());
             time = time.plusSeconds(1);
         }
 
-        assertEquals(10, latencyRecords.size());
+        assertEquals(10, latencyRecords.getCount());
         islLatencyService.pollExpiredRecords(latencyRecords);
-        assertEquals(5, latencyRecords.size());
+        assertEquals(5, latencyRecords.getCount());
 
-        for (int i = 5; i < 10; i++) {
-            assertEquals(i, latencyRecords.poll().getLatency());
-        }
+        // only records 5..9 are left
+        assertEquals(7, latencyRecords.getAverage());
+    }
+
+    private LatencyWindow createLatencyWindow() {
+        return new LatencyWindow(LATENCY_UPDATE_TIME_RANGE * 1000, IslLatencyService.DEFAULT_WINDOW_BUCKETS, false);
     }
 
     private Switch createSwitch(SwitchId switchId) {
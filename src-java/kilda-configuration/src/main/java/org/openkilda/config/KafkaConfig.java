@@ -27,4 +27,11 @@ public interface KafkaConfig {
     @Key("hosts")
     @NotBlank
     String getHosts();
+
+    /**
+     * Comma separated list of topics which are encoded in the binary (Smile) wire format. Storm consumers read both
+     * JSON and binary messages, so the list must contain only topics consumed by storm topologies.
+     */
+    @Key("binary.topics")
+    String getBinaryTopics();
 }
@@ -0,0 +1,137 @@
+/* Copyright 2023 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.pce.finder;
+
+import org.openkilda.model.SwitchId;
+import org.openkilda.pce.exception.UnroutableFlowException;
+import org.openkilda.pce.impl.AvailableNetwork;
+import org.openkilda.pce.model.Edge;
+import org.openkilda.pce.model.FindOneDirectionPathResult;
+import org.openkilda.pce.model.FindPathResult;
+import org.openkilda.pce.model.PathWeight;
+import org.openkilda.pce.model.WeightFunction;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link BestWeightAndShortestPathFinder} and {@link PriorityQueuePathFinder} on synthetic topologies.
+ * Run with {@code ./gradlew :kilda-pce:jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PathFinderBenchmark {
+    private static final int ALLOWED_DEPTH = 35;
+    private static final WeightFunction WEIGHT_FUNCTION = edge -> new PathWeight(edge.getCost());
+
+    @Param({"100", "600"})
+    public int switchCount;
+
+    /**
+     * Number of extra random links of each switch in addition to the ring which keeps the topology connected.
+     */
+    @Param({"3"})
+    public int meshDegree;
+
+    @Param({"BEST_WEIGHT", "PRIORITY_QUEUE"})
+    public String finderType;
+
+    /**
+     * Number of threads which compute spur paths of Yen's algorithm.
+     */
+    @Param({"1", "4"})
+    public int yenParallelism;
+
+    private PathFinder finder;
+    private AvailableNetwork network;
+    private SwitchId srcSwitchId;
+    private SwitchId dstSwitchId;
+
+    /**
+     * Builds a ring of switches with random chords and random ISL costs.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        if ("PRIORITY_QUEUE".equals(finderType)) {
+            finder = new PriorityQueuePathFinder(ALLOWED_DEPTH, yenParallelism);
+        } else {
+            finder = new BestWeightAndShortestPathFinder(ALLOWED_DEPTH, yenParallelism);
+        }
+
+        Random random = new Random(42);
+        network = new AvailableNetwork();
+        int[] nextPort = new int[switchCount];
+        for (int i = 0; i < switchCount; i++) {
+            addBidirectionalLink(i, (i + 1) % switchCount, nextPort, 1 + random.nextInt(1000));
+            for (int j = 0; j < meshDegree; j++) {
+                int peer = random.nextInt(switchCount);
+                if (peer != i) {
+                    addBidirectionalLink(i, peer, nextPort, 1 + random.nextInt(1000));
+                }
+            }
+        }
+        srcSwitchId = new SwitchId(0);
+        dstSwitchId = new SwitchId(switchCount / 2);
+    }
+
+    @Benchmark
+    public FindPathResult findPathWithMinWeight() throws UnroutableFlowException {
+        return finder.findPathWithMinWeight(network, srcSwitchId, dstSwitchId, WEIGHT_FUNCTION);
+    }
+
+    @Benchmark
+    public List<FindOneDirectionPathResult> findNPathsBetweenSwitches() throws UnroutableFlowException {
+        return finder.findNPathsBetweenSwitches(network, srcSwitchId, dstSwitchId, 10, WEIGHT_FUNCTION);
+    }
+
+    private void addBidirectionalLink(int first, int second, int[] nextPort, int cost) {
+        int firstPort = ++nextPort[first];
+        int secondPort = ++nextPort[second];
+        addLink(first, second, firstPort, secondPort, cost);
+        addLink(second, first, secondPort, firstPort, cost);
+    }
+
+    private void addLink(int src, int dst, int srcPort, int dstPort, int cost) {
+        Edge edge = Edge.builder()
+                .srcSwitch(network.getOrAddNode(new SwitchId(src), null))
+                .srcPort(srcPort)
+                .destSwitch(network.getOrAddNode(new SwitchId(dst), null))
+                .destPort(dstPort)
+                .cost(cost)
+                .latency(cost)
+                .availableBandwidth(10_000_000)
+                .build();
+        network.addEdge(edge);
+    }
+}
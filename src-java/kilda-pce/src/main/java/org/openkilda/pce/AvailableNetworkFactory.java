@@ -22,15 +22,20 @@ import org.openkilda.model.FlowEncapsulationType;
 import org.openkilda.model.FlowPath;
 import org.openkilda.model.HaFlow;
 import org.openkilda.model.HaSubFlow;
+import org.openkilda.model.IslEndpoint;
 import org.openkilda.model.PathId;
 import org.openkilda.model.SwitchId;
+import org.openkilda.pce.Path.Segment;
 import org.openkilda.pce.exception.RecoverableException;
 import org.openkilda.pce.impl.AvailableNetwork;
+import org.openkilda.pce.impl.NetworkSnapshot;
+import org.openkilda.pce.impl.NetworkSnapshotHolder;
 import org.openkilda.pce.model.Edge;
 import org.openkilda.pce.model.Node;
 import org.openkilda.persistence.exceptions.PersistenceException;
 import org.openkilda.persistence.repositories.FlowPathRepository;
 import org.openkilda.persistence.repositories.IslRepository;
+import org.openkilda.persistence.repositories.IslRepository.IslEndpoints;
 import org.openkilda.persistence.repositories.IslRepository.IslImmutableView;
 import org.openkilda.persistence.repositories.RepositoryFactory;
 
@@ -40,11 +45,17 @@ import lombok.NonNull;
 import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
 
+import java.time.Clock;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -56,11 +67,24 @@ public class AvailableNetworkFactory {
     private final PathComputerConfig config;
     private final IslRepository islRepository;
     private final FlowPathRepository flowPathRepository;
+    private final NetworkSnapshotHolder networkSnapshotHolder;
+    private final Clock clock;
 
     public AvailableNetworkFactory(PathComputerConfig config, RepositoryFactory repositoryFactory) {
+        this(config, repositoryFactory, Clock.systemUTC());
+    }
+
+    AvailableNetworkFactory(PathComputerConfig config, RepositoryFactory repositoryFactory, Clock clock) {
         this.config = config;
         this.islRepository = repositoryFactory.createIslRepository();
         this.flowPathRepository = repositoryFactory.createFlowPathRepository();
+        this.clock = clock;
+        if (config.isNetworkSnapshotEnabled()) {
+            this.networkSnapshotHolder = new NetworkSnapshotHolder(islRepository,
+                    Duration.ofMillis(config.getNetworkSnapshotMaxAgeMs()), clock);
+        } else {
+            this.networkSnapshotHolder = null;
+        }
     }
 
     /**
@@ -87,17 +111,140 @@ public class AvailableNetworkFactory {
         return getAvailableNetwork(new FlowParameters(haFlow), reusePathsResources);
     }
 
+    /**
+     * Gets a {@link AvailableNetwork} for a flow built over the provided network snapshot instead of the database or
+     * the worker snapshot. Used to compute paths for a batch of flows over the same view of the network.
+     *
+     * @param flow the flow, for which {@link AvailableNetwork} is constructing.
+     * @param reusePathsResources reuse resources already allocated by {@param reusePathsResources} paths.
+     * @param reusePaths the paths loaded by {@link #findReusePaths(Flow, Collection)} for the same flow.
+     * @param snapshot the network snapshot with ISLs for the flow encapsulation type.
+     * @return {@link AvailableNetwork} instance.
+     */
+    public AvailableNetwork getAvailableNetwork(Flow flow, Collection<PathId> reusePathsResources,
+                                                Collection<FlowPath> reusePaths, NetworkSnapshot snapshot)
+            throws RecoverableException {
+        return getAvailableNetwork(new FlowParameters(flow), reusePathsResources, reusePaths, snapshot);
+    }
+
+    /**
+     * Loads the paths which bandwidth can be reused by the flow: the given paths and the paths sharing bandwidth
+     * with the flow. Paths which ignore bandwidth are skipped.
+     */
+    public Collection<FlowPath> findReusePaths(Flow flow, Collection<PathId> reusePathsResources)
+            throws RecoverableException {
+        FlowParameters parameters = new FlowParameters(flow);
+        if (parameters.isIgnoreBandwidth()) {
+            return new ArrayList<>();
+        }
+        try {
+            return flowPathRepository.findByIds(getReusePaths(parameters, reusePathsResources)).values().stream()
+                    .filter(path -> !path.isIgnoreBandwidth())
+                    .collect(Collectors.toList());
+        } catch (PersistenceException e) {
+            throw new RecoverableException("An error from the database", e);
+        }
+    }
+
+    /**
+     * Removes ISLs which start or end at the failed endpoints from the worker snapshot, so they are not used by path
+     * computation until the snapshot is reloaded. Does nothing if the snapshot is disabled.
+     */
+    public void handleIslFailure(Collection<IslEndpoint> endpoints) {
+        if (networkSnapshotHolder != null && !endpoints.isEmpty()) {
+            networkSnapshotHolder.islFailed(endpoints);
+        }
+    }
+
+    /**
+     * Gets a network snapshot with all active ISLs for the encapsulation type. The snapshot is taken from the worker
+     * snapshot if it's enabled, otherwise ISLs are read from the database.
+     */
+    public NetworkSnapshot getNetworkSnapshot(FlowEncapsulationType encapsulationType) throws RecoverableException {
+        try {
+            if (networkSnapshotHolder != null) {
+                return networkSnapshotHolder.getSnapshot(encapsulationType);
+            }
+            return NetworkSnapshot.empty(clock.instant())
+                    .withIsls(encapsulationType, islRepository.findActiveByEncapsulationType(encapsulationType));
+        } catch (PersistenceException e) {
+            throw new RecoverableException("An error from the database", e);
+        }
+    }
+
+    /**
+     * Adds active ISLs for the encapsulation type into the snapshot if they are not there yet. Bandwidth changes
+     * already applied to the snapshot are kept and applied to the added ISLs as well.
+     */
+    public NetworkSnapshot getNetworkSnapshot(NetworkSnapshot snapshot, FlowEncapsulationType encapsulationType)
+            throws RecoverableException {
+        if (snapshot.isLoaded(encapsulationType)) {
+            return snapshot;
+        }
+        return snapshot.withIsls(encapsulationType,
+                getNetworkSnapshot(encapsulationType).getIsls(encapsulationType));
+    }
+
+    /**
+     * Subtracts the bandwidth of the flow paths from ISLs of the snapshot. The bandwidth already allocated on an ISL
+     * by the reused paths is taken into account, so only the difference is subtracted.
+     *
+     * @param snapshot the network snapshot the paths were found in.
+     * @param flow the flow the paths were found for.
+     * @param reusePaths the paths loaded by {@link #findReusePaths(Flow, Collection)} for the flow.
+     * @param paths the found paths.
+     * @return the snapshot with the updated available bandwidth.
+     */
+    public NetworkSnapshot reserveBandwidth(NetworkSnapshot snapshot, Flow flow,
+                                            Collection<FlowPath> reusePaths, GetPathsResult paths) {
+        FlowParameters parameters = new FlowParameters(flow);
+        if (parameters.isIgnoreBandwidth() || parameters.getBandwidth() == 0) {
+            return snapshot;
+        }
+
+        Map<IslEndpoints, Long> reusedBandwidth = new HashMap<>();
+        reusePaths.forEach(path -> path.getSegments().forEach(segment -> reusedBandwidth.merge(
+                NetworkSnapshot.makeEndpoints(segment.getSrcSwitchId(), segment.getSrcPort(),
+                        segment.getDestSwitchId(), segment.getDestPort()),
+                segment.getBandwidth(), Long::sum)));
+
+        Map<IslEndpoints, Long> availableBandwidth = new HashMap<>();
+        for (Path path : Arrays.asList(paths.getForward(), paths.getReverse())) {
+            for (Segment segment : path.getSegments()) {
+                IslEndpoints endpoints = NetworkSnapshot.makeEndpoints(segment.getSrcSwitchId(),
+                        segment.getSrcPort(), segment.getDestSwitchId(), segment.getDestPort());
+                IslImmutableView isl = snapshot.getIsl(parameters.getEncapsulationType(), endpoints);
+                long required = parameters.getBandwidth() - reusedBandwidth.getOrDefault(endpoints, 0L);
+                if (isl != null && required > 0) {
+                    availableBandwidth.put(endpoints, isl.getAvailableBandwidth() - required);
+                }
+            }
+        }
+        return availableBandwidth.isEmpty() ? snapshot : snapshot.withAvailableBandwidth(availableBandwidth);
+    }
+
     private AvailableNetwork getAvailableNetwork(FlowParameters parameters, Collection<PathId> reusePathsResources)
             throws RecoverableException {
+        return getAvailableNetwork(parameters, reusePathsResources, null, null);
+    }
+
+    private AvailableNetwork getAvailableNetwork(FlowParameters parameters, Collection<PathId> reusePathsResources,
+                                                 Collection<FlowPath> reusePaths, NetworkSnapshot snapshot)
+            throws RecoverableException {
         BuildStrategy buildStrategy = BuildStrategy.from(config.getNetworkStrategy());
         AvailableNetwork network = new AvailableNetwork();
         try {
+            if (snapshot == null && networkSnapshotHolder != null) {
+                snapshot = networkSnapshotHolder.getSnapshot(parameters.getEncapsulationType());
+            }
             // Reads all active links from the database and creates representation of the network.
-            getAvailableIsls(buildStrategy, parameters).forEach(link -> addIslAsEdge(link, network));
+            getAvailableIsls(buildStrategy, parameters, snapshot).forEach(link -> addIslAsEdge(link, network));
             if (!parameters.isIgnoreBandwidth()) {
-                Set<PathId> reusePaths = new HashSet<>(reusePathsResources);
-                reusePaths.addAll(findSharedBandwidthPathIds(parameters));
-                reuseResources(reusePaths, parameters, network);
+                if (reusePaths != null) {
+                    reuseResourcesFromSnapshot(reusePaths, parameters, network, snapshot);
+                } else {
+                    reuseResources(getReusePaths(parameters, reusePathsResources), parameters, network, snapshot);
+                }
             }
         } catch (PersistenceException e) {
             throw new RecoverableException("An error from the database", e);
@@ -116,6 +263,12 @@ public class AvailableNetworkFactory {
         return network;
     }
 
+    private Set<PathId> getReusePaths(FlowParameters parameters, Collection<PathId> reusePathsResources) {
+        Set<PathId> reusePaths = new HashSet<>(reusePathsResources);
+        reusePaths.addAll(findSharedBandwidthPathIds(parameters));
+        return reusePaths;
+    }
+
     private Set<PathId> findSharedBandwidthPathIds(FlowParameters parameters) {
         String sharedBandwidthGroupId = null;
         if (parameters.isCommonFlow() && parameters.getYFlowId() != null) {
@@ -186,8 +339,17 @@ public class AvailableNetworkFactory {
                 .forEach(network::processAffinitySegments);
     }
 
-    private void reuseResources(
-            Collection<PathId> reusePathsResources, FlowParameters parameters, AvailableNetwork network) {
+    private void reuseResources(Collection<PathId> reusePathsResources, FlowParameters parameters,
+                                AvailableNetwork network, NetworkSnapshot snapshot) {
+        if (snapshot != null) {
+            reuseResourcesFromSnapshot(reusePathsResources.stream()
+                    .map(flowPathRepository::findById)
+                    .filter(Optional::isPresent)
+                    .map(Optional::get)
+                    .filter(path -> !path.isIgnoreBandwidth())
+                    .collect(Collectors.toList()), parameters, network, snapshot);
+            return;
+        }
         reusePathsResources.stream()
                 .filter(pathId -> flowPathRepository.findById(pathId)
                         .map(path -> !path.isIgnoreBandwidth())
@@ -200,7 +362,27 @@ public class AvailableNetworkFactory {
                 });
     }
 
-    private Collection<IslImmutableView> getAvailableIsls(BuildStrategy buildStrategy, FlowParameters parameters) {
+    /**
+     * Looks for ISLs occupied by the reused paths in the network snapshot instead of the database, takes the
+     * bandwidth already occupied by the path segment into account.
+     */
+    private void reuseResourcesFromSnapshot(Collection<FlowPath> reusePaths, FlowParameters parameters,
+                                            AvailableNetwork network, NetworkSnapshot snapshot) {
+        reusePaths.forEach(path -> path.getSegments().forEach(segment -> {
+            IslImmutableView isl = snapshot.getIsl(parameters.getEncapsulationType(),
+                    NetworkSnapshot.makeEndpoints(segment.getSrcSwitchId(), segment.getSrcPort(),
+                            segment.getDestSwitchId(), segment.getDestPort()));
+            if (isl != null && isl.getAvailableBandwidth() >= parameters.getBandwidth() - segment.getBandwidth()) {
+                addIslAsEdge(isl, network);
+            }
+        }));
+    }
+
+    private Collection<IslImmutableView> getAvailableIsls(BuildStrategy buildStrategy, FlowParameters parameters,
+                                                          NetworkSnapshot snapshot) {
+        if (snapshot != null) {
+            return getAvailableIslsFromSnapshot(buildStrategy, parameters, snapshot);
+        }
         if (buildStrategy == BuildStrategy.COST) {
             Collection<IslImmutableView> isls;
             if (parameters.isIgnoreBandwidth()) {
@@ -226,6 +408,37 @@ public class AvailableNetworkFactory {
         }
     }
 
+    /**
+     * Filters ISLs of the network snapshot the same way as the corresponding {@link IslRepository} queries do.
+     */
+    private Collection<IslImmutableView> getAvailableIslsFromSnapshot(
+            BuildStrategy buildStrategy, FlowParameters parameters, NetworkSnapshot snapshot) {
+        Collection<IslImmutableView> isls = snapshot.getIsls(parameters.getEncapsulationType());
+        if (!parameters.isIgnoreBandwidth()) {
+            if (buildStrategy == BuildStrategy.COST) {
+                isls = isls.stream()
+                        .filter(isl -> isl.getAvailableBandwidth() >= parameters.getBandwidth())
+                        .collect(Collectors.toList());
+            } else if (buildStrategy == BuildStrategy.SYMMETRIC_COST) {
+                isls = isls.stream()
+                        .filter(isl -> isl.getAvailableBandwidth() >= parameters.getBandwidth())
+                        .filter(isl -> {
+                            IslEndpoints reverse = NetworkSnapshot.makeEndpoints(isl.getDestSwitchId(),
+                                    isl.getDestPort(), isl.getSrcSwitchId(), isl.getSrcPort());
+                            IslImmutableView reverseIsl = snapshot.getIsl(parameters.getEncapsulationType(), reverse);
+                            return reverseIsl != null
+                                    && reverseIsl.getAvailableBandwidth() >= parameters.getBandwidth();
+                        })
+                        .collect(Collectors.toList());
+            } else {
+                throw new UnsupportedOperationException(
+                        String.format("Unsupported buildStrategy type %s", buildStrategy));
+            }
+        }
+        validateIslsCost(isls);
+        return isls;
+    }
+
     private void validateIslsCost(Collection<IslImmutableView> isls) {
         List<String> messages = new ArrayList<>();
 
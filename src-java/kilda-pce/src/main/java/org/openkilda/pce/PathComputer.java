@@ -19,6 +19,7 @@ import org.openkilda.model.Flow;
 import org.openkilda.model.FlowEncapsulationType;
 import org.openkilda.model.FlowPath;
 import org.openkilda.model.HaFlow;
+import org.openkilda.model.IslEndpoint;
 import org.openkilda.model.PathComputationStrategy;
 import org.openkilda.model.PathId;
 import org.openkilda.model.SwitchId;
@@ -57,6 +58,20 @@ public interface PathComputer {
     GetPathsResult getPath(Flow flow, Collection<PathId> reusePathsResources, boolean isProtected)
             throws UnroutableFlowException, RecoverableException;
 
+    /**
+     * Gets paths for a batch of flows, e.g. flows affected by the same ISL failure. The network is read once per
+     * encapsulation type, flows are processed in priority order and the bandwidth taken by each found path is
+     * subtracted before computing the next one, so the result doesn't overbook ISLs.
+     * The flowhs reroute FSM doesn't use it yet, it still computes a path per reroute request.
+     *
+     * @param flows the {@link Flow} instances.
+     * @param reusePathsResources allow already allocated path resources (bandwidth)
+     *                            be reused in new path computation, each flow reuses only its own paths.
+     * @return {@link GetFlowPathsResult} for each flow in the order of processing.
+     */
+    List<GetFlowPathsResult> getPaths(Collection<Flow> flows, Collection<PathId> reusePathsResources,
+                                      boolean isProtected) throws RecoverableException;
+
     /**
      * Gets a ha-path for specified haflow.
      *
@@ -98,6 +113,12 @@ public interface PathComputer {
                          Duration maxLatency, Duration maxLatencyTier2)
             throws RecoverableException, UnroutableFlowException;
 
+    /**
+     * Notifies about failed ISL endpoints, e.g. taken from a reroute request. ISLs which start or end at them are
+     * not used by path computation until the actual ISL state is read from the database.
+     */
+    void handleIslFailure(Collection<IslEndpoint> endpoints);
+
     /**
      * Finds the Y-point from the provided flow paths.
      */
@@ -48,10 +48,26 @@ public interface PathComputerConfig extends Serializable {
     @Default("100")
     int getDiversitySwitchCost();
 
+    @Key("finder.type")
+    @Default("BEST_WEIGHT")
+    String getFinderType();
+
+    @Key("yen.parallelism")
+    @Default("1")
+    int getYenParallelism();
+
     @Key("network.strategy")
     @Default("COST")
     String getNetworkStrategy();
 
+    @Key("network.snapshot.enabled")
+    @Default("false")
+    boolean isNetworkSnapshotEnabled();
+
+    @Key("network.snapshot.max.age.ms")
+    @Default("5000")
+    long getNetworkSnapshotMaxAgeMs();
+
     @Key("isl.cost.when.unstable")
     @Default("10000")
     int getUnstableCostRaise();
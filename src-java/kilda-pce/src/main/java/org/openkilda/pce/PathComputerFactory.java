@@ -16,6 +16,8 @@
 package org.openkilda.pce;
 
 import org.openkilda.pce.finder.BestWeightAndShortestPathFinder;
+import org.openkilda.pce.finder.PathFinder;
+import org.openkilda.pce.finder.PriorityQueuePathFinder;
 import org.openkilda.pce.impl.InMemoryPathComputer;
 
 /**
@@ -38,8 +40,38 @@ public class PathComputerFactory {
      * @return {@link PathComputer} instance
      */
     public PathComputer getPathComputer() {
-        return new InMemoryPathComputer(availableNetworkFactory,
-                new BestWeightAndShortestPathFinder(config.getMaxAllowedDepth()),
-                config);
+        return new InMemoryPathComputer(availableNetworkFactory, getPathFinder(), config);
+    }
+
+    private PathFinder getPathFinder() {
+        FinderType finderType = FinderType.from(config.getFinderType());
+        switch (finderType) {
+            case BEST_WEIGHT:
+                return new BestWeightAndShortestPathFinder(config.getMaxAllowedDepth(), config.getYenParallelism());
+            case PRIORITY_QUEUE:
+                return new PriorityQueuePathFinder(config.getMaxAllowedDepth(), config.getYenParallelism());
+            default:
+                throw new IllegalArgumentException(String.format("Unknown finder type %s", finderType));
+        }
+    }
+
+    public enum FinderType {
+        /**
+         * Breadth first search, see {@link BestWeightAndShortestPathFinder}.
+         */
+        BEST_WEIGHT,
+
+        /**
+         * Priority queue (Dijkstra) search, see {@link PriorityQueuePathFinder}.
+         */
+        PRIORITY_QUEUE;
+
+        private static FinderType from(String finderType) {
+            try {
+                return valueOf(finderType.toUpperCase());
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException(String.format("Finder type %s is not supported", finderType));
+            }
+        }
     }
 }
@@ -17,11 +17,13 @@ package org.openkilda.pce.finder;
 
 import static java.lang.String.format;
 import static java.util.Collections.emptyList;
+import static java.util.Collections.emptySet;
 import static java.util.stream.Collectors.toSet;
 
 import org.openkilda.model.SwitchId;
 import org.openkilda.pce.exception.UnroutableFlowException;
 import org.openkilda.pce.impl.AvailableNetwork;
+import org.openkilda.pce.model.CompactGraph;
 import org.openkilda.pce.model.Edge;
 import org.openkilda.pce.model.FindOneDirectionPathResult;
 import org.openkilda.pce.model.FindPathResult;
@@ -38,6 +40,8 @@ import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.Pair;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Comparator;
 import java.util.Deque;
 import java.util.HashMap;
@@ -48,10 +52,14 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 import java.util.concurrent.TimeUnit;
-import java.util.function.Function;
+import java.util.function.BiFunction;
+import java.util.function.IntFunction;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 /**
  * This algorithm is optimized for finding a bidirectional path between the start and end nodes. It uses elements of
@@ -70,7 +78,8 @@ import java.util.stream.Collectors;
  */
 @Slf4j
 public class BestWeightAndShortestPathFinder implements PathFinder {
-    private final int allowedDepth;
+    protected final int allowedDepth;
+    private final int yenParallelism;
 
     /**
      * Constructs the finder with the specified limit on path depth.
@@ -78,7 +87,21 @@ public class BestWeightAndShortestPathFinder implements PathFinder {
      * @param allowedDepth the allowed depth for a potential path.
      */
     public BestWeightAndShortestPathFinder(int allowedDepth) {
+        this(allowedDepth, 1);
+    }
+
+    /**
+     * Constructs the finder with the specified limit on path depth and the number of threads used to compute spur
+     * paths of Yen's algorithm. The spur paths are computed in the calling thread if the parallelism is 1 or less,
+     * otherwise they are split into at most {@code yenParallelism} tasks run on {@link ForkJoinPool#commonPool()},
+     * so the finder owns no threads and never occupies more than that many workers of the common pool.
+     *
+     * @param allowedDepth the allowed depth for a potential path.
+     * @param yenParallelism the max number of threads which compute spur paths in parallel.
+     */
+    public BestWeightAndShortestPathFinder(int allowedDepth, int yenParallelism) {
         this.allowedDepth = allowedDepth;
+        this.yenParallelism = yenParallelism;
     }
 
     @Override
@@ -88,7 +111,9 @@ public class BestWeightAndShortestPathFinder implements PathFinder {
             throws UnroutableFlowException {
         Node start = network.getSwitch(startSwitchId);
         Node end = network.getSwitch(endSwitchId);
-        return findPath(network, startSwitchId, endSwitchId, () -> findOneDirectionPath(start, end, weightFunction));
+        return findPath(network, startSwitchId, endSwitchId,
+                () -> findOneDirectionPath(toCompactGraph(network, weightFunction), start, end,
+                        SearchExclusions.NONE));
     }
 
     @Override
@@ -100,7 +125,8 @@ public class BestWeightAndShortestPathFinder implements PathFinder {
         Node start = network.getSwitch(startSwitchId);
         Node end = network.getSwitch(endSwitchId);
         return findPath(network, startSwitchId, endSwitchId,
-                () -> findOneDirectionPathWithLatencyLimits(start, end, weightFunction, maxLatency, latencyLimit));
+                () -> findOneDirectionPathWithLatencyLimits(toCompactGraph(network, weightFunction), start, end,
+                        maxLatency, latencyLimit));
     }
 
     @Override
@@ -112,7 +138,8 @@ public class BestWeightAndShortestPathFinder implements PathFinder {
         Node start = network.getSwitch(startSwitchId);
         Node end = network.getSwitch(endSwitchId);
         return findPath(network, startSwitchId, endSwitchId,
-                () -> findOneDirectionPath(start, end, weightFunction, maxWeight, backUpMaxWeight));
+                () -> findOneDirectionPath(start, end, weightFunction, maxWeight, backUpMaxWeight,
+                        SearchExclusions.NONE));
     }
 
     private FindPathResult findPath(AvailableNetwork network, SwitchId startSwitchId,
@@ -154,8 +181,10 @@ public class BestWeightAndShortestPathFinder implements PathFinder {
             AvailableNetwork network, SwitchId startSwitchId, SwitchId endSwitchId, int count,
             WeightFunction weightFunction) throws UnroutableFlowException {
         Node end = network.getSwitch(endSwitchId);
+        CompactGraph graph = toCompactGraph(network, weightFunction);
         return findNPathsBetweenSwitches(network, startSwitchId, endSwitchId, count, weightFunction,
-                (Node start) -> findOneDirectionPath(start, end, weightFunction), Long.MAX_VALUE, Long.MAX_VALUE);
+                (start, exclusions) -> findOneDirectionPath(graph, start, end, exclusions),
+                Long.MAX_VALUE, Long.MAX_VALUE);
     }
 
     @Override
@@ -164,18 +193,23 @@ public class BestWeightAndShortestPathFinder implements PathFinder {
             WeightFunction weightFunction, long maxWeight, long backUpMaxWeight) throws UnroutableFlowException {
         Node end = network.getSwitch(endSwitchId);
         return findNPathsBetweenSwitches(network, startSwitchId, endSwitchId, count, weightFunction,
-                (Node start) -> findOneDirectionPath(start, end, weightFunction, maxWeight, backUpMaxWeight),
+                (start, exclusions) -> findOneDirectionPath(start, end, weightFunction, maxWeight, backUpMaxWeight,
+                        exclusions),
                 maxWeight, backUpMaxWeight);
     }
 
     /**
      * Find N (or less) best paths. To find N paths Yen's algorithm is used.
+     * <p/>
+     * Instead of removing edges and nodes from the network, each spur path is computed with its own set of
+     * excluded edges and nodes. So the network stays untouched and the spur paths of an iteration can be computed
+     * in parallel, the potential paths are collected in the spur node order to keep results deterministic.
      *
      * @return an list of N (or less) best paths.
      */
     private List<FindOneDirectionPathResult> findNPathsBetweenSwitches(
             AvailableNetwork network, SwitchId startSwitchId, SwitchId endSwitchId, int count,
-            WeightFunction weightFunction, Function<Node, FindOneDirectionPathResult> getPath,
+            WeightFunction weightFunction, BiFunction<Node, SearchExclusions, FindOneDirectionPathResult> getPath,
             long maxWeight, long backUpMaxWeight) throws UnroutableFlowException {
 
         Node start = network.getSwitch(startSwitchId);
@@ -187,7 +221,7 @@ public class BestWeightAndShortestPathFinder implements PathFinder {
 
         // Determine the shortest path from the start to the end.
         List<FindOneDirectionPathResult> bestPaths = new ArrayList<>();
-        FindOneDirectionPathResult firstPath = getPath.apply(start);
+        FindOneDirectionPathResult firstPath = getPath.apply(start, SearchExclusions.NONE);
 
         if (firstPath.getFoundPath().isEmpty()) {
             return bestPaths;
@@ -199,55 +233,15 @@ public class BestWeightAndShortestPathFinder implements PathFinder {
         Set<FindOneDirectionPathResult> potentialKthShortestPaths = new LinkedHashSet<>();
 
         for (int k = 1; k < count; k++) {
-            FindOneDirectionPathResult bestPath = bestPaths.get(k - 1);
-            List<Edge> edgesList = bestPath.getFoundPath();
-            for (int i = 0; i < edgesList.size(); i++) {
-                // Spur node is retrieved from the previous k-shortest path.
-                Node spurNode = edgesList.get(i).getSrcSwitch();
-                // The sequence of edges from the start to the spur node (without spur node).
-                List<Edge> rootPath = new ArrayList<>(edgesList.subList(0, i));
-
-                Set<Edge> removedEdges = new HashSet<>();
-                // Remove the links that are part of the previous shortest paths which share the same root path.
-                for (FindOneDirectionPathResult pathResult : bestPaths) {
-                    List<Edge> path = pathResult.getFoundPath();
-                    if (path.size() > i && rootPath.equals(path.subList(0, i))
-                            && spurNode.equals(path.get(i).getSrcSwitch())) {
-                        removedEdges.add(path.get(i));
-                        removeEdge(path.get(i));
-                    }
-                }
+            List<Edge> edgesList = bestPaths.get(k - 1).getFoundPath();
+            List<FindOneDirectionPathResult> previousPaths = new ArrayList<>(bestPaths);
 
-                for (Edge edge : rootPath) {
-                    edge.getSrcSwitch().remove();
-                }
-
-                // Calculate the spur path from the spur node to the end.
-                FindOneDirectionPathResult pathFromSpurNode = getPath.apply(spurNode);
-                if (!pathFromSpurNode.getFoundPath().isEmpty()) {
-                    List<Edge> totalPath = new ArrayList<>(rootPath);
-                    // Entire path is made up of the root path and spur path.
-                    totalPath.addAll(pathFromSpurNode.getFoundPath());
-                    // Add the potential k-shortest path to the heap.
-                    long totalPathWeight = totalPath.stream().map(weightFunction)
-                            .map(PathWeight::getTotalWeight)
-                            .reduce(0L, Long::sum);
-                    // Filtering by maxWeight.
-                    if (totalPathWeight < maxWeight) {
-                        potentialKthShortestPaths.add(new FindOneDirectionPathResult(totalPath, false));
-                    } else if (totalPathWeight < backUpMaxWeight) {
-                        potentialKthShortestPaths.add(new FindOneDirectionPathResult(totalPath, true));
-                    }
-                }
-
-                // Add back the edges and nodes that were removed from the graph.
-                for (Edge edge : removedEdges) {
-                    restoreEdge(edge);
-                }
-                for (Edge edge : rootPath) {
-                    edge.getSrcSwitch().restore();
-                }
-            }
+            IntFunction<FindOneDirectionPathResult> spurPathFinder = i -> findKthSpurPath(
+                    edgesList, i, previousPaths, weightFunction, getPath, maxWeight, backUpMaxWeight);
+            List<FindOneDirectionPathResult> spurPaths = findSpurPaths(edgesList.size(), spurPathFinder);
+            spurPaths.stream()
+                    .filter(Objects::nonNull)
+                    .forEach(potentialKthShortestPaths::add);
 
             if (potentialKthShortestPaths.isEmpty()) {
                 break;
@@ -264,6 +258,90 @@ public class BestWeightAndShortestPathFinder implements PathFinder {
         return bestPaths;
     }
 
+    /**
+     * Computes the potential k-shortest path which deviates from the previous k-shortest path at the i-th node.
+     *
+     * @return the potential path or null if there is no such path or it's filtered by max weight.
+     */
+    /**
+     * Computes spur paths for the {@code spurNodesCount} spur nodes keeping their order. The work is split into at
+     * most {@code yenParallelism} chunks: all but the last one are forked to the common pool and the last one is
+     * computed in the calling thread.
+     */
+    private List<FindOneDirectionPathResult> findSpurPaths(
+            int spurNodesCount, IntFunction<FindOneDirectionPathResult> spurPathFinder) {
+        int chunks = Math.min(yenParallelism, spurNodesCount);
+        if (chunks <= 1) {
+            return IntStream.range(0, spurNodesCount)
+                    .mapToObj(spurPathFinder)
+                    .collect(Collectors.toList());
+        }
+
+        int chunkSize = (spurNodesCount + chunks - 1) / chunks;
+        List<ForkJoinTask<List<FindOneDirectionPathResult>>> tasks = new ArrayList<>(chunks - 1);
+        for (int from = 0; from + chunkSize < spurNodesCount; from += chunkSize) {
+            int chunkFrom = from;
+            tasks.add(ForkJoinPool.commonPool().submit(() -> IntStream.range(chunkFrom, chunkFrom + chunkSize)
+                    .mapToObj(spurPathFinder)
+                    .collect(Collectors.toList())));
+        }
+        List<FindOneDirectionPathResult> lastChunk = IntStream.range(tasks.size() * chunkSize, spurNodesCount)
+                .mapToObj(spurPathFinder)
+                .collect(Collectors.toList());
+
+        List<FindOneDirectionPathResult> result = new ArrayList<>(spurNodesCount);
+        tasks.forEach(task -> result.addAll(task.join()));
+        result.addAll(lastChunk);
+        return result;
+    }
+
+    private FindOneDirectionPathResult findKthSpurPath(
+            List<Edge> edgesList, int i, List<FindOneDirectionPathResult> bestPaths, WeightFunction weightFunction,
+            BiFunction<Node, SearchExclusions, FindOneDirectionPathResult> getPath,
+            long maxWeight, long backUpMaxWeight) {
+        // Spur node is retrieved from the previous k-shortest path.
+        Node spurNode = edgesList.get(i).getSrcSwitch();
+        // The sequence of edges from the start to the spur node (without spur node).
+        List<Edge> rootPath = new ArrayList<>(edgesList.subList(0, i));
+
+        Set<Edge> excludedEdges = new HashSet<>();
+        // Exclude the links that are part of the previous shortest paths which share the same root path.
+        for (FindOneDirectionPathResult pathResult : bestPaths) {
+            List<Edge> path = pathResult.getFoundPath();
+            if (path.size() > i && rootPath.equals(path.subList(0, i))
+                    && spurNode.equals(path.get(i).getSrcSwitch())) {
+                excludedEdges.add(path.get(i));
+                excludedEdges.add(path.get(i).swap());
+            }
+        }
+
+        // Exclude the nodes of the root path, the spur path can't go through them.
+        Set<Node> excludedNodes = new HashSet<>();
+        for (Edge edge : rootPath) {
+            excludedNodes.add(edge.getSrcSwitch());
+        }
+
+        // Calculate the spur path from the spur node to the end.
+        FindOneDirectionPathResult pathFromSpurNode = getPath.apply(spurNode,
+                new SearchExclusions(excludedEdges, excludedNodes));
+        if (pathFromSpurNode.getFoundPath().isEmpty()) {
+            return null;
+        }
+        List<Edge> totalPath = new ArrayList<>(rootPath);
+        // Entire path is made up of the root path and spur path.
+        totalPath.addAll(pathFromSpurNode.getFoundPath());
+        long totalPathWeight = totalPath.stream().map(weightFunction)
+                .map(PathWeight::getTotalWeight)
+                .reduce(0L, Long::sum);
+        // Filtering by maxWeight.
+        if (totalPathWeight < maxWeight) {
+            return new FindOneDirectionPathResult(totalPath, false);
+        } else if (totalPathWeight < backUpMaxWeight) {
+            return new FindOneDirectionPathResult(totalPath, true);
+        }
+        return null;
+    }
+
     private FindOneDirectionPathResult getBestPotentialKthShortestPath(Set<FindOneDirectionPathResult> potentialPaths,
                                                                        List<FindOneDirectionPathResult> bestPaths,
                                                                        WeightFunction weightFunction) {
@@ -301,39 +379,27 @@ public class BestWeightAndShortestPathFinder implements PathFinder {
         return path.stream().map(weightFunction).mapToLong(PathWeight::getTotalWeight).sum();
     }
 
-    private void removeEdge(Edge edge) {
-        edge.getSrcSwitch().getOutgoingLinks().remove(edge);
-        edge.getDestSwitch().getIncomingLinks().remove(edge);
-
-        Edge reverseEdge = edge.swap();
-        reverseEdge.getSrcSwitch().getOutgoingLinks().remove(reverseEdge);
-        reverseEdge.getDestSwitch().getIncomingLinks().remove(reverseEdge);
+    private CompactGraph toCompactGraph(AvailableNetwork network, WeightFunction weightFunction) {
+        return network.toCompactGraph().withWeights(weightFunction);
     }
 
-    private void restoreEdge(Edge edge) {
-        edge.getSrcSwitch().getOutgoingLinks().add(edge);
-        edge.getDestSwitch().getIncomingLinks().add(edge);
-
-        Edge reverseEdge = edge.swap();
-        reverseEdge.getSrcSwitch().getOutgoingLinks().add(reverseEdge);
-        reverseEdge.getDestSwitch().getIncomingLinks().add(reverseEdge);
-    }
-
-    private FindOneDirectionPathResult findOneDirectionPath(Node start, Node end, WeightFunction weightFunction) {
-        FindOneDirectionPathResult pathResult = getPath(start, end, weightFunction);
+    private FindOneDirectionPathResult findOneDirectionPath(CompactGraph graph, Node start, Node end,
+                                                            SearchExclusions exclusions) {
+        FindOneDirectionPathResult pathResult = getPath(graph, start, end, exclusions);
         pathResult.setBackUpPathComputationWayUsed(false);
         return pathResult;
     }
 
     private FindOneDirectionPathResult findOneDirectionPath(Node start, Node end, WeightFunction weightFunction,
-                                                            long maxWeight, long backUpMaxWeight) {
-        FindOneDirectionPathResult pathResult = getPath(start, end, weightFunction, maxWeight);
+                                                            long maxWeight, long backUpMaxWeight,
+                                                            SearchExclusions exclusions) {
+        FindOneDirectionPathResult pathResult = getPath(start, end, weightFunction, maxWeight, exclusions);
         Map<FailReasonType, FailReason> reasons = pathResult.getPathNotFoundReasons();
 
         boolean backUpPathComputationWayUsed = false;
 
         if (pathResult.getFoundPath().isEmpty()) {
-            pathResult = getPath(start, end, weightFunction, backUpMaxWeight);
+            pathResult = getPath(start, end, weightFunction, backUpMaxWeight, exclusions);
             backUpPathComputationWayUsed = true;
         }
 
@@ -344,10 +410,9 @@ public class BestWeightAndShortestPathFinder implements PathFinder {
                 .build();
     }
 
-    private FindOneDirectionPathResult findOneDirectionPathWithLatencyLimits(Node start, Node end,
-                                                                             WeightFunction weightFunction,
+    private FindOneDirectionPathResult findOneDirectionPathWithLatencyLimits(CompactGraph graph, Node start, Node end,
                                                                              long maxLatency, long latencyLimit) {
-        FindOneDirectionPathResult pathResult = getPath(start, end, weightFunction);
+        FindOneDirectionPathResult pathResult = getPath(graph, start, end, SearchExclusions.NONE);
 
         long pathLatency = pathResult.getFoundPath().stream().mapToLong(Edge::getLatency).sum();
         pathResult.setBackUpPathComputationWayUsed(pathLatency > maxLatency);
@@ -367,28 +432,33 @@ public class BestWeightAndShortestPathFinder implements PathFinder {
      * Call this method to find a path from start to end (srcDpid to dstDpid), particularly if you have no idea if the
      * path exists or what the best path is.
      *
+     * @param graph the network with edge weights.
+     * @param exclusions the edges and nodes which must not be used by the path.
      * @return A pair of ordered lists that represents the path from start to end, or an empty list
      */
-    private FindOneDirectionPathResult getPath(Node start, Node end, WeightFunction weightFunction) {
-        PathWeight bestWeight = new PathWeight(Long.MAX_VALUE);
-        SearchNode bestPath = null;
+    protected FindOneDirectionPathResult getPath(CompactGraph graph, Node start, Node end,
+                                                 SearchExclusions exclusions) {
+        int endNode = graph.getNodeIndex(end);
+        int bestLabel = -1;
 
-        Deque<SearchNode> toVisit = new LinkedList<>(); // working list
-        Map<Node, SearchNode> visited = new HashMap<>();
+        // Labels are visited in the order of creation, so the working list is just a cursor over them.
+        SearchLabels labels = new SearchLabels(graph);
+        int[] visited = new int[graph.getNodeCount()];
+        Arrays.fill(visited, -1);
 
         Map<FailReasonType, FailReason> reasons = new HashMap<>();
 
         boolean destinationFound = false;
-        toVisit.add(new SearchNode(weightFunction, start, allowedDepth, new PathWeight(), emptyList()));
+        labels.addRoot(graph.getNodeIndex(start), allowedDepth);
 
-        while (!toVisit.isEmpty()) {
-            SearchNode current = toVisit.pop();
+        for (int current = 0; current < labels.size(); current++) {
+            int node = labels.getNode(current);
             if (log.isTraceEnabled()) {
                 log.trace("Going to visit node {} with weight {}.",
-                        current.dstSw, current.getParentWeight().getTotalWeight());
+                        graph.getNode(node), labels.getTotalWeight(current));
             }
 
-            if (isContainHardDiversityPenalties(current.parentWeight)) {
+            if (labels.containsHardDiversityPenalties(current)) {
                 // Have not to use path with hard diversity penalties
                 reasons.put(FailReasonType.HARD_DIVERSITY_PENALTIES,
                         new FailReason(FailReasonType.HARD_DIVERSITY_PENALTIES));
@@ -396,34 +466,34 @@ public class BestWeightAndShortestPathFinder implements PathFinder {
             }
 
             // Determine if this node is the destination node.
-            if (current.dstSw.equals(end)) {
+            if (node == endNode) {
                 // We found the destination
-                if (current.parentWeight.compareTo(bestWeight) < 0) {
+                if (compareWithBest(labels, current, bestLabel) < 0) {
                     // We found a best path. If we don't get here, then the entire graph will be
                     // searched until we run out of nodes or the depth is reached.
-                    bestWeight = current.parentWeight;
-                    bestPath = current;
+                    bestLabel = current;
                 }
                 // We found dest, no need to keep processing
                 if (log.isTraceEnabled()) {
-                    log.trace("Found destination using {} with path {}", current.dstSw, current.parentPath);
+                    log.trace("Found destination using {} with path {}", graph.getNode(node),
+                            labels.toPath(current));
                 }
                 destinationFound = true;
                 continue;
             }
 
             // Otherwise, if we've been here before, see if this path is better
-            SearchNode prior = visited.get(current.dstSw);
-            if (prior != null && current.parentWeight.compareTo(prior.parentWeight) >= 0) {
+            int prior = visited[node];
+            if (prior != -1 && labels.compare(current, prior) >= 0) {
                 continue;
             }
 
             // Stop processing entirely if we've gone too far, or over bestWeight
-            if (current.allowedDepth <= 0 || current.parentWeight.compareTo(bestWeight) > 0) {
+            if (labels.getAllowedDepth(current) <= 0 || compareWithBest(labels, current, bestLabel) > 0) {
                 if (log.isTraceEnabled()) {
-                    log.trace("Skip node {} processing", current.dstSw);
+                    log.trace("Skip node {} processing", graph.getNode(node));
                 }
-                if (current.allowedDepth <= 0) {
+                if (labels.getAllowedDepth(current) <= 0) {
                     reasons.put(FailReasonType.ALLOWED_DEPTH_EXCEEDED,
                             new FailReason(FailReasonType.ALLOWED_DEPTH_EXCEEDED,
                                     format("Max allowed depth is %d", allowedDepth)));
@@ -434,34 +504,50 @@ public class BestWeightAndShortestPathFinder implements PathFinder {
 
             // Either this is the first time, or this one has less weight .. either way, this node should
             // be the one in the visited list
-            visited.put(current.dstSw, current);
+            visited[node] = current;
             if (log.isTraceEnabled()) {
-                log.trace("Save new path to node {} and process it's outgoing links", current.dstSw);
+                log.trace("Save new path to node {} and process it's outgoing links", graph.getNode(node));
             }
 
             // At this stage .. haven't found END, haven't gone too deep, and we are not over weight.
-            // So, add the outbound isls.
-            current.dstSw.getOutgoingLinks().stream()
-                    .sorted(Comparator.comparing(edge -> edge.getDestSwitch().getSwitchId()))
-                    .forEach(edge -> toVisit.add(current.addNode(edge)));
+            // So, add the outbound isls, they are already ordered by the destination switch.
+            if (exclusions.isExcluded(graph.getNode(node))) {
+                continue;
+            }
+            for (int edge = graph.getOutgoingStart(node); edge < graph.getOutgoingEnd(node); edge++) {
+                if (!exclusions.isExcluded(graph.getEdge(edge))) {
+                    labels.addEdge(current, edge);
+                }
+            }
         }
 
         if (!destinationFound) {
             reasons.put(FailReasonType.NO_CONNECTION, new FailReason(FailReasonType.NO_CONNECTION));
         }
 
-        List<Edge> path = (bestPath != null) ? bestPath.parentPath : new LinkedList<>();
+        List<Edge> path = (bestLabel != -1) ? labels.toPath(bestLabel) : new LinkedList<>();
 
         return new FindOneDirectionPathResult(path, reasons);
     }
 
-    private FindOneDirectionPathResult getPath(Node start, Node end, WeightFunction weightFunction, long maxWeight) {
-        SearchNodeAndReasons desiredPath = getDesiredPath(start, end, weightFunction, maxWeight);
+    /**
+     * Compares the label weight with the best found one, the best weight is infinite until a path is found.
+     */
+    private static int compareWithBest(SearchLabels labels, int label, int bestLabel) {
+        if (bestLabel == -1) {
+            return labels.compare(label, Long.MAX_VALUE, 0L, 0);
+        }
+        return labels.compare(label, bestLabel);
+    }
+
+    private FindOneDirectionPathResult getPath(Node start, Node end, WeightFunction weightFunction, long maxWeight,
+                                               SearchExclusions exclusions) {
+        SearchNodeAndReasons desiredPath = getDesiredPath(start, end, weightFunction, maxWeight, exclusions);
 
         List<Edge> foundPath = (desiredPath.searchNode != null)
                 ? desiredPath.searchNode.getParentPath() : new LinkedList<>();
 
-        SearchNodeAndReasons desiredReversePath = getDesiredPath(end, start, weightFunction, maxWeight);
+        SearchNodeAndReasons desiredReversePath = getDesiredPath(end, start, weightFunction, maxWeight, exclusions);
 
         if (desiredReversePath.searchNode != null && (desiredPath.searchNode == null
                 || desiredReversePath.searchNode.parentWeight.compareTo(desiredPath.searchNode.parentWeight) > 0)) {
@@ -476,7 +562,8 @@ public class BestWeightAndShortestPathFinder implements PathFinder {
      *
      * @return A desired path from start to end as SearchNode representation, or null
      */
-    private SearchNodeAndReasons getDesiredPath(Node start, Node end, WeightFunction weightFunction, long maxWeight) {
+    private SearchNodeAndReasons getDesiredPath(Node start, Node end, WeightFunction weightFunction, long maxWeight,
+                                                SearchExclusions exclusions) {
         SearchNode desiredPath = null;
         Map<FailReasonType, FailReason> reasons = new HashMap<>();
 
@@ -609,7 +696,7 @@ public class BestWeightAndShortestPathFinder implements PathFinder {
             // At this stage .. haven't found END, haven't gone too deep, and we are not over weight.
             // So, add the outbound isls.
             PathWeight desiredWeight = desiredPath == null ? null : desiredPath.getParentWeight();
-            current.dstSw.getOutgoingLinks().stream()
+            exclusions.getOutgoingLinks(current.dstSw).stream()
                     // We can skip path if its penalties are higher than bestPath penalties
                     .filter(edge -> filterEdgeByPenalties(edge, current.parentWeight, desiredWeight, weightFunction))
                     // should firstly process edges with big weights to guarantee they will not be skipped.
@@ -754,7 +841,7 @@ public class BestWeightAndShortestPathFinder implements PathFinder {
                 + pathWeight.getPenaltyValue(PathWeight.Penalty.DIVERSITY_POP_ISL_COST);
     }
 
-    private boolean isContainHardDiversityPenalties(PathWeight pathWeight) {
+    protected boolean isContainHardDiversityPenalties(PathWeight pathWeight) {
         long penaltiesSum = pathWeight.getPenaltyValue(Penalty.PROTECTED_DIVERSITY_ISL_LATENCY)
                 + pathWeight.getPenaltyValue(Penalty.PROTECTED_DIVERSITY_SWITCH_LATENCY);
         return penaltiesSum > 0;
@@ -765,4 +852,36 @@ public class BestWeightAndShortestPathFinder implements PathFinder {
         private SearchNode searchNode;
         private Map<FailReasonType, FailReason> reasons;
     }
+
+    /**
+     * Edges and nodes which must be skipped by a path search. Excluded nodes can be reached, but can't be passed
+     * through.
+     */
+    @AllArgsConstructor
+    protected static final class SearchExclusions {
+        static final SearchExclusions NONE = new SearchExclusions(emptySet(), emptySet());
+
+        private final Set<Edge> excludedEdges;
+        private final Set<Node> excludedNodes;
+
+        boolean isExcluded(Node node) {
+            return !excludedNodes.isEmpty() && excludedNodes.contains(node);
+        }
+
+        boolean isExcluded(Edge edge) {
+            return !excludedEdges.isEmpty() && excludedEdges.contains(edge);
+        }
+
+        Collection<Edge> getOutgoingLinks(Node node) {
+            if (excludedNodes.contains(node)) {
+                return emptySet();
+            }
+            if (excludedEdges.isEmpty()) {
+                return node.getOutgoingLinks();
+            }
+            return node.getOutgoingLinks().stream()
+                    .filter(edge -> !excludedEdges.contains(edge))
+                    .collect(Collectors.toList());
+        }
+    }
 }
@@ -0,0 +1,202 @@
+/* Copyright 2023 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.pce.finder;
+
+import static java.lang.String.format;
+
+import org.openkilda.pce.model.CompactGraph;
+import org.openkilda.pce.model.Edge;
+import org.openkilda.pce.model.FindOneDirectionPathResult;
+import org.openkilda.pce.model.Node;
+import org.openkilda.pce.model.PathWeight;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A variant of {@link BestWeightAndShortestPathFinder} which looks for the min weight path with a priority queue
+ * keyed on {@link PathWeight} (Dijkstra) instead of the breadth first walk.
+ * <p/>
+ * Every node is expanded only with labels which are not dominated by an already expanded one, i.e. a label is
+ * skipped if the node has been reached before with lower or equal weight and at least the same remaining depth. So
+ * the allowed depth limits the found path exactly as in the parent finder, while a node is usually expanded once.
+ * The search for the path with weight close to max weight and Yen's algorithm are inherited from the parent finder.
+ */
+@Slf4j
+public class PriorityQueuePathFinder extends BestWeightAndShortestPathFinder {
+
+    /**
+     * Constructs the finder with the specified limit on path depth.
+     *
+     * @param allowedDepth the allowed depth for a potential path.
+     */
+    public PriorityQueuePathFinder(int allowedDepth) {
+        super(allowedDepth);
+    }
+
+    /**
+     * Constructs the finder with the specified limit on path depth and the number of threads used to compute spur
+     * paths of Yen's algorithm.
+     *
+     * @param allowedDepth the allowed depth for a potential path.
+     * @param yenParallelism the max number of threads which compute spur paths in parallel.
+     */
+    public PriorityQueuePathFinder(int allowedDepth, int yenParallelism) {
+        super(allowedDepth, yenParallelism);
+    }
+
+    @Override
+    protected FindOneDirectionPathResult getPath(CompactGraph graph, Node start, Node end,
+                                                 SearchExclusions exclusions) {
+        Map<FailReasonType, FailReason> reasons = new HashMap<>();
+        int endNode = graph.getNodeIndex(end);
+        // Max remaining depth among the expanded labels of each node.
+        int[] expanded = new int[graph.getNodeCount()];
+        Arrays.fill(expanded, Integer.MIN_VALUE);
+        SearchLabels labels = new SearchLabels(graph);
+        LabelHeap toVisit = new LabelHeap(labels);
+
+        boolean depthExceeded = false;
+        int found = -1;
+        toVisit.add(labels.addRoot(graph.getNodeIndex(start), allowedDepth));
+
+        while (!toVisit.isEmpty()) {
+            int current = toVisit.poll();
+            int node = labels.getNode(current);
+            if (log.isTraceEnabled()) {
+                log.trace("Going to visit node {} with weight {}.",
+                        graph.getNode(node), labels.getTotalWeight(current));
+            }
+
+            if (labels.containsHardDiversityPenalties(current)) {
+                // Have not to use path with hard diversity penalties
+                reasons.put(FailReasonType.HARD_DIVERSITY_PENALTIES,
+                        new FailReason(FailReasonType.HARD_DIVERSITY_PENALTIES));
+                continue;
+            }
+
+            if (node == endNode) {
+                // Labels are polled in the weight order, so the first one reached the destination is the best.
+                found = current;
+                break;
+            }
+
+            int allowedDepthLeft = labels.getAllowedDepth(current);
+            if (expanded[node] >= allowedDepthLeft) {
+                continue;
+            }
+            expanded[node] = allowedDepthLeft;
+
+            if (allowedDepthLeft <= 0) {
+                reasons.put(FailReasonType.ALLOWED_DEPTH_EXCEEDED,
+                        new FailReason(FailReasonType.ALLOWED_DEPTH_EXCEEDED,
+                                format("Max allowed depth is %d", allowedDepth)));
+                depthExceeded = true;
+                continue;
+            }
+
+            if (exclusions.isExcluded(graph.getNode(node))) {
+                continue;
+            }
+            for (int edge = graph.getOutgoingStart(node); edge < graph.getOutgoingEnd(node); edge++) {
+                // Labels are expanded in non-decreasing weight order, so a label is dominated if its node has been
+                // expanded with the same or a greater remaining depth.
+                if (expanded[graph.getDestination(edge)] < allowedDepthLeft - 1
+                        && !exclusions.isExcluded(graph.getEdge(edge))) {
+                    toVisit.add(labels.addEdge(current, edge));
+                }
+            }
+        }
+
+        if (found == -1 && !depthExceeded) {
+            reasons.put(FailReasonType.NO_CONNECTION, new FailReason(FailReasonType.NO_CONNECTION));
+        }
+
+        List<Edge> path = found != -1 ? labels.toPath(found) : new ArrayList<>();
+        return new FindOneDirectionPathResult(path, reasons);
+    }
+
+    /**
+     * Binary min-heap of label ids. Labels are ordered by weight, then labels with greater remaining depth (shorter
+     * paths) go first and then the order of creation to have deterministic results.
+     */
+    private static final class LabelHeap {
+        private final SearchLabels labels;
+        private int[] heap = new int[64];
+        private int size;
+
+        private LabelHeap(SearchLabels labels) {
+            this.labels = labels;
+        }
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        void add(int label) {
+            if (size == heap.length) {
+                heap = Arrays.copyOf(heap, size * 2);
+            }
+            int position = size++;
+            while (position > 0) {
+                int parent = (position - 1) >>> 1;
+                if (compare(heap[parent], label) <= 0) {
+                    break;
+                }
+                heap[position] = heap[parent];
+                position = parent;
+            }
+            heap[position] = label;
+        }
+
+        int poll() {
+            int result = heap[0];
+            int last = heap[--size];
+            int position = 0;
+            int half = size >>> 1;
+            while (position < half) {
+                int child = 2 * position + 1;
+                if (child + 1 < size && compare(heap[child + 1], heap[child]) < 0) {
+                    child++;
+                }
+                if (compare(last, heap[child]) <= 0) {
+                    break;
+                }
+                heap[position] = heap[child];
+                position = child;
+            }
+            heap[position] = last;
+            return result;
+        }
+
+        private int compare(int label, int other) {
+            int result = labels.compare(label, other);
+            if (result != 0) {
+                return result;
+            }
+            result = Integer.compare(labels.getAllowedDepth(other), labels.getAllowedDepth(label));
+            if (result != 0) {
+                return result;
+            }
+            return Integer.compare(label, other);
+        }
+    }
+}
@@ -0,0 +1,152 @@
+/* Copyright 2023 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.pce.finder;
+
+import org.openkilda.pce.model.CompactGraph;
+import org.openkilda.pce.model.Edge;
+import org.openkilda.pce.model.PathWeight;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Search states over a {@link CompactGraph} kept in parallel primitive arrays. A label is the node reached by a path,
+ * the accumulated weight of the path and the link to the previous label, so the path itself is restored only for
+ * the found label. Label ids are assigned in the order of creation.
+ * <p/>
+ * Weights are compared the same way as {@link PathWeight#compareTo(PathWeight)} does: by the total weight, then by
+ * the alternative weight and then by the number of penalties.
+ */
+final class SearchLabels {
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final CompactGraph graph;
+    private int size;
+
+    private int[] nodes = new int[INITIAL_CAPACITY];
+    private int[] parents = new int[INITIAL_CAPACITY];
+    private int[] edges = new int[INITIAL_CAPACITY];
+    private int[] allowedDepths = new int[INITIAL_CAPACITY];
+    private long[] totalWeights = new long[INITIAL_CAPACITY];
+    private long[] alternativeWeights = new long[INITIAL_CAPACITY];
+    private int[] penaltiesMasks = new int[INITIAL_CAPACITY];
+    private long[] hardDiversityPenalties = new long[INITIAL_CAPACITY];
+
+    SearchLabels(CompactGraph graph) {
+        this.graph = graph;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Adds the label of the search start.
+     */
+    int addRoot(int node, int allowedDepth) {
+        int label = allocate();
+        nodes[label] = node;
+        parents[label] = -1;
+        edges[label] = -1;
+        allowedDepths[label] = allowedDepth;
+        totalWeights[label] = 0;
+        alternativeWeights[label] = 0;
+        penaltiesMasks[label] = 0;
+        hardDiversityPenalties[label] = 0;
+        return label;
+    }
+
+    /**
+     * Adds the label which extends the path of the parent label by the edge.
+     */
+    int addEdge(int parent, int edge) {
+        int label = allocate();
+        nodes[label] = graph.getDestination(edge);
+        parents[label] = parent;
+        edges[label] = edge;
+        allowedDepths[label] = allowedDepths[parent] - 1;
+        totalWeights[label] = totalWeights[parent] + graph.getTotalWeight(edge);
+        alternativeWeights[label] = alternativeWeights[parent] + graph.getAlternativeWeight(edge);
+        penaltiesMasks[label] = penaltiesMasks[parent] | graph.getPenaltiesMask(edge);
+        hardDiversityPenalties[label] = hardDiversityPenalties[parent] + graph.getHardDiversityPenalties(edge);
+        return label;
+    }
+
+    int getNode(int label) {
+        return nodes[label];
+    }
+
+    int getAllowedDepth(int label) {
+        return allowedDepths[label];
+    }
+
+    long getTotalWeight(int label) {
+        return totalWeights[label];
+    }
+
+    boolean containsHardDiversityPenalties(int label) {
+        return hardDiversityPenalties[label] > 0;
+    }
+
+    /**
+     * Compares weights of the paths of two labels.
+     */
+    int compare(int label, int other) {
+        return compare(label, totalWeights[other], alternativeWeights[other], penaltiesMasks[other]);
+    }
+
+    /**
+     * Compares the weight of the path of the label with the weight given by its components.
+     */
+    int compare(int label, long totalWeight, long alternativeWeight, int penaltiesMask) {
+        if (totalWeights[label] != totalWeight) {
+            return totalWeights[label] > totalWeight ? 1 : -1;
+        }
+        if (alternativeWeights[label] != alternativeWeight) {
+            return alternativeWeights[label] > alternativeWeight ? 1 : -1;
+        }
+        return Integer.compare(Integer.bitCount(penaltiesMasks[label]), Integer.bitCount(penaltiesMask));
+    }
+
+    /**
+     * Restores the path which leads to the label.
+     */
+    List<Edge> toPath(int label) {
+        List<Edge> path = new ArrayList<>();
+        for (int current = label; edges[current] != -1; current = parents[current]) {
+            path.add(graph.getEdge(edges[current]));
+        }
+        Collections.reverse(path);
+        return path;
+    }
+
+    private int allocate() {
+        if (size == nodes.length) {
+            int capacity = nodes.length * 2;
+            nodes = Arrays.copyOf(nodes, capacity);
+            parents = Arrays.copyOf(parents, capacity);
+            edges = Arrays.copyOf(edges, capacity);
+            allowedDepths = Arrays.copyOf(allowedDepths, capacity);
+            totalWeights = Arrays.copyOf(totalWeights, capacity);
+            alternativeWeights = Arrays.copyOf(alternativeWeights, capacity);
+            penaltiesMasks = Arrays.copyOf(penaltiesMasks, capacity);
+            hardDiversityPenalties = Arrays.copyOf(hardDiversityPenalties, capacity);
+        }
+        return size++;
+    }
+}
@@ -18,6 +18,7 @@ package org.openkilda.pce.impl;
 import org.openkilda.model.FlowPath;
 import org.openkilda.model.PathSegment;
 import org.openkilda.model.SwitchId;
+import org.openkilda.pce.model.CompactGraph;
 import org.openkilda.pce.model.Edge;
 import org.openkilda.pce.model.Node;
 
@@ -49,6 +50,13 @@ public class AvailableNetwork {
         return switches.get(dpid);
     }
 
+    /**
+     * Creates the index based form of the network for path finders.
+     */
+    public CompactGraph toCompactGraph() {
+        return CompactGraph.from(switches.values());
+    }
+
     /**
      * Get a node by switch id or add it if doesn't exist.
      *
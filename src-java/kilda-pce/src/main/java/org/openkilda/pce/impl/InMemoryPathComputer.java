@@ -33,12 +33,14 @@ import org.openkilda.model.FlowEncapsulationType;
 import org.openkilda.model.FlowPath;
 import org.openkilda.model.HaFlow;
 import org.openkilda.model.HaSubFlow;
+import org.openkilda.model.IslEndpoint;
 import org.openkilda.model.PathComputationStrategy;
 import org.openkilda.model.PathId;
 import org.openkilda.model.PathSegment;
 import org.openkilda.model.Switch;
 import org.openkilda.model.SwitchId;
 import org.openkilda.pce.AvailableNetworkFactory;
+import org.openkilda.pce.GetFlowPathsResult;
 import org.openkilda.pce.GetHaPathsResult;
 import org.openkilda.pce.GetPathsResult;
 import org.openkilda.pce.HaPath;
@@ -67,6 +69,7 @@ import lombok.Data;
 import lombok.extern.slf4j.Slf4j;
 
 import java.time.Duration;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -89,6 +92,15 @@ import java.util.stream.Collectors;
  */
 @Slf4j
 public class InMemoryPathComputer implements PathComputer {
+    /**
+     * Flows with higher priority (lower value) go first, flows without priority go last. Then bigger flows go first,
+     * as they have less chances to find a path in the network with partially occupied bandwidth.
+     */
+    private static final Comparator<Flow> BATCH_ORDER = Comparator
+            .comparing(Flow::getPriority, Comparator.nullsLast(Comparator.<Integer>naturalOrder()))
+            .thenComparing(Comparator.comparingLong(Flow::getBandwidth).reversed())
+            .thenComparing(Flow::getFlowId);
+
     private final AvailableNetworkFactory availableNetworkFactory;
     private final PathFinder pathFinder;
     private final PathComputerConfig config;
@@ -108,6 +120,39 @@ public class InMemoryPathComputer implements PathComputer {
         return getPath(network, new RequestedPath(flow), isProtected);
     }
 
+    @Override
+    public List<GetFlowPathsResult> getPaths(Collection<Flow> flows, Collection<PathId> reusePathsResources,
+                                             boolean isProtected) throws RecoverableException {
+        List<Flow> orderedFlows = flows.stream()
+                .sorted(BATCH_ORDER)
+                .collect(Collectors.toList());
+
+        // One snapshot for all encapsulation types of the batch, so bandwidth reserved on an ISL by a flow of one
+        // encapsulation type is visible to flows of the other types.
+        NetworkSnapshot snapshot = NetworkSnapshot.empty(Instant.now());
+        List<GetFlowPathsResult> results = new ArrayList<>(orderedFlows.size());
+        for (Flow flow : orderedFlows) {
+            Set<PathId> flowReusePaths = flow.getPathIds().stream()
+                    .filter(reusePathsResources::contains)
+                    .collect(Collectors.toSet());
+            // Reused paths are loaded once and used both to build the network and to reserve the bandwidth.
+            Collection<FlowPath> reusePaths = availableNetworkFactory.findReusePaths(flow, flowReusePaths);
+            snapshot = availableNetworkFactory.getNetworkSnapshot(snapshot, flow.getEncapsulationType());
+            AvailableNetwork network = availableNetworkFactory.getAvailableNetwork(
+                    flow, flowReusePaths, reusePaths, snapshot);
+
+            try {
+                GetPathsResult paths = getPath(network, new RequestedPath(flow), isProtected);
+                snapshot = availableNetworkFactory.reserveBandwidth(snapshot, flow, reusePaths, paths);
+                results.add(GetFlowPathsResult.builder().flowId(flow.getFlowId()).paths(paths).build());
+            } catch (UnroutableFlowException e) {
+                log.warn("Can't find a path for flow {} of the batch: {}", flow.getFlowId(), e.getMessage());
+                results.add(GetFlowPathsResult.builder().flowId(flow.getFlowId()).unroutableException(e).build());
+            }
+        }
+        return results;
+    }
+
     private GetPathsResult getPath(AvailableNetwork network, RequestedPath requestedPath, boolean isProtected)
             throws UnroutableFlowException {
         if (requestedPath.isOneSwitch()) {
@@ -546,6 +591,11 @@ public class InMemoryPathComputer implements PathComputer {
                 .build();
     }
 
+    @Override
+    public void handleIslFailure(Collection<IslEndpoint> endpoints) {
+        availableNetworkFactory.handleIslFailure(endpoints);
+    }
+
     @Override
     public SwitchId getIntersectionPoint(SwitchId sharedSwitchId, FlowPath... flowPaths) {
         List<LinkedList<SwitchId>> paths = convertFlowPathsToSwitchLists(sharedSwitchId, flowPaths);
@@ -0,0 +1,207 @@
+/* Copyright 2023 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.pce.impl;
+
+import org.openkilda.model.FlowEncapsulationType;
+import org.openkilda.model.IslEndpoint;
+import org.openkilda.model.SwitchId;
+import org.openkilda.persistence.repositories.IslRepository.IslEndpoints;
+import org.openkilda.persistence.repositories.IslRepository.IslImmutableView;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Value;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+
+/**
+ * Immutable versioned view of active ISLs grouped by supported transit encapsulation type. Every modification
+ * produces a new snapshot (copy-on-write), so readers can use a snapshot without any synchronization.
+ *
+ * <p>The same ISL can be present in several encapsulation type groups. Available bandwidth changes are kept in one
+ * ledger per ISL, so a change made through any group is visible in all of them, including groups loaded later. The
+ * same way ISLs with failed endpoints are removed from all groups, including groups loaded later.
+ */
+public final class NetworkSnapshot {
+    @Getter
+    private final long version;
+    @Getter
+    private final Instant loadedAt;
+    private final Map<FlowEncapsulationType, Map<IslEndpoints, IslImmutableView>> isls;
+    private final Map<IslEndpoints, Long> availableBandwidthLedger;
+    private final Set<IslEndpoint> failedEndpoints;
+
+    private NetworkSnapshot(long version, Instant loadedAt,
+                            Map<FlowEncapsulationType, Map<IslEndpoints, IslImmutableView>> isls,
+                            Map<IslEndpoints, Long> availableBandwidthLedger, Set<IslEndpoint> failedEndpoints) {
+        this.version = version;
+        this.loadedAt = loadedAt;
+        this.isls = isls;
+        this.availableBandwidthLedger = availableBandwidthLedger;
+        this.failedEndpoints = failedEndpoints;
+    }
+
+    /**
+     * Creates an empty snapshot, ISLs for each encapsulation type are loaded on demand.
+     */
+    public static NetworkSnapshot empty(Instant loadedAt) {
+        return new NetworkSnapshot(0, loadedAt, Collections.emptyMap(), Collections.emptyMap(),
+                Collections.emptySet());
+    }
+
+    public boolean isLoaded(FlowEncapsulationType encapsulationType) {
+        return isls.containsKey(encapsulationType);
+    }
+
+    /**
+     * Returns active ISLs between switches which support the encapsulation type.
+     */
+    public Collection<IslImmutableView> getIsls(FlowEncapsulationType encapsulationType) {
+        return isls.getOrDefault(encapsulationType, Collections.emptyMap()).values();
+    }
+
+    /**
+     * Returns an active ISL between switches which support the encapsulation type or null.
+     */
+    public IslImmutableView getIsl(FlowEncapsulationType encapsulationType, IslEndpoints endpoints) {
+        return isls.getOrDefault(encapsulationType, Collections.emptyMap()).get(endpoints);
+    }
+
+    /**
+     * Creates a new snapshot with loaded ISLs for the encapsulation type. Available bandwidth changes already applied
+     * to the snapshot override the loaded values, ISLs with failed endpoints are skipped.
+     */
+    public NetworkSnapshot withIsls(FlowEncapsulationType encapsulationType, Collection<IslImmutableView> loaded) {
+        Map<IslEndpoints, IslImmutableView> typeIsls = new HashMap<>();
+        for (IslImmutableView isl : loaded) {
+            if (isFailed(isl)) {
+                continue;
+            }
+            IslSnapshotView copy = IslSnapshotView.copyOf(isl);
+            IslEndpoints endpoints = makeEndpoints(copy);
+            Long availableBandwidth = availableBandwidthLedger.get(endpoints);
+            if (availableBandwidth != null) {
+                copy = copy.toBuilder().availableBandwidth(availableBandwidth).build();
+            }
+            typeIsls.put(endpoints, copy);
+        }
+        Map<FlowEncapsulationType, Map<IslEndpoints, IslImmutableView>> result = copyIsls();
+        result.put(encapsulationType, Collections.unmodifiableMap(typeIsls));
+        return new NetworkSnapshot(version + 1, loadedAt, result, availableBandwidthLedger, failedEndpoints);
+    }
+
+    /**
+     * Creates a new snapshot with updated available bandwidth of ISLs in all encapsulation type groups. The change is
+     * also applied to ISLs of groups loaded later.
+     */
+    public NetworkSnapshot withAvailableBandwidth(Map<IslEndpoints, Long> availableBandwidth) {
+        Map<FlowEncapsulationType, Map<IslEndpoints, IslImmutableView>> result = new EnumMap<>(
+                FlowEncapsulationType.class);
+        for (Entry<FlowEncapsulationType, Map<IslEndpoints, IslImmutableView>> entry : isls.entrySet()) {
+            Map<IslEndpoints, IslImmutableView> typeIsls = new HashMap<>(entry.getValue());
+            availableBandwidth.forEach((endpoints, bandwidth) -> typeIsls.computeIfPresent(endpoints,
+                    (key, isl) -> IslSnapshotView.copyOf(isl).toBuilder().availableBandwidth(bandwidth).build()));
+            result.put(entry.getKey(), Collections.unmodifiableMap(typeIsls));
+        }
+        Map<IslEndpoints, Long> ledger = new HashMap<>(availableBandwidthLedger);
+        ledger.putAll(availableBandwidth);
+        return new NetworkSnapshot(version + 1, loadedAt, result, Collections.unmodifiableMap(ledger),
+                failedEndpoints);
+    }
+
+    /**
+     * Creates a new snapshot without ISLs which start or end at the failed endpoints. ISLs of groups loaded later
+     * are filtered the same way. Returns this snapshot if all the endpoints are already known as failed.
+     */
+    public NetworkSnapshot withFailedEndpoints(Collection<IslEndpoint> endpoints) {
+        if (failedEndpoints.containsAll(endpoints)) {
+            return this;
+        }
+        Set<IslEndpoint> failed = new HashSet<>(failedEndpoints);
+        failed.addAll(endpoints);
+
+        NetworkSnapshot result = new NetworkSnapshot(version + 1, loadedAt, new EnumMap<>(
+                FlowEncapsulationType.class), availableBandwidthLedger, Collections.unmodifiableSet(failed));
+        for (Entry<FlowEncapsulationType, Map<IslEndpoints, IslImmutableView>> entry : isls.entrySet()) {
+            Map<IslEndpoints, IslImmutableView> typeIsls = new HashMap<>(entry.getValue());
+            typeIsls.values().removeIf(result::isFailed);
+            result.isls.put(entry.getKey(), Collections.unmodifiableMap(typeIsls));
+        }
+        return result;
+    }
+
+    /**
+     * Makes the key of an ISL.
+     */
+    public static IslEndpoints makeEndpoints(SwitchId srcSwitchId, int srcPort, SwitchId destSwitchId, int destPort) {
+        return new IslEndpoints(srcSwitchId.toString(), srcPort, destSwitchId.toString(), destPort);
+    }
+
+    public static IslEndpoints makeEndpoints(IslImmutableView isl) {
+        return makeEndpoints(isl.getSrcSwitchId(), isl.getSrcPort(), isl.getDestSwitchId(), isl.getDestPort());
+    }
+
+    private boolean isFailed(IslImmutableView isl) {
+        return !failedEndpoints.isEmpty()
+                && (failedEndpoints.contains(new IslEndpoint(isl.getSrcSwitchId(), isl.getSrcPort()))
+                || failedEndpoints.contains(new IslEndpoint(isl.getDestSwitchId(), isl.getDestPort())));
+    }
+
+    private Map<FlowEncapsulationType, Map<IslEndpoints, IslImmutableView>> copyIsls() {
+        Map<FlowEncapsulationType, Map<IslEndpoints, IslImmutableView>> result = new EnumMap<>(
+                FlowEncapsulationType.class);
+        result.putAll(isls);
+        return result;
+    }
+
+    /**
+     * Detached copy of {@link IslImmutableView}, it doesn't refer to any persistence object.
+     */
+    @Value
+    @Builder(toBuilder = true)
+    @AllArgsConstructor
+    static class IslSnapshotView implements IslImmutableView {
+        SwitchId srcSwitchId;
+        int srcPort;
+        String srcPop;
+        SwitchId destSwitchId;
+        int destPort;
+        String destPop;
+        long latency;
+        int cost;
+        long availableBandwidth;
+        boolean underMaintenance;
+        boolean unstable;
+
+        static IslSnapshotView copyOf(IslImmutableView isl) {
+            if (isl instanceof IslSnapshotView) {
+                return (IslSnapshotView) isl;
+            }
+            return new IslSnapshotView(isl.getSrcSwitchId(), isl.getSrcPort(), isl.getSrcPop(),
+                    isl.getDestSwitchId(), isl.getDestPort(), isl.getDestPop(), isl.getLatency(), isl.getCost(),
+                    isl.getAvailableBandwidth(), isl.isUnderMaintenance(), isl.isUnstable());
+        }
+    }
+}
@@ -0,0 +1,83 @@
+/* Copyright 2023 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.pce.impl;
+
+import org.openkilda.model.FlowEncapsulationType;
+import org.openkilda.model.IslEndpoint;
+import org.openkilda.persistence.repositories.IslRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+
+/**
+ * Keeps the current {@link NetworkSnapshot} of a worker. It is a TTL cache: ISLs for an encapsulation type are read
+ * from the database once and then served from memory until the snapshot gets older than the configured max age.
+ *
+ * <p>ISL failures reported by reroute requests are applied to the snapshot immediately, so paths are not computed
+ * over failed ISLs. Other ISL state and available bandwidth changes, including bandwidth allocated by flowhs, become
+ * visible to path computation with a delay of at most the max age. Resource allocation validates the bandwidth in
+ * the database, so a path found over stale bandwidth fails the allocation and is recomputed instead of overbooking
+ * an ISL.
+ */
+@Slf4j
+public class NetworkSnapshotHolder {
+    private final IslRepository islRepository;
+    private final Duration maxAge;
+    private final Clock clock;
+
+    private NetworkSnapshot snapshot;
+
+    public NetworkSnapshotHolder(IslRepository islRepository, Duration maxAge, Clock clock) {
+        this.islRepository = islRepository;
+        this.maxAge = maxAge;
+        this.clock = clock;
+        this.snapshot = NetworkSnapshot.empty(clock.instant());
+    }
+
+    /**
+     * Returns the actual snapshot with loaded ISLs for the encapsulation type. Reads the ISLs from the database
+     * if the snapshot is expired or has no ISLs for the encapsulation type yet.
+     */
+    public synchronized NetworkSnapshot getSnapshot(FlowEncapsulationType encapsulationType) {
+        Instant now = clock.instant();
+        if (Duration.between(snapshot.getLoadedAt(), now).compareTo(maxAge) >= 0) {
+            log.debug("Network snapshot version {} is expired", snapshot.getVersion());
+            snapshot = NetworkSnapshot.empty(now);
+        }
+        if (!snapshot.isLoaded(encapsulationType)) {
+            log.debug("Loading network snapshot for encapsulation type {}", encapsulationType);
+            snapshot = snapshot.withIsls(encapsulationType,
+                    islRepository.findActiveByEncapsulationType(encapsulationType));
+        }
+        return snapshot;
+    }
+
+    /**
+     * Removes ISLs which start or end at the failed endpoints from the snapshot until it expires.
+     */
+    public synchronized void islFailed(Collection<IslEndpoint> endpoints) {
+        NetworkSnapshot updated = snapshot.withFailedEndpoints(endpoints);
+        if (updated != snapshot) {
+            log.debug("ISL endpoints {} are removed from network snapshot version {}", endpoints,
+                    snapshot.getVersion());
+            snapshot = updated;
+        }
+    }
+}
@@ -0,0 +1,187 @@
+/* Copyright 2023 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.pce.model;
+
+import org.openkilda.pce.model.PathWeight.Penalty;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Index based read-only form of a network used by path finders. Nodes are interned to int ids, outgoing edges of a
+ * node are stored in a contiguous range of the edge arrays (compressed sparse row adjacency) ordered by the
+ * destination switch id. Edge weights calculated by a {@link WeightFunction} are kept in primitive arrays, so a search
+ * over the graph doesn't produce {@link PathWeight} objects.
+ * <p/>
+ * The graph is a snapshot of the nodes and edges at the moment of creation, changes of the original nodes are not
+ * reflected.
+ */
+public final class CompactGraph {
+    private final Node[] nodes;
+    private final Map<Node, Integer> nodeIndexes;
+    private final int[] outgoingOffsets;
+    private final int[] destinations;
+    private final Edge[] edges;
+
+    private final long[] totalWeights;
+    private final long[] alternativeWeights;
+    private final int[] penaltiesMasks;
+    private final long[] hardDiversityPenalties;
+
+    private CompactGraph(Node[] nodes, Map<Node, Integer> nodeIndexes, int[] outgoingOffsets, int[] destinations,
+                         Edge[] edges, long[] totalWeights, long[] alternativeWeights, int[] penaltiesMasks,
+                         long[] hardDiversityPenalties) {
+        this.nodes = nodes;
+        this.nodeIndexes = nodeIndexes;
+        this.outgoingOffsets = outgoingOffsets;
+        this.destinations = destinations;
+        this.edges = edges;
+        this.totalWeights = totalWeights;
+        this.alternativeWeights = alternativeWeights;
+        this.penaltiesMasks = penaltiesMasks;
+        this.hardDiversityPenalties = hardDiversityPenalties;
+    }
+
+    /**
+     * Creates a graph from the nodes and their outgoing edges. Nodes referenced by edges only are added as well.
+     * The graph has zero edge weights, see {@link #withWeights(WeightFunction)}.
+     */
+    public static CompactGraph from(Collection<Node> nodes) {
+        List<Node> indexedNodes = new ArrayList<>(nodes);
+        Map<Node, Integer> nodeIndexes = new HashMap<>();
+        for (int i = 0; i < indexedNodes.size(); i++) {
+            nodeIndexes.put(indexedNodes.get(i), i);
+        }
+
+        for (int i = 0; i < indexedNodes.size(); i++) {
+            for (Edge edge : indexedNodes.get(i).getOutgoingLinks()) {
+                if (!nodeIndexes.containsKey(edge.getDestSwitch())) {
+                    nodeIndexes.put(edge.getDestSwitch(), indexedNodes.size());
+                    indexedNodes.add(edge.getDestSwitch());
+                }
+            }
+        }
+
+        int nodeCount = indexedNodes.size();
+        int[] outgoingOffsets = new int[nodeCount + 1];
+        List<Edge> orderedEdges = new ArrayList<>();
+        for (int i = 0; i < nodeCount; i++) {
+            outgoingOffsets[i] = orderedEdges.size();
+            List<Edge> outgoing = new ArrayList<>(indexedNodes.get(i).getOutgoingLinks());
+            outgoing.sort(Comparator.comparing(edge -> edge.getDestSwitch().getSwitchId()));
+            orderedEdges.addAll(outgoing);
+        }
+        outgoingOffsets[nodeCount] = orderedEdges.size();
+
+        Edge[] edges = orderedEdges.toArray(new Edge[0]);
+        int[] destinations = new int[edges.length];
+        for (int i = 0; i < edges.length; i++) {
+            destinations[i] = nodeIndexes.get(edges[i].getDestSwitch());
+        }
+
+        return new CompactGraph(indexedNodes.toArray(new Node[0]), nodeIndexes, outgoingOffsets, destinations, edges,
+                new long[edges.length], new long[edges.length], new int[edges.length], new long[edges.length]);
+    }
+
+    /**
+     * Creates a graph with the same topology and edge weights calculated by the weight function. The weight function
+     * is applied once per edge.
+     */
+    public CompactGraph withWeights(WeightFunction weightFunction) {
+        long[] totalWeights = new long[edges.length];
+        long[] alternativeWeights = new long[edges.length];
+        int[] penaltiesMasks = new int[edges.length];
+        long[] hardDiversityPenalties = new long[edges.length];
+        for (int i = 0; i < edges.length; i++) {
+            PathWeight weight = weightFunction.apply(edges[i]);
+            totalWeights[i] = weight.getTotalWeight();
+            alternativeWeights[i] = weight.getAlternativeBaseWeight();
+            penaltiesMasks[i] = weight.getPenaltiesMask();
+            hardDiversityPenalties[i] = weight.getPenaltyValue(Penalty.PROTECTED_DIVERSITY_ISL_LATENCY)
+                    + weight.getPenaltyValue(Penalty.PROTECTED_DIVERSITY_SWITCH_LATENCY);
+        }
+        return new CompactGraph(nodes, nodeIndexes, outgoingOffsets, destinations, edges,
+                totalWeights, alternativeWeights, penaltiesMasks, hardDiversityPenalties);
+    }
+
+    public int getNodeCount() {
+        return nodes.length;
+    }
+
+    public int getEdgeCount() {
+        return edges.length;
+    }
+
+    /**
+     * Returns the id of the node or -1 if the node is not a part of the graph.
+     */
+    public int getNodeIndex(Node node) {
+        Integer index = nodeIndexes.get(node);
+        return index != null ? index : -1;
+    }
+
+    public Node getNode(int node) {
+        return nodes[node];
+    }
+
+    /**
+     * Returns the id of the first outgoing edge of the node.
+     */
+    public int getOutgoingStart(int node) {
+        return outgoingOffsets[node];
+    }
+
+    /**
+     * Returns the id next to the last outgoing edge of the node.
+     */
+    public int getOutgoingEnd(int node) {
+        return outgoingOffsets[node + 1];
+    }
+
+    public int getDestination(int edge) {
+        return destinations[edge];
+    }
+
+    public Edge getEdge(int edge) {
+        return edges[edge];
+    }
+
+    public long getTotalWeight(int edge) {
+        return totalWeights[edge];
+    }
+
+    public long getAlternativeWeight(int edge) {
+        return alternativeWeights[edge];
+    }
+
+    /**
+     * Returns the penalties of the edge weight as a bit mask, see {@link PathWeight#getPenaltiesMask()}.
+     */
+    public int getPenaltiesMask(int edge) {
+        return penaltiesMasks[edge];
+    }
+
+    /**
+     * Returns the sum of protected path diversity penalties of the edge weight.
+     */
+    public long getHardDiversityPenalties(int edge) {
+        return hardDiversityPenalties[edge];
+    }
+}
@@ -80,6 +80,17 @@ public class PathWeight implements Comparable<PathWeight> {
         return penalties.values().stream().reduce(0L, Long::sum);
     }
 
+    /**
+     * Penalties presented in the weight as a bit mask, the bit position is the penalty ordinal.
+     */
+    public int getPenaltiesMask() {
+        int mask = 0;
+        for (Penalty penalty : penalties.keySet()) {
+            mask |= 1 << penalty.ordinal();
+        }
+        return mask;
+    }
+
     /**
      * Summarize two PathWeights.
      */
@@ -18,11 +18,14 @@ package org.openkilda.pce;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import org.openkilda.model.Flow;
 import org.openkilda.model.FlowEncapsulationType;
 import org.openkilda.model.FlowPath;
+import org.openkilda.model.IslEndpoint;
 import org.openkilda.model.PathId;
 import org.openkilda.model.PathSegment;
 import org.openkilda.model.Switch;
@@ -37,6 +40,7 @@ import org.openkilda.persistence.repositories.HaFlowPathRepository;
 import org.openkilda.persistence.repositories.IslRepository;
 import org.openkilda.persistence.repositories.IslRepository.IslImmutableView;
 import org.openkilda.persistence.repositories.RepositoryFactory;
+import org.openkilda.stubs.ManualClock;
 
 import com.google.common.collect.Lists;
 import org.junit.Before;
@@ -44,6 +48,7 @@ import org.junit.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -385,6 +390,83 @@ public class AvailableNetworkFactoryTest {
         assertEquals(0, dst.getIncomingLinks().size());
     }
 
+    @Test
+    public void shouldBuildAvailableNetworkFromSnapshot() throws RecoverableException {
+        Flow flow = getFlow(false);
+        IslImmutableView isl = getIslView(flow);
+        IslImmutableView islWithoutBandwidth = getIslView(flow.getDestSwitch(), DEST_PORT, switchC, SRC_PORT);
+        when(islWithoutBandwidth.getAvailableBandwidth()).thenReturn(flow.getBandwidth() - 1);
+
+        when(config.getNetworkStrategy()).thenReturn("COST");
+        when(config.isNetworkSnapshotEnabled()).thenReturn(true);
+        when(config.getNetworkSnapshotMaxAgeMs()).thenReturn(1000L);
+        when(islRepository.findActiveByEncapsulationType(flow.getEncapsulationType()))
+                .thenReturn(Lists.newArrayList(isl, islWithoutBandwidth));
+        ManualClock clock = new ManualClock();
+        AvailableNetworkFactory factory = new AvailableNetworkFactory(config, repositoryFactory, clock);
+
+        assertAvailableNetworkIsCorrect(isl, factory.getAvailableNetwork(flow, Collections.emptyList()));
+        assertAvailableNetworkIsCorrect(isl, factory.getAvailableNetwork(flow, Collections.emptyList()));
+        verify(islRepository, times(1)).findActiveByEncapsulationType(flow.getEncapsulationType());
+
+        clock.adjust(Duration.ofSeconds(1));
+        assertAvailableNetworkIsCorrect(isl, factory.getAvailableNetwork(flow, Collections.emptyList()));
+        verify(islRepository, times(2)).findActiveByEncapsulationType(flow.getEncapsulationType());
+    }
+
+    @Test
+    public void shouldExcludeFailedIslsFromSnapshot() throws RecoverableException {
+        Flow flow = getFlow(false);
+        IslImmutableView isl = getIslView(flow);
+        IslImmutableView failedIsl = getIslView(flow.getSrcSwitch(), DEST_PORT, switchC, SRC_PORT);
+
+        when(config.getNetworkStrategy()).thenReturn("COST");
+        when(config.isNetworkSnapshotEnabled()).thenReturn(true);
+        when(config.getNetworkSnapshotMaxAgeMs()).thenReturn(1000L);
+        when(islRepository.findActiveByEncapsulationType(flow.getEncapsulationType()))
+                .thenReturn(Lists.newArrayList(isl, failedIsl));
+        AvailableNetworkFactory factory = new AvailableNetworkFactory(config, repositoryFactory, new ManualClock());
+
+        Node src = factory.getAvailableNetwork(flow, Collections.emptyList()).getSwitch(flow.getSrcSwitchId());
+        assertEquals(2, src.getOutgoingLinks().size());
+
+        factory.handleIslFailure(Collections.singleton(new IslEndpoint(switchC.getSwitchId(), SRC_PORT)));
+
+        AvailableNetwork availableNetwork = factory.getAvailableNetwork(flow, Collections.emptyList());
+        assertAvailableNetworkIsCorrect(isl, availableNetwork);
+        verify(islRepository, times(1)).findActiveByEncapsulationType(flow.getEncapsulationType());
+    }
+
+    @Test
+    public void shouldReuseResourcesFromSnapshot() throws RecoverableException {
+        Flow flow = getFlow(false);
+        IslImmutableView isl = getIslView(flow);
+        when(isl.getAvailableBandwidth()).thenReturn(flow.getBandwidth() - 1);
+        FlowPath flowPath = FlowPath.builder()
+                .pathId(PATH_ID_1)
+                .srcSwitch(flow.getSrcSwitch())
+                .destSwitch(flow.getDestSwitch())
+                .segments(Collections.singletonList(PathSegment.builder().pathId(PATH_ID_1)
+                        .srcSwitch(flow.getSrcSwitch()).srcPort(SRC_PORT)
+                        .destSwitch(flow.getDestSwitch()).destPort(DEST_PORT)
+                        .bandwidth(flow.getBandwidth()).build()))
+                .build();
+
+        when(config.getNetworkStrategy()).thenReturn("COST");
+        when(config.isNetworkSnapshotEnabled()).thenReturn(true);
+        when(config.getNetworkSnapshotMaxAgeMs()).thenReturn(1000L);
+        when(islRepository.findActiveByEncapsulationType(flow.getEncapsulationType()))
+                .thenReturn(Collections.singletonList(isl));
+        when(flowPathRepository.findById(PATH_ID_1)).thenReturn(Optional.of(flowPath));
+        AvailableNetworkFactory factory = new AvailableNetworkFactory(config, repositoryFactory, new ManualClock());
+
+        AvailableNetwork availableNetwork = factory.getAvailableNetwork(flow, Collections.singletonList(PATH_ID_1));
+
+        assertAvailableNetworkIsCorrect(isl, availableNetwork);
+        verify(islRepository, times(0)).findActiveByPathAndBandwidthAndEncapsulationType(
+                PATH_ID_1, flow.getBandwidth(), flow.getEncapsulationType());
+    }
+
     private static Flow getFlow(boolean ignoreBandwidth) {
         return Flow.builder()
                 .flowId("test-id")
@@ -17,6 +17,7 @@ package org.openkilda.pce;
 
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 import org.openkilda.pce.impl.InMemoryPathComputer;
 
@@ -25,9 +26,26 @@ import org.junit.Test;
 public class PathComputerFactoryTest {
     @Test
     public void shouldCreateAnInstance() {
-        PathComputerFactory factory = new PathComputerFactory(
-                mock(PathComputerConfig.class), mock(AvailableNetworkFactory.class));
+        PathComputerConfig config = mock(PathComputerConfig.class);
+        when(config.getFinderType()).thenReturn("BEST_WEIGHT");
+        PathComputerFactory factory = new PathComputerFactory(config, mock(AvailableNetworkFactory.class));
         PathComputer pathComputer = factory.getPathComputer();
         assertTrue(pathComputer instanceof InMemoryPathComputer);
     }
+
+    @Test
+    public void shouldCreateAnInstanceWithPriorityQueueFinder() {
+        PathComputerConfig config = mock(PathComputerConfig.class);
+        when(config.getFinderType()).thenReturn("priority_queue");
+        PathComputerFactory factory = new PathComputerFactory(config, mock(AvailableNetworkFactory.class));
+        PathComputer pathComputer = factory.getPathComputer();
+        assertTrue(pathComputer instanceof InMemoryPathComputer);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldFailOnUnknownFinderType() {
+        PathComputerConfig config = mock(PathComputerConfig.class);
+        when(config.getFinderType()).thenReturn("UNKNOWN");
+        new PathComputerFactory(config, mock(AvailableNetworkFactory.class)).getPathComputer();
+    }
 }
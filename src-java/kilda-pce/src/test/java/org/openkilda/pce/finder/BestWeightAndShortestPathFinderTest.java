@@ -41,8 +41,12 @@ import org.junit.Test;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
@@ -937,6 +941,41 @@ public class BestWeightAndShortestPathFinderTest {
         assertEquals(expectedPaths, convertPaths(paths));
     }
 
+    @Test
+    public void shouldFindTheSameNPathsInParallel() throws UnroutableFlowException {
+        AvailableNetwork network = buildTestNetworkForTestYensAlgorithm();
+        BestWeightAndShortestPathFinder sequentialFinder = new BestWeightAndShortestPathFinder(ALLOWED_DEPTH);
+        BestWeightAndShortestPathFinder parallelFinder = new BestWeightAndShortestPathFinder(ALLOWED_DEPTH, 4);
+
+        List<FindOneDirectionPathResult> expected = sequentialFinder.findNPathsBetweenSwitches(
+                network, SWITCH_ID_A, SWITCH_ID_F, 500, WEIGHT_FUNCTION);
+        List<FindOneDirectionPathResult> actual = parallelFinder.findNPathsBetweenSwitches(
+                network, SWITCH_ID_A, SWITCH_ID_F, 500, WEIGHT_FUNCTION);
+        assertEquals(convertPaths(expected), convertPaths(actual));
+
+        expected = sequentialFinder.findNPathsBetweenSwitches(
+                network, SWITCH_ID_A, SWITCH_ID_F, 500, WEIGHT_FUNCTION, 9, 11);
+        actual = parallelFinder.findNPathsBetweenSwitches(
+                network, SWITCH_ID_A, SWITCH_ID_F, 500, WEIGHT_FUNCTION, 9, 11);
+        assertEquals(convertPaths(expected), convertPaths(actual));
+    }
+
+    @Test
+    public void shouldNotModifyNetworkWhileFindingNPaths() throws UnroutableFlowException {
+        AvailableNetwork network = buildTestNetworkForTestYensAlgorithm();
+        Map<SwitchId, Set<Edge>> outgoingLinks = new HashMap<>();
+        for (SwitchId switchId : Arrays.asList(SWITCH_ID_A, SWITCH_ID_B, SWITCH_ID_C, SWITCH_ID_D, SWITCH_ID_E,
+                SWITCH_ID_F)) {
+            outgoingLinks.put(switchId, new HashSet<>(network.getSwitch(switchId).getOutgoingLinks()));
+        }
+
+        new BestWeightAndShortestPathFinder(ALLOWED_DEPTH, 4)
+                .findNPathsBetweenSwitches(network, SWITCH_ID_A, SWITCH_ID_F, 500, WEIGHT_FUNCTION);
+
+        outgoingLinks.forEach((switchId, links) ->
+                assertEquals(links, network.getSwitch(switchId).getOutgoingLinks()));
+    }
+
     private AvailableNetwork buildTestNetworkForTestYensAlgorithm() {
         /*
          *   Topology:
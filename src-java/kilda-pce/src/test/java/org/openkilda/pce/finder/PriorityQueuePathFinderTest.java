@@ -0,0 +1,230 @@
+/* Copyright 2023 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.pce.finder;
+
+import static org.hamcrest.Matchers.endsWith;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.openkilda.model.SwitchId;
+import org.openkilda.pce.exception.UnroutableFlowException;
+import org.openkilda.pce.impl.AvailableNetwork;
+import org.openkilda.pce.model.Edge;
+import org.openkilda.pce.model.FindOneDirectionPathResult;
+import org.openkilda.pce.model.PathWeight;
+import org.openkilda.pce.model.PathWeight.Penalty;
+import org.openkilda.pce.model.WeightFunction;
+
+import com.google.common.collect.Lists;
+import org.apache.commons.lang3.tuple.Pair;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+public class PriorityQueuePathFinderTest {
+
+    private static final int ALLOWED_DEPTH = 35;
+    private static final WeightFunction WEIGHT_FUNCTION = edge -> new PathWeight(edge.getCost());
+
+    private static final SwitchId SWITCH_ID_1 = new SwitchId("00:00:00:00:00:00:00:01");
+    private static final SwitchId SWITCH_ID_2 = new SwitchId("00:00:00:00:00:00:00:02");
+    private static final SwitchId SWITCH_ID_3 = new SwitchId("00:00:00:00:00:00:00:03");
+    private static final SwitchId SWITCH_ID_4 = new SwitchId("00:00:00:00:00:00:00:04");
+    private static final SwitchId SWITCH_ID_5 = new SwitchId("00:00:00:00:00:00:00:05");
+
+    @Test
+    public void shouldChooseExpensiveOverTooDeep() throws UnroutableFlowException {
+        AvailableNetwork network = buildLongAndExpensivePathsNetwork();
+
+        PriorityQueuePathFinder pathFinder = new PriorityQueuePathFinder(2);
+        Pair<List<Edge>, List<Edge>> pairPath =
+                pathFinder.findPathWithMinWeight(network, SWITCH_ID_1, SWITCH_ID_4, WEIGHT_FUNCTION).getFoundPath();
+        assertEquals(Lists.newArrayList(SWITCH_ID_1, SWITCH_ID_2, SWITCH_ID_4), getInvolvedSwitches(pairPath.getLeft()));
+        assertEquals(Lists.newArrayList(SWITCH_ID_4, SWITCH_ID_2, SWITCH_ID_1),
+                getInvolvedSwitches(pairPath.getRight()));
+    }
+
+    @Test
+    public void shouldChooseDeeperOverExpensive() throws UnroutableFlowException {
+        AvailableNetwork network = buildLongAndExpensivePathsNetwork();
+
+        PriorityQueuePathFinder pathFinder = new PriorityQueuePathFinder(4);
+        Pair<List<Edge>, List<Edge>> pairPath =
+                pathFinder.findPathWithMinWeight(network, SWITCH_ID_1, SWITCH_ID_4, WEIGHT_FUNCTION).getFoundPath();
+        assertEquals(Lists.newArrayList(SWITCH_ID_1, SWITCH_ID_2, SWITCH_ID_3, SWITCH_ID_5, SWITCH_ID_4),
+                getInvolvedSwitches(pairPath.getLeft()));
+        assertEquals(Lists.newArrayList(SWITCH_ID_4, SWITCH_ID_5, SWITCH_ID_3, SWITCH_ID_2, SWITCH_ID_1),
+                getInvolvedSwitches(pairPath.getRight()));
+    }
+
+    @Test
+    public void shouldFailWhenPathIsLongerThanAllowedDepth() {
+        AvailableNetwork network = buildLongAndExpensivePathsNetwork();
+        PriorityQueuePathFinder pathFinder = new PriorityQueuePathFinder(1);
+
+        Exception exception = assertThrows(UnroutableFlowException.class, () ->
+                pathFinder.findPathWithMinWeight(network, SWITCH_ID_1, SWITCH_ID_5, WEIGHT_FUNCTION));
+
+        MatcherAssert.assertThat(exception.getMessage(),
+                endsWith(FailReasonType.ALLOWED_DEPTH_EXCEEDED + ": Max allowed depth is 1"));
+    }
+
+    @Test
+    public void shouldFailWhenThereIsNoConnection() {
+        AvailableNetwork network = buildLongAndExpensivePathsNetwork();
+        network.getOrAddNode(new SwitchId(100), null);
+        PriorityQueuePathFinder pathFinder = new PriorityQueuePathFinder(ALLOWED_DEPTH);
+
+        Exception exception = assertThrows(UnroutableFlowException.class, () ->
+                pathFinder.findPathWithMinWeight(network, SWITCH_ID_1, new SwitchId(100), WEIGHT_FUNCTION));
+
+        MatcherAssert.assertThat(exception.getMessage(), endsWith(FailReasonType.NO_CONNECTION.toString()));
+    }
+
+    @Test
+    public void shouldAvoidPathsWithHardDiversityPenalties() throws UnroutableFlowException {
+        AvailableNetwork network = buildLongAndExpensivePathsNetwork();
+        WeightFunction weightFunction = edge -> {
+            if (edge.getSrcSwitch().getSwitchId().equals(SWITCH_ID_3)
+                    || edge.getDestSwitch().getSwitchId().equals(SWITCH_ID_3)) {
+                return new PathWeight(edge.getCost(),
+                        Collections.singletonMap(Penalty.PROTECTED_DIVERSITY_ISL_LATENCY, 1L));
+            }
+            return new PathWeight(edge.getCost());
+        };
+
+        PriorityQueuePathFinder pathFinder = new PriorityQueuePathFinder(ALLOWED_DEPTH);
+        List<Edge> path = pathFinder.findPathWithMinWeight(network, SWITCH_ID_1, SWITCH_ID_5, weightFunction)
+                .getFoundPath().getLeft();
+        assertEquals(Lists.newArrayList(SWITCH_ID_1, SWITCH_ID_2, SWITCH_ID_4, SWITCH_ID_5),
+                getInvolvedSwitches(path));
+    }
+
+    @Test
+    public void shouldFindPathsWithTheSameWeightAsBestWeightFinder() throws UnroutableFlowException {
+        AvailableNetwork network = buildRandomMeshNetwork(50, 3);
+        BestWeightAndShortestPathFinder bestWeightFinder = new BestWeightAndShortestPathFinder(ALLOWED_DEPTH);
+        PriorityQueuePathFinder priorityQueueFinder = new PriorityQueuePathFinder(ALLOWED_DEPTH);
+
+        for (int dst = 1; dst < 50; dst++) {
+            List<Edge> expected = bestWeightFinder.findPathWithMinWeight(
+                    network, new SwitchId(0), new SwitchId(dst), WEIGHT_FUNCTION).getFoundPath().getLeft();
+            List<Edge> actual = priorityQueueFinder.findPathWithMinWeight(
+                    network, new SwitchId(0), new SwitchId(dst), WEIGHT_FUNCTION).getFoundPath().getLeft();
+            assertEquals(getWeight(expected), getWeight(actual));
+        }
+    }
+
+    @Test
+    public void shouldFindNPathsWithTheSameWeightsAsBestWeightFinder() throws UnroutableFlowException {
+        AvailableNetwork network = buildRandomMeshNetwork(20, 2);
+        BestWeightAndShortestPathFinder bestWeightFinder = new BestWeightAndShortestPathFinder(ALLOWED_DEPTH);
+        PriorityQueuePathFinder priorityQueueFinder = new PriorityQueuePathFinder(ALLOWED_DEPTH);
+
+        List<FindOneDirectionPathResult> expected = bestWeightFinder.findNPathsBetweenSwitches(
+                network, new SwitchId(0), new SwitchId(10), 10, WEIGHT_FUNCTION);
+        List<FindOneDirectionPathResult> actual = priorityQueueFinder.findNPathsBetweenSwitches(
+                network, new SwitchId(0), new SwitchId(10), 10, WEIGHT_FUNCTION);
+
+        assertThat(actual, Matchers.hasSize(expected.size()));
+        assertEquals(getWeights(expected), getWeights(actual));
+    }
+
+    private AvailableNetwork buildLongAndExpensivePathsNetwork() {
+        /*
+         *   Topology:
+         *
+         *   SW1---SW2~~~SW4
+         *          |     |
+         *         SW3---SW5
+         *
+         *   SW2 - SW4 is expensive by cost.
+         */
+        AvailableNetwork network = new AvailableNetwork();
+        addBidirectionalLink(network, SWITCH_ID_1, SWITCH_ID_2, 1, 2, 100);
+        addBidirectionalLink(network, SWITCH_ID_2, SWITCH_ID_4, 3, 4, 10000);
+        addBidirectionalLink(network, SWITCH_ID_2, SWITCH_ID_3, 5, 6, 100);
+        addBidirectionalLink(network, SWITCH_ID_3, SWITCH_ID_5, 7, 8, 100);
+        addBidirectionalLink(network, SWITCH_ID_4, SWITCH_ID_5, 9, 10, 100);
+
+        return network;
+    }
+
+    private AvailableNetwork buildRandomMeshNetwork(int switchCount, int meshDegree) {
+        Random random = new Random(42);
+        AvailableNetwork network = new AvailableNetwork();
+        int port = 0;
+        for (int i = 0; i < switchCount; i++) {
+            addBidirectionalLink(network, new SwitchId(i), new SwitchId((i + 1) % switchCount),
+                    ++port, ++port, 1 + random.nextInt(1000));
+            for (int j = 0; j < meshDegree; j++) {
+                int peer = random.nextInt(switchCount);
+                if (peer != i) {
+                    addBidirectionalLink(network, new SwitchId(i), new SwitchId(peer),
+                            ++port, ++port, 1 + random.nextInt(1000));
+                }
+            }
+        }
+        return network;
+    }
+
+    private void addBidirectionalLink(AvailableNetwork network, SwitchId firstSwitch, SwitchId secondSwitch,
+                                      int srcPort, int dstPort, int cost) {
+        addLink(network, firstSwitch, secondSwitch, srcPort, dstPort, cost);
+        addLink(network, secondSwitch, firstSwitch, dstPort, srcPort, cost);
+    }
+
+    private void addLink(AvailableNetwork network, SwitchId srcDpid, SwitchId dstDpid, int srcPort, int dstPort,
+                         int cost) {
+        Edge edge = Edge.builder()
+                .srcSwitch(network.getOrAddNode(srcDpid, null))
+                .srcPort(srcPort)
+                .destSwitch(network.getOrAddNode(dstDpid, null))
+                .destPort(dstPort)
+                .latency(1)
+                .cost(cost)
+                .availableBandwidth(500000)
+                .build();
+        network.addEdge(edge);
+    }
+
+    private long getWeight(List<Edge> path) {
+        return path.stream().map(WEIGHT_FUNCTION).mapToLong(PathWeight::getTotalWeight).sum();
+    }
+
+    private List<Long> getWeights(List<FindOneDirectionPathResult> paths) {
+        return paths.stream()
+                .map(FindOneDirectionPathResult::getFoundPath)
+                .map(this::getWeight)
+                .collect(Collectors.toList());
+    }
+
+    private List<SwitchId> getInvolvedSwitches(List<Edge> path) {
+        List<SwitchId> switches = new ArrayList<>();
+        for (Edge edge : path) {
+            switches.add(edge.getSrcSwitch().getSwitchId());
+        }
+        switches.add(path.get(path.size() - 1).getDestSwitch().getSwitchId());
+        return switches;
+    }
+}
@@ -16,9 +16,11 @@
 package org.openkilda.pce.impl;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 
 import org.openkilda.model.Flow;
 import org.openkilda.model.FlowEncapsulationType;
@@ -28,15 +30,21 @@ import org.openkilda.model.PathComputationStrategy;
 import org.openkilda.model.PathId;
 import org.openkilda.model.Switch;
 import org.openkilda.model.SwitchId;
+import org.openkilda.pce.GetFlowPathsResult;
 import org.openkilda.pce.GetPathsResult;
 import org.openkilda.pce.PathComputer;
 import org.openkilda.pce.exception.RecoverableException;
 import org.openkilda.pce.exception.UnroutableFlowException;
 
+import com.google.common.collect.Sets;
 import org.hamcrest.Matchers;
 import org.junit.Test;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 public class CostPathComputationStrategyTest extends InMemoryPathComputerBaseTest {
 
@@ -64,6 +72,83 @@ public class CostPathComputationStrategyTest extends InMemoryPathComputerBaseTes
         assertEquals(new SwitchId("00:02"), path.getForward().getSegments().get(0).getDestSwitchId()); // chooses path B
     }
 
+    @Test
+    public void shouldComputePathsForBatchInPriorityOrderWithoutOverbooking() throws RecoverableException {
+        createDiamond(IslStatus.ACTIVE, IslStatus.ACTIVE, 10, 20, "00:", 1);
+
+        Switch srcSwitch = getSwitchById("00:01");
+        Switch destSwitch = getSwitchById("00:04");
+
+        Flow lowPriorityFlow = buildFlow("low", srcSwitch, destSwitch, 600, 3);
+        Flow mediumPriorityFlow = buildFlow("medium", srcSwitch, destSwitch, 600, 2);
+        Flow highPriorityFlow = buildFlow("high", srcSwitch, destSwitch, 600, 1);
+
+        PathComputer pathComputer = pathComputerFactory.getPathComputer();
+        List<GetFlowPathsResult> results = pathComputer.getPaths(
+                Arrays.asList(lowPriorityFlow, mediumPriorityFlow, highPriorityFlow), Collections.emptyList(), false);
+
+        assertEquals(Arrays.asList("high", "medium", "low"),
+                results.stream().map(GetFlowPathsResult::getFlowId).collect(Collectors.toList()));
+
+        // the cheapest path B is taken by the flow with the highest priority
+        assertTrue(results.get(0).isSuccessful());
+        assertEquals(new SwitchId("00:02"),
+                results.get(0).getPaths().getForward().getSegments().get(0).getDestSwitchId());
+        // path B doesn't have enough bandwidth anymore
+        assertTrue(results.get(1).isSuccessful());
+        assertEquals(new SwitchId("00:03"),
+                results.get(1).getPaths().getForward().getSegments().get(0).getDestSwitchId());
+        // both paths are occupied
+        assertFalse(results.get(2).isSuccessful());
+        assertNotNull(results.get(2).getUnroutableException());
+    }
+
+    @Test
+    public void shouldShareIslBandwidthBetweenEncapsulationTypesInBatch() throws RecoverableException {
+        createDiamond(IslStatus.ACTIVE, IslStatus.ACTIVE, 10, 20, "00:", 1);
+        for (String switchId : Arrays.asList("00:01", "00:02", "00:03", "00:04")) {
+            switchPropertiesRepository.findBySwitchId(new SwitchId(switchId)).get().setSupportedTransitEncapsulation(
+                    Sets.newHashSet(FlowEncapsulationType.TRANSIT_VLAN, FlowEncapsulationType.VXLAN));
+        }
+
+        Switch srcSwitch = getSwitchById("00:01");
+        Switch destSwitch = getSwitchById("00:04");
+
+        Flow lowPriorityFlow = buildFlow("low", srcSwitch, destSwitch, 600, 3);
+        Flow mediumPriorityFlow = buildFlow("medium", srcSwitch, destSwitch, 600, 2);
+        mediumPriorityFlow.setEncapsulationType(FlowEncapsulationType.VXLAN);
+        Flow highPriorityFlow = buildFlow("high", srcSwitch, destSwitch, 600, 1);
+
+        PathComputer pathComputer = pathComputerFactory.getPathComputer();
+        List<GetFlowPathsResult> results = pathComputer.getPaths(
+                Arrays.asList(lowPriorityFlow, mediumPriorityFlow, highPriorityFlow), Collections.emptyList(), false);
+
+        assertEquals(Arrays.asList("high", "medium", "low"),
+                results.stream().map(GetFlowPathsResult::getFlowId).collect(Collectors.toList()));
+
+        // the VXLAN flow sees the bandwidth reserved on path B by the TRANSIT_VLAN flow
+        assertTrue(results.get(0).isSuccessful());
+        assertEquals(new SwitchId("00:02"),
+                results.get(0).getPaths().getForward().getSegments().get(0).getDestSwitchId());
+        assertTrue(results.get(1).isSuccessful());
+        assertEquals(new SwitchId("00:03"),
+                results.get(1).getPaths().getForward().getSegments().get(0).getDestSwitchId());
+        // and the TRANSIT_VLAN flow sees the bandwidth reserved on path C by the VXLAN flow
+        assertFalse(results.get(2).isSuccessful());
+        assertNotNull(results.get(2).getUnroutableException());
+    }
+
+    private Flow buildFlow(String flowId, Switch srcSwitch, Switch destSwitch, long bandwidth, int priority) {
+        Flow flow = new TestFlowBuilder()
+                .flowId(flowId)
+                .srcSwitch(srcSwitch)
+                .destSwitch(destSwitch)
+                .bandwidth(bandwidth)
+                .build();
+        flow.setPriority(priority);
+        return flow;
+    }
+
     @Test
     public void shouldFindPathOverDiamondWithOneActiveRouteByCost()
             throws UnroutableFlowException, RecoverableException {
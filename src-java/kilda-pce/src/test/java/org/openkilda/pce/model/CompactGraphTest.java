@@ -0,0 +1,97 @@
+/* Copyright 2023 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.pce.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import org.openkilda.model.SwitchId;
+import org.openkilda.pce.impl.AvailableNetwork;
+import org.openkilda.pce.model.PathWeight.Penalty;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+public class CompactGraphTest {
+    private static final SwitchId SWITCH_ID_1 = new SwitchId("00:00:00:00:00:00:00:01");
+    private static final SwitchId SWITCH_ID_2 = new SwitchId("00:00:00:00:00:00:00:02");
+    private static final SwitchId SWITCH_ID_3 = new SwitchId("00:00:00:00:00:00:00:03");
+
+    @Test
+    public void shouldKeepOutgoingEdgesOrderedByDestination() {
+        AvailableNetwork network = new AvailableNetwork();
+        addLink(network, SWITCH_ID_1, SWITCH_ID_3, 1, 1, 10);
+        addLink(network, SWITCH_ID_1, SWITCH_ID_2, 2, 1, 20);
+        addLink(network, SWITCH_ID_2, SWITCH_ID_3, 2, 2, 30);
+
+        CompactGraph graph = network.toCompactGraph();
+
+        assertEquals(3, graph.getNodeCount());
+        assertEquals(3, graph.getEdgeCount());
+
+        int node1 = graph.getNodeIndex(network.getSwitch(SWITCH_ID_1));
+        assertSame(network.getSwitch(SWITCH_ID_1), graph.getNode(node1));
+        assertEquals(Arrays.asList(SWITCH_ID_2, SWITCH_ID_3), getDestinations(graph, node1));
+
+        int node3 = graph.getNodeIndex(network.getSwitch(SWITCH_ID_3));
+        assertEquals(Collections.emptyList(), getDestinations(graph, node3));
+        assertEquals(-1, graph.getNodeIndex(new Node(new SwitchId(100), null)));
+    }
+
+    @Test
+    public void shouldCalculateEdgeWeightsOnce() {
+        AvailableNetwork network = new AvailableNetwork();
+        addLink(network, SWITCH_ID_1, SWITCH_ID_2, 1, 1, 10);
+
+        List<Edge> weighted = new ArrayList<>();
+        CompactGraph graph = network.toCompactGraph().withWeights(edge -> {
+            weighted.add(edge);
+            return new PathWeight(edge.getCost(),
+                    Collections.singletonMap(Penalty.PROTECTED_DIVERSITY_ISL_LATENCY, 5L), 7L);
+        });
+
+        assertEquals(1, weighted.size());
+        assertEquals(15, graph.getTotalWeight(0));
+        assertEquals(7, graph.getAlternativeWeight(0));
+        assertEquals(1 << Penalty.PROTECTED_DIVERSITY_ISL_LATENCY.ordinal(), graph.getPenaltiesMask(0));
+        assertEquals(5, graph.getHardDiversityPenalties(0));
+        assertSame(weighted.get(0), graph.getEdge(0));
+    }
+
+    private List<SwitchId> getDestinations(CompactGraph graph, int node) {
+        List<SwitchId> result = new ArrayList<>();
+        for (int edge = graph.getOutgoingStart(node); edge < graph.getOutgoingEnd(node); edge++) {
+            result.add(graph.getNode(graph.getDestination(edge)).getSwitchId());
+        }
+        return result;
+    }
+
+    private void addLink(AvailableNetwork network, SwitchId srcDpid, SwitchId dstDpid, int srcPort, int dstPort,
+                         int cost) {
+        Edge edge = Edge.builder()
+                .srcSwitch(network.getOrAddNode(srcDpid, null))
+                .srcPort(srcPort)
+                .destSwitch(network.getOrAddNode(dstDpid, null))
+                .destPort(dstPort)
+                .cost(cost)
+                .build();
+        network.addEdge(edge);
+    }
+}
@@ -39,6 +39,11 @@ public interface FlowMeterRepository extends Repository<FlowMeter> {
      */
     Optional<FlowMeter> findById(SwitchId switchId, MeterId meterId);
 
+    /**
+     * Find all meters of the switch.
+     */
+    Collection<FlowMeter> findBySwitchId(SwitchId switchId);
+
     boolean exists(SwitchId switchId, MeterId meterId);
 
     /**
@@ -43,6 +43,11 @@ public interface FlowPathRepository extends Repository<FlowPath> {
 
     Optional<FlowPath> findByCookie(FlowSegmentCookie flowCookie);
 
+    /**
+     * Find flow paths by cookies with a single query. Cookies without a path are absent in the result.
+     */
+    Map<FlowSegmentCookie, FlowPath> findByCookies(Set<FlowSegmentCookie> flowCookies);
+
     Collection<FlowPath> findByFlowId(String flowId);
 
     Collection<FlowPath> findByFlowGroupId(String flowGroupId);
@@ -47,6 +47,10 @@ public interface FlowRepository extends Repository<Flow> {
 
     Collection<Flow> findWithPeriodicPingsEnabled();
 
+    Collection<String> findFlowIdsWithPeriodicPingsEnabled();
+
+    Map<String, Flow> findByIds(Set<String> flowIds);
+
     Collection<Flow> findByEndpoint(SwitchId switchId, int port);
 
     /**
@@ -84,6 +88,14 @@ public interface FlowRepository extends Repository<Flow> {
      */
     Collection<Flow> findByFlowFilter(FlowFilter flowFilter);
 
+    /**
+     * Find a page of flows by flow status. Flows are ordered by flow id, the page starts after {@code afterFlowId}
+     * or from the first flow if it is null.
+     * <p/>
+     * IMPORTANT: the method completes the flow entity only with Switch objects (Flow paths will be null)
+     */
+    Collection<Flow> findByFlowFilter(FlowFilter flowFilter, String afterFlowId, int limit);
+
     Optional<String> getOrCreateDiverseFlowGroupId(String flowId);
 
     Optional<String> getDiverseFlowGroupId(String flowId);
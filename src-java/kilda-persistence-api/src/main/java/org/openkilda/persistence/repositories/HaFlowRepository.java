@@ -22,7 +22,9 @@ import org.openkilda.model.SwitchId;
 import lombok.NonNull;
 
 import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 public interface HaFlowRepository extends Repository<HaFlow> {
     Collection<HaFlow> findAll();
@@ -35,6 +37,10 @@ public interface HaFlowRepository extends Repository<HaFlow> {
 
     Collection<HaFlow> findWithPeriodicPingsEnabled();
 
+    Collection<String> findHaFlowIdsWithPeriodicPingsEnabled();
+
+    Map<String, HaFlow> findByIds(Set<String> haFlowIds);
+
     Collection<HaFlow> findInactive();
 
     Collection<String> findHaFlowIdsByDiverseGroupId(String diverseGroupId);
@@ -20,12 +20,19 @@ import org.openkilda.model.history.FlowStatusView;
 import org.openkilda.persistence.repositories.Repository;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 public interface FlowEventRepository extends Repository<FlowEvent> {
     boolean existsByTaskId(String taskId);
 
+    /**
+     * Returns those of the task ids which have a stored flow event.
+     */
+    Set<String> findExistingTaskIds(Collection<String> taskIds);
+
     Optional<FlowEvent> findByTaskId(String taskId);
 
     List<FlowEvent> findByFlowIdAndTimeFrame(String flowId, Instant timeFrom, Instant timeTo, int maxCount);
@@ -20,6 +20,9 @@ import org.openkilda.persistence.PersistenceImplementationType;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.ArrayList;
+import java.util.List;
+
 @Slf4j
 public class Transaction {
     @Getter
@@ -28,6 +31,8 @@ public class Transaction {
     private boolean success = false;
     private boolean fail = false;
 
+    private final List<Runnable> afterCommitActions = new ArrayList<>();
+
     @Getter
     private boolean active = false;
 
@@ -70,6 +75,7 @@ public class Transaction {
                 Thread.currentThread().getName());
         if (canCommit) {
             implementationTransactionAdapter.commit();
+            runAfterCommitActions();
         } else {
             implementationTransactionAdapter.rollback();
         }
@@ -77,6 +83,13 @@ public class Transaction {
         return true;
     }
 
+    /**
+     * Register an action to be run once the transaction is committed. The action is dropped on rollback.
+     */
+    public void addAfterCommitAction(Runnable action) {
+        afterCommitActions.add(action);
+    }
+
     public void markSuccess() {
         success = true;
     }
@@ -89,6 +102,17 @@ public class Transaction {
         return implementationTransactionAdapter.getImplementationType();
     }
 
+    private void runAfterCommitActions() {
+        for (Runnable action : afterCommitActions) {
+            try {
+                action.run();
+            } catch (Exception e) {
+                log.error("Failed to run after commit action in {}", Thread.currentThread().getName(), e);
+            }
+        }
+        afterCommitActions.clear();
+    }
+
     private boolean isRootTransaction(ImplementationTransactionAdapter<?> effective) {
         return implementationTransactionAdapter == effective;
     }
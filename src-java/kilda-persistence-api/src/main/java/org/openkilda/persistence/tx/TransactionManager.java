@@ -125,6 +125,19 @@ public class TransactionManager implements Serializable {
         return retryPolicy;
     }
 
+    /**
+     * Run the action once the current transaction is committed, or immediately if there's no open transaction.
+     * The action is dropped if the transaction is rolled back, including rolled back attempts which are retried.
+     */
+    public void doAfterCommit(Runnable action) {
+        PersistenceContext context = PersistenceContextManager.INSTANCE.getContextCreateIfMissing();
+        if (context.isTxOpen()) {
+            context.getTransaction().addAfterCommitAction(action);
+        } else {
+            action.run();
+        }
+    }
+
     public boolean isTxOpen() {
         PersistenceContext context = PersistenceContextManager.INSTANCE.getContextCreateIfMissing();
         return context.isTxOpen();
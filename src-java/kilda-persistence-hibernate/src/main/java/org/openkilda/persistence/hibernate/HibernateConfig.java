@@ -36,4 +36,12 @@ public interface HibernateConfig extends Serializable {
     @Key("driver_class")
     @Default("com.mysql.cj.jdbc.Driver")
     String getDriverClass();
+
+    /**
+     * Size of JDBC batches used on flush, 0 disables batching. Inserts into tables with IDENTITY keys are never
+     * batched by Hibernate.
+     */
+    @Key("jdbc.batch_size")
+    @Default("50")
+    int getJdbcBatchSize();
 }
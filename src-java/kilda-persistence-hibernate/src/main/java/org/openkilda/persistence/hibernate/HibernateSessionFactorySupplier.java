@@ -69,6 +69,9 @@ public class HibernateSessionFactorySupplier implements Supplier<SessionFactory>
                 .applySetting(AvailableSettings.C3P0_IDLE_TEST_PERIOD, 600)  // seconds?
                 .applySetting(AvailableSettings.C3P0_CONFIG_PREFIX + ".testConnectionOnCheckout", true)
                 .applySetting(AvailableSettings.C3P0_CONFIG_PREFIX + ".preferredTestQuery", "SELECT 1")
+                .applySetting(AvailableSettings.STATEMENT_BATCH_SIZE, hibernateConfig.getJdbcBatchSize())
+                .applySetting(AvailableSettings.ORDER_INSERTS, true)
+                .applySetting(AvailableSettings.ORDER_UPDATES, true)
                 // TODO(surabujin): detect debugging mode and enable for it
                 .applySetting(AvailableSettings.SHOW_SQL, false)
                 .applySetting(AvailableSettings.FORMAT_SQL, true)
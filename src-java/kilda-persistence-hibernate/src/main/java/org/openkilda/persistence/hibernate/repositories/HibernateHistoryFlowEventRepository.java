@@ -33,9 +33,12 @@ import org.openkilda.persistence.repositories.history.FlowEventRepository;
 
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 import javax.persistence.criteria.CriteriaBuilder;
 import javax.persistence.criteria.CriteriaQuery;
@@ -54,6 +57,25 @@ public class HibernateHistoryFlowEventRepository
         return getTransactionManager().doInTransaction(() -> findEntityByTaskId(taskId).isPresent());
     }
 
+    @Override
+    public Set<String> findExistingTaskIds(Collection<String> taskIds) {
+        if (taskIds.isEmpty()) {
+            return Collections.emptySet();
+        }
+        // taskId field has no index, so the lookup is done by taskIdUniqueKey
+        List<String> taskIdKeys = taskIds.stream()
+                .map(HibernateFlowEvent::makeTaskIdUniqueKey)
+                .collect(Collectors.toList());
+        return getTransactionManager().doInTransaction(() -> {
+            CriteriaBuilder builder = getSession().getCriteriaBuilder();
+            CriteriaQuery<String> query = builder.createQuery(String.class);
+            Root<HibernateFlowEvent> root = query.from(HibernateFlowEvent.class);
+            query.select(root.get(HibernateFlowEvent_.taskId));
+            query.where(root.get(HibernateFlowEvent_.taskIdUniqueKey).in(taskIdKeys));
+            return new HashSet<>(getSession().createQuery(query).getResultList());
+        });
+    }
+
     @Override
     public Optional<FlowEvent> findByTaskId(String taskId) {
         return getTransactionManager().doInTransaction(() -> findEntityByTaskId(taskId).map(FlowEvent::new));
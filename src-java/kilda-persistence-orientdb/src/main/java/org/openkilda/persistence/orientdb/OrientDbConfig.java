@@ -40,4 +40,15 @@ public interface OrientDbConfig extends Serializable {
     @Key("pool.acquire.attempts")
     @Default("50")
     int getPoolAcquireAttempts();
+
+    /**
+     * Connections idle for longer than this are validated with a test query before use, 0 validates every acquire.
+     */
+    @Key("pool.validation.idle.ms")
+    @Default("30000")
+    long getPoolValidationIdleMs();
+
+    @Key("pool.prewarm.size")
+    @Default("4")
+    int getPoolPrewarmSize();
 }
@@ -28,6 +28,7 @@ public class OrientDbContextExtension implements FermaContextExtension {
 
     private final OrientDbGraphFactory graphFactory;
 
+    @Getter
     private DelegatingFramedGraph<OrientGraph> graph = null;
 
     public OrientDbContextExtension(
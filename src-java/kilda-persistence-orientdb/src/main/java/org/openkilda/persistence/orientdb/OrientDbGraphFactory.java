@@ -19,7 +19,10 @@ import org.openkilda.persistence.exceptions.RecoverablePersistenceException;
 import org.openkilda.persistence.ferma.AnnotationFrameFactoryWithConverterSupport;
 import org.openkilda.persistence.ferma.FramedGraphFactory;
 
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.CacheBuilder;
 import com.orientechnologies.common.exception.OException;
+import com.orientechnologies.orient.core.db.document.ODatabaseDocument;
 import com.orientechnologies.orient.core.sql.executor.OResultSet;
 import com.syncleus.ferma.DelegatingFramedGraph;
 import com.syncleus.ferma.framefactories.FrameFactory;
@@ -34,18 +37,33 @@ import org.apache.tinkerpop.gremlin.orientdb.OrientGraph;
 import org.apache.tinkerpop.gremlin.orientdb.OrientGraphFactory;
 
 import java.io.Serializable;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * A factory creates graph instances for interacting with OrientDB.
+ *
+ * <p>Pooled connections are validated with a test query only if they have been idle longer than
+ * {@link OrientDbConfig#getPoolValidationIdleMs()} or if the last transaction on them failed, so a connection which
+ * is in active use doesn't pay an extra round-trip on each acquire.
  */
 @Slf4j
 public class OrientDbGraphFactory implements FramedGraphFactory<DelegatingFramedGraph<?>>, Serializable {
     private final OrientDbConfig config;
+    private final Clock clock;
 
     private transient volatile Connect connect;
 
     OrientDbGraphFactory(@NonNull OrientDbConfig config) {
+        this(config, Clock.systemUTC());
+    }
+
+    @VisibleForTesting
+    OrientDbGraphFactory(@NonNull OrientDbConfig config, @NonNull Clock clock) {
         this.config = config;
+        this.clock = clock;
     }
 
     /**
@@ -61,7 +79,7 @@ public class OrientDbGraphFactory implements FramedGraphFactory<DelegatingFramed
 
         OrientGraph orientGraph = Failsafe.with(newPoolAcquireRetryPolicy()).get(() -> {
             OrientGraph obtainedGraph = factory.getTx();
-            validateGraph(obtainedGraph);
+            validateIfRequired(effectiveConnect, obtainedGraph);
             return obtainedGraph;
         });
 
@@ -70,6 +88,19 @@ public class OrientDbGraphFactory implements FramedGraphFactory<DelegatingFramed
                 orientGraph, effectiveConnect.getBuilder(), effectiveConnect.getTypeResolver());
     }
 
+    /**
+     * Marks the connection of the graph as failed, it will be validated on the next acquire from the pool.
+     */
+    public void markFailed(@NonNull OrientGraph graph) {
+        Connect effectiveConnect = connect;
+        if (effectiveConnect != null) {
+            ConnectionState state = effectiveConnect.getConnections().get(graph.getRawDatabase());
+            if (state != null) {
+                state.failed = true;
+            }
+        }
+    }
+
     private RetryPolicy<OrientGraph> newPoolAcquireRetryPolicy() {
         return new RetryPolicy<OrientGraph>()
                 .handle(OException.class)
@@ -81,10 +112,30 @@ public class OrientDbGraphFactory implements FramedGraphFactory<DelegatingFramed
                         e.getFailure()));
     }
 
-    private void validateGraph(@NonNull OrientGraph obtainedGraph) {
+    private void validateIfRequired(Connect effectiveConnect, OrientGraph obtainedGraph) {
         if (obtainedGraph.isClosed()) {
             throw new RecoverablePersistenceException("The obtained graph is closed");
         }
+
+        long now = clock.millis();
+        ConnectionState state = effectiveConnect.getConnections().get(obtainedGraph.getRawDatabase());
+        if (state == null) {
+            // A connection which has been just opened by the pool doesn't need a test query.
+            effectiveConnect.getConnections().put(obtainedGraph.getRawDatabase(), new ConnectionState(now));
+            return;
+        }
+
+        if (state.failed || config.getPoolValidationIdleMs() <= now - state.lastUsed) {
+            log.debug("Validating the obtained graph {} (failed={}, idle={}ms)",
+                    obtainedGraph, state.failed, now - state.lastUsed);
+            validateGraph(obtainedGraph);
+            state.failed = false;
+        }
+        state.lastUsed = now;
+    }
+
+    @VisibleForTesting
+    void validateGraph(@NonNull OrientGraph obtainedGraph) {
         try (OResultSet resultSet = obtainedGraph.executeSql("SELECT 1").getRawResultSet()) {
             if (!resultSet.hasNext()) {
                 throw new RecoverablePersistenceException("Failed to execute the test query");
@@ -97,17 +148,63 @@ public class OrientDbGraphFactory implements FramedGraphFactory<DelegatingFramed
             synchronized (this) {
                 if (connect == null) {
                     connect = new Connect(config);
+                    startPoolPrewarm(connect);
                 }
             }
         }
         return connect;
     }
 
+    private void startPoolPrewarm(Connect effectiveConnect) {
+        int size = Math.min(config.getPoolPrewarmSize(), config.getPoolSize());
+        if (size <= 0) {
+            return;
+        }
+        Thread thread = new Thread(() -> prewarmPool(effectiveConnect, size), "orientdb-pool-prewarm");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    private void prewarmPool(Connect effectiveConnect, int size) {
+        List<OrientGraph> graphs = new ArrayList<>(size);
+        try {
+            // All graphs are held at the same time, otherwise the pool gives the same connection back.
+            for (int i = 0; i < size; i++) {
+                OrientGraph graph = effectiveConnect.getFactory().getTx();
+                graphs.add(graph);
+                validateIfRequired(effectiveConnect, graph);
+            }
+            log.debug("OrientDB pool has been prewarmed with {} connections", graphs.size());
+        } catch (Exception e) {
+            log.warn("Failed to prewarm OrientDB pool ({} of {} connections are opened)", graphs.size(), size, e);
+        } finally {
+            for (OrientGraph graph : graphs) {
+                try {
+                    graph.close();
+                } catch (Exception e) {
+                    log.warn("Failed to return a prewarmed graph {} to the pool", graph, e);
+                }
+            }
+        }
+    }
+
+    private static class ConnectionState {
+        private volatile long lastUsed;
+        private volatile boolean failed;
+
+        ConnectionState(long lastUsed) {
+            this.lastUsed = lastUsed;
+        }
+    }
+
     @Value
     private static class Connect {
         OrientGraphFactory factory;
         FrameFactory builder = new AnnotationFrameFactoryWithConverterSupport();
         TypeResolver typeResolver = new UntypedTypeResolver();
+        // Pooled database instances are reused by the pool, weak keys are compared by identity.
+        ConcurrentMap<ODatabaseDocument, ConnectionState> connections =
+                CacheBuilder.newBuilder().weakKeys().<ODatabaseDocument, ConnectionState>build().asMap();
 
         public Connect(OrientDbConfig config) {
             log.debug(
@@ -120,4 +217,3 @@ public class OrientDbGraphFactory implements FramedGraphFactory<DelegatingFramed
         }
     }
 }
-
@@ -15,6 +15,7 @@
 
 package org.openkilda.persistence.orientdb;
 
+import org.openkilda.persistence.context.PersistenceContextManager;
 import org.openkilda.persistence.exceptions.ConstraintViolationException;
 import org.openkilda.persistence.exceptions.PersistenceException;
 import org.openkilda.persistence.exceptions.RecoverablePersistenceException;
@@ -23,6 +24,8 @@ import org.openkilda.persistence.ferma.FermaTransactionAdapter;
 import com.orientechnologies.common.concur.ONeedRetryException;
 import com.orientechnologies.common.exception.OException;
 import com.orientechnologies.orient.core.storage.ORecordDuplicatedException;
+import com.syncleus.ferma.DelegatingFramedGraph;
+import org.apache.tinkerpop.gremlin.orientdb.OrientGraph;
 
 public class OrientDbTransactionAdapter extends FermaTransactionAdapter<OrientDbPersistenceImplementation> {
     public OrientDbTransactionAdapter(OrientDbPersistenceImplementation implementation) {
@@ -36,9 +39,20 @@ public class OrientDbTransactionAdapter extends FermaTransactionAdapter<OrientDb
         } else if (ex instanceof ONeedRetryException) {
             return new RecoverablePersistenceException("Failure in transaction", ex);
         } else if (ex instanceof OException) {
+            markGraphFailed();
             return new PersistenceException("Failure in transaction", ex);
         } else {
             return super.wrapException(ex);
         }
     }
+
+    private void markGraphFailed() {
+        OrientDbPersistenceImplementation implementation = getImplementation();
+        DelegatingFramedGraph<OrientGraph> graph = implementation.getContextExtension(
+                PersistenceContextManager.INSTANCE.getContextCreateIfMissing()).getGraph();
+        if (graph != null) {
+            // The connection may be broken, so it must be validated before the next use.
+            implementation.getGraphFactory().markFailed(graph.getBaseGraph());
+        }
+    }
 }
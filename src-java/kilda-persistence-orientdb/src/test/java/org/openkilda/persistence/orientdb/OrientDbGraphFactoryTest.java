@@ -0,0 +1,145 @@
+/* Copyright 2023 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.persistence.orientdb;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.openkilda.persistence.exceptions.RecoverablePersistenceException;
+
+import com.orientechnologies.orient.core.db.document.ODatabaseDocument;
+import com.syncleus.ferma.DelegatingFramedGraph;
+import org.apache.tinkerpop.gremlin.orientdb.OrientGraph;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+public class OrientDbGraphFactoryTest {
+    private static final long IDLE_MS = 1000;
+
+    private MutableClock clock;
+    private OrientDbGraphFactory factory;
+
+    @Before
+    public void setUp() {
+        OrientDbConfig config = mock(OrientDbConfig.class);
+        when(config.getUrl()).thenReturn("memory:" + UUID.randomUUID());
+        when(config.getUser()).thenReturn("admin");
+        when(config.getPassword()).thenReturn("admin");
+        when(config.getPoolSize()).thenReturn(4);
+        when(config.getPoolAcquireAttempts()).thenReturn(3);
+        when(config.getPoolValidationIdleMs()).thenReturn(IDLE_MS);
+        when(config.getPoolPrewarmSize()).thenReturn(0);
+
+        clock = new MutableClock();
+        factory = spy(new OrientDbGraphFactory(config, clock));
+    }
+
+    @Test
+    public void shouldNotValidateRecentlyUsedConnection() throws Exception {
+        for (int i = 0; i < 10; i++) {
+            acquireAndRelease();
+            clock.advance(IDLE_MS / 10);
+        }
+
+        verify(factory, never()).validateGraph(any());
+    }
+
+    @Test
+    public void shouldValidateIdleConnection() throws Exception {
+        acquireAndRelease();
+        clock.advance(IDLE_MS);
+        acquireAndRelease();
+        acquireAndRelease();
+
+        verify(factory, times(1)).validateGraph(any());
+    }
+
+    @Test
+    public void shouldValidateFailedConnection() throws Exception {
+        DelegatingFramedGraph<OrientGraph> graph = factory.getGraph();
+        factory.markFailed(graph.getBaseGraph());
+        graph.close();
+
+        acquireAndRelease();
+        acquireAndRelease();
+
+        verify(factory, times(1)).validateGraph(any());
+    }
+
+    @Test
+    public void shouldRetryAcquireOnFailedValidation() throws Exception {
+        DelegatingFramedGraph<OrientGraph> graph = factory.getGraph();
+        ODatabaseDocument staleDatabase = graph.getBaseGraph().getRawDatabase();
+        graph.close();
+        clock.advance(IDLE_MS);
+
+        doThrow(new RecoverablePersistenceException("Stale connection"))
+                .doCallRealMethod()
+                .when(factory).validateGraph(any());
+
+        graph = factory.getGraph();
+        assertFalse(graph.getBaseGraph().isClosed());
+        // The stale connection is not used, the retry gets a connection just opened by the pool.
+        assertNotSame(staleDatabase, graph.getBaseGraph().getRawDatabase());
+        graph.close();
+
+        verify(factory, times(1)).validateGraph(any());
+    }
+
+    private void acquireAndRelease() throws Exception {
+        DelegatingFramedGraph<OrientGraph> graph = factory.getGraph();
+        graph.getBaseGraph().commit();
+        graph.close();
+    }
+
+    private static class MutableClock extends Clock {
+        private Instant now = Instant.now();
+
+        void advance(long millis) {
+            now = now.plus(Duration.ofMillis(millis));
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
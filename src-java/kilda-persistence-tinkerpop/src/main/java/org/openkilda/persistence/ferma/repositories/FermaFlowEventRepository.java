@@ -33,9 +33,12 @@ import org.apache.tinkerpop.gremlin.structure.Vertex;
 
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -59,6 +62,20 @@ public class FermaFlowEventRepository extends FermaGenericRepository<FlowEvent,
         }
     }
 
+    @Override
+    public Set<String> findExistingTaskIds(Collection<String> taskIds) {
+        if (taskIds.isEmpty()) {
+            return Collections.emptySet();
+        }
+        return framedGraph().traverse(g -> g.V()
+                .hasLabel(FlowEventFrame.FRAME_LABEL)
+                .has(FlowEventFrame.TASK_ID_PROPERTY, P.within(taskIds))
+                .values(FlowEventFrame.TASK_ID_PROPERTY))
+                .getRawTraversal().toStream()
+                .map(i -> (String) i)
+                .collect(Collectors.toSet());
+    }
+
     @Override
     public Optional<FlowEvent> findByTaskId(String taskId) {
         List<? extends FlowEventFrame> flowEventFrames = framedGraph().traverse(g -> g.V()
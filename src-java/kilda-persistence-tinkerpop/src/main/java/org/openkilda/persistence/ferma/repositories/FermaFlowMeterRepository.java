@@ -80,6 +80,16 @@ public class FermaFlowMeterRepository extends FermaGenericRepository<FlowMeter,
                 .map(FlowMeter::new);
     }
 
+    @Override
+    public Collection<FlowMeter> findBySwitchId(SwitchId switchId) {
+        return framedGraph().traverse(g -> g.V()
+                        .hasLabel(FlowMeterFrame.FRAME_LABEL)
+                        .has(FlowMeterFrame.SWITCH_PROPERTY, SwitchIdConverter.INSTANCE.toGraphProperty(switchId)))
+                .toListExplicit(FlowMeterFrame.class).stream()
+                .map(FlowMeter::new)
+                .collect(Collectors.toList());
+    }
+
     @Override
     public boolean exists(SwitchId switchId, MeterId meterId) {
         String switchIdAsStr = SwitchIdConverter.INSTANCE.toGraphProperty(switchId);
@@ -156,6 +156,28 @@ public class FermaFlowPathRepository extends FermaGenericRepository<FlowPath, Fl
         return flowPathFrames.isEmpty() ? Optional.empty() : Optional.of(flowPathFrames.get(0)).map(FlowPath::new);
     }
 
+    @Override
+    public Map<FlowSegmentCookie, FlowPath> findByCookies(Set<FlowSegmentCookie> cookies) {
+        if (cookies.isEmpty()) {
+            return new HashMap<>();
+        }
+        Set<Long> graphCookies = cookies.stream()
+                .map(FlowSegmentCookieConverter.INSTANCE::toGraphProperty)
+                .collect(Collectors.toSet());
+        List<? extends FlowPathFrame> flowPathFrames = framedGraph().traverse(g -> g.V()
+                        .hasLabel(FlowPathFrame.FRAME_LABEL)
+                        .has(FlowPathFrame.COOKIE_PROPERTY, P.within(graphCookies)))
+                .toListExplicit(FlowPathFrame.class);
+        Map<FlowSegmentCookie, FlowPath> result = new HashMap<>();
+        for (FlowPathFrame frame : flowPathFrames) {
+            FlowPath path = new FlowPath(frame);
+            if (result.put(path.getCookie(), path) != null) {
+                throw new PersistenceException(format("Found more that 1 FlowPath entity by %s", path.getCookie()));
+            }
+        }
+        return result;
+    }
+
     @Override
     public Collection<PathId> findPathIdsBySharedBandwidthGroupId(String sharedBandwidthGroupId) {
         return framedGraph().traverse(g -> g.V()
@@ -49,11 +49,13 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TreeMap;
 import java.util.TreeSet;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -159,6 +161,27 @@ public class FermaFlowRepository extends FermaGenericRepository<Flow, FlowData,
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public Collection<String> findFlowIdsWithPeriodicPingsEnabled() {
+        return framedGraph().traverse(g -> g.V()
+                .hasLabel(FlowFrame.FRAME_LABEL)
+                .has(FlowFrame.PERIODIC_PINGS_PROPERTY, true)
+                .values(FlowFrame.FLOW_ID_PROPERTY))
+                .getRawTraversal().toStream()
+                .map(i -> (String) i)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public Map<String, Flow> findByIds(Set<String> flowIds) {
+        return framedGraph().traverse(g -> g.V()
+                        .hasLabel(FlowFrame.FRAME_LABEL)
+                        .has(FlowFrame.FLOW_ID_PROPERTY, P.within(flowIds)))
+                .toListExplicit(FlowFrame.class).stream()
+                .map(Flow::new)
+                .collect(Collectors.toMap(Flow::getFlowId, Function.identity()));
+    }
+
     @Override
     public Collection<Flow> findByEndpoint(SwitchId switchId, int port) {
         Map<String, Flow> result = new HashMap<>();
@@ -411,6 +434,35 @@ public class FermaFlowRepository extends FermaGenericRepository<Flow, FlowData,
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public Collection<Flow> findByFlowFilter(FlowFilter flowFilter, String afterFlowId, int limit) {
+        // flow_id has a hash index which serves neither range nor order, so the page is selected over flow ids only
+        // and the flows of the page are loaded through the index.
+        List<String> pageFlowIds = framedGraph().traverse(g -> {
+            GraphTraversal<Vertex, Vertex> traversal = g.V()
+                    .hasLabel(FlowFrame.FRAME_LABEL);
+            if (flowFilter.getFlowStatus() != null) {
+                traversal = traversal.has(FlowFrame.STATUS_PROPERTY,
+                        FlowStatusConverter.INSTANCE.toGraphProperty(flowFilter.getFlowStatus()));
+            }
+            return traversal.values(FlowFrame.FLOW_ID_PROPERTY);
+        }).getRawTraversal().toStream()
+                .map(i -> (String) i)
+                .filter(flowId -> afterFlowId == null || flowId.compareTo(afterFlowId) > 0)
+                .sorted()
+                .limit(limit)
+                .collect(Collectors.toList());
+        if (pageFlowIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        Map<String, Flow> flows = findByIds(new HashSet<>(pageFlowIds));
+        return pageFlowIds.stream()
+                .map(flows::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
     @Override
     public Optional<String> getOrCreateDiverseFlowGroupId(String flowId) {
         return getTransactionManager().doInTransaction(() -> findById(flowId)
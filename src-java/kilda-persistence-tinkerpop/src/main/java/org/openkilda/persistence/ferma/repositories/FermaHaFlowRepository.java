@@ -45,7 +45,9 @@ import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -96,6 +98,27 @@ public class FermaHaFlowRepository extends FermaGenericRepository<HaFlow, HaFlow
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public Collection<String> findHaFlowIdsWithPeriodicPingsEnabled() {
+        return framedGraph().traverse(g -> g.V()
+                        .hasLabel(HaFlowFrame.FRAME_LABEL)
+                        .has(HaFlowFrame.PERIODIC_PINGS_PROPERTY, true)
+                        .values(HaFlowFrame.HA_FLOW_ID_PROPERTY))
+                .getRawTraversal().toStream()
+                .map(i -> (String) i)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public Map<String, HaFlow> findByIds(Set<String> haFlowIds) {
+        return framedGraph().traverse(g -> g.V()
+                        .hasLabel(HaFlowFrame.FRAME_LABEL)
+                        .has(HaFlowFrame.HA_FLOW_ID_PROPERTY, P.within(haFlowIds)))
+                .toListExplicit(HaFlowFrame.class).stream()
+                .map(HaFlow::new)
+                .collect(Collectors.toMap(HaFlow::getHaFlowId, Function.identity()));
+    }
+
     @Override
     public Optional<HaFlow> findById(String haFlowId) {
         return HaFlowFrame.load(framedGraph(), haFlowId).map(HaFlow::new);
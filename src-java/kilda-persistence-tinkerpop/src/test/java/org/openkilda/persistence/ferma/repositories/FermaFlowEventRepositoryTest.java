@@ -25,11 +25,14 @@ import org.openkilda.persistence.inmemory.InMemoryGraphBasedTest;
 import org.openkilda.persistence.repositories.history.FlowEventActionRepository;
 import org.openkilda.persistence.repositories.history.FlowEventRepository;
 
+import com.google.common.collect.Sets;
 import org.junit.BeforeClass;
 import org.junit.Test;
 
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 public class FermaFlowEventRepositoryTest extends InMemoryGraphBasedTest {
@@ -192,6 +195,16 @@ public class FermaFlowEventRepositoryTest extends InMemoryGraphBasedTest {
         assertEquals("DELETED", actual.get(1).getStatusBecome());
     }
 
+    @Test
+    public void findExistingTaskIdsTest() {
+        flowEventRepository.add(buildFlowEvent(FLOW_1, TASK_1, ACTION_1, TIME_1));
+        flowEventRepository.add(buildFlowEvent(FLOW_2, TASK_2, ACTION_2, TIME_2));
+
+        assertEquals(Sets.newHashSet(TASK_1, TASK_2),
+                flowEventRepository.findExistingTaskIds(Arrays.asList(TASK_1, TASK_2, TASK_3)));
+        assertTrue(flowEventRepository.findExistingTaskIds(Collections.emptyList()).isEmpty());
+    }
+
     private FlowEvent buildFlowEvent(String flowId, String taskId, String action, Instant timestamp) {
         return FlowEvent.builder()
                 .flowId(flowId)
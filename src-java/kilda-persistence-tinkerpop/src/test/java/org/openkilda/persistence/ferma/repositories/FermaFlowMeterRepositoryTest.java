@@ -17,6 +17,7 @@ package org.openkilda.persistence.ferma.repositories;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
 import org.openkilda.model.FlowMeter;
 import org.openkilda.model.MeterId;
@@ -75,6 +76,23 @@ public class FermaFlowMeterRepositoryTest extends InMemoryGraphBasedTest {
         assertFalse(meters.isPresent());
     }
 
+    @Test
+    public void shouldFindMetersBySwitchId() {
+        createFlowMeter(1, new PathId(TEST_PATH_ID + "_1"));
+        createFlowMeter(2, new PathId(TEST_PATH_ID + "_2"));
+        Switch otherSwitch = createTestSwitch(2);
+        flowMeterRepository.add(FlowMeter.builder()
+                .switchId(otherSwitch.getSwitchId())
+                .meterId(new MeterId(3))
+                .pathId(new PathId(TEST_PATH_ID + "_3"))
+                .flowId(TEST_FLOW_ID)
+                .build());
+
+        Collection<FlowMeter> meters = flowMeterRepository.findBySwitchId(theSwitch.getSwitchId());
+        assertEquals(2, meters.size());
+        assertTrue(meters.stream().allMatch(meter -> theSwitch.getSwitchId().equals(meter.getSwitchId())));
+    }
+
     @Test
     public void shouldDeleteFlowMeter() {
         FlowMeter meter = createFlowMeter();
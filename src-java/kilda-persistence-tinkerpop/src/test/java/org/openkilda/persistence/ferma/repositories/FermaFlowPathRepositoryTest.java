@@ -64,6 +64,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -232,6 +233,19 @@ public class FermaFlowPathRepositoryTest extends InMemoryGraphBasedTest {
         assertTrue(foundPath.isPresent());
     }
 
+    @Test
+    public void shouldFindPathsByCookies() {
+        createTestFlowPathPair();
+
+        Map<FlowSegmentCookie, FlowPath> foundPaths = flowPathRepository.findByCookies(Sets.newHashSet(
+                flow.getForwardPath().getCookie(), flow.getReversePath().getCookie(), new FlowSegmentCookie(100)));
+        assertEquals(2, foundPaths.size());
+        assertEquals(flow.getForwardPath().getPathId(),
+                foundPaths.get(flow.getForwardPath().getCookie()).getPathId());
+        assertEquals(flow.getReversePath().getPathId(),
+                foundPaths.get(flow.getReversePath().getCookie()).getPathId());
+    }
+
     @Test
     public void shouldFindByEndpointSwitch() {
         createTestFlowPathPair();
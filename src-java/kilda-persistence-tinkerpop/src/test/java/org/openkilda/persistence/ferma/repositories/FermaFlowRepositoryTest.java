@@ -151,6 +151,28 @@ public class FermaFlowRepositoryTest extends InMemoryGraphBasedTest {
         assertEquals(switchB.getSwitchId(), foundFlow.getDestSwitchId());
     }
 
+    @Test
+    public void shouldFindFlowIdsWithPeriodicPingsEnabled() {
+        for (String flowId : Arrays.asList(TEST_FLOW_ID, TEST_FLOW_ID_2, TEST_FLOW_ID_3)) {
+            createTestFlow(flowId, switchA, switchB).setPeriodicPings(!TEST_FLOW_ID_3.equals(flowId));
+        }
+
+        Collection<String> foundFlowIds = flowRepository.findFlowIdsWithPeriodicPingsEnabled();
+        assertEquals(2, foundFlowIds.size());
+        assertTrue(foundFlowIds.containsAll(Arrays.asList(TEST_FLOW_ID, TEST_FLOW_ID_2)));
+    }
+
+    @Test
+    public void shouldFindByIds() {
+        createTestFlow(TEST_FLOW_ID, switchA, switchB);
+        createTestFlow(TEST_FLOW_ID_2, switchA, switchB);
+        createTestFlow(TEST_FLOW_ID_3, switchA, switchB);
+
+        Map<String, Flow> foundFlows = flowRepository.findByIds(newHashSet(TEST_FLOW_ID, TEST_FLOW_ID_3));
+        assertEquals(newHashSet(TEST_FLOW_ID, TEST_FLOW_ID_3), foundFlows.keySet());
+        assertEquals(TEST_FLOW_ID_3, foundFlows.get(TEST_FLOW_ID_3).getFlowId());
+    }
+
     @Test
     public void shouldFindByIdWithEndpoints() {
         Flow firstFlow = createTestFlow(TEST_FLOW_ID, switchA, switchB);
@@ -695,6 +717,24 @@ public class FermaFlowRepositoryTest extends InMemoryGraphBasedTest {
         assertEquals(3, foundFlows.size());
     }
 
+    @Test
+    public void shouldGetDownFlowsByPages() {
+        for (String flowId : Arrays.asList(TEST_FLOW_ID, TEST_FLOW_ID_2, TEST_FLOW_ID_3, TEST_FLOW_ID_4,
+                TEST_FLOW_ID_5)) {
+            createTestFlow(flowId, switchA, switchB).setStatus(
+                    TEST_FLOW_ID_3.equals(flowId) ? FlowStatus.UP : FlowStatus.DOWN);
+        }
+        FlowFilter filter = FlowFilter.builder().flowStatus(FlowStatus.DOWN).build();
+
+        assertEquals(Arrays.asList(TEST_FLOW_ID, TEST_FLOW_ID_2), getFlowIds(
+                flowRepository.findByFlowFilter(filter, null, 2)));
+        assertEquals(Arrays.asList(TEST_FLOW_ID_4, TEST_FLOW_ID_5), getFlowIds(
+                flowRepository.findByFlowFilter(filter, TEST_FLOW_ID_2, 2)));
+        assertTrue(flowRepository.findByFlowFilter(filter, TEST_FLOW_ID_5, 2).isEmpty());
+        assertEquals(Arrays.asList(TEST_FLOW_ID_3, TEST_FLOW_ID_4, TEST_FLOW_ID_5), getFlowIds(
+                flowRepository.findByFlowFilter(FlowFilter.builder().build(), TEST_FLOW_ID_2, 10)));
+    }
+
     @Test
     public void shouldUpdateStatVlans() {
         Flow flow = createTestFlow(TEST_FLOW_ID, switchA, switchB);
@@ -711,6 +751,10 @@ public class FermaFlowRepositoryTest extends InMemoryGraphBasedTest {
         assertTrue(emptyStatsFlow.get().getVlanStatistics().isEmpty());
     }
 
+    private static List<String> getFlowIds(Collection<Flow> flows) {
+        return flows.stream().map(Flow::getFlowId).collect(Collectors.toList());
+    }
+
     private Flow createTestFlow(String flowId, Switch srcSwitch, Switch destSwitch) {
         return createTestFlow(flowId, srcSwitch, PORT_1, VLAN_1, destSwitch, PORT_2, VLAN_2);
     }
@@ -23,14 +23,26 @@ import lombok.NoArgsConstructor;
 
 /**
  * Dump flow northbound request.
+ * <p/>
+ * If {@code limit} is set, only one page of flows ordered by flow id is dumped. The page starts after
+ * {@code afterFlowId} or from the first flow if it is null, so the last flow id of a page is the cursor of the next
+ * one.
  */
 @Data
 @NoArgsConstructor
 @EqualsAndHashCode(callSuper = false)
 public class FlowsDumpRequest extends FlowsBaseRequest {
     private FlowStatus status;
+    private String afterFlowId;
+    private Integer limit;
 
     public FlowsDumpRequest(String status) {
         this.status = status == null ? null : FlowStatus.valueOf(status.toUpperCase());
     }
+
+    public FlowsDumpRequest(String status, String afterFlowId, int limit) {
+        this(status);
+        this.afterFlowId = afterFlowId;
+        this.limit = limit;
+    }
 }
@@ -262,9 +262,17 @@ public class FlowOperationsBolt extends PersistenceOperationsBolt {
     @TimedExecution("flow_dump")
     private List<FlowResponse> processFlowsDumpRequest(FlowsDumpRequest request) {
         try {
+            Collection<Flow> flows = flowOperationsService.getAllFlows(request);
+            if (request.getLimit() != null) {
+                // A page is small, so the stats are loaded per flow instead of loading the stats of all flows.
+                return flows.stream()
+                        .map(f -> flowOperationsService.buildFlowResponse(f,
+                                flowOperationsService.getFlowStats(f.getFlowId())))
+                        .collect(Collectors.toList());
+            }
             Map<String, FlowStats> flowStats = flowOperationsService.getFlowStats()
                     .stream().collect(toMap(FlowStats::getFlowId, Function.identity()));
-            return flowOperationsService.getAllFlows(request).stream()
+            return flows.stream()
                     .map(f -> flowOperationsService.buildFlowResponse(f,
                             flowStats.getOrDefault(f.getFlowId(), FlowStats.EMPTY)))
                     .collect(Collectors.toList());
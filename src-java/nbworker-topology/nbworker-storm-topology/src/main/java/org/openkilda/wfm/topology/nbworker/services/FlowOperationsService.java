@@ -173,10 +173,15 @@ public class FlowOperationsService {
      * Get flows.
      */
     public Collection<Flow> getAllFlows(FlowsDumpRequest request) {
+        FlowFilter filter = FlowFilter.builder()
+                .flowStatus(request.getStatus())
+                .build();
+        if (request.getLimit() != null) {
+            return transactionManager.doInTransaction(getReadOperationRetryPolicy(),
+                    () -> flowRepository.findByFlowFilter(filter, request.getAfterFlowId(), request.getLimit()));
+        }
         return transactionManager.doInTransaction(getReadOperationRetryPolicy(),
-                () -> flowRepository.findByFlowFilter(FlowFilter.builder()
-                        .flowStatus(request.getStatus())
-                        .build()));
+                () -> flowRepository.findByFlowFilter(filter));
     }
 
     /**
@@ -0,0 +1,149 @@
+/* Copyright 2023 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.wfm.topology.network.service;
+
+import org.openkilda.messaging.command.discovery.DiscoverIslCommandData;
+import org.openkilda.messaging.info.event.IslInfoData;
+import org.openkilda.model.SwitchId;
+import org.openkilda.wfm.share.model.Endpoint;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures timeout bookkeeping of {@link NetworkWatchListService} and {@link NetworkWatcherService} with a large
+ * number of watched endpoints. Run with {@code ./gradlew :network-storm-topology:jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class NetworkWatchBenchmark {
+    private static final int PORTS_PER_SWITCH = 50;
+    private static final long GENERIC_TICK_PERIOD = TimeUnit.SECONDS.toNanos(3);
+    private static final long EXHAUSTED_TICK_PERIOD = TimeUnit.SECONDS.toNanos(60);
+    private static final long AUXILIARY_TICK_PERIOD = TimeUnit.SECONDS.toNanos(30);
+    private static final long AWAIT_TIME = TimeUnit.SECONDS.toNanos(1);
+    private static final long TICK_PERIOD = TimeUnit.MILLISECONDS.toNanos(100);
+
+    @Param({"50000"})
+    public int endpointsCount;
+
+    private Endpoint[] endpoints;
+    private NetworkWatchListService watchListService;
+    private NetworkWatcherService watcherService;
+    private Random random;
+    private long currentTime;
+
+    /**
+     * Fills both services with watched endpoints spread over the poll period.
+     */
+    @Setup(Level.Iteration)
+    public void setUp() {
+        endpoints = new Endpoint[endpointsCount];
+        for (int i = 0; i < endpointsCount; i++) {
+            endpoints[i] = Endpoint.of(new SwitchId(i / PORTS_PER_SWITCH + 1), i % PORTS_PER_SWITCH + 1);
+        }
+
+        watchListService = new NetworkWatchListService(new NoopWatchListCarrier(), GENERIC_TICK_PERIOD,
+                EXHAUSTED_TICK_PERIOD, AUXILIARY_TICK_PERIOD);
+        watcherService = new NetworkWatcherService(new NoopWatcherCarrier(), AWAIT_TIME, 0);
+        random = new Random(1);
+        currentTime = 0;
+        for (int i = 0; i < endpointsCount; i++) {
+            long time = GENERIC_TICK_PERIOD * i / endpointsCount;
+            watchListService.addWatch(endpoints[i], time);
+            watchListService.updateExhaustedPollMode(endpoints[i], i % 2 == 0, time);
+            watcherService.addWatch(endpoints[i], time);
+        }
+    }
+
+    /**
+     * Poll mode change of a single endpoint, it reschedules the endpoint timeout.
+     */
+    @Benchmark
+    public void watchListPollModeChange() {
+        Endpoint endpoint = endpoints[random.nextInt(endpointsCount)];
+        watchListService.updateExhaustedPollMode(endpoint, random.nextBoolean(), currentTime);
+    }
+
+    /**
+     * Timer tick, it renews timeouts of endpoints polled during the tick period.
+     */
+    @Benchmark
+    public void watchListTick() {
+        currentTime += TICK_PERIOD;
+        watchListService.tick(currentTime);
+    }
+
+    /**
+     * Removal of a watched endpoint followed by a new watch of the same endpoint to keep the workload steady.
+     */
+    @Benchmark
+    public void watcherRemoveWatch() {
+        Endpoint endpoint = endpoints[random.nextInt(endpointsCount)];
+        watcherService.removeWatch(endpoint);
+        watcherService.addWatch(endpoint, currentTime);
+    }
+
+    private static class NoopWatchListCarrier implements IWatchListCarrier {
+        @Override
+        public void watchRemoved(Endpoint endpoint) {
+        }
+
+        @Override
+        public void discoveryRequest(Endpoint endpoint, long currentTime) {
+        }
+    }
+
+    private static class NoopWatcherCarrier implements IWatcherCarrier {
+        @Override
+        public void oneWayDiscoveryReceived(Endpoint endpoint, long packetNo, IslInfoData discoveryEvent,
+                                            long currentTime) {
+        }
+
+        @Override
+        public void roundTripDiscoveryReceived(Endpoint endpoint, long packetId) {
+        }
+
+        @Override
+        public void discoveryFailed(Endpoint endpoint, long packetNo, long currentTime) {
+        }
+
+        @Override
+        public void sendDiscovery(DiscoverIslCommandData discoveryRequest) {
+        }
+
+        @Override
+        public void clearDiscovery(Endpoint endpoint) {
+        }
+    }
+}
@@ -16,6 +16,7 @@
 package org.openkilda.wfm.topology.network.service;
 
 import org.openkilda.wfm.share.model.Endpoint;
+import org.openkilda.wfm.share.utils.TimingWheel;
 
 import com.google.common.annotations.VisibleForTesting;
 import lombok.AllArgsConstructor;
@@ -25,22 +26,21 @@ import lombok.NoArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.SortedMap;
-import java.util.TreeMap;
 
 @Slf4j
 public class NetworkWatchListService {
+    private static final long TIMEOUTS_RESOLUTION_DIVIDER = 16;
+
     private final IWatchListCarrier carrier;
     private final long genericTickPeriod;
     private final long exhaustedTickPeriod;
     private final long auxiliaryTickPeriod;
 
     private final Map<Endpoint, WatchListEntry> endpoints = new HashMap<>();
-    private final SortedMap<Long, Set<Endpoint>> timeouts = new TreeMap<>();
+    private final TimingWheel<Endpoint> timeouts;
 
     public NetworkWatchListService(IWatchListCarrier carrier, long genericTickPeriod,
                                    long exhaustedTickPeriod, long auxiliaryTickPeriod) {
@@ -48,6 +48,7 @@ public class NetworkWatchListService {
         this.genericTickPeriod = genericTickPeriod;
         this.exhaustedTickPeriod = exhaustedTickPeriod;
         this.auxiliaryTickPeriod = auxiliaryTickPeriod;
+        this.timeouts = new TimingWheel<>(Math.max(1, genericTickPeriod / TIMEOUTS_RESOLUTION_DIVIDER));
     }
 
     @VisibleForTesting
@@ -56,7 +57,7 @@ public class NetworkWatchListService {
     }
 
     @VisibleForTesting
-    SortedMap<Long, Set<Endpoint>> getTimeouts() {
+    TimingWheel<Endpoint> getTimeouts() {
         return timeouts;
     }
 
@@ -80,6 +81,7 @@ public class NetworkWatchListService {
         log.debug("Watch-list service receive REMOVE-WATCH request for {}", endpoint);
         carrier.watchRemoved(endpoint);
         endpoints.remove(endpoint);
+        timeouts.cancel(endpoint);
     }
 
     @VisibleForTesting
@@ -119,22 +121,12 @@ public class NetworkWatchListService {
      */
     @VisibleForTesting
     void tick(long tickTime) {
-        SortedMap<Long, Set<Endpoint>> range = timeouts.subMap(0L, tickTime + 1);
-        if (!range.isEmpty()) {
-            Map<Endpoint, WatchListEntry> renew = new HashMap<>();
-
-            for (Set<Endpoint> endpointSet : range.values()) {
-                for (Endpoint endpoint : endpointSet) {
-                    WatchListEntry watchListEntry = endpoints.get(endpoint);
-                    if (watchListEntry != null && renew.put(endpoint, watchListEntry) == null) {
-                        carrier.discoveryRequest(endpoint, tickTime);
-                    }
-                }
+        timeouts.advance(tickTime, endpoint -> {
+            if (endpoints.containsKey(endpoint)) {
+                carrier.discoveryRequest(endpoint, tickTime);
+                addTimeout(endpoint, tickTime + calculateTimeout(endpoint));
             }
-            range.clear();
-
-            renew.forEach((endpoint, watchListEntry) -> addTimeout(endpoint, tickTime + calculateTimeout(endpoint)));
-        }
+        });
     }
 
     /**
@@ -149,8 +141,7 @@ public class NetworkWatchListService {
     }
 
     private void addTimeout(Endpoint endpoint, long timeoutAt) {
-        timeouts.computeIfAbsent(timeoutAt, mappingFunction -> new HashSet<>())
-                .add(endpoint);
+        timeouts.schedule(endpoint, timeoutAt);
     }
 
     @VisibleForTesting
@@ -167,10 +158,6 @@ public class NetworkWatchListService {
     }
 
     private void reloadEndpointTimeout(Endpoint endpoint, long currentTime) {
-        for (Set<Endpoint> e : timeouts.values()) {
-            e.remove(endpoint);
-        }
-
         carrier.discoveryRequest(endpoint, currentTime);
         addTimeout(endpoint, currentTime + calculateTimeout(endpoint));
     }
@@ -19,18 +19,21 @@ import org.openkilda.messaging.command.discovery.DiscoverIslCommandData;
 import org.openkilda.messaging.info.event.IslInfoData;
 import org.openkilda.wfm.share.model.Endpoint;
 import org.openkilda.wfm.share.model.IslReference;
+import org.openkilda.wfm.share.utils.TimingWheel;
 
 import com.google.common.annotations.VisibleForTesting;
 import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
-import java.util.SortedMap;
-import java.util.TreeMap;
 
 @Slf4j
 public class NetworkWatcherService {
+    private static final long TIMEOUTS_RESOLUTION_DIVIDER = 16;
+
     private final IWatcherCarrier carrier;
     private final long awaitTime;
     private final Integer taskId;
@@ -40,12 +43,14 @@ public class NetworkWatcherService {
     private Set<Packet> roundTripPackets = new HashSet<>();
 
     private Set<Packet> confirmedPackets = new HashSet<>();
-    private SortedMap<Long, Set<Packet>> timeouts = new TreeMap<>();
+    private final TimingWheel<Packet> timeouts;
+    private final Map<Endpoint, Set<Packet>> endpointPackets = new HashMap<>();
 
     public NetworkWatcherService(IWatcherCarrier carrier, long awaitTime, Integer taskId) {
         this.carrier = carrier;
         this.awaitTime = awaitTime;
         this.taskId = taskId;
+        this.timeouts = new TimingWheel<>(Math.max(1, awaitTime / TIMEOUTS_RESOLUTION_DIVIDER));
     }
 
     public void addWatch(Endpoint endpoint) {
@@ -60,8 +65,8 @@ public class NetworkWatcherService {
         discoveryPackets.add(packet);
         roundTripPackets.add(packet);
 
-        timeouts.computeIfAbsent(currentTime + awaitTime, key -> new HashSet<>())
-                .add(packet);
+        endpointPackets.computeIfAbsent(endpoint, key -> new HashSet<>()).add(packet);
+        timeouts.schedule(packet, currentTime + awaitTime);
 
         DiscoverIslCommandData discoveryRequest = new DiscoverIslCommandData(
                 endpoint.getDatapath(), endpoint.getPortNumber(), packetNo);
@@ -76,9 +81,15 @@ public class NetworkWatcherService {
     public void removeWatch(Endpoint endpoint) {
         log.debug("Watcher service receive REMOVE-watch request for {}", endpoint);
         carrier.clearDiscovery(endpoint);
-        discoveryPackets.removeIf(packet -> packet.endpoint.equals(endpoint));
-        roundTripPackets.removeIf(packet -> packet.endpoint.equals(endpoint));
-        confirmedPackets.removeIf(packet -> packet.endpoint.equals(endpoint));
+        Set<Packet> packets = endpointPackets.remove(endpoint);
+        if (packets != null) {
+            for (Packet packet : packets) {
+                discoveryPackets.remove(packet);
+                roundTripPackets.remove(packet);
+                confirmedPackets.remove(packet);
+                timeouts.cancel(packet);
+            }
+        }
     }
 
     /**
@@ -89,15 +100,7 @@ public class NetworkWatcherService {
     }
 
     void tick(long tickTime) {
-        SortedMap<Long, Set<Packet>> range = timeouts.subMap(0L, tickTime + 1);
-        if (!range.isEmpty()) {
-            for (Set<Packet> e : range.values()) {
-                for (Packet ee : e) {
-                    timeoutAction(ee);
-                }
-            }
-            range.clear();
-        }
+        timeouts.advance(tickTime, this::timeoutAction);
     }
 
     /**
@@ -159,6 +162,10 @@ public class NetworkWatcherService {
     }
 
     private void timeoutAction(Packet packet) {
+        Set<Packet> packets = endpointPackets.get(packet.endpoint);
+        if (packets != null && packets.remove(packet) && packets.isEmpty()) {
+            endpointPackets.remove(packet.endpoint);
+        }
         discoveryPackets.remove(packet);
         roundTripPackets.remove(packet);
 
@@ -184,7 +191,7 @@ public class NetworkWatcherService {
     }
 
     @VisibleForTesting
-    SortedMap<Long, Set<Packet>> getTimeouts() {
+    TimingWheel<Packet> getTimeouts() {
         return timeouts;
     }
 
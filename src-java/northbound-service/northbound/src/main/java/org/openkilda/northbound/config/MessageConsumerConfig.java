@@ -21,6 +21,7 @@ import static org.openkilda.bluegreen.kafka.Utils.CONSUMER_ZOOKEEPER_CONNECTION_
 import static org.openkilda.bluegreen.kafka.Utils.CONSUMER_ZOOKEEPER_RECONNECTION_DELAY_PROPERTY;
 import static org.openkilda.northbound.config.KafkaNorthboundConfig.NORTHBOUND_COMPONENT_NAME;
 
+import org.openkilda.bluegreen.kafka.VersioningDeserializer;
 import org.openkilda.bluegreen.kafka.interceptors.VersioningConsumerInterceptor;
 import org.openkilda.messaging.Message;
 import org.openkilda.northbound.messaging.MessagingChannel;
@@ -128,8 +129,9 @@ public class MessageConsumerConfig {
     @Bean
     public ConsumerFactory<String, Message> consumerFactory(ObjectMapper objectMapper) {
         return new DefaultKafkaConsumerFactory<>(consumerConfigs(),
-                new StringDeserializer(), new ErrorHandlingDeserializer2(
-                        new JsonDeserializer<>(Message.class, objectMapper)));
+                new StringDeserializer(), new VersioningDeserializer<>(
+                        new ErrorHandlingDeserializer2<>(new JsonDeserializer<>(Message.class, objectMapper)),
+                        NORTHBOUND_COMPONENT_NAME, blueGreenMode));
     }
 
     /**
@@ -17,6 +17,8 @@ package org.openkilda.northbound.controller.v2;
 
 import static java.lang.String.format;
 
+import org.openkilda.messaging.error.ErrorType;
+import org.openkilda.messaging.error.MessageException;
 import org.openkilda.messaging.payload.flow.FlowIdStatusPayload;
 import org.openkilda.northbound.controller.BaseController;
 import org.openkilda.northbound.dto.v2.flows.FlowHistoryStatusesResponse;
@@ -29,13 +31,16 @@ import org.openkilda.northbound.dto.v2.flows.FlowPatchV2;
 import org.openkilda.northbound.dto.v2.flows.FlowRequestV2;
 import org.openkilda.northbound.dto.v2.flows.FlowRerouteResponseV2;
 import org.openkilda.northbound.dto.v2.flows.FlowResponseV2;
+import org.openkilda.northbound.dto.v2.flows.FlowsPageResponseV2;
 import org.openkilda.northbound.dto.v2.flows.SwapFlowEndpointPayload;
 import org.openkilda.northbound.service.FlowService;
+import org.openkilda.northbound.utils.async.NdjsonStream;
 import org.openkilda.northbound.validator.FlowRequestV2Validator;
 
 import io.swagger.annotations.ApiOperation;
 import io.swagger.annotations.ApiParam;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -50,6 +55,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
 
 import java.time.Instant;
 import java.util.List;
@@ -61,10 +67,15 @@ import javax.validation.Valid;
 @RequestMapping("/v2/flows")
 public class FlowControllerV2 extends BaseController {
     private static final int DEFAULT_MAX_HISTORY_RECORD_COUNT = 100;
+    private static final int DEFAULT_FLOWS_PAGE_SIZE = 1000;
+    private static final int MAX_FLOWS_PAGE_SIZE = 10000;
 
     @Autowired
     private FlowService flowService;
 
+    @Value("${web.request.streamTimeout}")
+    private long streamTimeout;
+
     @ApiOperation(value = "Creates new flow", response = FlowResponseV2.class)
     @PostMapping
     @ResponseStatus(HttpStatus.OK)
@@ -128,6 +139,38 @@ public class FlowControllerV2 extends BaseController {
         return flowService.getAllFlowsV2(status);
     }
 
+    /**
+     * Dumps a page of flows ordered by flow id. Dumps flows with specific status if specified.
+     *
+     * @return page of flows
+     */
+    @ApiOperation(value = "Dumps a page of flows", response = FlowsPageResponseV2.class)
+    @GetMapping(value = "/pages")
+    @ResponseStatus(HttpStatus.OK)
+    public CompletableFuture<FlowsPageResponseV2> getFlowsPage(
+            @RequestParam(value = "status", required = false) String status,
+            @ApiParam(value = "next_cursor of the previous page, the first page is returned if not specified")
+            @RequestParam(value = "after", required = false) String after,
+            @RequestParam(value = "limit", required = false, defaultValue = "" + DEFAULT_FLOWS_PAGE_SIZE) int limit) {
+        verifyPageSize(limit);
+        return flowService.getFlowsPageV2(status, after, limit);
+    }
+
+    /**
+     * Streams all flows as newline delimited JSON. Flows are requested page by page and each flow is written as
+     * soon as it is received. Streams flows with specific status if specified.
+     */
+    @ApiOperation(value = "Streams all flows", response = FlowResponseV2.class, responseContainer = "List")
+    @GetMapping(value = "/stream")
+    public ResponseEntity<ResponseBodyEmitter> streamFlows(
+            @RequestParam(value = "status", required = false) String status,
+            @RequestParam(value = "page_size", required = false, defaultValue = "" + DEFAULT_FLOWS_PAGE_SIZE)
+                    int pageSize) {
+        verifyPageSize(pageSize);
+        return NdjsonStream.stream(streamTimeout,
+                consumer -> flowService.streamAllFlowsV2(status, pageSize, consumer));
+    }
+
     /**
      * Gets flow status.
      *
@@ -282,5 +325,13 @@ public class FlowControllerV2 extends BaseController {
     public CompletableFuture<FlowMirrorPointsResponseV2> getFlowMirrorPoints(@PathVariable("flow_id") String flowId) {
         return flowService.getFlowMirrorPoints(flowId);
     }
+
+    private static void verifyPageSize(int pageSize) {
+        if (pageSize < 1 || MAX_FLOWS_PAGE_SIZE < pageSize) {
+            String message = format("Invalid page size %d. Page size must be in range [1, %d]",
+                    pageSize, MAX_FLOWS_PAGE_SIZE);
+            throw new MessageException(ErrorType.DATA_INVALID, message, "Invalid page size");
+        }
+    }
 }
 
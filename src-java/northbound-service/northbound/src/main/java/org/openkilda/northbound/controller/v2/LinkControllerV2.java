@@ -18,20 +18,26 @@ package org.openkilda.northbound.controller.v2;
 import org.openkilda.messaging.model.NetworkEndpoint;
 import org.openkilda.model.SwitchId;
 import org.openkilda.northbound.controller.BaseLinkController;
+import org.openkilda.northbound.dto.v1.links.LinkDto;
 import org.openkilda.northbound.dto.v2.links.BfdProperties;
 import org.openkilda.northbound.dto.v2.links.BfdPropertiesPayload;
 import org.openkilda.northbound.service.LinkService;
+import org.openkilda.northbound.utils.async.NdjsonStream;
 
 import io.swagger.annotations.ApiOperation;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
 
 import java.util.Objects;
 import java.util.Optional;
@@ -46,10 +52,28 @@ public class LinkControllerV2 extends BaseLinkController {
 
     private final LinkService linkService;
 
+    @Value("${web.request.streamTimeout}")
+    private long streamTimeout;
+
     public LinkControllerV2(LinkService linkService) {
         this.linkService = linkService;
     }
 
+    /**
+     * Streams all links as newline delimited JSON, each link is written as soon as it is received.
+     */
+    @ApiOperation(value = "Stream all links, based on arguments.", response = LinkDto.class,
+            responseContainer = "List")
+    @GetMapping(path = "/stream")
+    public ResponseEntity<ResponseBodyEmitter> streamLinks(
+            @RequestParam(value = "src_switch", required = false) SwitchId srcSwitch,
+            @RequestParam(value = "src_port", required = false) Integer srcPort,
+            @RequestParam(value = "dst_switch", required = false) SwitchId dstSwitch,
+            @RequestParam(value = "dst_port", required = false) Integer dstPort) {
+        return NdjsonStream.stream(streamTimeout,
+                consumer -> linkService.streamLinks(srcSwitch, srcPort, dstSwitch, dstPort, consumer));
+    }
+
     /**
      * Write/update/enable BFD properties for specific ISL.
      */
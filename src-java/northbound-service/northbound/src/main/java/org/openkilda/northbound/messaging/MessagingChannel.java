@@ -20,6 +20,7 @@ import org.openkilda.messaging.info.InfoData;
 
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 /**
  * The main component for sending messages to internal kilda components. All sent operations will be performed
@@ -49,6 +50,21 @@ public interface MessagingChannel {
      */
     CompletableFuture<List<InfoData>> sendAndGetChunked(String topic, Message message);
 
+    /**
+     * Sends the message to the specified topic and passes chunked responses for this request to the consumer as
+     * soon as they are received, without collecting them into the list. Responses are passed one by one, but not
+     * necessarily in the order of sending.
+     *
+     * @param topic topic where the message should be sent.
+     * @param message data to be sent.
+     * @param consumer receiver of the responses.
+     * @return future completed when all responses are passed to the consumer.
+     */
+    default CompletableFuture<Void> sendAndStreamChunked(String topic, Message message, Consumer<InfoData> consumer) {
+        return sendAndGetChunked(topic, message)
+                .thenAccept(response -> response.forEach(consumer));
+    }
+
     /**
      * Sends the message to the specified topic without waiting for a response.
      *
@@ -18,6 +18,7 @@ package org.openkilda.northbound.messaging.kafka;
 import org.openkilda.messaging.Message;
 import org.openkilda.messaging.error.ClientErrorMessage;
 import org.openkilda.messaging.error.ErrorMessage;
+import org.openkilda.messaging.error.ErrorType;
 import org.openkilda.messaging.error.MessageException;
 import org.openkilda.messaging.info.ChunkedInfoMessage;
 import org.openkilda.messaging.info.InfoData;
@@ -27,6 +28,7 @@ import org.openkilda.northbound.messaging.MessagingChannel;
 import org.openkilda.northbound.messaging.exception.MessageNotSentException;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import org.apache.commons.collections4.map.PassiveExpiringMap;
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
@@ -43,11 +45,18 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
 
 /**
  * Implementation of {@link MessagingChannel} for kafka.
@@ -62,6 +71,7 @@ public class KafkaMessagingChannel implements MessagingChannel {
      */
     private final Map<String, CompletableFuture<InfoData>> pendingRequests = new ConcurrentHashMap<>();
     private final Map<String, CompletableFuture<List<InfoData>>> pendingChunkedRequests = new ConcurrentHashMap<>();
+    private final Map<String, StreamedRequest> pendingStreamedRequests = new ConcurrentHashMap<>();
 
     /**
      * Chains of chunked messages, it is filling by messages one by one as soon as the next linked message is received.
@@ -75,9 +85,17 @@ public class KafkaMessagingChannel implements MessagingChannel {
      */
     private Map<String, Set<String>> chunkedMessageIdsPerRequest = new ConcurrentHashMap<>();
 
+    /**
+     * Passes streamed responses to consumers, so a slow consumer doesn't block the kafka listener thread.
+     */
+    private ExecutorService streamDeliveryExecutor;
+
     @Value("${northbound.messages.expiration.minutes}")
     private int expiredTime;
 
+    @Value("${northbound.messages.stream.queue.size:1000}")
+    private int streamQueueSize;
+
     @Autowired
     private MessageProducer messageProducer;
 
@@ -87,6 +105,18 @@ public class KafkaMessagingChannel implements MessagingChannel {
     @PostConstruct
     public void setUp() {
         messagesChains = new PassiveExpiringMap<>(expiredTime, TimeUnit.MINUTES, new ConcurrentHashMap<>());
+        streamDeliveryExecutor = Executors.newCachedThreadPool(new ThreadFactoryBuilder()
+                .setNameFormat("nb-stream-delivery-%d")
+                .setDaemon(true)
+                .build());
+    }
+
+    /**
+     * Stops delivery of streamed responses.
+     */
+    @PreDestroy
+    public void tearDown() {
+        streamDeliveryExecutor.shutdownNow();
     }
 
     /**
@@ -131,6 +161,24 @@ public class KafkaMessagingChannel implements MessagingChannel {
         });
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<Void> sendAndStreamChunked(String topic, Message message, Consumer<InfoData> consumer) {
+        StreamedRequest request = new StreamedRequest(consumer, streamQueueSize);
+        pendingStreamedRequests.put(message.getCorrelationId(), request);
+
+        ListenableFuture<SendResult<String, Message>> futureResult = messageProducer.send(topic, message);
+        futureResult.addCallback(
+                sentResult -> { },
+                error -> request.future.completeExceptionally(new MessageNotSentException(error.getMessage()))
+        );
+
+        return request.future.whenComplete(
+                (response, error) -> pendingStreamedRequests.remove(message.getCorrelationId()));
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -165,7 +213,9 @@ public class KafkaMessagingChannel implements MessagingChannel {
 
             completeWithError(error);
         } else if (message instanceof InfoMessage) {
-            if (isChunkedPendingResponse(message)) {
+            if (isStreamedPendingResponse(message)) {
+                processStreamedMessage((ChunkedInfoMessage) message);
+            } else if (isChunkedPendingResponse(message)) {
                 processChunkedMessage((ChunkedInfoMessage) message);
             } else if (pendingRequests.containsKey(message.getCorrelationId())) {
                 InfoMessage infoMessage = (InfoMessage) message;
@@ -200,6 +250,72 @@ public class KafkaMessagingChannel implements MessagingChannel {
         }
     }
 
+    /**
+     * Puts the chunked message into the queue of the streamed request and schedules its delivery to the consumer.
+     * Only ids of received messages are kept, so the memory used by the request doesn't depend on the size of
+     * responses. If the consumer is too slow and the queue is full, the request is cancelled.
+     */
+    private void processStreamedMessage(ChunkedInfoMessage received) {
+        StreamedRequest request = pendingStreamedRequests.get(received.getCorrelationId());
+        if (request == null) {
+            return;
+        }
+
+        synchronized (request) {
+            if (request.future.isDone()) {
+                return;
+            }
+            if (!request.receivedMessageIds.add(received.getMessageId())) {
+                logger.debug("Skipping chunked message, it is already received: {}", received);
+                return;
+            }
+
+            if (received.getTotalMessages() != 0 && !request.queue.offer(received.getData())) {
+                logger.warn("Cancelling streamed request {}, the consumer doesn't keep up with {} queued responses",
+                        received.getCorrelationId(), request.queue.size());
+                request.queue.clear();
+                request.future.completeExceptionally(new MessageException(received.getCorrelationId(),
+                        System.currentTimeMillis(), ErrorType.INTERNAL_ERROR, "Streamed response overflow",
+                        "The response is consumed slower than it is produced"));
+                return;
+            }
+
+            if (request.receivedMessageIds.size() >= received.getTotalMessages()) {
+                request.allReceived = true;
+            }
+        }
+        scheduleDelivery(request);
+    }
+
+    private void scheduleDelivery(StreamedRequest request) {
+        if (request.delivering.compareAndSet(false, true)) {
+            streamDeliveryExecutor.execute(() -> deliver(request));
+        }
+    }
+
+    /**
+     * Passes queued responses to the consumer. Only one delivery of the request runs at a time, so the consumer is
+     * not called concurrently.
+     */
+    private void deliver(StreamedRequest request) {
+        do {
+            InfoData data;
+            while (!request.future.isDone() && (data = request.queue.poll()) != null) {
+                try {
+                    request.consumer.accept(data);
+                } catch (Exception e) {
+                    request.queue.clear();
+                    request.future.completeExceptionally(e);
+                }
+            }
+            if (request.allReceived && request.queue.isEmpty()) {
+                request.future.complete(null);
+            }
+            request.delivering.set(false);
+        } while (!request.future.isDone() && (request.allReceived || !request.queue.isEmpty())
+                && request.delivering.compareAndSet(false, true));
+    }
+
     /**
      * Completes pending request with received responses.
      */
@@ -224,6 +340,8 @@ public class KafkaMessagingChannel implements MessagingChannel {
             request = pendingRequests.remove(correlationId);
         } else if (pendingChunkedRequests.containsKey(correlationId)) {
             request = pendingChunkedRequests.remove(correlationId);
+        } else if (pendingStreamedRequests.containsKey(correlationId)) {
+            request = pendingStreamedRequests.remove(correlationId).future;
         }
 
         if (request != null) {
@@ -252,6 +370,10 @@ public class KafkaMessagingChannel implements MessagingChannel {
         return message instanceof ChunkedInfoMessage && pendingChunkedRequests.containsKey(message.getCorrelationId());
     }
 
+    private boolean isStreamedPendingResponse(Message message) {
+        return message instanceof ChunkedInfoMessage && pendingStreamedRequests.containsKey(message.getCorrelationId());
+    }
+
     @VisibleForTesting
     Map<String, CompletableFuture<InfoData>> getPendingRequests() {
         return new HashMap<>(pendingRequests);
@@ -261,4 +383,24 @@ public class KafkaMessagingChannel implements MessagingChannel {
     Map<String, CompletableFuture<List<InfoData>>> getPendingChunkedRequests() {
         return new HashMap<>(pendingChunkedRequests);
     }
+
+    @VisibleForTesting
+    Map<String, CompletableFuture<Void>> getPendingStreamedRequests() {
+        return pendingStreamedRequests.entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue().future));
+    }
+
+    private static final class StreamedRequest {
+        private final CompletableFuture<Void> future = new CompletableFuture<>();
+        private final Consumer<InfoData> consumer;
+        private final Set<String> receivedMessageIds = new HashSet<>();
+        private final BlockingQueue<InfoData> queue;
+        private final AtomicBoolean delivering = new AtomicBoolean();
+        private volatile boolean allReceived;
+
+        private StreamedRequest(Consumer<InfoData> consumer, int queueSize) {
+            this.consumer = consumer;
+            this.queue = new ArrayBlockingQueue<>(queueSize);
+        }
+    }
 }
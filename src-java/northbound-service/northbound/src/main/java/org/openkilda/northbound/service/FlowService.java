@@ -39,11 +39,13 @@ import org.openkilda.northbound.dto.v2.flows.FlowPatchV2;
 import org.openkilda.northbound.dto.v2.flows.FlowRequestV2;
 import org.openkilda.northbound.dto.v2.flows.FlowRerouteResponseV2;
 import org.openkilda.northbound.dto.v2.flows.FlowResponseV2;
+import org.openkilda.northbound.dto.v2.flows.FlowsPageResponseV2;
 import org.openkilda.northbound.dto.v2.flows.SwapFlowEndpointPayload;
 
 import java.time.Instant;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 /**
  * FlowService is for operations on flows, primarily against the Flow Topology.
@@ -145,6 +147,26 @@ public interface FlowService {
      */
     CompletableFuture<List<FlowResponseV2>> getAllFlowsV2(String status);
 
+    /**
+     * Gets a page of the flows ordered by flow id.
+     *
+     * @param status status of flows, all flows are dumped if null
+     * @param afterFlowId the page starts after the flow with this id or from the first flow if null
+     * @param limit max number of flows in the page
+     * @return the page of flows
+     */
+    CompletableFuture<FlowsPageResponseV2> getFlowsPageV2(String status, String afterFlowId, int limit);
+
+    /**
+     * Dumps all the flows page by page and passes each flow to the consumer as soon as it is received.
+     *
+     * @param status status of flows, all flows are dumped if null
+     * @param pageSize number of flows requested at once
+     * @param consumer receiver of the flows
+     * @return future completed when all flows are passed to the consumer
+     */
+    CompletableFuture<Void> streamAllFlowsV2(String status, int pageSize, Consumer<FlowResponseV2> consumer);
+
     /**
      * Deletes all flows. Primarily this is a combination of getAllFlows and deleteFlow.
      * This should be called with care ..
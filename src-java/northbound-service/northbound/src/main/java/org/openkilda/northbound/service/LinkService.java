@@ -31,6 +31,7 @@ import org.openkilda.northbound.dto.v2.links.BfdPropertiesPayload;
 
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 public interface LinkService {
 
@@ -40,6 +41,12 @@ public interface LinkService {
     CompletableFuture<List<LinkDto>> getLinks(SwitchId srcSwitch, Integer srcPort,
                                               SwitchId dstSwitch, Integer dstPort);
 
+    /**
+     * Returns all links at the controller, each link is passed to the consumer as soon as it is received.
+     */
+    CompletableFuture<Void> streamLinks(SwitchId srcSwitch, Integer srcPort, SwitchId dstSwitch, Integer dstPort,
+                                        Consumer<LinkDto> consumer);
+
     /**
      * These results are not related to the ISL links per se .. they are based on any link
      * properties that have been uploaded through setLinkProps.
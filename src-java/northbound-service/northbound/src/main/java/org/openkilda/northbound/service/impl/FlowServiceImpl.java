@@ -91,6 +91,7 @@ import org.openkilda.northbound.dto.v2.flows.FlowPatchV2;
 import org.openkilda.northbound.dto.v2.flows.FlowRequestV2;
 import org.openkilda.northbound.dto.v2.flows.FlowRerouteResponseV2;
 import org.openkilda.northbound.dto.v2.flows.FlowResponseV2;
+import org.openkilda.northbound.dto.v2.flows.FlowsPageResponseV2;
 import org.openkilda.northbound.dto.v2.flows.SwapFlowEndpointPayload;
 import org.openkilda.northbound.messaging.MessagingChannel;
 import org.openkilda.northbound.service.FlowService;
@@ -105,9 +106,13 @@ import org.springframework.stereotype.Service;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -353,16 +358,76 @@ public class FlowServiceImpl implements FlowService {
         final String correlationId = RequestCorrelationId.getId();
         log.info("API request: Get all flows request processing");
 
-        FlowsDumpRequest data;
+        FlowsDumpRequest data = makeFlowsDumpRequest(status, correlationId);
+        return handleGetAllFlowsRequest(data, correlationId, flowMapper::toFlowResponseV2);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<FlowsPageResponseV2> getFlowsPageV2(String status, String afterFlowId, int limit) {
+        final String correlationId = RequestCorrelationId.getId();
+        log.info("API request: Get flows page after {} with limit {}", afterFlowId, limit);
+
+        FlowsDumpRequest data = makeFlowsDumpRequest(status, correlationId);
+        data.setAfterFlowId(afterFlowId);
+        data.setLimit(limit);
+
+        return handleGetAllFlowsRequest(data, correlationId, flowMapper::toFlowResponseV2)
+                .thenApply(flows -> {
+                    // Chunks of the page are not ordered.
+                    flows.sort(Comparator.comparing(FlowResponseV2::getFlowId));
+                    String nextCursor = flows.size() < limit ? null : flows.get(flows.size() - 1).getFlowId();
+                    return new FlowsPageResponseV2(flows, nextCursor);
+                });
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<Void> streamAllFlowsV2(String status, int pageSize, Consumer<FlowResponseV2> consumer) {
+        final String correlationId = RequestCorrelationId.getId();
+        log.info("API request: Stream all flows request processing");
+
+        FlowsDumpRequest data = makeFlowsDumpRequest(status, correlationId);
+        data.setLimit(pageSize);
+        return streamFlowsPage(data, correlationId, 0, consumer);
+    }
+
+    private CompletableFuture<Void> streamFlowsPage(
+            FlowsDumpRequest payload, String correlationId, int pageNumber, Consumer<FlowResponseV2> consumer) {
+        CommandMessage request = new CommandMessage(payload, System.currentTimeMillis(),
+                RequestCorrelationId.chain(correlationId, String.valueOf(pageNumber)), Destination.WFM);
+        AtomicInteger received = new AtomicInteger();
+        AtomicReference<String> lastFlowId = new AtomicReference<>();
+        return messagingChannel.sendAndStreamChunked(nbworkerTopic, request, data -> {
+            FlowDto flow = ((FlowResponse) data).getPayload();
+            lastFlowId.accumulateAndGet(flow.getFlowId(),
+                    (last, current) -> last == null || last.compareTo(current) < 0 ? current : last);
+            received.incrementAndGet();
+            consumer.accept(flowMapper.toFlowResponseV2(flow));
+        }).thenCompose(ignore -> {
+            if (received.get() < payload.getLimit()) {
+                return CompletableFuture.completedFuture(null);
+            }
+            FlowsDumpRequest next = new FlowsDumpRequest();
+            next.setStatus(payload.getStatus());
+            next.setAfterFlowId(lastFlowId.get());
+            next.setLimit(payload.getLimit());
+            return streamFlowsPage(next, correlationId, pageNumber + 1, consumer);
+        });
+    }
+
+    private FlowsDumpRequest makeFlowsDumpRequest(String status, String correlationId) {
         try {
-            data = new FlowsDumpRequest(status);
+            return new FlowsDumpRequest(status);
         } catch (IllegalArgumentException e) {
             log.error("Can not parse arguments: {}", e.getMessage(), e);
             throw new MessageException(correlationId, System.currentTimeMillis(), ErrorType.DATA_INVALID,
                     e.getMessage(), "Can not parse arguments of the flow dump request");
         }
-
-        return handleGetAllFlowsRequest(data, correlationId, flowMapper::toFlowResponseV2);
     }
 
     /**
@@ -80,6 +80,7 @@ import java.util.Collection;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -127,6 +128,27 @@ public class LinkServiceImpl extends BaseService implements LinkService {
     public CompletableFuture<List<LinkDto>> getLinks(SwitchId srcSwitch, Integer srcPort,
                                                      SwitchId dstSwitch, Integer dstPort) {
         log.info("API request: Get links: src {}_{}, dst {}_{}", srcSwitch, srcPort, dstSwitch, dstPort);
+        CommandMessage message = makeGetLinksMessage(srcSwitch, srcPort, dstSwitch, dstPort);
+
+        return messagingChannel.sendAndGetChunked(nbworkerTopic, message)
+                .thenApply(response -> response.stream()
+                        .map(IslInfoData.class::cast)
+                        .map(linkMapper::mapResponse)
+                        .collect(Collectors.toList()));
+    }
+
+    @Override
+    public CompletableFuture<Void> streamLinks(SwitchId srcSwitch, Integer srcPort,
+                                               SwitchId dstSwitch, Integer dstPort, Consumer<LinkDto> consumer) {
+        log.info("API request: Stream links: src {}_{}, dst {}_{}", srcSwitch, srcPort, dstSwitch, dstPort);
+        CommandMessage message = makeGetLinksMessage(srcSwitch, srcPort, dstSwitch, dstPort);
+
+        return messagingChannel.sendAndStreamChunked(nbworkerTopic, message,
+                data -> consumer.accept(linkMapper.mapResponse((IslInfoData) data)));
+    }
+
+    private CommandMessage makeGetLinksMessage(SwitchId srcSwitch, Integer srcPort,
+                                               SwitchId dstSwitch, Integer dstPort) {
         final String correlationId = RequestCorrelationId.getId();
         GetLinksRequest request = null;
         try {
@@ -137,13 +159,7 @@ public class LinkServiceImpl extends BaseService implements LinkService {
             throw new MessageException(correlationId, System.currentTimeMillis(), ErrorType.DATA_INVALID,
                     e.getMessage(), "Can not parse arguments when create 'get links' request");
         }
-        CommandMessage message = new CommandMessage(request, System.currentTimeMillis(), correlationId);
-
-        return messagingChannel.sendAndGetChunked(nbworkerTopic, message)
-                .thenApply(response -> response.stream()
-                        .map(IslInfoData.class::cast)
-                        .map(linkMapper::mapResponse)
-                        .collect(Collectors.toList()));
+        return new CommandMessage(request, System.currentTimeMillis(), correlationId);
     }
 
     @Override
@@ -0,0 +1,74 @@
+/* Copyright 2023 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.northbound.utils.async;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Streams responses as newline delimited JSON. Each item is written to the response as soon as it is produced, so
+ * neither the first byte of the response waits for the last item nor all items are kept in memory.
+ */
+public final class NdjsonStream {
+    public static final MediaType APPLICATION_NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
+    private static final String DELIMITER = "\n";
+
+    /**
+     * Creates a streaming response. The producer is called with the consumer of items and must return a future
+     * which is completed when all items are produced. Items may be passed to the consumer from any thread, but
+     * not concurrently.
+     *
+     * @param timeout time in milliseconds to produce all items, the response is completed with an error after it.
+     * @param producer source of items.
+     * @param <T> type of items.
+     * @return the response to be returned from a controller.
+     */
+    public static <T> ResponseEntity<ResponseBodyEmitter> stream(
+            long timeout, Function<Consumer<T>, CompletableFuture<Void>> producer) {
+        ResponseBodyEmitter emitter = new ResponseBodyEmitter(timeout);
+        producer.apply(item -> send(emitter, item))
+                .whenComplete((ignore, error) -> {
+                    if (error == null) {
+                        emitter.complete();
+                    } else {
+                        emitter.completeWithError(error);
+                    }
+                });
+        return ResponseEntity.ok()
+                .contentType(APPLICATION_NDJSON)
+                .body(emitter);
+    }
+
+    private static void send(ResponseBodyEmitter emitter, Object item) {
+        try {
+            emitter.send(item, MediaType.APPLICATION_JSON);
+            emitter.send(DELIMITER, MediaType.TEXT_PLAIN);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private NdjsonStream() {
+    }
+}
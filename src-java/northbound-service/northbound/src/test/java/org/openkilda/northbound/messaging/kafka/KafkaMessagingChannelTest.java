@@ -18,11 +18,13 @@ package org.openkilda.northbound.messaging.kafka;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 import org.openkilda.messaging.Message;
 import org.openkilda.messaging.error.ErrorData;
 import org.openkilda.messaging.error.ErrorMessage;
 import org.openkilda.messaging.error.ErrorType;
+import org.openkilda.messaging.error.MessageException;
 import org.openkilda.messaging.info.ChunkedInfoMessage;
 import org.openkilda.messaging.info.InfoData;
 import org.openkilda.messaging.info.InfoMessage;
@@ -48,14 +50,18 @@ import org.springframework.context.annotation.Import;
 import org.springframework.context.annotation.PropertySource;
 import org.springframework.kafka.support.SendResult;
 import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.util.concurrent.ListenableFuture;
 import org.springframework.util.concurrent.SettableListenableFuture;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -168,6 +174,100 @@ public class KafkaMessagingChannelTest {
         assertTrue(messagingChannel.getPendingChunkedRequests().isEmpty());
     }
 
+    @Test
+    public void shouldStreamChunked() throws Exception {
+        String requestId = UUID.randomUUID().toString();
+        long timestamp = System.currentTimeMillis();
+        int messagesAmount = 10000;
+
+        prepareChunkedResponses(requestId, timestamp, messagesAmount);
+        Message request = new Message(timestamp, requestId);
+
+        List<InfoData> result = Collections.synchronizedList(new ArrayList<>());
+        CompletableFuture<Void> future = messagingChannel.sendAndStreamChunked(CHUNKED_TOPIC, request, result::add);
+        prepareResponses(CHUNKED_TOPIC);
+        // duplicates must be skipped
+        prepareResponses(CHUNKED_TOPIC);
+
+        future.get(10, TimeUnit.SECONDS);
+        assertEquals(messagesAmount, result.size());
+        assertEquals(messagesAmount, new HashSet<>(result).size());
+        assertTrue(messagingChannel.getPendingStreamedRequests().isEmpty());
+    }
+
+    @Test
+    public void shouldStreamEmptyChunked() throws Exception {
+        String requestId = UUID.randomUUID().toString();
+        long timestamp = System.currentTimeMillis();
+
+        ChunkedInfoMessage emptyResponse = new ChunkedInfoMessage(null, timestamp, requestId, requestId, 0);
+        CHUNKED_RESPONSES.add(emptyResponse);
+        Message request = new Message(timestamp, requestId);
+
+        List<InfoData> result = new ArrayList<>();
+        CompletableFuture<Void> future = messagingChannel.sendAndStreamChunked(CHUNKED_TOPIC, request, result::add);
+        prepareResponses(CHUNKED_TOPIC);
+        future.get(1, TimeUnit.SECONDS);
+
+        assertTrue(result.isEmpty());
+        assertTrue(messagingChannel.getPendingStreamedRequests().isEmpty());
+    }
+
+    @Test
+    public void shouldCancelStreamedRequestIfConsumerIsTooSlow() throws Exception {
+        String requestId = UUID.randomUUID().toString();
+        long timestamp = System.currentTimeMillis();
+        int queueSize = 10;
+        int messagesAmount = 100;
+
+        prepareChunkedResponses(requestId, timestamp, messagesAmount);
+        Message request = new Message(timestamp, requestId);
+
+        CountDownLatch consumerLatch = new CountDownLatch(1);
+        ReflectionTestUtils.setField(messagingChannel, "streamQueueSize", queueSize);
+        CompletableFuture<Void> future;
+        try {
+            future = messagingChannel.sendAndStreamChunked(CHUNKED_TOPIC, request, data -> {
+                try {
+                    consumerLatch.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        } finally {
+            ReflectionTestUtils.setField(messagingChannel, "streamQueueSize", 100000);
+        }
+
+        // the listener thread must not be blocked by the consumer
+        CHUNKED_RESPONSES.forEach(messagingChannel::onResponse);
+        consumerLatch.countDown();
+
+        try {
+            future.get(1, TimeUnit.SECONDS);
+            fail("Streamed request must be cancelled");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof MessageException);
+        }
+        assertTrue(messagingChannel.getPendingStreamedRequests().isEmpty());
+    }
+
+    @Test
+    public void shouldCompleteStreamedResponseExceptionallyIfResponseIsError() throws Exception {
+        thrown.expect(ExecutionException.class);
+
+        String requestId = UUID.randomUUID().toString();
+        long timestamp = System.currentTimeMillis();
+
+        ErrorData error = new ErrorData(ErrorType.INTERNAL_ERROR, "message", "description");
+        ErrorMessage errorResponse = new ErrorMessage(error, timestamp, requestId, null);
+        CHUNKED_RESPONSES.add(errorResponse);
+        Message request = new Message(timestamp, requestId);
+
+        CompletableFuture<Void> response = messagingChannel.sendAndStreamChunked(CHUNKED_TOPIC, request, data -> { });
+        prepareResponses(CHUNKED_TOPIC);
+        response.get(1, TimeUnit.SECONDS);
+    }
+
     @Test
     public void shouldCompleteResponseExceptionallyIfResponseIsError() throws Exception {
         thrown.expect(ExecutionException.class);
@@ -16,11 +16,14 @@
 package org.openkilda.northbound.service.impl;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 import static org.mockito.Mockito.mock;
 
+import org.openkilda.messaging.command.CommandMessage;
 import org.openkilda.messaging.info.flow.FlowResponse;
 import org.openkilda.messaging.info.flow.SwapFlowResponse;
 import org.openkilda.messaging.model.FlowDto;
+import org.openkilda.messaging.nbtopology.request.FlowsDumpRequest;
 import org.openkilda.messaging.payload.flow.FlowState;
 import org.openkilda.model.SwitchId;
 import org.openkilda.northbound.MessageExchanger;
@@ -28,6 +31,8 @@ import org.openkilda.northbound.config.KafkaConfig;
 import org.openkilda.northbound.dto.v2.flows.DetectConnectedDevicesV2;
 import org.openkilda.northbound.dto.v2.flows.FlowEndpointV2;
 import org.openkilda.northbound.dto.v2.flows.FlowLoopResponse;
+import org.openkilda.northbound.dto.v2.flows.FlowResponseV2;
+import org.openkilda.northbound.dto.v2.flows.FlowsPageResponseV2;
 import org.openkilda.northbound.dto.v2.flows.SwapFlowEndpointPayload;
 import org.openkilda.northbound.dto.v2.flows.SwapFlowPayload;
 import org.openkilda.northbound.messaging.MessagingChannel;
@@ -48,6 +53,12 @@ import org.springframework.context.annotation.PropertySource;
 import org.springframework.test.context.junit4.SpringRunner;
 import org.springframework.web.client.RestTemplate;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
 @RunWith(SpringRunner.class)
 public class FlowServiceTest {
 
@@ -131,6 +142,71 @@ public class FlowServiceTest {
         assertEquals(switchId, result.getSwitchId());
     }
 
+    @Test
+    public void getFlowsPage() throws Exception {
+        String correlationId = "flows-page";
+        RequestCorrelationId.create(correlationId);
+
+        // chunks of a page are not ordered
+        messageExchanger.mockChunkedResponse(correlationId, Arrays.asList(
+                new FlowResponse(buildFlowDto("flow-3")), new FlowResponse(buildFlowDto("flow-2"))));
+
+        FlowsPageResponseV2 result = flowService.getFlowsPageV2(null, "flow-1", 2).get();
+        assertEquals(Arrays.asList("flow-2", "flow-3"), result.getFlows().stream()
+                .map(FlowResponseV2::getFlowId)
+                .collect(Collectors.toList()));
+        assertEquals("flow-3", result.getNextCursor());
+
+        CommandMessage request = (CommandMessage) messageExchanger.getCapturedMessage(correlationId);
+        FlowsDumpRequest dumpRequest = (FlowsDumpRequest) request.getData();
+        assertEquals("flow-1", dumpRequest.getAfterFlowId());
+        assertEquals(Integer.valueOf(2), dumpRequest.getLimit());
+    }
+
+    @Test
+    public void getLastFlowsPage() throws Exception {
+        String correlationId = "last-flows-page";
+        RequestCorrelationId.create(correlationId);
+
+        messageExchanger.mockChunkedResponse(correlationId,
+                Collections.singletonList(new FlowResponse(buildFlowDto("flow-1"))));
+
+        FlowsPageResponseV2 result = flowService.getFlowsPageV2(null, null, 2).get();
+        assertEquals(1, result.getFlows().size());
+        assertNull(result.getNextCursor());
+    }
+
+    @Test
+    public void streamAllFlows() throws Exception {
+        String correlationId = "flows-stream";
+        RequestCorrelationId.create(correlationId);
+
+        String firstPageId = RequestCorrelationId.chain(correlationId, "0");
+        String secondPageId = RequestCorrelationId.chain(correlationId, "1");
+        messageExchanger.mockChunkedResponse(firstPageId, Arrays.asList(
+                new FlowResponse(buildFlowDto("flow-2")), new FlowResponse(buildFlowDto("flow-1"))));
+        messageExchanger.mockChunkedResponse(secondPageId,
+                Collections.singletonList(new FlowResponse(buildFlowDto("flow-3"))));
+
+        List<FlowResponseV2> result = new ArrayList<>();
+        flowService.streamAllFlowsV2(null, 2, result::add).get();
+
+        assertEquals(Arrays.asList("flow-2", "flow-1", "flow-3"), result.stream()
+                .map(FlowResponseV2::getFlowId)
+                .collect(Collectors.toList()));
+        // the next page starts after the greatest flow id of the previous one
+        CommandMessage secondPageRequest = (CommandMessage) messageExchanger.getCapturedMessage(secondPageId);
+        assertEquals("flow-2", ((FlowsDumpRequest) secondPageRequest.getData()).getAfterFlowId());
+    }
+
+    private FlowDto buildFlowDto(String flowId) {
+        return FlowDto.builder()
+                .flowId(flowId).bandwidth(10000).description(flowId).state(FlowState.UP)
+                .sourceSwitch(new SwitchId("ff:00")).sourcePort(1).sourceVlan(1)
+                .destinationSwitch(new SwitchId("ff:01")).destinationPort(2).destinationVlan(2)
+                .build();
+    }
+
     @TestConfiguration
     @Import(KafkaConfig.class)
     @ComponentScan({
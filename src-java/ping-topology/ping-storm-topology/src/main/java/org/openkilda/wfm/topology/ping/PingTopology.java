@@ -151,7 +151,8 @@ public class PingTopology extends AbstractTopology<PingTopologyConfig> {
         FlowResourcesConfig flowResourcesConfig = configurationProvider.getConfiguration(FlowResourcesConfig.class);
 
         FlowFetcher bolt = new FlowFetcher(persistenceManager, flowResourcesConfig,
-                topologyConfig.getPeriodicPingCacheExpirationInterval());
+                topologyConfig.getPeriodicPingCacheExpirationInterval(),
+                topologyConfig.getPeriodicPingCacheReconcilePageSize());
         declareBolt(topology, bolt, FlowFetcher.BOLT_ID)
                 // NOTE(tdurakov): global grouping is responsible for proper handling parallelism of 2
                 .globalGrouping(TickDeduplicator.BOLT_ID, TickDeduplicator.STREAM_PING_ID)
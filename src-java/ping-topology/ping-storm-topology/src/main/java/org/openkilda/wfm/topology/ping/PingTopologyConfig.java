@@ -22,6 +22,8 @@ import com.sabre.oss.conf4j.annotation.Default;
 import com.sabre.oss.conf4j.annotation.IgnoreKey;
 import com.sabre.oss.conf4j.annotation.Key;
 
+import javax.validation.constraints.Min;
+
 @Configuration
 public interface PingTopologyConfig extends AbstractTopologyConfig {
     @IgnoreKey
@@ -39,6 +41,10 @@ public interface PingTopologyConfig extends AbstractTopologyConfig {
         return getPingConfig().getPeriodicPingCacheExpirySec();
     }
 
+    default int getPeriodicPingCacheReconcilePageSize() {
+        return getPingConfig().getPeriodicPingCacheReconcilePageSize();
+    }
+
     default int getFailDelay() {
         return getPingConfig().getFailDelay();
     }
@@ -90,8 +96,17 @@ public interface PingTopologyConfig extends AbstractTopologyConfig {
         @Default("1800")
         int getFailReset();
 
+        /**
+         * Interval of the periodic ping schedule reconciliation with the DB. The schedule is updated by flow events,
+         * so the reconciliation only catches missed events.
+         */
         @Key("cache.expiry.sec")
-        @Default("60")
+        @Default("900")
         long getPeriodicPingCacheExpirySec();
+
+        @Key("cache.reconcile.page.size")
+        @Default("1000")
+        @Min(1)
+        int getPeriodicPingCacheReconcilePageSize();
     }
 }
@@ -49,22 +49,25 @@ import org.openkilda.wfm.topology.ping.model.PingContext;
 import org.openkilda.wfm.topology.ping.model.PingContext.Kinds;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.Lists;
 import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
 import lombok.Value;
-import org.apache.storm.task.OutputCollector;
 import org.apache.storm.topology.OutputFieldsDeclarer;
 import org.apache.storm.tuple.Fields;
 import org.apache.storm.tuple.Tuple;
 import org.apache.storm.tuple.Values;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 public class FlowFetcher extends Abstract {
     public static final String BOLT_ID = ComponentId.FLOW_FETCHER.toString();
@@ -90,15 +93,20 @@ public class FlowFetcher extends Abstract {
     private transient FlowRepository flowRepository;
     private transient YFlowRepository yFlowRepository;
     private transient HaFlowRepository haFlowRepository;
-    private Set<FlowWithTransitEncapsulation> flowsSet;
+    // Periodic ping schedule, it is kept current by periodic ping update requests and reconciled with the DB
+    // once per periodicPingCacheExpiryInterval.
+    private Map<String, FlowWithTransitEncapsulation> periodicFlows = new HashMap<>();
+    private Map<String, FlowWithTransitEncapsulation> periodicHaFlows = new HashMap<>();
     private long periodicPingCacheExpiryInterval;
+    private int reconcilePageSize;
     private long lastPeriodicPingCacheRefresh;
 
     public FlowFetcher(PersistenceManager persistenceManager, FlowResourcesConfig flowResourcesConfig,
-                       long periodicPingCacheExpiryInterval) {
+                       long periodicPingCacheExpiryInterval, int reconcilePageSize) {
         super(persistenceManager);
         this.flowResourcesConfig = flowResourcesConfig;
         this.periodicPingCacheExpiryInterval = TimeUnit.SECONDS.toMillis(periodicPingCacheExpiryInterval);
+        this.reconcilePageSize = reconcilePageSize;
     }
 
     @Override
@@ -130,66 +138,98 @@ public class FlowFetcher extends Abstract {
         }
 
         PeriodicPingCommand periodicPingCommand = pullPeriodicPingRequest(input);
+        String flowId = periodicPingCommand.getFlowId();
 
+        Optional<FlowWithTransitEncapsulation> current = Optional.empty();
         if (periodicPingCommand.isEnable()) {
-            flowRepository.findById(periodicPingCommand.getFlowId())
+            current = flowRepository.findById(flowId)
                     .flatMap(flow -> {
                         flowRepository.detach(flow);
                         return getFlowWithTransitEncapsulation(flow);
-                    })
-                    .ifPresent(flowsSet::add);
+                    });
+        }
 
+        FlowWithTransitEncapsulation previous;
+        if (current.isPresent()) {
+            previous = periodicFlows.put(flowId, current.get());
         } else {
-            flowsSet.removeIf(flowWithTransitEncapsulation ->
-                    flowWithTransitEncapsulation.getFlow().getFlowId().equals(periodicPingCommand.getFlowId()));
+            previous = periodicFlows.remove(flowId);
+        }
+        // Ping results of the replaced flow paths must not affect the flow status.
+        if (previous != null && !previous.equals(current.orElse(null))) {
+            emitCacheExpire(input, pullContext(input), previous);
         }
     }
 
     private void updatePeriodicHaPingHeap(Tuple input) throws PipelineException {
         PeriodicHaPingCommand periodicHaPingCommand = pullPeriodicHaPingRequest(input);
         String haFlowId = periodicHaPingCommand.getHaFlowId();
+
+        Optional<FlowWithTransitEncapsulation> current = Optional.empty();
         if (periodicHaPingCommand.isEnable()) {
-            haFlowRepository.findById(haFlowId)
+            current = haFlowRepository.findById(haFlowId)
                     .flatMap(haFlow -> {
                         haFlowRepository.detach(haFlow);
                         return getFlowWithTransitEncapsulation(haFlow);
-                    })
-                    .ifPresent(flowsSet::add);
+                    });
+        }
 
+        if (current.isPresent()) {
+            periodicHaFlows.put(haFlowId, current.get());
         } else {
-            flowsSet.removeIf(flowWithTransitEncapsulation ->
-                    flowWithTransitEncapsulation.getHaFlow().getHaFlowId().equals(haFlowId));
+            periodicHaFlows.remove(haFlowId);
         }
     }
 
-
+    /**
+     * Reloads the periodic ping schedule from the DB page by page. Expiry is emitted for flows which are not in the
+     * schedule anymore or have been changed.
+     */
     private void refreshHeap(Tuple input, boolean emitCacheExpiry) throws PipelineException {
-        Set<FlowWithTransitEncapsulation> flowsWithTransitEncapsulation = getFlowsWithTransitEncapsulation();
-        Set<FlowWithTransitEncapsulation> haFlowsWithTransitEncapsulation = getHaFlowsWithTransitEncapsulation();
+        Map<String, FlowWithTransitEncapsulation> flows = loadPeriodicFlows();
+        Map<String, FlowWithTransitEncapsulation> haFlows = loadPeriodicHaFlows();
         if (emitCacheExpiry) {
             final CommandContext commandContext = pullContext(input);
-            emitCacheExpire(input, commandContext, flowsWithTransitEncapsulation);
+            for (Entry<String, FlowWithTransitEncapsulation> entry : periodicFlows.entrySet()) {
+                if (!entry.getValue().equals(flows.get(entry.getKey()))) {
+                    emitCacheExpire(input, commandContext, entry.getValue());
+                }
+            }
         }
-        flowsSet = flowsWithTransitEncapsulation;
-        flowsSet.addAll(haFlowsWithTransitEncapsulation);
+        periodicFlows = flows;
+        periodicHaFlows = haFlows;
 
         lastPeriodicPingCacheRefresh = System.currentTimeMillis();
     }
 
-    private Set<FlowWithTransitEncapsulation> getFlowsWithTransitEncapsulation() {
-        return flowRepository.findWithPeriodicPingsEnabled().stream()
-                .peek(flowRepository::detach)
-                .map(this::getFlowWithTransitEncapsulation)
-                .flatMap(o -> o.map(Stream::of).orElseGet(Stream::empty))
-                .collect(Collectors.toSet());
+    private Map<String, FlowWithTransitEncapsulation> loadPeriodicFlows() {
+        Map<String, FlowWithTransitEncapsulation> result = new HashMap<>();
+        // Flows are loaded by their ids, so both queries are served by the flow indexes.
+        for (List<String> page : Lists.partition(
+                new ArrayList<>(flowRepository.findFlowIdsWithPeriodicPingsEnabled()), reconcilePageSize)) {
+            for (Flow flow : flowRepository.findByIds(new HashSet<>(page)).values()) {
+                flowRepository.detach(flow);
+                if (flow.isPeriodicPings()) {
+                    getFlowWithTransitEncapsulation(flow).ifPresent(entry -> result.put(flow.getFlowId(), entry));
+                }
+            }
+        }
+        return result;
     }
 
-    private Set<FlowWithTransitEncapsulation> getHaFlowsWithTransitEncapsulation() {
-        return haFlowRepository.findWithPeriodicPingsEnabled().stream()
-                .peek(haFlowRepository::detach)
-                .map(this::getFlowWithTransitEncapsulation)
-                .flatMap(o -> o.map(Stream::of).orElseGet(Stream::empty))
-                .collect(Collectors.toSet());
+    private Map<String, FlowWithTransitEncapsulation> loadPeriodicHaFlows() {
+        Map<String, FlowWithTransitEncapsulation> result = new HashMap<>();
+        for (List<String> page : Lists.partition(
+                new ArrayList<>(haFlowRepository.findHaFlowIdsWithPeriodicPingsEnabled()), reconcilePageSize)) {
+            for (HaFlow haFlow : haFlowRepository.findByIds(new HashSet<>(page)).values()) {
+                haFlowRepository.detach(haFlow);
+                if (haFlow.isPeriodicPings()) {
+                    getFlowWithTransitEncapsulation(haFlow)
+                            .ifPresent(entry -> result.put(haFlow.getHaFlowId(), entry));
+                }
+            }
+        }
+        return result;
     }
 
     private void handlePeriodicRequest(Tuple input) throws PipelineException {
@@ -200,7 +240,7 @@ public class FlowFetcher extends Abstract {
         }
         final CommandContext commandContext = pullContext(input);
 
-        flowsSet.stream().filter(flowWithTransit -> flowWithTransit.getFlow() != null).forEach(flow -> {
+        for (FlowWithTransitEncapsulation flow : periodicFlows.values()) {
             PingContext pingContext = PingContext.builder()
                     .group(new GroupId(DIRECTION_COUNT_PER_FLOW))
                     .kind(Kinds.PERIODIC)
@@ -209,16 +249,16 @@ public class FlowFetcher extends Abstract {
                     .transitEncapsulation(flow.getTransitEncapsulation())
                     .build();
             emit(input, pingContext, commandContext);
-        });
+        }
 
-        flowsSet.stream().filter(flowWithTransit -> flowWithTransit.getHaFlow() != null).forEach(flow -> {
+        for (FlowWithTransitEncapsulation flow : periodicHaFlows.values()) {
             PingContext pingContext = PingContext.builder()
                     .kind(Kinds.PERIODIC)
                     .haFlow(flow.getHaFlow())
                     .transitEncapsulation(flow.getTransitEncapsulation())
                     .build();
             emit(input, pingContext, commandContext);
-        });
+        }
     }
 
     private void handleOnDemandRequest(Tuple input) throws PipelineException {
@@ -423,13 +463,9 @@ public class FlowFetcher extends Abstract {
         getOutput().emit(STREAM_ON_DEMAND_HA_FLOW_RESPONSE_ID, input, new Values(response, pullContext(input)));
     }
 
-    private void emitCacheExpire(Tuple input, CommandContext commandContext, Set<FlowWithTransitEncapsulation> flows) {
-        OutputCollector collector = getOutput();
-        flowsSet.removeAll(flows);
-        for (FlowWithTransitEncapsulation flow : flowsSet) {
-            Values output = new Values(flow.getFlow(), commandContext);
-            collector.emit(STREAM_EXPIRE_CACHE_ID, input, output);
-        }
+    private void emitCacheExpire(Tuple input, CommandContext commandContext, FlowWithTransitEncapsulation flow) {
+        Values output = new Values(flow.getFlow(), commandContext);
+        getOutput().emit(STREAM_EXPIRE_CACHE_ID, input, output);
     }
 
     private FlowPingRequest pullOnDemandRequest(Tuple input) throws PipelineException {
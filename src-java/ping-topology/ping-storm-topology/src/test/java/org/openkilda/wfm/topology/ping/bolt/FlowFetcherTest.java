@@ -0,0 +1,251 @@
+/* Copyright 2023 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.wfm.topology.ping.bolt;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.openkilda.persistence.ferma.repositories.FermaModelUtils.buildHaFlowPath;
+
+import org.openkilda.messaging.command.CommandData;
+import org.openkilda.messaging.command.flow.PeriodicHaPingCommand;
+import org.openkilda.messaging.command.flow.PeriodicPingCommand;
+import org.openkilda.model.Flow;
+import org.openkilda.model.FlowEncapsulationType;
+import org.openkilda.model.FlowPath;
+import org.openkilda.model.FlowPathDirection;
+import org.openkilda.model.FlowPathStatus;
+import org.openkilda.model.HaFlow;
+import org.openkilda.model.HaFlowPath;
+import org.openkilda.model.PathId;
+import org.openkilda.model.Switch;
+import org.openkilda.model.TransitVlan;
+import org.openkilda.model.cookie.FlowSegmentCookie;
+import org.openkilda.persistence.inmemory.InMemoryGraphBasedTest;
+import org.openkilda.wfm.CommandContext;
+import org.openkilda.wfm.share.flow.resources.FlowResourcesConfig;
+import org.openkilda.wfm.topology.ping.model.PingContext;
+
+import org.apache.storm.task.OutputCollector;
+import org.apache.storm.task.TopologyContext;
+import org.apache.storm.tuple.Fields;
+import org.apache.storm.tuple.Tuple;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.Collections;
+import java.util.List;
+
+public class FlowFetcherTest extends InMemoryGraphBasedTest {
+    private static final String FLOW_ID = "test_flow";
+    private static final long EXPIRY_INTERVAL = 900;
+    private static final int RECONCILE_PAGE_SIZE = 2;
+
+    private final OutputCollector output = mock(OutputCollector.class);
+
+    private Switch switchA;
+    private Switch switchB;
+    private FlowFetcher bolt;
+
+    @Before
+    public void setUp() {
+        switchA = createTestSwitch(SWITCH_ID_1);
+        switchB = createTestSwitch(SWITCH_ID_2);
+    }
+
+    @Test
+    public void shouldAddFlowIntoScheduleOnPeriodicPingUpdate() {
+        prepareBolt();
+        createFlow(FLOW_ID, BANDWIDTH_1);
+        assertTrue(tick().isEmpty());
+
+        update(new PeriodicPingCommand(FLOW_ID, true));
+
+        List<List<Object>> pings = tick();
+        assertEquals(1, pings.size());
+        assertEquals(FLOW_ID, pings.get(0).get(0));
+    }
+
+    @Test
+    public void shouldRemoveFlowFromScheduleAndExpireItsCache() {
+        createFlow(FLOW_ID, BANDWIDTH_1);
+        prepareBolt();
+        assertEquals(1, tick().size());
+
+        Tuple input = update(new PeriodicPingCommand(FLOW_ID, false));
+
+        assertEquals(FLOW_ID, captureExpired(input).getFlowId());
+        assertTrue(tick().isEmpty());
+    }
+
+    @Test
+    public void shouldExpireCacheOfChangedFlow() {
+        createFlow(FLOW_ID, BANDWIDTH_1);
+        prepareBolt();
+        repositoryFactory.createFlowRepository().findById(FLOW_ID).get().setBandwidth(BANDWIDTH_2);
+
+        Tuple input = update(new PeriodicPingCommand(FLOW_ID, true));
+
+        assertEquals(BANDWIDTH_1, captureExpired(input).getBandwidth());
+        List<List<Object>> pings = tick();
+        assertEquals(1, pings.size());
+        assertEquals(BANDWIDTH_2, ((PingContext) pings.get(0).get(1)).getFlow().getBandwidth());
+    }
+
+    @Test
+    public void shouldNotExpireCacheOfNotChangedFlow() {
+        createFlow(FLOW_ID, BANDWIDTH_1);
+        prepareBolt();
+
+        Tuple input = update(new PeriodicPingCommand(FLOW_ID, true));
+
+        verify(output, never()).emit(eq(FlowFetcher.STREAM_EXPIRE_CACHE_ID), same(input), anyList());
+        assertEquals(1, tick().size());
+    }
+
+    @Test
+    public void shouldLoadScheduleByPages() {
+        for (int i = 0; i < RECONCILE_PAGE_SIZE * 2 + 1; i++) {
+            createFlow(FLOW_ID + i, BANDWIDTH_1);
+        }
+        prepareBolt();
+
+        assertEquals(RECONCILE_PAGE_SIZE * 2 + 1, tick().size());
+    }
+
+    @Test
+    public void shouldAddAndRemoveHaFlowFromSchedule() {
+        prepareBolt();
+        createHaFlow();
+
+        update(new PeriodicHaPingCommand(HA_FLOW_ID_1, true));
+
+        List<List<Object>> pings = tick();
+        assertEquals(1, pings.size());
+        assertEquals(HA_FLOW_ID_1, pings.get(0).get(0));
+
+        Tuple input = update(new PeriodicHaPingCommand(HA_FLOW_ID_1, false));
+
+        verify(output, never()).emit(eq(FlowFetcher.STREAM_EXPIRE_CACHE_ID), same(input), anyList());
+        assertTrue(tick().isEmpty());
+    }
+
+    private void prepareBolt() {
+        TopologyContext topologyContext = mock(TopologyContext.class);
+        when(topologyContext.getThisTaskId()).thenReturn(1);
+
+        bolt = new FlowFetcher(persistenceManager, configurationProvider.getConfiguration(FlowResourcesConfig.class),
+                EXPIRY_INTERVAL, RECONCILE_PAGE_SIZE);
+        bolt.prepare(Collections.emptyMap(), topologyContext, output);
+    }
+
+    private List<List<Object>> tick() {
+        Tuple input = makeTuple(TickDeduplicator.BOLT_ID, "default");
+        bolt.execute(input);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Object>> values = ArgumentCaptor.forClass(List.class);
+        verify(output, atLeast(0)).emit(same(input), values.capture());
+        return values.getAllValues();
+    }
+
+    private Tuple update(CommandData request) {
+        Tuple input = makeTuple(InputRouter.BOLT_ID, InputRouter.STREAM_PERIODIC_PING_UPDATE_REQUEST_ID);
+        when(input.getValueByField(InputRouter.FIELD_ID_PING_REQUEST)).thenReturn(request);
+        bolt.execute(input);
+        return input;
+    }
+
+    private Flow captureExpired(Tuple input) {
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Object>> values = ArgumentCaptor.forClass(List.class);
+        verify(output).emit(eq(FlowFetcher.STREAM_EXPIRE_CACHE_ID), same(input), values.capture());
+        return (Flow) values.getValue().get(0);
+    }
+
+    private Tuple makeTuple(String component, String stream) {
+        Tuple input = mock(Tuple.class);
+        when(input.getSourceComponent()).thenReturn(component);
+        when(input.getSourceStreamId()).thenReturn(stream);
+        when(input.getFields()).thenReturn(new Fields());
+        when(input.getValueByField(FlowFetcher.FIELD_ID_CONTEXT)).thenReturn(new CommandContext());
+        return input;
+    }
+
+    private void createFlow(String flowId, long bandwidth) {
+        Flow flow = Flow.builder()
+                .flowId(flowId)
+                .srcSwitch(switchA)
+                .srcPort(PORT_1)
+                .destSwitch(switchB)
+                .destPort(PORT_2)
+                .bandwidth(bandwidth)
+                .encapsulationType(FlowEncapsulationType.TRANSIT_VLAN)
+                .periodicPings(true)
+                .build();
+        repositoryFactory.createFlowRepository().add(flow);
+
+        flow.setForwardPath(createFlowPath(flowId + "_forward", FlowPathDirection.FORWARD, switchA, switchB));
+        flow.setReversePath(createFlowPath(flowId + "_reverse", FlowPathDirection.REVERSE, switchB, switchA));
+        createTransitVlan(flowId, flow.getForwardPathId());
+    }
+
+    private FlowPath createFlowPath(String pathId, FlowPathDirection direction, Switch src, Switch dst) {
+        FlowPath path = FlowPath.builder()
+                .pathId(new PathId(pathId))
+                .cookie(new FlowSegmentCookie(direction, 1L))
+                .srcSwitch(src)
+                .destSwitch(dst)
+                .status(FlowPathStatus.ACTIVE)
+                .build();
+        repositoryFactory.createFlowPathRepository().add(path);
+        return path;
+    }
+
+    private void createHaFlow() {
+        HaFlow haFlow = HaFlow.builder()
+                .haFlowId(HA_FLOW_ID_1)
+                .sharedSwitch(switchA)
+                .sharedPort(PORT_1)
+                .encapsulationType(FlowEncapsulationType.TRANSIT_VLAN)
+                .periodicPings(true)
+                .build();
+        haFlow.setForwardPath(createHaFlowPath(PATH_ID_1, FlowPathDirection.FORWARD));
+        haFlow.setReversePath(createHaFlowPath(PATH_ID_2, FlowPathDirection.REVERSE));
+        repositoryFactory.createHaFlowRepository().add(haFlow);
+        createTransitVlan(HA_FLOW_ID_1, PATH_ID_1);
+    }
+
+    private HaFlowPath createHaFlowPath(PathId pathId, FlowPathDirection direction) {
+        HaFlowPath path = buildHaFlowPath(pathId, BANDWIDTH_1, new FlowSegmentCookie(direction, 1L),
+                METER_ID_1, METER_ID_2, switchA, SWITCH_ID_2, GROUP_ID_1);
+        repositoryFactory.createHaFlowPathRepository().add(path);
+        return path;
+    }
+
+    private void createTransitVlan(String flowId, PathId pathId) {
+        repositoryFactory.createTransitVlanRepository().add(
+                TransitVlan.builder().flowId(flowId).pathId(pathId).vlan(VLAN_1).build());
+    }
+}
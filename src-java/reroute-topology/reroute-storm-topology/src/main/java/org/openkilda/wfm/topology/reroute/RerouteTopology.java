@@ -174,7 +174,8 @@ public class RerouteTopology extends AbstractTopology<RerouteTopologyConfig> {
         String openTsdbTopic = topologyConfig.getKafkaTopics().getOtsdbTopic();
         KafkaBolt kafkaBolt = createKafkaBolt(openTsdbTopic);
         declareBolt(topologyBuilder, kafkaBolt, METRICS_BOLT_ID)
-                .shuffleGrouping(RerouteBolt.BOLT_ID, RerouteBolt.STREAM_TO_METRICS_BOLT);
+                .shuffleGrouping(RerouteBolt.BOLT_ID, RerouteBolt.STREAM_TO_METRICS_BOLT)
+                .shuffleGrouping(FlowRerouteQueueBolt.BOLT_ID, FlowRerouteQueueBolt.STREAM_TO_METRICS_BOLT);
     }
 
     /**
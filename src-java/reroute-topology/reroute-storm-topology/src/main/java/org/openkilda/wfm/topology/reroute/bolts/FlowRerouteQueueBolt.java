@@ -46,6 +46,8 @@ public class FlowRerouteQueueBolt extends CoordinatedBolt implements IRerouteQue
     public static final String STREAM_NORTHBOUND_ID = "northbound-stream";
     public static final String FLOW_ID_FIELD = RerouteBolt.FLOW_ID_FIELD;
 
+    public static final String STREAM_TO_METRICS_BOLT = "to-metrics-bolt-stream";
+
     public static final String STREAM_OPERATION_QUEUE_ID = "operation-queue";
     public static final Fields FIELDS_OPERATION_QUEUE = new Fields(FLOW_ID_FIELD, FIELD_ID_PAYLOAD, FIELD_ID_CONTEXT);
 
@@ -58,6 +60,7 @@ public class FlowRerouteQueueBolt extends CoordinatedBolt implements IRerouteQue
         super(persistenceManager, true, rerouteTimeout, null);
         this.defaultFlowPriority = defaultFlowPriority;
         this.maxRetry = maxRetry;
+        enableMeterRegistry("kilda.reroute", STREAM_TO_METRICS_BOLT);
     }
 
     @Override
@@ -104,6 +107,9 @@ public class FlowRerouteQueueBolt extends CoordinatedBolt implements IRerouteQue
     @Override
     protected void init() {
         rerouteQueueService = new RerouteQueueService(this, persistenceManager, defaultFlowPriority, maxRetry);
+        if (getMeterRegistry() != null) {
+            rerouteQueueService.registerGauges(getMeterRegistry());
+        }
     }
 
     @Override
@@ -40,24 +40,28 @@ import org.openkilda.persistence.repositories.FlowRepository;
 import org.openkilda.persistence.repositories.HaFlowRepository;
 import org.openkilda.persistence.repositories.YFlowRepository;
 import org.openkilda.wfm.CommandContext;
+import org.openkilda.wfm.share.metrics.MeterRegistryHolder;
 import org.openkilda.wfm.topology.reroute.model.FlowThrottlingData;
 import org.openkilda.wfm.topology.reroute.model.RerouteQueue;
 
 import com.google.common.annotations.VisibleForTesting;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
 
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
+import java.util.NavigableSet;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
 
 @Slf4j
 public class RerouteQueueService {
@@ -71,6 +75,12 @@ public class RerouteQueueService {
     private final Map<String, RerouteQueue> reroutes = new HashMap<>();
     private final IRerouteQueueCarrier carrier;
 
+    // Secondary indexes over reroutes, must be updated by indexRerouteQueue() after each change of a queue.
+    private final Map<String, Set<String>> inProgressFlowsByCorrelationId = new HashMap<>();
+    private final Map<String, String> inProgressCorrelationIdByFlow = new HashMap<>();
+    private final NavigableSet<ThrottledRequest> throttlingHeap;
+    private final Map<String, ThrottledRequest> throttledRequestByFlow = new HashMap<>();
+
     public RerouteQueueService(IRerouteQueueCarrier carrier, PersistenceManager persistenceManager,
                                int defaultFlowPriority, int maxRetry) {
         this.carrier = carrier;
@@ -79,6 +89,12 @@ public class RerouteQueueService {
         this.haFlowRepository = persistenceManager.getRepositoryFactory().createHaFlowRepository();
         this.defaultFlowPriority = defaultFlowPriority;
         this.maxRetry = maxRetry;
+
+        Comparator<FlowThrottlingData> comparator = ((Comparator<FlowThrottlingData>) this::comparePriority)
+                .thenComparing(this::compareAvailableBandwidth)
+                .thenComparing(this::compareTimeCreate);
+        this.throttlingHeap = new TreeSet<>(Comparator.comparing(ThrottledRequest::getData, comparator)
+                .thenComparing(ThrottledRequest::getFlowId));
     }
 
     /**
@@ -100,6 +116,7 @@ public class RerouteQueueService {
         log.info("Puts reroute request for flow {} with correlationId {}.", flowId, throttlingData.getCorrelationId());
         RerouteQueue rerouteQueue = getRerouteQueue(flowId);
         rerouteQueue.putToThrottling(throttlingData);
+        indexRerouteQueue(flowId, rerouteQueue);
         carrier.sendExtendTimeWindowEvent();
     }
 
@@ -134,6 +151,7 @@ public class RerouteQueueService {
             carrier.emitFlowRerouteError(errorData);
         } else {
             rerouteQueue.putToInProgress(throttlingData);
+            indexRerouteQueue(flowId, rerouteQueue);
             sendRerouteRequest(flowId, throttlingData);
         }
     }
@@ -157,6 +175,7 @@ public class RerouteQueueService {
 
         if (rerouteResultInfoData.isSuccess()) {
             FlowThrottlingData toSend = rerouteQueue.processPending();
+            indexRerouteQueue(flowId, rerouteQueue);
             sendRerouteRequest(flowId, toSend);
         } else {
             RerouteError rerouteError = rerouteResultInfoData.getRerouteError();
@@ -164,29 +183,38 @@ public class RerouteQueueService {
                 injectRetry(flowId, rerouteQueue, rerouteError instanceof NoPathFoundError);
             } else {
                 FlowThrottlingData toSend = rerouteQueue.processPending();
+                indexRerouteQueue(flowId, rerouteQueue);
                 sendRerouteRequest(flowId, toSend);
             }
         }
     }
 
     /**
-     * Move reroute requests form throttling to pending/in-progress.
+     * Move reroute requests form throttling to pending/in-progress. Only queues with throttled requests are visited,
+     * they are taken from the throttling heap in the order of priority, bandwidth and creation time.
      */
     public void flushThrottling() {
-        Map<String, FlowThrottlingData> requestsToSend = new HashMap<>();
-        reroutes.forEach((flowId, rerouteQueue) -> rerouteQueue.flushThrottling()
-                .ifPresent(flowThrottlingData -> requestsToSend.put(flowId, flowThrottlingData)));
-        log.info("Send reroute requests for flows {}", requestsToSend.keySet());
-        Comparator<FlowThrottlingData> comparator = ((Comparator<FlowThrottlingData>) this::comparePriority)
-                .thenComparing(this::compareAvailableBandwidth)
-                .thenComparing(this::compareTimeCreate);
-        requestsToSend.entrySet().stream()
-                .sorted(Map.Entry.comparingByValue(comparator))
-                .forEach(es -> {
-                    String flowId = es.getKey();
-                    FlowThrottlingData flowThrottlingData = es.getValue();
-                    sendRerouteRequest(flowId, flowThrottlingData);
-                });
+        long startTime = System.nanoTime();
+        int throttledCount = throttlingHeap.size();
+        List<String> sentFlowIds = new ArrayList<>();
+        ThrottledRequest throttled;
+        while ((throttled = throttlingHeap.pollFirst()) != null) {
+            String flowId = throttled.getFlowId();
+            throttledRequestByFlow.remove(flowId);
+            RerouteQueue rerouteQueue = getRerouteQueue(flowId);
+            Optional<FlowThrottlingData> toSend = rerouteQueue.flushThrottling();
+            indexRerouteQueue(flowId, rerouteQueue);
+            toSend.ifPresent(flowThrottlingData -> {
+                sentFlowIds.add(flowId);
+                sendRerouteRequest(flowId, flowThrottlingData);
+            });
+        }
+        log.info("Send reroute requests for flows {}", sentFlowIds);
+
+        Optional<MeterRegistry> registry = MeterRegistryHolder.getRegistry();
+        registry.ifPresent(r -> r.timer("queue.flush.execution")
+                .record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS));
+        registry.ifPresent(r -> r.counter("queue.flush.throttled").increment(throttledCount));
     }
 
     /**
@@ -196,16 +224,14 @@ public class RerouteQueueService {
      */
     public void handleTimeout(String correlationId) {
         log.warn("Reroute request with correlation id {} timed out.", correlationId);
-        List<Entry<String, RerouteQueue>> foundReroutes = reroutes.entrySet().stream()
-                .filter(es -> es.getValue().getInProgress() != null)
-                .filter(es -> correlationId.equals(es.getValue().getInProgress().getCorrelationId()))
-                .collect(Collectors.toList());
-        if (foundReroutes.isEmpty()) {
+        Set<String> foundFlowIds = new HashSet<>(
+                inProgressFlowsByCorrelationId.getOrDefault(correlationId, new HashSet<>()));
+        if (foundFlowIds.isEmpty()) {
             log.warn("No reroute with correlationId {} found. Timeout event skipped.", correlationId);
-        } else if (foundReroutes.size() > 1) {
+        } else if (foundFlowIds.size() > 1) {
             log.error("Found more than one reroute with correlationId {}. Timed out all of them.", correlationId);
         }
-        foundReroutes.forEach(entry -> injectRetry(entry.getKey(), entry.getValue(), false));
+        foundFlowIds.forEach(flowId -> injectRetry(flowId, getRerouteQueue(flowId), false));
     }
 
     private boolean isRetryRequired(String flowId, RerouteError rerouteError, FlowType flowType) {
@@ -249,10 +275,12 @@ public class RerouteQueueService {
                     .getCorrelationId();
             retryRequest.setCorrelationId(retryCorrelationId);
             FlowThrottlingData toSend = rerouteQueue.processRetryRequest(retryRequest, carrier);
+            indexRerouteQueue(flowId, rerouteQueue);
             sendRerouteRequest(flowId, toSend);
         } else {
             log.error("No more retries available for reroute request {}.", retryRequest);
             FlowThrottlingData toSend = rerouteQueue.processPending();
+            indexRerouteQueue(flowId, rerouteQueue);
             if (toSend != null) {
                 toSend.setIgnoreBandwidth(computeIgnoreBandwidth(toSend, ignoreBandwidth));
             }
@@ -297,11 +325,63 @@ public class RerouteQueueService {
         return reroutes.computeIfAbsent(flowId, key -> RerouteQueue.empty());
     }
 
+    /**
+     * Sync correlation id and throttling indexes with the current state of the reroute queue.
+     */
+    private void indexRerouteQueue(String flowId, RerouteQueue rerouteQueue) {
+        FlowThrottlingData inProgress = rerouteQueue.getInProgress();
+        String correlationId = inProgress != null ? inProgress.getCorrelationId() : null;
+        String indexedCorrelationId = inProgressCorrelationIdByFlow.get(flowId);
+        if (!Objects.equals(correlationId, indexedCorrelationId)) {
+            if (indexedCorrelationId != null) {
+                Set<String> flowIds = inProgressFlowsByCorrelationId.get(indexedCorrelationId);
+                flowIds.remove(flowId);
+                if (flowIds.isEmpty()) {
+                    inProgressFlowsByCorrelationId.remove(indexedCorrelationId);
+                }
+                inProgressCorrelationIdByFlow.remove(flowId);
+            }
+            if (correlationId != null) {
+                inProgressFlowsByCorrelationId.computeIfAbsent(correlationId, key -> new HashSet<>()).add(flowId);
+                inProgressCorrelationIdByFlow.put(flowId, correlationId);
+            }
+        }
+
+        FlowThrottlingData throttling = rerouteQueue.getThrottling();
+        ThrottledRequest indexedThrottling = throttledRequestByFlow.get(flowId);
+        if (indexedThrottling == null || indexedThrottling.getData() != throttling) {
+            if (indexedThrottling != null) {
+                throttlingHeap.remove(indexedThrottling);
+                throttledRequestByFlow.remove(flowId);
+            }
+            if (throttling != null) {
+                ThrottledRequest request = new ThrottledRequest(flowId, throttling);
+                throttlingHeap.add(request);
+                throttledRequestByFlow.put(flowId, request);
+            }
+        }
+
+    }
+
+    /**
+     * Register gauges of the in progress and throttled reroute requests count.
+     */
+    public void registerGauges(MeterRegistry registry) {
+        registry.gauge("queue.in_progress", inProgressCorrelationIdByFlow, Map::size);
+        registry.gauge("queue.throttling", throttledRequestByFlow, Map::size);
+    }
+
     @VisibleForTesting
     Map<String, RerouteQueue> getReroutes() {
         return reroutes;
     }
 
+    @VisibleForTesting
+    void putRerouteQueue(String flowId, RerouteQueue rerouteQueue) {
+        reroutes.put(flowId, rerouteQueue);
+        indexRerouteQueue(flowId, rerouteQueue);
+    }
+
     private int comparePriority(FlowThrottlingData throttlingDataA, FlowThrottlingData throttlingDataB) {
         Integer priorityA = Optional.ofNullable(throttlingDataA.getPriority()).orElse(defaultFlowPriority);
         Integer priorityB = Optional.ofNullable(throttlingDataB.getPriority()).orElse(defaultFlowPriority);
@@ -397,6 +477,12 @@ public class RerouteQueueService {
         return new HashSet<>();
     }
 
+    @Value
+    private static class ThrottledRequest {
+        String flowId;
+        FlowThrottlingData data;
+    }
+
     @Value
     private static class FlowInfo {
         boolean present;
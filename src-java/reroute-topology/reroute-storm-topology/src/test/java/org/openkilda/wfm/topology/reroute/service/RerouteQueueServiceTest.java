@@ -25,7 +25,9 @@ import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -57,6 +59,7 @@ import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.ArgumentMatcher;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
@@ -136,7 +139,7 @@ public class RerouteQueueServiceTest {
                 .reason("another reason")
                 .flowType(FlowType.FLOW)
                 .build();
-        rerouteQueueService.getReroutes().put(FLOW_ID, RerouteQueue.builder().throttling(first).build());
+        rerouteQueueService.putRerouteQueue(FLOW_ID, RerouteQueue.builder().throttling(first).build());
 
         FlowThrottlingData actual = getFlowThrottlingData(flow, CORRELATION_ID).build();
         rerouteQueueService.processAutomaticRequest(FLOW_ID, actual);
@@ -157,7 +160,7 @@ public class RerouteQueueServiceTest {
         RerouteQueue rerouteQueue = RerouteQueue.builder()
                 .throttling(throttling)
                 .build();
-        rerouteQueueService.getReroutes().put(FLOW_ID, rerouteQueue);
+        rerouteQueueService.putRerouteQueue(FLOW_ID, rerouteQueue);
 
         FlowThrottlingData actual = getFlowThrottlingData(flow, CORRELATION_ID).build();
         rerouteQueueService.processManualRequest(FLOW_ID, actual);
@@ -176,7 +179,7 @@ public class RerouteQueueServiceTest {
         RerouteQueue rerouteQueue = RerouteQueue.builder()
                 .throttling(throttling)
                 .build();
-        rerouteQueueService.getReroutes().put(YFLOW_ID, rerouteQueue);
+        rerouteQueueService.putRerouteQueue(YFLOW_ID, rerouteQueue);
 
         FlowThrottlingData actual = getFlowThrottlingData(yFlow, CORRELATION_ID).build();
         rerouteQueueService.processManualRequest(YFLOW_ID, actual);
@@ -219,7 +222,7 @@ public class RerouteQueueServiceTest {
         RerouteQueue rerouteQueue = RerouteQueue.builder()
                 .inProgress(inProgress)
                 .build();
-        rerouteQueueService.getReroutes().put(FLOW_ID, rerouteQueue);
+        rerouteQueueService.putRerouteQueue(FLOW_ID, rerouteQueue);
 
         FlowThrottlingData actual = getFlowThrottlingData(flow, CORRELATION_ID).build();
         rerouteQueueService.processManualRequest(FLOW_ID, actual);
@@ -264,7 +267,7 @@ public class RerouteQueueServiceTest {
                 .inProgress(inProgress)
                 .pending(pending)
                 .build();
-        rerouteQueueService.getReroutes().put(FLOW_ID, rerouteQueue);
+        rerouteQueueService.putRerouteQueue(FLOW_ID, rerouteQueue);
 
         RerouteResultInfoData rerouteResultInfoData = RerouteResultInfoData.builder()
                 .flowId(FLOW_ID)
@@ -285,7 +288,7 @@ public class RerouteQueueServiceTest {
         RerouteQueue rerouteQueue = RerouteQueue.builder()
                 .inProgress(inProgress)
                 .build();
-        rerouteQueueService.getReroutes().put(FLOW_ID, rerouteQueue);
+        rerouteQueueService.putRerouteQueue(FLOW_ID, rerouteQueue);
 
         RerouteResultInfoData rerouteResultInfoData = RerouteResultInfoData.builder()
                 .flowId(FLOW_ID)
@@ -310,7 +313,7 @@ public class RerouteQueueServiceTest {
         RerouteQueue rerouteQueue = RerouteQueue.builder()
                 .inProgress(inProgress)
                 .build();
-        rerouteQueueService.getReroutes().put(FLOW_ID, rerouteQueue);
+        rerouteQueueService.putRerouteQueue(FLOW_ID, rerouteQueue);
 
         RerouteResultInfoData rerouteResultInfoData = RerouteResultInfoData.builder()
                 .flowId(FLOW_ID)
@@ -342,7 +345,7 @@ public class RerouteQueueServiceTest {
                 .inProgress(inProgress)
                 .pending(pending)
                 .build();
-        rerouteQueueService.getReroutes().put(FLOW_ID, rerouteQueue);
+        rerouteQueueService.putRerouteQueue(FLOW_ID, rerouteQueue);
 
         RerouteResultInfoData rerouteResultInfoData = RerouteResultInfoData.builder()
                 .flowId(FLOW_ID)
@@ -380,7 +383,7 @@ public class RerouteQueueServiceTest {
                 .inProgress(inProgress)
                 .pending(pending)
                 .build();
-        rerouteQueueService.getReroutes().put(YFLOW_ID, rerouteQueue);
+        rerouteQueueService.putRerouteQueue(YFLOW_ID, rerouteQueue);
 
         RerouteResultInfoData rerouteResultInfoData = RerouteResultInfoData.builder()
                 .flowId(YFLOW_ID)
@@ -408,7 +411,7 @@ public class RerouteQueueServiceTest {
         RerouteQueue rerouteQueue = RerouteQueue.builder()
                 .throttling(throttling)
                 .build();
-        rerouteQueueService.getReroutes().put(FLOW_ID, rerouteQueue);
+        rerouteQueueService.putRerouteQueue(FLOW_ID, rerouteQueue);
 
         rerouteQueueService.flushThrottling();
 
@@ -441,9 +444,9 @@ public class RerouteQueueServiceTest {
         RerouteQueue thirdQueue = RerouteQueue.builder()
                 .throttling(third)
                 .build();
-        rerouteQueueService.getReroutes().put("third flow", thirdQueue);
-        rerouteQueueService.getReroutes().put("second flow", secondQueue);
-        rerouteQueueService.getReroutes().put("first flow", firstQueue);
+        rerouteQueueService.putRerouteQueue("third flow", thirdQueue);
+        rerouteQueueService.putRerouteQueue("second flow", secondQueue);
+        rerouteQueueService.putRerouteQueue("first flow", firstQueue);
 
         rerouteQueueService.flushThrottling();
 
@@ -452,6 +455,32 @@ public class RerouteQueueServiceTest {
         verify(carrier).sendRerouteRequest(any(String.class), eq(getFlowRerouteRequest("third flow", third)));
     }
 
+    @Test
+    public void shouldSendThrottledRequestsInPriorityOrderOnFlushWindowEvent() {
+        FlowThrottlingData low = getFlowThrottlingData(flow, "low").priority(300).build();
+        FlowThrottlingData high = getFlowThrottlingData(flow, "high").priority(1).build();
+        FlowThrottlingData older = getFlowThrottlingData(flow, "older").priority(200)
+                .timeCreate(Instant.now().minus(1, MINUTES)).build();
+        FlowThrottlingData newer = getFlowThrottlingData(flow, "newer").priority(200)
+                .timeCreate(Instant.now()).build();
+        rerouteQueueService.processAutomaticRequest(FLOW_ID, low);
+        rerouteQueueService.putRerouteQueue("high flow", RerouteQueue.builder().throttling(high).build());
+        rerouteQueueService.putRerouteQueue("newer flow", RerouteQueue.builder().throttling(newer).build());
+        rerouteQueueService.putRerouteQueue("older flow", RerouteQueue.builder().throttling(older).build());
+
+        rerouteQueueService.flushThrottling();
+
+        InOrder order = inOrder(carrier);
+        order.verify(carrier).sendRerouteRequest(eq("high"), any(FlowRerouteRequest.class));
+        order.verify(carrier).sendRerouteRequest(eq("older"), any(FlowRerouteRequest.class));
+        order.verify(carrier).sendRerouteRequest(eq("newer"), any(FlowRerouteRequest.class));
+        order.verify(carrier).sendRerouteRequest(eq("low"), any(FlowRerouteRequest.class));
+
+        // the throttling is empty after the flush, so the next flush sends nothing
+        rerouteQueueService.flushThrottling();
+        verify(carrier).sendRerouteRequest(eq("low"), any(FlowRerouteRequest.class));
+    }
+
     @Test
     public void shouldMergeThrottledAndPendingRequestOnFlushWindowEvent() {
         FlowThrottlingData inProgress = FlowThrottlingData.builder()
@@ -486,7 +515,7 @@ public class RerouteQueueServiceTest {
                 .pending(pending)
                 .throttling(throttling)
                 .build();
-        rerouteQueueService.getReroutes().put(FLOW_ID, rerouteQueue);
+        rerouteQueueService.putRerouteQueue(FLOW_ID, rerouteQueue);
 
         rerouteQueueService.flushThrottling();
 
@@ -511,7 +540,7 @@ public class RerouteQueueServiceTest {
         RerouteQueue rerouteQueue = RerouteQueue.builder()
                 .inProgress(inProgress)
                 .build();
-        rerouteQueueService.getReroutes().put(FLOW_ID, rerouteQueue);
+        rerouteQueueService.putRerouteQueue(FLOW_ID, rerouteQueue);
 
         rerouteQueueService.handleTimeout(CORRELATION_ID);
 
@@ -524,6 +553,27 @@ public class RerouteQueueServiceTest {
         verify(carrier).sendExtendTimeWindowEvent();
     }
 
+    @Test
+    public void shouldSkipTimeoutOfAlreadyHandledRerouteResult() {
+        FlowThrottlingData inProgress = getFlowThrottlingData(flow, CORRELATION_ID).build();
+        RerouteQueue rerouteQueue = RerouteQueue.builder()
+                .inProgress(inProgress)
+                .build();
+        rerouteQueueService.putRerouteQueue(FLOW_ID, rerouteQueue);
+        RerouteResultInfoData rerouteResultInfoData = RerouteResultInfoData.builder()
+                .flowId(FLOW_ID)
+                .success(true)
+                .flowType(FlowType.FLOW)
+                .build();
+        rerouteQueueService.processRerouteResult(rerouteResultInfoData, CORRELATION_ID);
+
+        rerouteQueueService.handleTimeout(CORRELATION_ID);
+
+        assertNull(rerouteQueue.getInProgress());
+        assertNull(rerouteQueue.getThrottling());
+        verify(carrier, never()).sendExtendTimeWindowEvent();
+    }
+
     @Test
     public void shouldNotInjectRetryWhenRetryCountIsExceeded() {
         FlowThrottlingData inProgress = getFlowThrottlingData(flow, CORRELATION_ID).build();
@@ -531,7 +581,7 @@ public class RerouteQueueServiceTest {
         RerouteQueue rerouteQueue = RerouteQueue.builder()
                 .inProgress(inProgress)
                 .build();
-        rerouteQueueService.getReroutes().put(FLOW_ID, rerouteQueue);
+        rerouteQueueService.putRerouteQueue(FLOW_ID, rerouteQueue);
 
         rerouteQueueService.handleTimeout(CORRELATION_ID);
 
@@ -39,6 +39,7 @@ import org.openkilda.server42.control.messaging.islrtt.ListIslPortsOnSwitch;
 import org.openkilda.server42.control.messaging.islrtt.ListIslsRequest;
 import org.openkilda.server42.control.messaging.islrtt.ListIslsResponse;
 import org.openkilda.server42.control.messaging.islrtt.RemoveIsl;
+import org.openkilda.server42.control.zeromq.AsyncZeroMqClient;
 import org.openkilda.server42.control.zeromq.ZeroMqClient;
 import org.openkilda.server42.messaging.FlowDirection;
 
@@ -78,6 +79,8 @@ public class Gate implements ConsumerSeekAware {
 
     private final ZeroMqClient zeroMqClient;
 
+    private final AsyncZeroMqClient asyncZeroMqClient;
+
     @Value("${openkilda.server42.control.kafka.topic.to_storm}")
     private String toStorm;
 
@@ -91,9 +94,11 @@ public class Gate implements ConsumerSeekAware {
 
     public Gate(@Autowired KafkaTemplate<String, Object> template,
                 @Autowired ZeroMqClient zeroMqClient,
+                @Autowired AsyncZeroMqClient asyncZeroMqClient,
                 @Autowired SwitchToVlanMapping switchToVlanMapping) {
         this.template = template;
         this.zeroMqClient = zeroMqClient;
+        this.asyncZeroMqClient = asyncZeroMqClient;
         this.switchToVlanMap = switchToVlanMapping.getVlan().entrySet().stream().flatMap(
                 vlanToSwitches -> vlanToSwitches.getValue().stream().map(
                         switchId -> new SimpleEntry<>(switchId, vlanToSwitches.getKey()))
@@ -129,12 +134,7 @@ public class Gate implements ConsumerSeekAware {
         FlowRttControl.AddFlow addFlow = FlowRttControl.AddFlow.newBuilder().setFlow(flow).build();
         builder.setType(Type.ADD_FLOW);
         builder.addCommand(Any.pack(addFlow));
-        CommandPacket packet = builder.build();
-        try {
-            zeroMqClient.send(packet);
-        } catch (InvalidProtocolBufferException e) {
-            log.error("Marshalling error on {}", data);
-        }
+        send(builder.build(), data);
     }
 
     @KafkaHandler
@@ -146,25 +146,14 @@ public class Gate implements ConsumerSeekAware {
         FlowRttControl.ClearFlowsFilter clearFlowsFilter = FlowRttControl.ClearFlowsFilter.newBuilder()
                 .setDstMac(switchId.toMacAddress()).build();
         builder.addCommand(Any.pack(clearFlowsFilter));
-        try {
-            zeroMqClient.send(builder.build());
-        } catch (InvalidProtocolBufferException e) {
-            log.error("Marshalling error on {}", data);
-        }
+        send(builder.build(), data);
     }
 
     @KafkaHandler
     void listen(ListFlowsRequest data,
                 @Header(KafkaHeaders.RECEIVED_MESSAGE_KEY) String switchIdKey) {
         CommandPacket commandPacket = getFlowListCommandPacket(switchIdKey);
-        try {
-            CommandPacketResponse serverResponse = zeroMqClient.send(commandPacket);
-
-            if (serverResponse == null) {
-                log.error("No response from server on {}", data.getHeaders().getCorrelationId());
-                return;
-            }
-
+        request(commandPacket, data, serverResponse -> {
             HashSet<String> flowList = new HashSet<>();
             for (Any any : serverResponse.getResponseList()) {
                 flowList.add(any.unpack(Flow.class).getFlowId());
@@ -175,9 +164,7 @@ public class Gate implements ConsumerSeekAware {
                     .flowIds(flowList).build();
 
             template.send(toStorm, response);
-        } catch (InvalidProtocolBufferException e) {
-            log.error("Marshalling error on {}", data);
-        }
+        });
     }
 
     @KafkaHandler
@@ -185,14 +172,7 @@ public class Gate implements ConsumerSeekAware {
                 @Header(KafkaHeaders.RECEIVED_MESSAGE_KEY) String switchIdKey) {
 
         CommandPacket commandPacket = getFlowListCommandPacket(switchIdKey);
-
-        try {
-            CommandPacketResponse serverResponse = zeroMqClient.send(commandPacket);
-            if (serverResponse == null) {
-                log.error("No response from server on {}", data.getHeaders().getCorrelationId());
-                return;
-            }
-
+        request(commandPacket, data, serverResponse -> {
             for (Any any : serverResponse.getResponseList()) {
                 String flowId = any.unpack(Flow.class).getFlowId();
                 if (!data.getFlowIds().contains(flowId)) {
@@ -200,10 +180,7 @@ public class Gate implements ConsumerSeekAware {
                     removeFlow(flowId, FlowDirection.REVERSE);
                 }
             }
-
-        } catch (InvalidProtocolBufferException e) {
-            log.error("Marshalling error on {}", data);
-        }
+        });
     }
 
     @KafkaHandler
@@ -213,21 +190,12 @@ public class Gate implements ConsumerSeekAware {
                 .setPacketGenerationIntervalInMs(data.getPacketGenerationIntervalInMs()).build();
         builder.setType(Type.PUSH_SETTINGS);
         builder.addCommand(Any.pack(pushSettings));
-        CommandPacket packet = builder.build();
-        try {
-            zeroMqClient.send(packet);
-        } catch (InvalidProtocolBufferException e) {
-            log.error("Marshalling error on {}", data);
-        }
+        send(builder.build(), data);
     }
 
     @KafkaHandler
     void listen(RemoveFlow data) {
-        try {
-            removeFlow(data.getFlowId(), data.getDirection());
-        } catch (InvalidProtocolBufferException e) {
-            log.error("Marshalling error on {}", data);
-        }
+        removeFlow(data.getFlowId(), data.getDirection());
     }
 
     @KafkaHandler
@@ -247,11 +215,7 @@ public class Gate implements ConsumerSeekAware {
                 .setHashCode(data.hashCode())
                 .build();
         builder.addCommand(Any.pack(addIsl));
-        try {
-            zeroMqClient.send(builder.build());
-        } catch (InvalidProtocolBufferException e) {
-            log.error("Marshalling error on {}", data, e);
-        }
+        send(builder.build(), data);
     }
 
     @KafkaHandler
@@ -262,11 +226,7 @@ public class Gate implements ConsumerSeekAware {
                 .setSwitchId(data.getSwitchId().toString())
                 .build();
         builder.addCommand(Any.pack(clearIslsFilter));
-        try {
-            zeroMqClient.send(builder.build());
-        } catch (InvalidProtocolBufferException e) {
-            log.error("Marshalling error on {}", data, e);
-        }
+        send(builder.build(), data);
     }
 
     @KafkaHandler
@@ -276,13 +236,7 @@ public class Gate implements ConsumerSeekAware {
         IslRttControl.ListIslsFilter listIslsFilter = IslRttControl.ListIslsFilter.newBuilder()
                 .setSwitchId(data.getSwitchId().toString()).build();
         builder.addCommand(Any.pack(listIslsFilter));
-        try {
-            CommandPacketResponse serverResponse = zeroMqClient.send(builder.build());
-            if (serverResponse == null) {
-                log.error("No response from server on {}", data.getHeaders().getCorrelationId());
-                return;
-            }
-
+        request(builder.build(), data, serverResponse -> {
             HashSet<Integer> portList = new HashSet<>();
             for (Any any : serverResponse.getResponseList()) {
                 portList.add(any.unpack(IslEndpoint.class).getPort());
@@ -294,9 +248,7 @@ public class Gate implements ConsumerSeekAware {
                     .ports(portList).build();
 
             template.send(toStorm, response);
-        } catch (InvalidProtocolBufferException e) {
-            log.error("Marshalling error on {}", data, e);
-        }
+        });
     }
 
     @KafkaHandler
@@ -306,22 +258,14 @@ public class Gate implements ConsumerSeekAware {
         IslRttControl.ListIslsFilter listIslsFilter = IslRttControl.ListIslsFilter.newBuilder()
                 .setSwitchId(data.getSwitchId().toString()).build();
         builder.addCommand(Any.pack(listIslsFilter));
-        try {
-            CommandPacketResponse serverResponse = zeroMqClient.send(builder.build());
-            if (serverResponse == null) {
-                log.error("No response from server on {}", data.getHeaders().getCorrelationId());
-                return;
-            }
-
+        request(builder.build(), data, serverResponse -> {
             for (Any any : serverResponse.getResponseList()) {
                 IslRttControl.IslEndpoint endpoint = any.unpack(IslRttControl.IslEndpoint.class);
                 if (!data.getIslPorts().contains(endpoint.getPort())) {
                     removeIsl(data.getSwitchId(), endpoint.getPort());
                 }
             }
-        } catch (InvalidProtocolBufferException e) {
-            log.error("Marshalling error on {}", data, e);
-        }
+        });
     }
 
     @KafkaHandler
@@ -329,7 +273,7 @@ public class Gate implements ConsumerSeekAware {
         removeIsl(data.getSwitchId(), data.getPort());
     }
 
-    private void removeFlow(String flowId, FlowDirection direction) throws InvalidProtocolBufferException {
+    private void removeFlow(String flowId, FlowDirection direction) {
         Builder builder = CommandPacket.newBuilder();
         Flow flow = Flow.newBuilder()
                 .setFlowId(flowId)
@@ -338,8 +282,7 @@ public class Gate implements ConsumerSeekAware {
         FlowRttControl.RemoveFlow removeFlow = FlowRttControl.RemoveFlow.newBuilder().setFlow(flow).build();
         builder.setType(Type.REMOVE_FLOW);
         builder.addCommand(Any.pack(removeFlow));
-        CommandPacket packet = builder.build();
-        zeroMqClient.send(packet);
+        send(builder.build(), flowId);
     }
 
     private CommandPacket getFlowListCommandPacket(String switchIdKey) {
@@ -361,10 +304,64 @@ public class Gate implements ConsumerSeekAware {
                 .setIsl(endpoint).build();
         builder.setType(Type.REMOVE_ISL);
         builder.addCommand(Any.pack(removeIsl));
+        send(builder.build(), endpoint);
+    }
+
+    /**
+     * Sends the packet to server42 without waiting for the result if the async client is enabled.
+     */
+    private void send(CommandPacket packet, Object data) {
+        if (asyncZeroMqClient.isEnabled()) {
+            asyncZeroMqClient.send(packet).whenComplete((response, error) -> {
+                if (error != null) {
+                    log.error("Unable to send {} to server: {}", data, error.getMessage());
+                }
+            });
+            return;
+        }
         try {
-            zeroMqClient.send(builder.build());
+            zeroMqClient.send(packet);
+        } catch (InvalidProtocolBufferException e) {
+            log.error("Marshalling error on {}", data, e);
+        }
+    }
+
+    /**
+     * Sends the packet to server42 and passes the reply to the handler. With the async client enabled the handler
+     * is called by the client I/O thread.
+     */
+    private void request(CommandPacket packet, Object data, ResponseHandler handler) {
+        if (asyncZeroMqClient.isEnabled()) {
+            asyncZeroMqClient.send(packet).whenComplete((response, error) -> {
+                if (error != null) {
+                    log.error("No response from server on {}: {}", data, error.getMessage());
+                } else {
+                    handleResponse(response, data, handler);
+                }
+            });
+            return;
+        }
+        try {
+            CommandPacketResponse serverResponse = zeroMqClient.send(packet);
+            if (serverResponse == null) {
+                log.error("No response from server on {}", data);
+                return;
+            }
+            handleResponse(serverResponse, data, handler);
+        } catch (InvalidProtocolBufferException e) {
+            log.error("Marshalling error on {}", data, e);
+        }
+    }
+
+    private void handleResponse(CommandPacketResponse response, Object data, ResponseHandler handler) {
+        try {
+            handler.handle(response);
         } catch (InvalidProtocolBufferException e) {
-            log.error("Marshalling error on {} / {}", switchId, port, e);
+            log.error("Marshalling error on response to {}", data, e);
         }
     }
+
+    private interface ResponseHandler {
+        void handle(CommandPacketResponse response) throws InvalidProtocolBufferException;
+    }
 }
@@ -0,0 +1,291 @@
+/* Copyright 2023 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.server42.control.zeromq;
+
+import org.openkilda.server42.control.messaging.Control.CommandPacket;
+import org.openkilda.server42.control.messaging.Control.CommandPacket.Type;
+import org.openkilda.server42.control.messaging.Control.CommandPacketResponse;
+
+import com.google.protobuf.InvalidProtocolBufferException;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.zeromq.ZContext;
+import org.zeromq.ZMQ;
+import org.zeromq.ZMQ.Poller;
+import org.zeromq.ZMQ.Socket;
+import org.zeromq.ZMQException;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeoutException;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+/**
+ * Pipelined client of the server42 control channel. Unlike {@link ZeroMqClient} it doesn't wait for a reply before
+ * the next request: requests are sent over a DEALER socket by a dedicated I/O thread, up to {@code maxInFlight} of
+ * them at once, and replies are matched to requests by the communication id.
+ *
+ * <p>Consecutive add/remove flow (ISL) commands are coalesced into one bulk packet of up to {@code bulkSize}
+ * commands. Only adjacent packets of the same type are merged, so the server sees commands in the original order.
+ */
+@Component
+@Slf4j
+public class AsyncZeroMqClient extends Thread {
+    private static final Set<Type> COALESCED_TYPES = EnumSet.of(
+            Type.ADD_FLOW, Type.REMOVE_FLOW, Type.ADD_ISL, Type.REMOVE_ISL);
+    private static final byte[] EMPTY_FRAME = new byte[0];
+
+    private final String serverEndpoint;
+    private final long requestTimeout;
+    private final long requestRetries;
+    private final boolean enabled;
+    private final int maxInFlight;
+    private final int bulkSize;
+    private final long pollInterval;
+
+    private final BlockingQueue<Request> queue = new LinkedBlockingQueue<>();
+
+    // Accessed by the I/O thread only.
+    private final Deque<Request> backlog = new ArrayDeque<>();
+    private final Map<Long, InFlight> inFlight = new HashMap<>();
+    private long lastCommunicationId;
+
+    private ZContext ctx;
+
+    public AsyncZeroMqClient(
+            @Value("${openkilda.server42.control.zeromq.server.endpoint}") String serverEndpoint,
+            @Value("${openkilda.server42.control.zeromq.request.timeout}") long requestTimeout,
+            @Value("${openkilda.server42.control.zeromq.request.retries}") long requestRetries,
+            @Value("${openkilda.server42.control.zeromq.async.enabled:false}") boolean enabled,
+            @Value("${openkilda.server42.control.zeromq.async.max_in_flight:64}") int maxInFlight,
+            @Value("${openkilda.server42.control.zeromq.async.bulk_size:500}") int bulkSize,
+            @Value("${openkilda.server42.control.zeromq.async.poll_interval:10}") long pollInterval) {
+        super("server42-control-zeromq-async");
+        this.serverEndpoint = serverEndpoint;
+        this.requestTimeout = requestTimeout;
+        this.requestRetries = requestRetries;
+        this.enabled = enabled;
+        this.maxInFlight = maxInFlight;
+        this.bulkSize = bulkSize;
+        this.pollInterval = pollInterval;
+        setDaemon(true);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @PostConstruct
+    void init() {
+        if (enabled) {
+            ctx = new ZContext();
+            start();
+        }
+    }
+
+    @PreDestroy
+    void clear() throws InterruptedException {
+        if (ctx != null) {
+            interrupt();
+            join(requestTimeout);
+            ctx.close();
+        }
+    }
+
+    /**
+     * Queues the packet for sending. The communication id of the packet is replaced with an id generated by the
+     * client.
+     *
+     * @return future of the server reply, it fails with {@link TimeoutException} if there is no reply after all
+     *     retries.
+     */
+    public CompletableFuture<CommandPacketResponse> send(CommandPacket commandPacket) {
+        CompletableFuture<CommandPacketResponse> future = new CompletableFuture<>();
+        if (!isAlive()) {
+            future.completeExceptionally(new IllegalStateException("Async server42 control client is not running"));
+        } else {
+            queue.add(new Request(commandPacket, future));
+        }
+        return future;
+    }
+
+    /**
+     * Sends queued requests and dispatches replies until the thread is interrupted.
+     */
+    @Override
+    public void run() {
+        log.info("started async client of {}", serverEndpoint);
+        while (!isInterrupted()) {
+            Socket socket = null;
+            Poller poller = null;
+            try {
+                socket = ctx.createSocket(ZMQ.DEALER);
+                socket.setLinger(0);
+                socket.connect(serverEndpoint);
+                poller = ctx.createPoller(1);
+                poller.register(socket, Poller.POLLIN);
+                log.info("connect to {}", serverEndpoint);
+
+                while (!isInterrupted()) {
+                    dispatch(socket);
+                    if (poller.poll(pollInterval) == -1) {
+                        break; //  Interrupted
+                    }
+                    if (poller.pollin(0)) {
+                        receive(socket);
+                    }
+                    checkTimeouts(socket, System.currentTimeMillis());
+                }
+            } catch (ZMQException ex) {
+                log.error(ex.toString());
+            } finally {
+                if (poller != null && socket != null) {
+                    poller.unregister(socket);
+                }
+                if (socket != null) {
+                    ctx.destroySocket(socket);
+                }
+            }
+        }
+        failAll(new IllegalStateException("Async server42 control client is stopped"));
+    }
+
+    private void dispatch(Socket socket) {
+        queue.drainTo(backlog);
+        long now = System.currentTimeMillis();
+        while (!backlog.isEmpty() && inFlight.size() < maxInFlight) {
+            Request first = backlog.poll();
+            CommandPacket.Builder builder = first.getPacket().toBuilder();
+            List<CompletableFuture<CommandPacketResponse>> futures = new ArrayList<>();
+            futures.add(first.getFuture());
+
+            Type type = first.getPacket().getType();
+            if (COALESCED_TYPES.contains(type)) {
+                while (!backlog.isEmpty() && backlog.peek().getPacket().getType() == type
+                        && builder.getCommandCount() + backlog.peek().getPacket().getCommandCount() <= bulkSize) {
+                    Request next = backlog.poll();
+                    builder.addAllCommand(next.getPacket().getCommandList());
+                    futures.add(next.getFuture());
+                }
+            }
+
+            long communicationId = ++lastCommunicationId;
+            byte[] payload = builder.setCommunicationId(communicationId).build().toByteArray();
+            inFlight.put(communicationId, new InFlight(payload, futures, now + requestTimeout, requestRetries - 1));
+            transmit(socket, payload);
+        }
+    }
+
+    private void receive(Socket socket) {
+        byte[] frame;
+        while ((frame = socket.recv(ZMQ.DONTWAIT)) != null) {
+            // REP peers prepend an empty delimiter frame, the reply is the last frame.
+            while (socket.hasReceiveMore()) {
+                frame = socket.recv();
+            }
+            if (frame.length == 0) {
+                continue;
+            }
+            try {
+                CommandPacketResponse response = CommandPacketResponse.parseFrom(frame);
+                InFlight request = inFlight.remove(response.getCommunicationId());
+                if (request == null) {
+                    log.debug("Ignore late reply with communication id {}", response.getCommunicationId());
+                } else {
+                    request.getFutures().forEach(future -> future.complete(response));
+                }
+            } catch (InvalidProtocolBufferException e) {
+                log.error("Marshalling error on server reply", e);
+            }
+        }
+    }
+
+    private void checkTimeouts(Socket socket, long now) {
+        Iterator<InFlight> iterator = inFlight.values().iterator();
+        while (iterator.hasNext()) {
+            InFlight request = iterator.next();
+            if (now < request.getDeadline()) {
+                continue;
+            }
+            if (request.getRetriesLeft() > 0) {
+                log.warn("no response from server, retrying");
+                request.retry(now + requestTimeout);
+                transmit(socket, request.getPayload());
+            } else {
+                log.error("server seems to be offline, abandoning request");
+                iterator.remove();
+                TimeoutException error = new TimeoutException("No response from server42");
+                request.getFutures().forEach(future -> future.completeExceptionally(error));
+            }
+        }
+    }
+
+    private void transmit(Socket socket, byte[] payload) {
+        // The empty delimiter frame makes the DEALER socket compatible with REP peers.
+        if (!socket.send(EMPTY_FRAME, ZMQ.SNDMORE | ZMQ.DONTWAIT) || !socket.send(payload, ZMQ.DONTWAIT)) {
+            log.debug("server is not reachable, the request will be retried on timeout");
+        }
+    }
+
+    private void failAll(Exception error) {
+        inFlight.values().forEach(request -> request.getFutures().forEach(
+                future -> future.completeExceptionally(error)));
+        inFlight.clear();
+        queue.drainTo(backlog);
+        backlog.forEach(request -> request.getFuture().completeExceptionally(error));
+        backlog.clear();
+    }
+
+    @lombok.Value
+    private static class Request {
+        CommandPacket packet;
+        CompletableFuture<CommandPacketResponse> future;
+    }
+
+    @Getter
+    private static class InFlight {
+        private final byte[] payload;
+        private final List<CompletableFuture<CommandPacketResponse>> futures;
+        private long deadline;
+        private long retriesLeft;
+
+        InFlight(byte[] payload, List<CompletableFuture<CommandPacketResponse>> futures, long deadline,
+                 long retriesLeft) {
+            this.payload = payload;
+            this.futures = futures;
+            this.deadline = deadline;
+            this.retriesLeft = retriesLeft;
+        }
+
+        void retry(long deadline) {
+            this.deadline = deadline;
+            retriesLeft--;
+        }
+    }
+}
@@ -44,6 +44,7 @@ import org.openkilda.server42.control.messaging.islrtt.IslRttControl.IslEndpoint
 import org.openkilda.server42.control.messaging.islrtt.ListIslsRequest;
 import org.openkilda.server42.control.messaging.islrtt.ListIslsResponse;
 import org.openkilda.server42.control.messaging.islrtt.RemoveIsl;
+import org.openkilda.server42.control.zeromq.AsyncZeroMqClient;
 import org.openkilda.server42.control.zeromq.ZeroMqClient;
 import org.openkilda.server42.messaging.FlowDirection;
 
@@ -70,6 +71,7 @@ import java.util.Map;
 @TestPropertySource("classpath:test.properties")
 @MockBean(value = {
         ZeroMqClient.class,
+        AsyncZeroMqClient.class,
         KafkaTemplate.class
 })
 public class GateTest {
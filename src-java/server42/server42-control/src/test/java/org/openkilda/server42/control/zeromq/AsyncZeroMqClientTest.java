@@ -0,0 +1,138 @@
+/* Copyright 2023 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.server42.control.zeromq;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.openkilda.server42.control.messaging.Control.CommandPacket;
+import org.openkilda.server42.control.messaging.Control.CommandPacket.Type;
+import org.openkilda.server42.control.messaging.Control.CommandPacketResponse;
+import org.openkilda.server42.control.messaging.flowrtt.FlowRttControl.AddFlow;
+import org.openkilda.server42.control.messaging.flowrtt.FlowRttControl.Flow;
+
+import com.google.protobuf.Any;
+import org.junit.After;
+import org.junit.Test;
+import org.zeromq.ZContext;
+import org.zeromq.ZMQ;
+import org.zeromq.ZMQ.Socket;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+public class AsyncZeroMqClientTest {
+    private ZContext serverContext;
+    private Thread server;
+    private AsyncZeroMqClient client;
+
+    @After
+    public void tearDown() throws Exception {
+        if (client != null) {
+            client.clear();
+        }
+        if (server != null) {
+            server.interrupt();
+            server.join(TimeUnit.SECONDS.toMillis(5));
+        }
+        if (serverContext != null) {
+            serverContext.close();
+        }
+    }
+
+    @Test
+    public void repliesAreMatchedToCoalescedRequests() throws Exception {
+        String endpoint = startEchoServer();
+        client = new AsyncZeroMqClient(endpoint, 5000, 3, true, 4, 50, 10);
+        client.init();
+
+        List<CompletableFuture<CommandPacketResponse>> futures = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            futures.add(client.send(makeAddFlow("flow-" + i)));
+        }
+
+        for (int i = 0; i < futures.size(); i++) {
+            CommandPacketResponse response = futures.get(i).get(10, TimeUnit.SECONDS);
+            List<String> flowIds = new ArrayList<>();
+            for (Any any : response.getResponseList()) {
+                flowIds.add(any.unpack(AddFlow.class).getFlow().getFlowId());
+            }
+            assertThat(flowIds).contains("flow-" + i);
+            assertThat(flowIds.size()).isLessThanOrEqualTo(50);
+        }
+    }
+
+    @Test
+    public void requestFailsWithoutServer() {
+        client = new AsyncZeroMqClient("tcp://127.0.0.1:1", 50, 2, true, 4, 50, 10);
+        client.init();
+
+        CompletableFuture<CommandPacketResponse> future = client.send(makeAddFlow("flow"));
+
+        assertThatThrownBy(() -> future.get(10, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(TimeoutException.class);
+    }
+
+    @Test
+    public void requestFailsIfDisabled() {
+        client = new AsyncZeroMqClient("tcp://127.0.0.1:1", 50, 2, false, 4, 50, 10);
+        client.init();
+
+        assertThat(client.send(makeAddFlow("flow"))).isCompletedExceptionally();
+    }
+
+    /**
+     * REP server that replies with the commands of the request, like the server stub replies with the flow list.
+     */
+    private String startEchoServer() {
+        serverContext = new ZContext();
+        Socket socket = serverContext.createSocket(ZMQ.REP);
+        socket.setReceiveTimeOut(100);
+        int port = socket.bindToRandomPort("tcp://127.0.0.1");
+        server = new Thread(() -> {
+            try {
+                while (!Thread.currentThread().isInterrupted()) {
+                    byte[] request = socket.recv();
+                    if (request == null) {
+                        continue;
+                    }
+                    CommandPacket packet = CommandPacket.parseFrom(request);
+                    socket.send(CommandPacketResponse.newBuilder()
+                            .setCommunicationId(packet.getCommunicationId())
+                            .addAllResponse(packet.getCommandList())
+                            .build().toByteArray());
+                }
+            } catch (Exception e) {
+                // server context is closed
+            }
+        });
+        server.start();
+        return "tcp://127.0.0.1:" + port;
+    }
+
+    private static CommandPacket makeAddFlow(String flowId) {
+        AddFlow addFlow = AddFlow.newBuilder().setFlow(Flow.newBuilder().setFlowId(flowId)).build();
+        return CommandPacket.newBuilder()
+                .setType(Type.ADD_FLOW)
+                .addCommand(Any.pack(addFlow))
+                .build();
+    }
+}
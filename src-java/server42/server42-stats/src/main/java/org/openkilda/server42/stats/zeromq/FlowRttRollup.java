@@ -0,0 +1,93 @@
+/* Copyright 2023 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.server42.stats.zeromq;
+
+import org.openkilda.messaging.info.stats.FlowRttStatsRollupData;
+
+import lombok.Value;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Accumulates min/avg/max RTT of each flow direction between flushes. Not thread safe, it is owned by the
+ * {@link StatsCollector} thread.
+ */
+class FlowRttRollup {
+    private static final long TEN_TO_NINE = 1_000_000_000;
+
+    private final Map<FlowDirectionKey, Accumulator> accumulators = new HashMap<>();
+
+    /**
+     * Adds a measurement, t0 and t1 are noviflow timestamps.
+     */
+    void add(String flowId, String direction, long t0, long t1) {
+        long t1Nanos = noviflowTimestamp(t1);
+        long rtt = t1Nanos - noviflowTimestamp(t0);
+        accumulators.computeIfAbsent(new FlowDirectionKey(flowId, direction), key -> new Accumulator())
+                .add(rtt, TimeUnit.NANOSECONDS.toMillis(t1Nanos));
+    }
+
+    boolean isEmpty() {
+        return accumulators.isEmpty();
+    }
+
+    /**
+     * Returns rollups of all accumulated flow directions and starts a new interval.
+     */
+    List<FlowRttStatsRollupData> flush() {
+        List<FlowRttStatsRollupData> result = new ArrayList<>(accumulators.size());
+        for (Map.Entry<FlowDirectionKey, Accumulator> entry : accumulators.entrySet()) {
+            Accumulator accumulator = entry.getValue();
+            result.add(new FlowRttStatsRollupData(
+                    entry.getKey().getFlowId(), entry.getKey().getDirection(), accumulator.timestamp,
+                    accumulator.min, accumulator.sum / accumulator.count, accumulator.max, accumulator.count));
+        }
+        accumulators.clear();
+        return result;
+    }
+
+    private static long noviflowTimestamp(long timestamp) {
+        long seconds = (timestamp >> 32);
+        long nanoseconds = (timestamp & 0xFFFFFFFFL);
+        return seconds * TEN_TO_NINE + nanoseconds;
+    }
+
+    @Value
+    private static class FlowDirectionKey {
+        String flowId;
+        String direction;
+    }
+
+    private static class Accumulator {
+        private long min = Long.MAX_VALUE;
+        private long max = Long.MIN_VALUE;
+        private long sum;
+        private int count;
+        private long timestamp;
+
+        void add(long rtt, long timestamp) {
+            min = Math.min(min, rtt);
+            max = Math.max(max, rtt);
+            sum += rtt;
+            count++;
+            this.timestamp = Math.max(this.timestamp, timestamp);
+        }
+    }
+}
@@ -18,7 +18,9 @@ package org.openkilda.server42.stats.zeromq;
 import static java.lang.String.format;
 
 import org.openkilda.messaging.info.InfoMessage;
+import org.openkilda.messaging.info.stats.FlowRttStatsBatchData;
 import org.openkilda.messaging.info.stats.FlowRttStatsData;
+import org.openkilda.messaging.info.stats.FlowRttStatsRollupData;
 import org.openkilda.messaging.info.stats.IslRttStatsData;
 import org.openkilda.server42.messaging.FlowDirection;
 import org.openkilda.server42.stats.messaging.Statistics.FlowLatencyPacket;
@@ -36,6 +38,10 @@ import org.zeromq.ZMQ;
 import org.zeromq.ZMQ.Socket;
 import zmq.ZError;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import javax.annotation.PostConstruct;
 import javax.annotation.PreDestroy;
 
@@ -53,6 +59,25 @@ public class StatsCollector extends Thread {
     @Value("${openkilda.server42.stats.kafka.topic.islrtt.to_storm}")
     private String islStatToStormTopic;
 
+    /**
+     * Send flow stats of a bucket as one kafka record per flow id range instead of one record per packet.
+     */
+    @Value("${openkilda.server42.stats.kafka.flowrtt.batch.enabled:false}")
+    private boolean flowStatBatchEnabled;
+
+    @Value("${openkilda.server42.stats.kafka.flowrtt.batch.key.ranges:16}")
+    private int flowStatBatchKeyRanges;
+
+    /**
+     * Interval of per flow min/avg/max rollups in batch mode, 0 means raw packets are sent.
+     */
+    @Value("${openkilda.server42.stats.kafka.flowrtt.rollup.interval.ms:0}")
+    private long flowStatRollupInterval;
+
+    private final FlowRttRollup flowRttRollup = new FlowRttRollup();
+    private long lastRollupFlush;
+    private long batchCounter;
+
     private String sessionId;
     private ZContext context;
 
@@ -63,6 +88,7 @@ public class StatsCollector extends Thread {
     @PostConstruct
     private void init() {
         context = new ZContext();
+        lastRollupFlush = System.currentTimeMillis();
         this.start();
     }
 
@@ -91,6 +117,7 @@ public class StatsCollector extends Thread {
                     log.debug("recv {}", recv);
                     if (recv == null && server.errno() == ZError.EAGAIN) {
                         log.debug("EAGAIN received");
+                        flushFlowRttRollup(System.currentTimeMillis());
                         break;
                     } else if (recv != null && recv.length == 0) {
                         log.debug("ping received");
@@ -128,18 +155,15 @@ public class StatsCollector extends Thread {
     void sendStats(LatencyPacketBucket latencyPacketBucket) throws InvalidProtocolBufferException {
 
         long currentTimeMillis = System.currentTimeMillis();
-        for (FlowLatencyPacket packet : latencyPacketBucket.getFlowLatencyPacketList()) {
-            FlowRttStatsData data = new FlowRttStatsData(
-                    packet.getFlowId(),
-                    FlowDirection.fromBoolean(packet.getDirection()).name().toLowerCase(),
-                    packet.getT0(),
-                    packet.getT1()
-            );
-
-            InfoMessage message = new InfoMessage(data, currentTimeMillis,
-                    format("stats42-%s-%d", sessionId, packet.getPacketId()));
-            log.debug("InfoMessage {}", message);
-            template.send(flowStatToStormTopic, packet.getFlowId(), message);
+        if (flowStatBatchEnabled) {
+            sendFlowStatsBatch(latencyPacketBucket, currentTimeMillis);
+        } else {
+            for (FlowLatencyPacket packet : latencyPacketBucket.getFlowLatencyPacketList()) {
+                InfoMessage message = new InfoMessage(makeFlowRttStatsData(packet), currentTimeMillis,
+                        format("stats42-%s-%d", sessionId, packet.getPacketId()));
+                log.debug("InfoMessage {}", message);
+                template.send(flowStatToStormTopic, packet.getFlowId(), message);
+            }
         }
 
         for (IslLatencyPacket packet : latencyPacketBucket.getIslLatencyPacketList()) {
@@ -158,4 +182,65 @@ public class StatsCollector extends Thread {
             template.send(islStatToStormTopic, key, message);
         }
     }
+
+    private void sendFlowStatsBatch(LatencyPacketBucket latencyPacketBucket, long currentTimeMillis) {
+        if (flowStatRollupInterval > 0) {
+            for (FlowLatencyPacket packet : latencyPacketBucket.getFlowLatencyPacketList()) {
+                flowRttRollup.add(packet.getFlowId(), makeDirection(packet), packet.getT0(), packet.getT1());
+            }
+            flushFlowRttRollup(currentTimeMillis);
+            return;
+        }
+
+        Map<Integer, List<FlowRttStatsData>> batches = new HashMap<>();
+        for (FlowLatencyPacket packet : latencyPacketBucket.getFlowLatencyPacketList()) {
+            batches.computeIfAbsent(getKeyRange(packet.getFlowId()), range -> new ArrayList<>())
+                    .add(makeFlowRttStatsData(packet));
+        }
+        for (Map.Entry<Integer, List<FlowRttStatsData>> entry : batches.entrySet()) {
+            sendFlowStatsBatch(entry.getKey(), new FlowRttStatsBatchData(entry.getValue(), null), currentTimeMillis);
+        }
+    }
+
+    /**
+     * Sends accumulated flow RTT rollups if the rollup interval has passed since the previous flush.
+     */
+    void flushFlowRttRollup(long currentTimeMillis) {
+        if (!flowStatBatchEnabled || flowStatRollupInterval <= 0
+                || currentTimeMillis - lastRollupFlush < flowStatRollupInterval) {
+            return;
+        }
+        lastRollupFlush = currentTimeMillis;
+        if (flowRttRollup.isEmpty()) {
+            return;
+        }
+
+        Map<Integer, List<FlowRttStatsRollupData>> batches = new HashMap<>();
+        for (FlowRttStatsRollupData rollup : flowRttRollup.flush()) {
+            batches.computeIfAbsent(getKeyRange(rollup.getFlowId()), range -> new ArrayList<>()).add(rollup);
+        }
+        for (Map.Entry<Integer, List<FlowRttStatsRollupData>> entry : batches.entrySet()) {
+            sendFlowStatsBatch(entry.getKey(), new FlowRttStatsBatchData(null, entry.getValue()), currentTimeMillis);
+        }
+    }
+
+    private void sendFlowStatsBatch(int keyRange, FlowRttStatsBatchData data, long currentTimeMillis) {
+        InfoMessage message = new InfoMessage(data, currentTimeMillis,
+                format("stats42-%s-batch-%d", sessionId, batchCounter++));
+        log.debug("InfoMessage {}", message);
+        template.send(flowStatToStormTopic, format("flowrtt-batch-%d", keyRange), message);
+    }
+
+    private int getKeyRange(String flowId) {
+        // All packets of a flow fall into the same range, so they keep their order within a kafka partition.
+        return Math.floorMod(flowId.hashCode(), flowStatBatchKeyRanges);
+    }
+
+    private static FlowRttStatsData makeFlowRttStatsData(FlowLatencyPacket packet) {
+        return new FlowRttStatsData(packet.getFlowId(), makeDirection(packet), packet.getT0(), packet.getT1());
+    }
+
+    private static String makeDirection(FlowLatencyPacket packet) {
+        return FlowDirection.fromBoolean(packet.getDirection()).name().toLowerCase();
+    }
 }
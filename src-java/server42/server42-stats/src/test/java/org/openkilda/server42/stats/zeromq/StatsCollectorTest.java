@@ -16,11 +16,16 @@
 package org.openkilda.server42.stats.zeromq;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import org.openkilda.messaging.info.InfoMessage;
+import org.openkilda.messaging.info.stats.FlowRttStatsBatchData;
 import org.openkilda.messaging.info.stats.FlowRttStatsData;
+import org.openkilda.messaging.info.stats.FlowRttStatsRollupData;
 import org.openkilda.server42.stats.messaging.Statistics.FlowLatencyPacket;
 import org.openkilda.server42.stats.messaging.Statistics.LatencyPacketBucket;
 import org.openkilda.server42.stats.messaging.Statistics.LatencyPacketBucket.Builder;
@@ -35,6 +40,9 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
 
 @RunWith(SpringRunner.class)
 @SpringBootTest(classes = {StatsCollector.class})
@@ -101,4 +109,71 @@ public class StatsCollectorTest {
                 .extracting(FlowRttStatsData::getDirection)
                 .isEqualTo("reverse");
     }
+
+    @Test
+    public void sendStatsBatchTest() throws Exception {
+        ReflectionTestUtils.setField(statsCollector, "flowStatBatchEnabled", true);
+        ReflectionTestUtils.setField(statsCollector, "flowStatBatchKeyRanges", 1);
+        try {
+            statsCollector.sendStats(LatencyPacketBucket.newBuilder()
+                    .addFlowLatencyPacket(makePacket("some-flow-id-1", 1, 100, 150))
+                    .addFlowLatencyPacket(makePacket("some-flow-id-2", 2, 200, 250))
+                    .build());
+        } finally {
+            ReflectionTestUtils.setField(statsCollector, "flowStatBatchEnabled", false);
+        }
+
+        ArgumentCaptor<InfoMessage> argument = ArgumentCaptor.forClass(InfoMessage.class);
+        verify(template, times(1)).send(eq(toStorm), eq("flowrtt-batch-0"), argument.capture());
+
+        FlowRttStatsBatchData batch = (FlowRttStatsBatchData) argument.getValue().getData();
+        assertThat(batch.getRollups()).isNull();
+        assertThat(batch.getStats())
+                .extracting(FlowRttStatsData::getFlowId)
+                .containsExactly("some-flow-id-1", "some-flow-id-2");
+    }
+
+    @Test
+    public void sendStatsRollupTest() throws Exception {
+        ReflectionTestUtils.setField(statsCollector, "flowStatBatchEnabled", true);
+        ReflectionTestUtils.setField(statsCollector, "flowStatBatchKeyRanges", 1);
+        ReflectionTestUtils.setField(statsCollector, "flowStatRollupInterval", Long.MAX_VALUE);
+        try {
+            statsCollector.sendStats(LatencyPacketBucket.newBuilder()
+                    .addFlowLatencyPacket(makePacket("some-flow-id-1", 1, 100, 150))
+                    .addFlowLatencyPacket(makePacket("some-flow-id-1", 2, 200, 300))
+                    .build());
+            verify(template, never()).send(any(), any(), any());
+
+            ReflectionTestUtils.setField(statsCollector, "flowStatRollupInterval", 1L);
+            statsCollector.flushFlowRttRollup(System.currentTimeMillis());
+        } finally {
+            ReflectionTestUtils.setField(statsCollector, "flowStatBatchEnabled", false);
+            ReflectionTestUtils.setField(statsCollector, "flowStatRollupInterval", 0L);
+        }
+
+        ArgumentCaptor<InfoMessage> argument = ArgumentCaptor.forClass(InfoMessage.class);
+        verify(template, times(1)).send(eq(toStorm), eq("flowrtt-batch-0"), argument.capture());
+
+        FlowRttStatsBatchData batch = (FlowRttStatsBatchData) argument.getValue().getData();
+        assertThat(batch.getStats()).isNull();
+        List<FlowRttStatsRollupData> rollups = batch.getRollups();
+        assertThat(rollups).hasSize(1);
+        assertThat(rollups.get(0)).extracting(
+                FlowRttStatsRollupData::getFlowId,
+                FlowRttStatsRollupData::getMin,
+                FlowRttStatsRollupData::getAvg,
+                FlowRttStatsRollupData::getMax,
+                FlowRttStatsRollupData::getCount)
+                .containsExactly("some-flow-id-1", 50L, 75L, 100L, 2);
+    }
+
+    private static FlowLatencyPacket makePacket(String flowId, long packetId, long t0, long t1) {
+        return FlowLatencyPacket.newBuilder()
+                .setFlowId(flowId)
+                .setDirection(false)
+                .setT0(t0)
+                .setT1(t1)
+                .setPacketId(packetId).build();
+    }
 }
@@ -0,0 +1,51 @@
+/* Copyright 2023 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.messaging.info.stats;
+
+import org.openkilda.messaging.info.InfoData;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+
+import java.util.List;
+
+/**
+ * A batch of server42 flow RTT measurements. It carries either raw packets of one server42 bucket or per flow
+ * rollups of several buckets, both of them belong to a single range of flow ids.
+ */
+@Value
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonPropertyOrder({"stats", "rollups"})
+@EqualsAndHashCode(callSuper = false)
+public class FlowRttStatsBatchData extends InfoData {
+
+    private static final long serialVersionUID = 1L;
+
+    @JsonProperty("stats")
+    private List<FlowRttStatsData> stats;
+
+    @JsonProperty("rollups")
+    private List<FlowRttStatsRollupData> rollups;
+
+    public FlowRttStatsBatchData(@JsonProperty("stats") List<FlowRttStatsData> stats,
+                                 @JsonProperty("rollups") List<FlowRttStatsRollupData> rollups) {
+        this.stats = stats;
+        this.rollups = rollups;
+    }
+}
@@ -0,0 +1,76 @@
+/* Copyright 2023 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.messaging.info.stats;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import lombok.Builder;
+import lombok.Value;
+
+import java.io.Serializable;
+
+/**
+ * Min/avg/max flow RTT in nanoseconds of one flow direction over a rollup interval.
+ */
+@Value
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonPropertyOrder({"flow_id", "direction", "timestamp", "min", "avg", "max", "count"})
+public class FlowRttStatsRollupData implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    @JsonProperty("flow_id")
+    private String flowId;
+
+    @JsonProperty("direction")
+    private String direction;
+
+    /**
+     * Time of the latest measurement in the rollup, in milliseconds.
+     */
+    @JsonProperty("timestamp")
+    private long timestamp;
+
+    @JsonProperty("min")
+    private long min;
+
+    @JsonProperty("avg")
+    private long avg;
+
+    @JsonProperty("max")
+    private long max;
+
+    @JsonProperty("count")
+    private int count;
+
+    public FlowRttStatsRollupData(@JsonProperty("flow_id") String flowId,
+                                  @JsonProperty("direction") String direction,
+                                  @JsonProperty("timestamp") long timestamp,
+                                  @JsonProperty("min") long min,
+                                  @JsonProperty("avg") long avg,
+                                  @JsonProperty("max") long max,
+                                  @JsonProperty("count") int count) {
+        this.flowId = flowId;
+        this.direction = direction;
+        this.timestamp = timestamp;
+        this.min = min;
+        this.avg = avg;
+        this.max = max;
+        this.count = count;
+    }
+}
@@ -17,13 +17,17 @@ package org.openkilda.wfm.topology.stats.bolts.metrics;
 
 import static org.openkilda.wfm.share.utils.TimestampHelper.noviflowTimestamp;
 
+import org.openkilda.messaging.info.InfoData;
 import org.openkilda.messaging.info.InfoMessage;
+import org.openkilda.messaging.info.stats.FlowRttStatsBatchData;
 import org.openkilda.messaging.info.stats.FlowRttStatsData;
+import org.openkilda.messaging.info.stats.FlowRttStatsRollupData;
 import org.openkilda.wfm.share.zk.ZkStreams;
 import org.openkilda.wfm.share.zk.ZooKeeperBolt;
 import org.openkilda.wfm.topology.utils.KafkaRecordTranslator;
 
 import com.google.common.collect.ImmutableMap;
+import lombok.extern.slf4j.Slf4j;
 import org.apache.storm.topology.OutputFieldsDeclarer;
 import org.apache.storm.tuple.Fields;
 import org.apache.storm.tuple.Tuple;
@@ -31,6 +35,7 @@ import org.apache.storm.tuple.Tuple;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
+@Slf4j
 public class FlowRttMetricGenBolt extends MetricGenBolt {
     public static final String ZOOKEEPER_STREAM = ZkStreams.ZK.toString();
 
@@ -42,21 +47,50 @@ public class FlowRttMetricGenBolt extends MetricGenBolt {
     protected void handleInput(Tuple input) throws Exception {
         if (active) {
             InfoMessage message = (InfoMessage) input.getValueByField(KafkaRecordTranslator.FIELD_ID_PAYLOAD);
-            FlowRttStatsData data = (FlowRttStatsData) message.getData();
-            Map<String, String> tags = ImmutableMap.of(
-                    "direction", data.getDirection(),
-                    "flowid", data.getFlowId(),
-                    "origin", "server42"
-            );
+            InfoData data = message.getData();
+            if (data instanceof FlowRttStatsData) {
+                handleStats((FlowRttStatsData) data);
+            } else if (data instanceof FlowRttStatsBatchData) {
+                handleBatch((FlowRttStatsBatchData) data);
+            } else {
+                log.error("Unhandled input data {}", data);
+            }
+        }
+    }
 
-            long t0 = noviflowTimestamp(data.getT0());
-            long t1 = noviflowTimestamp(data.getT1());
+    private void handleBatch(FlowRttStatsBatchData data) {
+        if (data.getStats() != null) {
+            data.getStats().forEach(this::handleStats);
+        }
+        if (data.getRollups() != null) {
+            data.getRollups().forEach(this::handleRollup);
+        }
+    }
 
-            // We decided to use t1 time as a timestamp for Datapoint.
-            long timestamp = TimeUnit.NANOSECONDS.toMillis(t1);
+    private void handleStats(FlowRttStatsData data) {
+        long t0 = noviflowTimestamp(data.getT0());
+        long t1 = noviflowTimestamp(data.getT1());
 
-            emitMetric("flow.rtt", timestamp, t1 - t0, tags);
-        }
+        // We decided to use t1 time as a timestamp for Datapoint.
+        long timestamp = TimeUnit.NANOSECONDS.toMillis(t1);
+
+        emitMetric("flow.rtt", timestamp, t1 - t0, makeTags(data.getFlowId(), data.getDirection()));
+    }
+
+    private void handleRollup(FlowRttStatsRollupData data) {
+        Map<String, String> tags = makeTags(data.getFlowId(), data.getDirection());
+        // Average keeps the existing flow.rtt metric continuous when server42-stats switches to rollups.
+        emitMetric("flow.rtt", data.getTimestamp(), data.getAvg(), tags);
+        emitMetric("flow.rtt.min", data.getTimestamp(), data.getMin(), tags);
+        emitMetric("flow.rtt.max", data.getTimestamp(), data.getMax(), tags);
+    }
+
+    private static Map<String, String> makeTags(String flowId, String direction) {
+        return ImmutableMap.of(
+                "direction", direction,
+                "flowid", flowId,
+                "origin", "server42"
+        );
     }
 
     @Override
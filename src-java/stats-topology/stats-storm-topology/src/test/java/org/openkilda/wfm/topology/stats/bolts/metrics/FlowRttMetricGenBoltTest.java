@@ -0,0 +1,156 @@
+/* Copyright 2023 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.wfm.topology.stats.bolts.metrics;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.openkilda.wfm.share.utils.TimestampHelper.noviflowTimestamp;
+import static org.openkilda.wfm.share.zk.ZooKeeperSpout.FIELD_ID_LIFECYCLE_EVENT;
+import static org.openkilda.wfm.topology.utils.KafkaRecordTranslator.FIELD_ID_PAYLOAD;
+
+import org.openkilda.bluegreen.LifecycleEvent;
+import org.openkilda.bluegreen.Signal;
+import org.openkilda.messaging.info.Datapoint;
+import org.openkilda.messaging.info.InfoData;
+import org.openkilda.messaging.info.InfoMessage;
+import org.openkilda.messaging.info.stats.FlowRttStatsBatchData;
+import org.openkilda.messaging.info.stats.FlowRttStatsData;
+import org.openkilda.messaging.info.stats.FlowRttStatsRollupData;
+import org.openkilda.wfm.share.zk.ZkStreams;
+import org.openkilda.wfm.share.zk.ZooKeeperSpout;
+
+import com.google.common.collect.ImmutableMap;
+import org.apache.storm.task.OutputCollector;
+import org.apache.storm.task.TopologyContext;
+import org.apache.storm.tuple.Fields;
+import org.apache.storm.tuple.Tuple;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@RunWith(MockitoJUnitRunner.class)
+public class FlowRttMetricGenBoltTest {
+    private static final String METRIC_PREFIX = "kilda.";
+    private static final String FLOW_ID_1 = "flow1";
+    private static final String FLOW_ID_2 = "flow2";
+    private static final String FORWARD = "forward";
+    private static final String REVERSE = "reverse";
+
+    @Mock
+    private TopologyContext topologyContext;
+    @Mock
+    private OutputCollector output;
+    @Mock
+    private Tuple input;
+    @Mock
+    private Tuple startTuple;
+
+    private FlowRttMetricGenBolt bolt;
+
+    @Before
+    public void setup() {
+        when(topologyContext.getThisTaskId()).thenReturn(1);
+        when(input.getSourceComponent()).thenReturn("server42-stats-spout");
+        when(input.getFields()).thenReturn(new Fields());
+        when(startTuple.getSourceComponent()).thenReturn(ZooKeeperSpout.SPOUT_ID);
+        when(startTuple.getValueByField(FIELD_ID_LIFECYCLE_EVENT))
+                .thenReturn(LifecycleEvent.builder().signal(Signal.START).build());
+        when(startTuple.getFields()).thenReturn(new Fields());
+
+        bolt = new FlowRttMetricGenBolt(METRIC_PREFIX, ZooKeeperSpout.SPOUT_ID);
+        bolt.prepare(Collections.emptyMap(), topologyContext, output);
+        bolt.execute(startTuple);
+        verify(output).emit(eq(ZkStreams.ZK.toString()), any(Tuple.class), anyList());
+    }
+
+    @Test
+    public void singleFlowRttStats() {
+        long t0 = (100L << 32) + 1000;
+        long t1 = (100L << 32) + 5000;
+        execute(new FlowRttStatsData(FLOW_ID_1, FORWARD, t0, t1));
+
+        List<Datapoint> datapoints = captureDatapoints(1);
+        assertDatapoint(datapoints.get(0), "flow.rtt", FLOW_ID_1, FORWARD,
+                noviflowTimestamp(t1) - noviflowTimestamp(t0));
+    }
+
+    @Test
+    public void flowRttStatsBatch() {
+        long t0 = (100L << 32) + 1000;
+        long t1 = (100L << 32) + 5000;
+        long t2 = (100L << 32) + 9000;
+        execute(new FlowRttStatsBatchData(Arrays.asList(
+                new FlowRttStatsData(FLOW_ID_1, FORWARD, t0, t1),
+                new FlowRttStatsData(FLOW_ID_2, REVERSE, t0, t2)), null));
+
+        List<Datapoint> datapoints = captureDatapoints(2);
+        assertDatapoint(datapoints.get(0), "flow.rtt", FLOW_ID_1, FORWARD,
+                noviflowTimestamp(t1) - noviflowTimestamp(t0));
+        assertDatapoint(datapoints.get(1), "flow.rtt", FLOW_ID_2, REVERSE,
+                noviflowTimestamp(t2) - noviflowTimestamp(t0));
+    }
+
+    @Test
+    public void flowRttRollupBatch() {
+        execute(new FlowRttStatsBatchData(null, Collections.singletonList(
+                new FlowRttStatsRollupData(FLOW_ID_1, FORWARD, 1000, 10, 20, 30, 3))));
+
+        List<Datapoint> datapoints = captureDatapoints(3);
+        assertDatapoint(datapoints.get(0), "flow.rtt", FLOW_ID_1, FORWARD, 20);
+        assertDatapoint(datapoints.get(1), "flow.rtt.min", FLOW_ID_1, FORWARD, 10);
+        assertDatapoint(datapoints.get(2), "flow.rtt.max", FLOW_ID_1, FORWARD, 30);
+        for (Datapoint datapoint : datapoints) {
+            assertEquals(Long.valueOf(1000), datapoint.getTime());
+        }
+    }
+
+    private void execute(InfoData data) {
+        when(input.getValueByField(FIELD_ID_PAYLOAD)).thenReturn(new InfoMessage(data, 0, "test"));
+        bolt.execute(input);
+        verify(output).ack(input);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Datapoint> captureDatapoints(int count) {
+        ArgumentCaptor<List<Object>> values = ArgumentCaptor.forClass(List.class);
+        verify(output, times(count)).emit(values.capture());
+        return values.getAllValues().stream()
+                .map(entry -> (Datapoint) entry.get(0))
+                .collect(Collectors.toList());
+    }
+
+    private static void assertDatapoint(Datapoint datapoint, String metric, String flowId, String direction,
+                                        long value) {
+        Map<String, String> tags = ImmutableMap.of("direction", direction, "flowid", flowId, "origin", "server42");
+        assertEquals(METRIC_PREFIX + metric, datapoint.getMetric());
+        assertEquals(tags, datapoint.getTags());
+        assertEquals(value, datapoint.getValue().longValue());
+    }
+}
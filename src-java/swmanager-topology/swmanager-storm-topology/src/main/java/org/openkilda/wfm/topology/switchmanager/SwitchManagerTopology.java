@@ -20,7 +20,6 @@ import org.openkilda.persistence.PersistenceManager;
 import org.openkilda.rulemanager.RuleManagerConfig;
 import org.openkilda.wfm.LaunchEnvironment;
 import org.openkilda.wfm.kafka.AbstractMessageSerializer;
-import org.openkilda.wfm.share.hubandspoke.CoordinatorBolt;
 import org.openkilda.wfm.share.hubandspoke.CoordinatorSpout;
 import org.openkilda.wfm.share.hubandspoke.HubBolt;
 import org.openkilda.wfm.share.hubandspoke.WorkerBolt;
@@ -69,11 +68,8 @@ public class SwitchManagerTopology extends AbstractTopology<SwitchManagerTopolog
                 getZookeeperConfig());
         declareSpout(builder, zooKeeperSpout, ZooKeeperSpout.SPOUT_ID);
 
+        // Hub and worker track their timeouts themselves, so only ticks of the coordinator spout are required.
         declareSpout(builder, new CoordinatorSpout(), CoordinatorSpout.ID);
-        declareBolt(builder, new CoordinatorBolt(), CoordinatorBolt.ID)
-                .allGrouping(CoordinatorSpout.ID)
-                .fieldsGrouping(SwitchManagerHub.ID, CoordinatorBolt.INCOME_STREAM, FIELDS_KEY)
-                .fieldsGrouping(SpeakerWorkerBolt.ID, CoordinatorBolt.INCOME_STREAM, FIELDS_KEY);
 
         PersistenceManager persistenceManager = new PersistenceManager(configurationProvider);
 
@@ -82,6 +78,7 @@ public class SwitchManagerTopology extends AbstractTopology<SwitchManagerTopolog
                 .workerComponent(SpeakerWorkerBolt.ID)
                 .lifeCycleEventComponent(ZooKeeperSpout.SPOUT_ID)
                 .timeoutMs((int) TimeUnit.SECONDS.toMillis(topologyConfig.getProcessTimeout()))
+                .embeddedTimeouts(true)
                 .build();
         List<String> inputTopics = Lists.newArrayList(topologyConfig.getKafkaSwitchManagerNbTopic(),
                 topologyConfig.getKafkaSwitchManagerNetworkTopic(),
@@ -94,7 +91,7 @@ public class SwitchManagerTopology extends AbstractTopology<SwitchManagerTopolog
                 .fieldsGrouping(HUB_SPOUT, FIELDS_KEY)
                 .directGrouping(HeavyOperationBolt.ID, SwitchManagerHub.INCOME_STREAM)
                 .directGrouping(SpeakerWorkerBolt.ID, SwitchManagerHub.INCOME_STREAM)
-                .directGrouping(CoordinatorBolt.ID);
+                .allGrouping(CoordinatorSpout.ID);
 
         WorkerBolt.Config speakerWorkerConfig = WorkerBolt.Config.builder()
                 .hubComponent(SwitchManagerHub.ID)
@@ -102,6 +99,7 @@ public class SwitchManagerTopology extends AbstractTopology<SwitchManagerTopolog
                 .workerSpoutComponent(WORKER_SPOUT)
                 .workerSpoutComponent(WORKER_RESPONSE_SPOUT)
                 .defaultTimeout((int) TimeUnit.SECONDS.toMillis(topologyConfig.getOperationTimeout()))
+                .embeddedTimeouts(true)
                 .build();
         declareKafkaSpout(builder, Lists.newArrayList(topologyConfig.getKafkaSwitchManagerTopic(),
                 topologyConfig.getGrpcResponseTopic()), WORKER_SPOUT);
@@ -114,7 +112,7 @@ public class SwitchManagerTopology extends AbstractTopology<SwitchManagerTopolog
                 .fieldsGrouping(WORKER_RESPONSE_SPOUT, FIELDS_KEY)
                 .fieldsGrouping(SwitchManagerHub.ID, SpeakerWorkerBolt.INCOME_STREAM, FIELDS_KEY)
                 .fieldsGrouping(SwitchManagerHub.ID, SpeakerWorkerBolt.OF_COMMANDS_INCOME_STREAM, FIELDS_KEY)
-                .directGrouping(CoordinatorBolt.ID);
+                .allGrouping(CoordinatorSpout.ID);
 
         declareBolt(builder, new HeavyOperationBolt(
                 persistenceManager, configurationProvider.getConfiguration(RuleManagerConfig.class)),
@@ -35,7 +35,7 @@ import org.openkilda.model.FlowPathDirection;
 import org.openkilda.model.FlowPathStatus;
 import org.openkilda.model.GroupId;
 import org.openkilda.model.Meter;
-import org.openkilda.model.MeterId;
+import org.openkilda.model.MirrorGroup;
 import org.openkilda.model.PathId;
 import org.openkilda.model.Switch;
 import org.openkilda.model.SwitchId;
@@ -85,7 +85,6 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
-import java.util.Optional;
 import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -345,9 +344,11 @@ public class ValidationServiceImpl implements ValidationService {
         properGroups.sort(Comparator.comparing(GroupInfoEntryV2::getGroupId));
 
         if (includeFlowInfo) {
+            Map<GroupId, MirrorGroup> mirrorGroups = mirrorGroupRepository.findBySwitchId(switchId).stream()
+                    .collect(Collectors.toMap(MirrorGroup::getGroupId, Function.identity(), (first, second) -> first));
             concatStreams(missingGroups.stream(), properGroups.stream(),
                     misconfiguredGroups.stream().map(MisconfiguredInfo::getExpected))
-                    .forEach(group -> addGroupFlowInfo(switchId, group));
+                    .forEach(group -> addGroupFlowInfo(group, mirrorGroups));
         }
     }
 
@@ -383,9 +384,16 @@ public class ValidationServiceImpl implements ValidationService {
         });
 
         if (includeFlowInfo) {
-            concatStreams(missingRules.stream(), properRules.stream(),
+            List<RuleInfoEntryV2> rules = concatStreams(missingRules.stream(), properRules.stream(),
                     misconfiguredRules.stream().map(MisconfiguredInfo::getExpected))
-                    .forEach(this::addFlowInfo);
+                    .collect(Collectors.toList());
+            Set<FlowSegmentCookie> cookies = rules.stream()
+                    .map(this::makeFlowPathCookie)
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toSet());
+            Map<FlowSegmentCookie, FlowPath> flowPaths = cookies.isEmpty()
+                    ? Collections.emptyMap() : flowPathRepository.findByCookies(cookies);
+            rules.forEach(rule -> addFlowInfo(rule, flowPaths));
         }
     }
 
@@ -432,9 +440,11 @@ public class ValidationServiceImpl implements ValidationService {
         properMeters.sort(Comparator.comparing(MeterInfoEntryV2::getMeterId));
 
         if (includeAllFlowInfo || includeMeterFlowInfo) {
-            concatStreams(missingMeters.stream(), properMeters.stream(),
+            List<MeterInfoEntryV2> meters = concatStreams(missingMeters.stream(), properMeters.stream(),
                     misconfiguredMeters.stream().map(MisconfiguredInfo::getExpected))
-                    .forEach(meter -> addMeterFlowInfo(switchId, meter, includeAllFlowInfo));
+                    .collect(Collectors.toList());
+            MeterFlowInfoLookup lookup = new MeterFlowInfoLookup(switchId);
+            meters.forEach(meter -> addMeterFlowInfo(meter, lookup, includeAllFlowInfo));
         }
     }
 
@@ -501,62 +511,61 @@ public class ValidationServiceImpl implements ValidationService {
         return rules;
     }
 
-    private void addFlowInfo(RuleInfoEntryV2 rule) {
-        long longCookie = rule.getCookie();
-        FlowSegmentCookie segmentCookie = new FlowSegmentCookie(longCookie);
+    private FlowSegmentCookie makeFlowPathCookie(RuleInfoEntryV2 rule) {
+        FlowSegmentCookie segmentCookie = new FlowSegmentCookie(rule.getCookie());
         CookieBase.CookieType type = segmentCookie.getType();
 
         if ((type == SERVICE_OR_FLOW_SEGMENT || type == SERVER_42_FLOW_RTT_INGRESS)
                 && segmentCookie.getDirection() != FlowPathDirection.UNDEFINED) {
-            FlowSegmentCookie pureCookie = FlowSegmentCookie.builder()
+            return FlowSegmentCookie.builder()
                     .direction(segmentCookie.getDirection())
                     .flowEffectiveId(segmentCookie.getFlowEffectiveId())
                     .type(SERVICE_OR_FLOW_SEGMENT)
                     .build();
+        }
+        return null;
+    }
 
-            flowPathRepository.findByCookie(pureCookie).ifPresent(flowPath -> {
-                rule.setFlowPathId(flowPath.getPathId().getId());
+    private void addFlowInfo(RuleInfoEntryV2 rule, Map<FlowSegmentCookie, FlowPath> flowPaths) {
+        FlowSegmentCookie pureCookie = makeFlowPathCookie(rule);
+        FlowPath flowPath = pureCookie != null ? flowPaths.get(pureCookie) : null;
+        if (flowPath != null) {
+            rule.setFlowPathId(flowPath.getPathId().getId());
 
-                Flow flow = flowPath.getFlow();
-                rule.setYFlowId(flow.getYFlowId());
-                rule.setFlowId(flow.getFlowId());
-            });
+            Flow flow = flowPath.getFlow();
+            rule.setYFlowId(flow.getYFlowId());
+            rule.setFlowId(flow.getFlowId());
         }
     }
 
-    private void addMeterFlowInfo(SwitchId switchId, MeterInfoEntryV2 meterEntry, boolean includeAllFlowInfo) {
-        Optional<FlowMeter> flowMeter = flowMeterRepository.findById(switchId, new MeterId(meterEntry.getMeterId()));
-        if (!flowMeter.isPresent()) {
+    private void addMeterFlowInfo(MeterInfoEntryV2 meterEntry, MeterFlowInfoLookup lookup,
+                                  boolean includeAllFlowInfo) {
+        FlowMeter flowMeter = lookup.getFlowMeter(meterEntry.getMeterId());
+        if (flowMeter == null) {
             return;
         }
-        String id = flowMeter.get().getFlowId(); // Can be flow ID or Y-flow ID
-        // TODO(nrydanov): Probably, it will slow down performance.
-        // Maybe we should cache data from this repositories.
-        if (flowRepository.exists(id)) {
+        String id = flowMeter.getFlowId(); // Can be flow ID or Y-flow ID
+        FlowPath path = lookup.getFlowPath(flowMeter.getPathId());
+        if (lookup.isFlow(id, path)) {
             meterEntry.setFlowId(id);
         }
-        if (includeAllFlowInfo && yFlowRepository.exists(id)) {
+        if (includeAllFlowInfo && lookup.isYFlow(id)) {
             meterEntry.setYFlowId(id);
         }
-        if (flowMeter.get().getPathId() != null) {
-            flowPathRepository.findById(flowMeter.get().getPathId())
-                    .ifPresent(path -> {
-                        meterEntry.setCookie(path.getCookie().getValue());
-                        if (includeAllFlowInfo) {
-                            meterEntry.setFlowPathId(path.getPathId().getId());
-                        }
-                    });
+        if (path != null) {
+            meterEntry.setCookie(path.getCookie().getValue());
+            if (includeAllFlowInfo) {
+                meterEntry.setFlowPathId(path.getPathId().getId());
+            }
         }
     }
 
-    private void addGroupFlowInfo(SwitchId switchId, GroupInfoEntryV2 groupEntry) {
-        mirrorGroupRepository.findByGroupIdAndSwitchId(new GroupId(groupEntry.getGroupId()), switchId)
-                .ifPresent(mirrorGroup -> {
-                    String id = mirrorGroup.getFlowId();
-                    groupEntry.setFlowId(id);
-                    String pathId = mirrorGroup.getPathId().getId();
-                    groupEntry.setFlowPathId(pathId);
-                });
+    private void addGroupFlowInfo(GroupInfoEntryV2 groupEntry, Map<GroupId, MirrorGroup> mirrorGroups) {
+        MirrorGroup mirrorGroup = mirrorGroups.get(new GroupId(groupEntry.getGroupId()));
+        if (mirrorGroup != null) {
+            groupEntry.setFlowId(mirrorGroup.getFlowId());
+            groupEntry.setFlowPathId(mirrorGroup.getPathId().getId());
+        }
     }
 
     private MisconfiguredInfo<GroupInfoEntryV2> calculateMisconfiguredGroup(
@@ -700,6 +709,48 @@ public class ValidationServiceImpl implements ValidationService {
         return left.size() == right.size() && left.containsAll(right);
     }
 
+    /**
+     * Flow data of the switch meters. Meters and their paths are loaded with one query per entity type. Flow and
+     * Y-flow existence checks are cached, so each ID is checked at most once per validation.
+     */
+    private class MeterFlowInfoLookup {
+        private final Map<Long, FlowMeter> flowMeters;
+        private final Map<PathId, FlowPath> flowPaths;
+        private final Map<String, Boolean> flowExists = new HashMap<>();
+        private final Map<String, Boolean> yFlowExists = new HashMap<>();
+
+        MeterFlowInfoLookup(SwitchId switchId) {
+            flowMeters = flowMeterRepository.findBySwitchId(switchId).stream()
+                    .collect(Collectors.toMap(meter -> meter.getMeterId().getValue(), Function.identity(),
+                            (first, second) -> first));
+            Set<PathId> pathIds = flowMeters.values().stream()
+                    .map(FlowMeter::getPathId)
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toSet());
+            flowPaths = pathIds.isEmpty() ? Collections.emptyMap() : flowPathRepository.findByIds(pathIds);
+        }
+
+        FlowMeter getFlowMeter(Long meterId) {
+            return flowMeters.get(meterId);
+        }
+
+        FlowPath getFlowPath(PathId pathId) {
+            return pathId != null ? flowPaths.get(pathId) : null;
+        }
+
+        boolean isFlow(String id, FlowPath path) {
+            if (path != null && id.equals(path.getFlowId())) {
+                // The meter belongs to a path of the existing flow.
+                return true;
+            }
+            return flowExists.computeIfAbsent(id, flowRepository::exists);
+        }
+
+        boolean isYFlow(String id) {
+            return yFlowExists.computeIfAbsent(id, yFlowRepository::exists);
+        }
+    }
+
     private static <T> Stream<T> concatStreams(Stream<T> stream1, Stream<T> stream2, Stream<T> stream3) {
         return Stream.concat(Stream.concat(stream1, stream2), stream3);
     }
@@ -26,6 +26,9 @@ import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import org.openkilda.messaging.info.switches.v2.GroupInfoEntryV2;
@@ -36,14 +39,19 @@ import org.openkilda.messaging.info.switches.v2.RuleInfoEntryV2;
 import org.openkilda.messaging.info.switches.v2.action.BaseAction;
 import org.openkilda.messaging.model.grpc.LogicalPort;
 import org.openkilda.messaging.model.grpc.LogicalPortType;
+import org.openkilda.model.FlowMeter;
+import org.openkilda.model.FlowPath;
+import org.openkilda.model.FlowPathDirection;
 import org.openkilda.model.GroupId;
 import org.openkilda.model.IPv4Address;
 import org.openkilda.model.LagLogicalPort;
 import org.openkilda.model.MacAddress;
 import org.openkilda.model.MeterId;
+import org.openkilda.model.PathId;
 import org.openkilda.model.Switch;
 import org.openkilda.model.SwitchId;
 import org.openkilda.model.cookie.Cookie;
+import org.openkilda.model.cookie.FlowSegmentCookie;
 import org.openkilda.persistence.PersistenceManager;
 import org.openkilda.persistence.repositories.FlowMeterRepository;
 import org.openkilda.persistence.repositories.FlowPathRepository;
@@ -146,6 +154,7 @@ public class ValidationServiceImplTest {
     public static final int NUMBER_OF_BITS = 9;
     public static final SwitchId SWITCH_ID = new SwitchId(10);
     public static final int PRIORITY = 11;
+    public static final String FLOW_ID = "flow_1";
 
     @Mock
     private RuleManager ruleManager;
@@ -302,6 +311,66 @@ public class ValidationServiceImplTest {
                 meter.getBurst(), meter.getFlags().stream().map(MeterFlag::name).collect(Collectors.toSet()));
     }
 
+    @Test
+    public void validateMetersIncludeFlowInfo() {
+        PersistenceManagerBuilder persistenceManagerBuilder = persistenceManager();
+        ValidateMetersResultV2 response = validateMetersWithFlowMeter(persistenceManagerBuilder, false);
+
+        assertEquals(2, response.getProperMeters().size());
+        MeterInfoEntryV2 flowMeter = response.getProperMeters().get(0);
+        assertEquals(FLOW_ID, flowMeter.getFlowId());
+        assertEquals("flow_path_1", flowMeter.getFlowPathId());
+        assertNull(flowMeter.getYFlowId());
+        assertNull(response.getProperMeters().get(1).getFlowId());
+        assertNull(response.getProperMeters().get(1).getYFlowId());
+
+        verify(persistenceManagerBuilder.flowMeterRepository, never()).findById(any(), any());
+        verify(persistenceManagerBuilder.flowRepository, never()).exists(any());
+        // only the meter with a flow meter record is checked
+        verify(persistenceManagerBuilder.yFlowRepository, times(1)).exists(FLOW_ID);
+        verify(persistenceManagerBuilder.yFlowRepository, times(1)).exists(any());
+    }
+
+    @Test
+    public void validateMetersIncludeFlowInfoWithFlowAndYFlowId() {
+        PersistenceManagerBuilder persistenceManagerBuilder = persistenceManager();
+        ValidateMetersResultV2 response = validateMetersWithFlowMeter(persistenceManagerBuilder, true);
+
+        MeterInfoEntryV2 flowMeter = response.getProperMeters().get(0);
+        assertEquals(FLOW_ID, flowMeter.getFlowId());
+        assertEquals(FLOW_ID, flowMeter.getYFlowId());
+        verify(persistenceManagerBuilder.yFlowRepository, times(1)).exists(FLOW_ID);
+    }
+
+    private ValidateMetersResultV2 validateMetersWithFlowMeter(
+            PersistenceManagerBuilder persistenceManagerBuilder, boolean isYFlow) {
+        PathId pathId = new PathId("flow_path_1");
+        FlowSegmentCookie cookie = new FlowSegmentCookie(FlowPathDirection.FORWARD, 1L);
+        FlowPath flowPath = mock(FlowPath.class);
+        when(flowPath.getPathId()).thenReturn(pathId);
+        when(flowPath.getFlowId()).thenReturn(FLOW_ID);
+        when(flowPath.getCookie()).thenReturn(cookie);
+        when(persistenceManagerBuilder.flowMeterRepository.findBySwitchId(SWITCH_ID_B)).thenReturn(singletonList(
+                FlowMeter.builder().switchId(SWITCH_ID_B).meterId(new MeterId(32)).pathId(pathId).flowId(FLOW_ID)
+                        .build()));
+        when(persistenceManagerBuilder.flowPathRepository.findByIds(Collections.singleton(pathId)))
+                .thenReturn(Collections.singletonMap(pathId, flowPath));
+        when(persistenceManagerBuilder.yFlowRepository.exists(FLOW_ID)).thenReturn(isYFlow);
+
+        ValidationService validationService = new ValidationServiceImpl(persistenceManagerBuilder.build(),
+                ruleManager);
+        MeterSpeakerData meter = buildFullMeterSpeakerCommandData(32, 1000, 10500,
+                Sets.newHashSet(MeterFlag.KBPS, MeterFlag.BURST, MeterFlag.STATS));
+        MeterSpeakerData unknownMeter = buildFullMeterSpeakerCommandData(33, 1000, 10500,
+                Sets.newHashSet(MeterFlag.KBPS, MeterFlag.BURST, MeterFlag.STATS));
+
+        ValidateMetersResultV2 response = validationService.validateMeters(SWITCH_ID_B,
+                newArrayList(meter, unknownMeter), newArrayList(meter, unknownMeter), true, false);
+
+        assertEquals(Long.valueOf(cookie.getValue()), response.getProperMeters().get(0).getCookie());
+        return response;
+    }
+
     @Test
     public void validateMetersMissingAndExcessMeters() {
         ValidationService validationService = new ValidationServiceImpl(persistenceManager().build(), ruleManager);